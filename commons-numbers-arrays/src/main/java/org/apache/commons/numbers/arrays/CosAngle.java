@@ -16,10 +16,14 @@
  */
 package org.apache.commons.numbers.arrays;
 
+import java.util.stream.IntStream;
+
 /**
  * Computes the cosine of the angle between two vectors.
  */
 public final class CosAngle {
+    /** Number of vectors processed together in the blocked algorithms. */
+    private static final int BLOCK_SIZE = 64;
 
     /** Private constructor. */
     private CosAngle() {
@@ -38,5 +42,367 @@ public final class CosAngle {
                                double[] v2) {
         return LinearCombination.value(v1, v2) / SafeNorm.value(v1) / SafeNorm.value(v2);
     }
-}
 
+    /**
+     * Computes the cosine of the angle between all pairs of vectors.
+     *
+     * @param vectors Cartesian coordinates of the vectors.
+     * @return the symmetric matrix whose element {@code [i][j]} is the cosine of
+     * the angle between {@code vectors[i]} and {@code vectors[j]}.
+     * @throws IllegalArgumentException if the sizes of the vectors are different.
+     * @see #matrix(double[][], boolean)
+     */
+    public static double[][] matrix(double[][] vectors) {
+        return matrix(vectors, false);
+    }
+
+    /**
+     * Computes the cosine of the angle between all pairs of vectors.
+     * The norm of each vector is computed only once, and each pair is
+     * evaluated once: the result is exactly symmetric, and its elements
+     * {@code [i][j]} and {@code [j][i]} (with {@code i <= j}) are identical to
+     * the value returned by
+     * {@link #value(double[], double[]) value(vectors[i], vectors[j])}.
+     *
+     * @param vectors Cartesian coordinates of the vectors.
+     * @param parallel Whether blocks of the matrix may be computed concurrently.
+     * @return the symmetric matrix whose element {@code [i][j]} is the cosine of
+     * the angle between {@code vectors[i]} and {@code vectors[j]}.
+     * @throws IllegalArgumentException if the sizes of the vectors are different.
+     */
+    public static double[][] matrix(double[][] vectors,
+                                    boolean parallel) {
+        checkDimensions(vectors, vectors);
+        final double[] norms = norms(vectors);
+        final int n = vectors.length;
+        final double[][] result = new double[n][n];
+        blocks(n, parallel).forEach(bi -> {
+            final int iFrom = bi * BLOCK_SIZE;
+            final int iTo = Math.min(n, iFrom + BLOCK_SIZE);
+            for (int jFrom = iFrom; jFrom < n; jFrom += BLOCK_SIZE) {
+                final int jTo = Math.min(n, jFrom + BLOCK_SIZE);
+                for (int i = iFrom; i < iTo; i++) {
+                    final double[] vi = vectors[i];
+                    final double[] row = result[i];
+                    for (int j = Math.max(i, jFrom); j < jTo; j++) {
+                        final double c = value(vi, norms[i], vectors[j], norms[j]);
+                        row[j] = c;
+                        result[j][i] = c;
+                    }
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Computes the cosine of the angle between each vector of {@code a}
+     * and each vector of {@code b}.
+     * The norm of each vector is computed only once, and each element of the
+     * result is identical to the value returned by
+     * {@link #value(double[], double[]) value(a[i], b[j])}.
+     *
+     * @param a Cartesian coordinates of the first set of vectors.
+     * @param b Cartesian coordinates of the second set of vectors.
+     * @param parallel Whether blocks of the matrix may be computed concurrently.
+     * @return the matrix whose element {@code [i][j]} is the cosine of
+     * the angle between {@code a[i]} and {@code b[j]}.
+     * @throws IllegalArgumentException if the sizes of the vectors are different.
+     */
+    public static double[][] matrix(double[][] a,
+                                    double[][] b,
+                                    boolean parallel) {
+        checkDimensions(a, b);
+        final double[] normsA = norms(a);
+        final double[] normsB = norms(b);
+        final double[][] result = new double[a.length][b.length];
+        blocks(a.length, parallel).forEach(bi -> {
+            final int iFrom = bi * BLOCK_SIZE;
+            final int iTo = Math.min(a.length, iFrom + BLOCK_SIZE);
+            for (int jFrom = 0; jFrom < b.length; jFrom += BLOCK_SIZE) {
+                final int jTo = Math.min(b.length, jFrom + BLOCK_SIZE);
+                for (int i = iFrom; i < iTo; i++) {
+                    final double[] ai = a[i];
+                    final double[] row = result[i];
+                    for (int j = jFrom; j < jTo; j++) {
+                        row[j] = value(ai, normsA[i], b[j], normsB[j]);
+                    }
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Finds the vectors most similar to {@code query}, i.e. those for which
+     * the cosine of the angle with {@code query} is the largest.
+     * Vectors for which the cosine is {@code NaN} (e.g. zero vectors) are
+     * never selected.
+     *
+     * @param vectors Cartesian coordinates of the candidate vectors.
+     * @param query Cartesian coordinates of the query vector.
+     * @param k Maximum number of vectors to select.
+     * @return the indices of (at most) {@code k} vectors, in order of decreasing
+     * similarity (ties are ordered by increasing index).
+     * @throws IllegalArgumentException if the sizes of the vectors are different
+     * or if {@code k} is not strictly positive.
+     */
+    public static int[] nearest(double[][] vectors,
+                                double[] query,
+                                int k) {
+        checkStrictlyPositive(k);
+        checkDimensions(vectors, new double[][] {query});
+        final double queryNorm = SafeNorm.value(query);
+        final TopK top = new TopK(k);
+        for (int j = 0; j < vectors.length; j++) {
+            top.offer(j, value(query, queryNorm, vectors[j], SafeNorm.value(vectors[j])));
+        }
+        return top.indices();
+    }
+
+    /**
+     * Finds, for each vector, the other vectors most similar to it, i.e.
+     * those for which the cosine of the angle is the largest.
+     * Only {@code k} candidates per vector are retained while scanning, so that
+     * the full similarity matrix is never stored.
+     * Vectors for which the cosine is {@code NaN} (e.g. zero vectors) are
+     * never selected.
+     *
+     * @param vectors Cartesian coordinates of the vectors.
+     * @param k Maximum number of neighbours to select for each vector.
+     * @param parallel Whether blocks of vectors may be processed concurrently.
+     * @return for each vector {@code i}, the indices of (at most) {@code k}
+     * vectors other than {@code i}, in order of decreasing similarity (ties
+     * are ordered by increasing index).
+     * @throws IllegalArgumentException if the sizes of the vectors are different
+     * or if {@code k} is not strictly positive.
+     */
+    public static int[][] nearest(double[][] vectors,
+                                  int k,
+                                  boolean parallel) {
+        checkStrictlyPositive(k);
+        checkDimensions(vectors, vectors);
+        final double[] norms = norms(vectors);
+        final int n = vectors.length;
+        final int[][] result = new int[n][];
+        blocks(n, parallel).forEach(bi -> {
+            final int iFrom = bi * BLOCK_SIZE;
+            final int iTo = Math.min(n, iFrom + BLOCK_SIZE);
+            final TopK[] tops = new TopK[iTo - iFrom];
+            for (int i = iFrom; i < iTo; i++) {
+                tops[i - iFrom] = new TopK(k);
+            }
+            for (int jFrom = 0; jFrom < n; jFrom += BLOCK_SIZE) {
+                final int jTo = Math.min(n, jFrom + BLOCK_SIZE);
+                for (int i = iFrom; i < iTo; i++) {
+                    final double[] vi = vectors[i];
+                    final TopK top = tops[i - iFrom];
+                    for (int j = jFrom; j < jTo; j++) {
+                        if (j != i) {
+                            top.offer(j, value(vi, norms[i], vectors[j], norms[j]));
+                        }
+                    }
+                }
+            }
+            for (int i = iFrom; i < iTo; i++) {
+                result[i] = tops[i - iFrom].indices();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Computes the cosine of the angle between {@code v1} and {@code v2}
+     * using precomputed norms.
+     *
+     * @param v1 Cartesian coordinates of the first vector.
+     * @param norm1 Norm of the first vector.
+     * @param v2 Cartesian coordinates of the second vector.
+     * @param norm2 Norm of the second vector.
+     * @return the cosine of the angle between the vectors.
+     */
+    private static double value(double[] v1,
+                                double norm1,
+                                double[] v2,
+                                double norm2) {
+        return LinearCombination.value(v1, v2) / norm1 / norm2;
+    }
+
+    /**
+     * @param vectors Cartesian coordinates of the vectors.
+     * @return the norm of each vector.
+     */
+    private static double[] norms(double[][] vectors) {
+        final double[] norms = new double[vectors.length];
+        for (int i = 0; i < norms.length; i++) {
+            norms[i] = SafeNorm.value(vectors[i]);
+        }
+        return norms;
+    }
+
+    /**
+     * @param n Number of vectors.
+     * @param parallel Whether the stream should be parallel.
+     * @return the stream of block indices covering {@code n} vectors.
+     */
+    private static IntStream blocks(int n,
+                                    boolean parallel) {
+        final IntStream blocks = IntStream.range(0, (n + BLOCK_SIZE - 1) / BLOCK_SIZE);
+        return parallel ? blocks.parallel() : blocks;
+    }
+
+    /**
+     * Checks that all the vectors have the same size.
+     *
+     * @param a Vectors.
+     * @param b Vectors.
+     * @throws IllegalArgumentException if the sizes of the vectors are different.
+     */
+    private static void checkDimensions(double[][] a,
+                                        double[][] b) {
+        if (a.length == 0 ||
+            b.length == 0) {
+            return;
+        }
+        final int len = a[0].length;
+        checkDimensions(a, len);
+        checkDimensions(b, len);
+    }
+
+    /**
+     * @param vectors Vectors.
+     * @param len Expected size.
+     * @throws IllegalArgumentException if the size of a vector is different
+     * from {@code len}.
+     */
+    private static void checkDimensions(double[][] vectors,
+                                        int len) {
+        for (final double[] v : vectors) {
+            if (v.length != len) {
+                throw new IllegalArgumentException("Dimension mismatch: " + v.length + " != " + len);
+            }
+        }
+    }
+
+    /**
+     * @param k Number of vectors to select.
+     * @throws IllegalArgumentException if {@code k <= 0}.
+     */
+    private static void checkStrictlyPositive(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Not strictly positive: " + k);
+        }
+    }
+
+    /**
+     * Retains the {@code k} indices with the largest associated values,
+     * using a binary min-heap ordered by value then by decreasing index.
+     */
+    private static final class TopK {
+        /** Heap of indices. */
+        private final int[] index;
+        /** Heap of values. */
+        private final double[] value;
+        /** Number of elements in the heap. */
+        private int size;
+
+        /**
+         * @param k Maximum number of elements.
+         */
+        TopK(int k) {
+            index = new int[k];
+            value = new double[k];
+        }
+
+        /**
+         * Offers an element; it is retained if it is among the {@code k} largest.
+         *
+         * @param i Index.
+         * @param v Value.
+         */
+        void offer(int i,
+                   double v) {
+            if (Double.isNaN(v)) {
+                return;
+            }
+            if (size < index.length) {
+                // Sift up.
+                int c = size++;
+                while (c > 0) {
+                    final int p = (c - 1) >>> 1;
+                    if (!less(i, v, index[p], value[p])) {
+                        break;
+                    }
+                    index[c] = index[p];
+                    value[c] = value[p];
+                    c = p;
+                }
+                index[c] = i;
+                value[c] = v;
+            } else if (less(index[0], value[0], i, v)) {
+                siftDown(i, v);
+            }
+        }
+
+        /**
+         * Replaces the root with the given element and restores the heap.
+         *
+         * @param i Index.
+         * @param v Value.
+         */
+        private void siftDown(int i,
+                              double v) {
+            int p = 0;
+            while (true) {
+                int c = 2 * p + 1;
+                if (c >= size) {
+                    break;
+                }
+                if (c + 1 < size &&
+                    less(index[c + 1], value[c + 1], index[c], value[c])) {
+                    c++;
+                }
+                if (!less(index[c], value[c], i, v)) {
+                    break;
+                }
+                index[p] = index[c];
+                value[p] = value[c];
+                p = c;
+            }
+            index[p] = i;
+            value[p] = v;
+        }
+
+        /**
+         * Extracts the retained indices; the heap is emptied.
+         *
+         * @return the indices in order of decreasing value.
+         */
+        int[] indices() {
+            final int[] result = new int[size];
+            for (int n = size - 1; n >= 0; n--) {
+                result[n] = index[0];
+                size--;
+                siftDown(index[size], value[size]);
+            }
+            return result;
+        }
+
+        /**
+         * Ordering of the heap elements: smaller value first, and for equal
+         * values, larger index first.
+         *
+         * @param i1 Index of the first element.
+         * @param v1 Value of the first element.
+         * @param i2 Index of the second element.
+         * @param v2 Value of the second element.
+         * @return whether the first element is ranked below the second.
+         */
+        private static boolean less(int i1,
+                                    double v1,
+                                    int i2,
+                                    double v2) {
+            return v1 < v2 || (v1 == v2 && i1 > i2);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.arrays;
+
+/**
+ * Low-level arithmetic kernels that have a faster implementation on recent
+ * Java runtimes.
+ *
+ * <p>This is the Java 8 implementation using only standard precision arithmetic.
+ * A multi-release JAR contains an alternative implementation for Java 9+ using
+ * {@code Math.fma}. The Java 9+ implementation is exact; results of the two
+ * implementations may differ in the last bits of the round-off.
+ */
+final class Intrinsics {
+    /** Mask to clear the lower 27 bits of the mantissa of a double. */
+    private static final long HIGH_PART_MASK = (-1L) << 27;
+
+    /** No instances. */
+    private Intrinsics() {}
+
+    /**
+     * Computes the round-off of the product {@code a * b}, i.e. the low part
+     * of the exact product. The standard precision product must be provided.
+     *
+     * <p>Each factor is split into one 26 bits number and one 27 bits number
+     * and the product is computed using Dekker's mul12 algorithm. The product
+     * of the two 27 bits numbers is rounded, so the result is not always exact:
+     * if {@code |a * b| >= 2^-968} the error is at most {@code 2^-104 |a * b|}.
+     * If either factor is not finite the result is NaN.
+     *
+     * @param a First factor.
+     * @param b Second factor.
+     * @param prodHigh Product of the factors (a * b).
+     * @return the low part of the product.
+     */
+    static double productLow(double a,
+                             double b,
+                             double prodHigh) {
+        final double aHigh = highPart(a);
+        final double aLow  = a - aHigh;
+        final double bHigh = highPart(b);
+        final double bLow  = b - bHigh;
+        return aLow * bLow - (((prodHigh - aHigh * bHigh) - aLow * bHigh) - aHigh * bLow);
+    }
+
+    /**
+     * @param value Value.
+     * @return the high part of the value.
+     */
+    private static double highPart(double value) {
+        return Double.longBitsToDouble(Double.doubleToRawLongBits(value) & HIGH_PART_MASK);
+    }
+}
@@ -71,16 +71,10 @@ public final class LinearCombination {
         double prodLowSum = 0;
 
         for (int i = 0; i < len; i++) {
-            final double ai    = a[i];
-            final double aHigh = highPart(ai);
-            final double aLow  = ai - aHigh;
-
-            final double bi    = b[i];
-            final double bHigh = highPart(bi);
-            final double bLow  = bi - bHigh;
+            final double ai = a[i];
+            final double bi = b[i];
             prodHigh[i] = ai * bi;
-            final double prodLow = prodLow(aLow, bLow, prodHigh[i], aHigh, bHigh);
-            prodLowSum += prodLow;
+            prodLowSum += Intrinsics.productLow(ai, bi, prodHigh[i]);
         }
 
 
@@ -113,6 +107,144 @@ public final class LinearCombination {
         return result;
     }
 
+    /**
+     * Computes the dot product of a sparse vector and a dense vector.
+     * The sparse vector holds the values {@code values[i]} at the
+     * positions {@code indices[i]} and is zero elsewhere.
+     * The indices must be sorted in strictly increasing order.
+     *
+     * <p>Only the stored entries are multiplied: for finite factors the result
+     * is identical to {@link #value(double[], double[])} called with the dense
+     * representation of the sparse vector, without allocating it.
+     *
+     * @param indices Positions of the values of the sparse vector.
+     * @param values Values of the sparse vector.
+     * @param dense Dense vector.
+     * @return \( \sum_i values_i \, dense_{indices_i} \).
+     * @throws IllegalArgumentException if the sizes of the index and value
+     * arrays are different, or if the indices are not in strictly increasing order.
+     * @throws IndexOutOfBoundsException if an index is outside the dense vector.
+     */
+    public static double value(int[] indices,
+                               double[] values,
+                               double[] dense) {
+        checkSparse(indices, values);
+
+        final int len = indices.length;
+
+        if (len == 1) {
+            // Revert to scalar multiplication.
+            return values[0] * dense[indices[0]];
+        }
+
+        double prodLowSum = 0;
+        double sHighPrev = 0;
+        double sLowSum = 0;
+
+        for (int i = 0; i < len; i++) {
+            final double ai = values[i];
+            final double bi = dense[indices[i]];
+            final double prodHigh = ai * bi;
+            prodLowSum += Intrinsics.productLow(ai, bi, prodHigh);
+            final double sHighCur = sHighPrev + prodHigh;
+            final double sPrime = sHighCur - prodHigh;
+            sLowSum += (prodHigh - (sHighCur - sPrime)) + (sHighPrev - sPrime);
+            sHighPrev = sHighCur;
+        }
+
+        double result = sHighPrev + (prodLowSum + sLowSum);
+
+        if (Double.isNaN(result)) {
+            // either we have split infinite numbers or some coefficients were NaNs,
+            // just rely on the naive implementation and let IEEE754 handle this
+            result = 0;
+            for (int i = 0; i < len; ++i) {
+                result += values[i] * dense[indices[i]];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the dot product of two sparse vectors.
+     * Each sparse vector holds the values {@code values[i]} at the
+     * positions {@code indices[i]} and is zero elsewhere.
+     * The indices must be sorted in strictly increasing order;
+     * the products of values at common positions are found by merging the indices.
+     *
+     * <p>Only the products at common positions are computed: for finite factors
+     * the result is identical to {@link #value(double[], double[])} called
+     * with the dense representations of the sparse vectors, without allocating them.
+     *
+     * @param indices1 Positions of the values of the first vector.
+     * @param values1 Values of the first vector.
+     * @param indices2 Positions of the values of the second vector.
+     * @param values2 Values of the second vector.
+     * @return the dot product of the vectors.
+     * @throws IllegalArgumentException if the sizes of the index and value
+     * arrays of a vector are different, or if the indices of a vector are not
+     * in strictly increasing order.
+     */
+    public static double value(int[] indices1,
+                               double[] values1,
+                               int[] indices2,
+                               double[] values2) {
+        checkSparse(indices1, values1);
+        checkSparse(indices2, values2);
+
+        final int len1 = indices1.length;
+        final int len2 = indices2.length;
+
+        double prodLowSum = 0;
+        double sHighPrev = 0;
+        double sLowSum = 0;
+
+        int i = 0;
+        int j = 0;
+        while (i < len1 && j < len2) {
+            final int k1 = indices1[i];
+            final int k2 = indices2[j];
+            if (k1 < k2) {
+                i++;
+            } else if (k1 > k2) {
+                j++;
+            } else {
+                final double ai = values1[i++];
+                final double bi = values2[j++];
+                final double prodHigh = ai * bi;
+                prodLowSum += Intrinsics.productLow(ai, bi, prodHigh);
+                final double sHighCur = sHighPrev + prodHigh;
+                final double sPrime = sHighCur - prodHigh;
+                sLowSum += (prodHigh - (sHighCur - sPrime)) + (sHighPrev - sPrime);
+                sHighPrev = sHighCur;
+            }
+        }
+
+        double result = sHighPrev + (prodLowSum + sLowSum);
+
+        if (Double.isNaN(result)) {
+            // either we have split infinite numbers or some coefficients were NaNs,
+            // just rely on the naive implementation and let IEEE754 handle this
+            result = 0;
+            i = 0;
+            j = 0;
+            while (i < len1 && j < len2) {
+                final int k1 = indices1[i];
+                final int k2 = indices2[j];
+                if (k1 < k2) {
+                    i++;
+                } else if (k1 > k2) {
+                    j++;
+                } else {
+                    result += values1[i++] * values2[j++];
+                }
+            }
+        }
+
+        return result;
+    }
+
     /**
      * @param a1 First factor of the first term.
      * @param b1 Second factor of the first term.
@@ -126,25 +258,13 @@ public final class LinearCombination {
      */
     public static double value(double a1, double b1,
                                double a2, double b2) {
-        // split a1 and b1 as one 26 bits number and one 27 bits number
-        final double a1High     = highPart(a1);
-        final double a1Low      = a1 - a1High;
-        final double b1High     = highPart(b1);
-        final double b1Low      = b1 - b1High;
-
         // accurate multiplication a1 * b1
         final double prod1High  = a1 * b1;
-        final double prod1Low   = prodLow(a1Low, b1Low, prod1High, a1High, b1High);
-
-        // split a2 and b2 as one 26 bits number and one 27 bits number
-        final double a2High     = highPart(a2);
-        final double a2Low      = a2 - a2High;
-        final double b2High     = highPart(b2);
-        final double b2Low      = b2 - b2High;
+        final double prod1Low   = Intrinsics.productLow(a1, b1, prod1High);
 
         // accurate multiplication a2 * b2
         final double prod2High  = a2 * b2;
-        final double prod2Low   = prodLow(a2Low, b2Low, prod2High, a2High, b2High);
+        final double prod2Low   = Intrinsics.productLow(a2, b2, prod2High);
 
         // accurate addition a1 * b1 + a2 * b2
         final double s12High    = prod1High + prod2High;
@@ -180,35 +300,17 @@ public final class LinearCombination {
     public static double value(double a1, double b1,
                                double a2, double b2,
                                double a3, double b3) {
-        // split a1 and b1 as one 26 bits number and one 27 bits number
-        final double a1High     = highPart(a1);
-        final double a1Low      = a1 - a1High;
-        final double b1High     = highPart(b1);
-        final double b1Low      = b1 - b1High;
-
         // accurate multiplication a1 * b1
         final double prod1High  = a1 * b1;
-        final double prod1Low   = prodLow(a1Low, b1Low, prod1High, a1High, b1High);
-
-        // split a2 and b2 as one 26 bits number and one 27 bits number
-        final double a2High     = highPart(a2);
-        final double a2Low      = a2 - a2High;
-        final double b2High     = highPart(b2);
-        final double b2Low      = b2 - b2High;
+        final double prod1Low   = Intrinsics.productLow(a1, b1, prod1High);
 
         // accurate multiplication a2 * b2
         final double prod2High  = a2 * b2;
-        final double prod2Low   = prodLow(a2Low, b2Low, prod2High, a2High, b2High);
-
-        // split a3 and b3 as one 26 bits number and one 27 bits number
-        final double a3High     = highPart(a3);
-        final double a3Low      = a3 - a3High;
-        final double b3High     = highPart(b3);
-        final double b3Low      = b3 - b3High;
+        final double prod2Low   = Intrinsics.productLow(a2, b2, prod2High);
 
         // accurate multiplication a3 * b3
         final double prod3High  = a3 * b3;
-        final double prod3Low   = prodLow(a3Low, b3Low, prod3High, a3High, b3High);
+        final double prod3Low   = Intrinsics.productLow(a3, b3, prod3High);
 
         // accurate addition a1 * b1 + a2 * b2
         final double s12High    = prod1High + prod2High;
@@ -252,45 +354,21 @@ public final class LinearCombination {
                                double a2, double b2,
                                double a3, double b3,
                                double a4, double b4) {
-        // split a1 and b1 as one 26 bits number and one 27 bits number
-        final double a1High     = highPart(a1);
-        final double a1Low      = a1 - a1High;
-        final double b1High     = highPart(b1);
-        final double b1Low      = b1 - b1High;
-
         // accurate multiplication a1 * b1
         final double prod1High  = a1 * b1;
-        final double prod1Low   = prodLow(a1Low, b1Low, prod1High, a1High, b1High);
-
-        // split a2 and b2 as one 26 bits number and one 27 bits number
-        final double a2High     = highPart(a2);
-        final double a2Low      = a2 - a2High;
-        final double b2High     = highPart(b2);
-        final double b2Low      = b2 - b2High;
+        final double prod1Low   = Intrinsics.productLow(a1, b1, prod1High);
 
         // accurate multiplication a2 * b2
         final double prod2High  = a2 * b2;
-        final double prod2Low   = prodLow(a2Low, b2Low, prod2High, a2High, b2High);
-
-        // split a3 and b3 as one 26 bits number and one 27 bits number
-        final double a3High     = highPart(a3);
-        final double a3Low      = a3 - a3High;
-        final double b3High     = highPart(b3);
-        final double b3Low      = b3 - b3High;
+        final double prod2Low   = Intrinsics.productLow(a2, b2, prod2High);
 
         // accurate multiplication a3 * b3
         final double prod3High  = a3 * b3;
-        final double prod3Low   = prodLow(a3Low, b3Low, prod3High, a3High, b3High);
-
-        // split a4 and b4 as one 26 bits number and one 27 bits number
-        final double a4High     = highPart(a4);
-        final double a4Low      = a4 - a4High;
-        final double b4High     = highPart(b4);
-        final double b4Low      = b4 - b4High;
+        final double prod3Low   = Intrinsics.productLow(a3, b3, prod3High);
 
         // accurate multiplication a4 * b4
         final double prod4High  = a4 * b4;
-        final double prod4Low   = prodLow(a4Low, b4Low, prod4High, a4High, b4High);
+        final double prod4Low   = Intrinsics.productLow(a4, b4, prod4High);
 
         // accurate addition a1 * b1 + a2 * b2
         final double s12High    = prod1High + prod2High;
@@ -321,26 +399,21 @@ public final class LinearCombination {
     }
 
     /**
-     * @param value Value.
-     * @return the high part of the value.
-     */
-    private static double highPart(double value) {
-        return Double.longBitsToDouble(Double.doubleToRawLongBits(value) & ((-1L) << 27));
-    }
-
-    /**
-     * @param aLow Low part of first factor.
-     * @param bLow Low part of second factor.
-     * @param prodHigh Product of the factors.
-     * @param aHigh High part of first factor.
-     * @param bHigh High part of second factor.
-     * @return <code>aLow * bLow - (((prodHigh - aHigh * bHigh) - aLow * bHigh) - aHigh * bLow)</code>
+     * @param indices Positions of the values of a sparse vector.
+     * @param values Values of a sparse vector.
+     * @throws IllegalArgumentException if the sizes of the arrays are different
+     * or if the indices are not in strictly increasing order.
      */
-    private static double prodLow(double aLow,
-                                  double bLow,
-                                  double prodHigh,
-                                  double aHigh,
-                                  double bHigh) {
-        return aLow * bLow - (((prodHigh - aHigh * bHigh) - aLow * bHigh) - aHigh * bLow);
+    private static void checkSparse(int[] indices,
+                                    double[] values) {
+        if (indices.length != values.length) {
+            throw new IllegalArgumentException("Dimension mismatch: " + indices.length + " != " + values.length);
+        }
+        for (int i = 1; i < indices.length; i++) {
+            if (indices[i] <= indices[i - 1]) {
+                throw new IllegalArgumentException("Indices not strictly increasing: " +
+                                                   indices[i - 1] + " >= " + indices[i]);
+            }
+        }
     }
 }
@@ -0,0 +1,421 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.arrays;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Converter between unidimensional storage structure and multidimensional
+ * conceptual structure, using {@code long} indices.
+ * This class has the same contract as {@link MultidimensionalCounter} but
+ * can address structures with more than {@link Integer#MAX_VALUE} elements
+ * (e.g. flat memory-mapped buffers), as long as the total number of
+ * elements does not exceed {@link Long#MAX_VALUE}.
+ *
+ * <p>The unidimensional index of the counts {@code (c0, c1, ..., cn)} is
+ * {@code c0 * s0 + c1 * s1 + ... + cn * sn}, where the
+ * {@link #getStrides() strides} {@code si} are the products of the sizes of
+ * the dimensions after {@code i} (row-major order).
+ */
+public final class LongMultidimensionalCounter {
+    /**
+     * Number of dimensions.
+     */
+    private final int dimension;
+    /**
+     * Offset for each dimension.
+     */
+    private final long[] uniCounterOffset;
+    /**
+     * Counter sizes.
+     */
+    private final long[] size;
+    /**
+     * Total number of (one-dimensional) slots.
+     */
+    private final long totalSize;
+    /**
+     * Index of last dimension.
+     */
+    private final int last;
+
+    /**
+     * Creates a counter.
+     *
+     * @param size Counter sizes (number of slots in each dimension).
+     * @throws IllegalArgumentException if one of the sizes is negative
+     * or zero, or if the total size overflows a {@code long}.
+     */
+    private LongMultidimensionalCounter(long... size) {
+        dimension = size.length;
+        this.size = Arrays.copyOf(size, size.length);
+
+        uniCounterOffset = new long[dimension];
+
+        last = dimension - 1;
+        uniCounterOffset[last] = 1;
+
+        long tS = 1;
+        for (int i = last; i >= 0; i--) {
+            checkStrictlyPositive("index size", size[i]);
+            uniCounterOffset[i] = tS;
+            if (tS > Long.MAX_VALUE / size[i]) {
+                throw new IllegalArgumentException("Total size overflow: " + Arrays.toString(size));
+            }
+            tS *= size[i];
+        }
+
+        totalSize = tS;
+    }
+
+    /**
+     * Creates a counter.
+     *
+     * @param size Counter sizes (number of slots in each dimension).
+     * @return a new instance.
+     * @throws IllegalArgumentException if one of the sizes is negative
+     * or zero, or if the total size overflows a {@code long}.
+     */
+    public static LongMultidimensionalCounter of(long... size) {
+        return new LongMultidimensionalCounter(size);
+    }
+
+    /**
+     * Gets the number of dimensions of the multidimensional counter.
+     *
+     * @return the number of dimensions.
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Converts to a multidimensional counter.
+     *
+     * @param index Index in unidimensional counter.
+     * @return the multidimensional counts.
+     * @throws IndexOutOfBoundsException if {@code index} is not between
+     * {@code 0} and the value returned by {@link #getSize()} (excluded).
+     */
+    public long[] toMulti(long index) {
+        return toMulti(index, new long[dimension]);
+    }
+
+    /**
+     * Converts to a multidimensional counter.
+     *
+     * @param index Index in unidimensional counter.
+     * @param indices Array in which to store the multidimensional counts.
+     * @return {@code indices}.
+     * @throws IndexOutOfBoundsException if {@code index} is not between
+     * {@code 0} and the value returned by {@link #getSize()} (excluded).
+     * @throws IllegalArgumentException if the size of {@code indices}
+     * does not match the number of dimensions.
+     */
+    public long[] toMulti(long index,
+                          long[] indices) {
+        if (index < 0 ||
+            index >= totalSize) {
+            throw new IndexOutOfBoundsException(createIndexOutOfBoundsMessage(totalSize, index));
+        }
+        checkDimension(indices.length);
+
+        for (int i = 0; i < last; i++) {
+            indices[i] = index / uniCounterOffset[i];
+            // index = index % uniCounterOffset[i]
+            index = index - indices[i] * uniCounterOffset[i];
+        }
+
+        indices[last] = index;
+
+        return indices;
+    }
+
+    /**
+     * Converts to a unidimensional counter.
+     *
+     * @param c Indices in multidimensional counter.
+     * @return the index within the unidimensionl counter.
+     * @throws IllegalArgumentException if the size of {@code c}
+     * does not match the size of the array given in the constructor.
+     * @throws IndexOutOfBoundsException if a value of {@code c} is not in
+     * the range of the corresponding dimension, as defined in the
+     * {@link LongMultidimensionalCounter#of(long...) constructor}.
+     */
+    public long toUni(long... c) {
+        checkDimension(c.length);
+        long count = 0;
+        for (int i = 0; i < dimension; i++) {
+            final long index = c[i];
+            if (index < 0 ||
+                index >= size[i]) {
+                throw new IndexOutOfBoundsException(createIndexOutOfBoundsMessage(size[i], index));
+            }
+            count += uniCounterOffset[i] * index;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the total number of elements.
+     *
+     * @return the total size of the unidimensional counter.
+     */
+    public long getSize() {
+        return totalSize;
+    }
+
+    /**
+     * Gets the number of multidimensional counter slots in each dimension.
+     *
+     * @return the number of slots in each dimension.
+     */
+    public long[] getSizes() {
+        return Arrays.copyOf(size, size.length);
+    }
+
+    /**
+     * Gets the stride of each dimension, i.e. the difference between the
+     * unidimensional indices of two elements whose counts differ by one in
+     * that dimension only.
+     *
+     * @return the stride of each dimension.
+     */
+    public long[] getStrides() {
+        return Arrays.copyOf(uniCounterOffset, uniCounterOffset.length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return Arrays.toString(size);
+    }
+
+    /**
+     * Creates a cursor over all the multidimensional counts, in increasing
+     * order of the unidimensional index.
+     *
+     * @return a new cursor.
+     */
+    public Cursor cursor() {
+        final long[] from = new long[dimension];
+        final long[] step = new long[dimension];
+        Arrays.fill(step, 1);
+        return new Cursor(from, size, step);
+    }
+
+    /**
+     * Creates a cursor over the sub-box of counts {@code c} such that, in each
+     * dimension {@code i}, {@code c[i] = from[i] + k * step[i] < to[i]} for
+     * some {@code k >= 0}.
+     * The counts are visited in increasing order of the unidimensional index,
+     * which is updated by adding precomputed strides rather than recomputed.
+     *
+     * @param from First count in each dimension (inclusive).
+     * @param to Last count in each dimension (exclusive).
+     * @param step Increment in each dimension.
+     * @return a new cursor.
+     * @throws IllegalArgumentException if the size of any of the arrays
+     * does not match the number of dimensions, or if a step is not
+     * strictly positive.
+     * @throws IndexOutOfBoundsException if a range is not within the range
+     * of the corresponding dimension.
+     */
+    public Cursor cursor(long[] from,
+                         long[] to,
+                         long[] step) {
+        checkDimension(from.length);
+        checkDimension(to.length);
+        checkDimension(step.length);
+        for (int i = 0; i < dimension; i++) {
+            if (from[i] < 0 ||
+                from[i] > to[i] ||
+                to[i] > size[i]) {
+                throw new IndexOutOfBoundsException("Range [" + from[i] + ", " + to[i] +
+                                                    ") out of bounds for size " + size[i]);
+            }
+            checkStrictlyPositive("step", step[i]);
+        }
+        return new Cursor(from, to, step);
+    }
+
+    /**
+     * Check the number of dimensions.
+     *
+     * @param n the number of dimensions
+     * @throws IllegalArgumentException if {@code n} does not match
+     * the number of dimensions of this counter.
+     */
+    private void checkDimension(int n) {
+        if (n != dimension) {
+            throw new IllegalArgumentException("Wrong number of arguments: " + n +
+                                               "(expected: " + dimension + ")");
+        }
+    }
+
+    /**
+     * Check the size is strictly positive: {@code size > 0}.
+     *
+     * @param name the name of the size
+     * @param size the size
+     */
+    private static void checkStrictlyPositive(String name, long size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Not positive " + name + ": " + size);
+        }
+    }
+
+    /**
+     * Creates the message for the index out of bounds exception.
+     *
+     * @param size the size
+     * @param index the index
+     * @return the message
+     */
+    private static String createIndexOutOfBoundsMessage(long size, long index) {
+        return "Index out of bounds [0, " + (size - 1) + "]: " + index;
+    }
+
+    /**
+     * Iterates over the unidimensional indices of a (strided) sub-box of
+     * multidimensional counts, in increasing order.
+     * Each step updates the counts and the unidimensional index in place,
+     * without division nor multiplication.
+     *
+     * <p>This class is not thread-safe.
+     */
+    public final class Cursor implements PrimitiveIterator.OfLong {
+        /** First count in each dimension. */
+        private final long[] from;
+        /** Increment in each dimension. */
+        private final long[] step;
+        /** Number of points in each dimension. */
+        private final long[] points;
+        /** Unidimensional increment for a step in each dimension. */
+        private final long[] advance;
+        /** Unidimensional decrement to return to the first count in each dimension. */
+        private final long[] rewind;
+        /** Current multidimensional counts. */
+        private final long[] counts;
+        /** Current point number in each dimension. */
+        private final long[] k;
+        /** Current unidimensional index. */
+        private long offset;
+        /** Number of remaining elements. */
+        private long remaining;
+
+        /**
+         * @param from First count in each dimension (inclusive).
+         * @param to Last count in each dimension (exclusive).
+         * @param step Increment in each dimension.
+         */
+        Cursor(long[] from,
+               long[] to,
+               long[] step) {
+            this.from = Arrays.copyOf(from, dimension);
+            this.step = Arrays.copyOf(step, dimension);
+            points = new long[dimension];
+            advance = new long[dimension];
+            rewind = new long[dimension];
+            counts = Arrays.copyOf(from, dimension);
+            k = new long[dimension];
+            remaining = 1;
+            for (int i = 0; i < dimension; i++) {
+                final long span = to[i] - from[i];
+                points[i] = span == 0 ? 0 : (span - 1) / step[i] + 1;
+                advance[i] = step[i] * uniCounterOffset[i];
+                rewind[i] = points[i] == 0 ? 0 : (points[i] - 1) * advance[i];
+                offset += from[i] * uniCounterOffset[i];
+                remaining *= points[i];
+            }
+            // Position before the first element: the first increment
+            // of the last dimension cannot carry over.
+            k[last] = -1;
+            counts[last] -= step[last];
+            offset -= advance[last];
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        /**
+         * Advances to the next counts of the sub-box.
+         *
+         * @return the unidimensional index of the new current counts.
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        @Override
+        public long nextLong() {
+            if (remaining <= 0) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            int i = last;
+            while (++k[i] == points[i] &&
+                   i > 0) {
+                k[i] = 0;
+                counts[i] = from[i];
+                offset -= rewind[i];
+                i--;
+            }
+            counts[i] += step[i];
+            offset += advance[i];
+            return offset;
+        }
+
+        /**
+         * Gets the count of the given dimension at the current position.
+         *
+         * @param dim Dimension.
+         * @return the count.
+         * @throws IndexOutOfBoundsException if {@code dim} is not a valid
+         * dimension.
+         */
+        public long getCount(int dim) {
+            return counts[dim];
+        }
+
+        /**
+         * Copies the counts at the current position.
+         *
+         * @param dest Array in which to store the counts.
+         * @return {@code dest}.
+         * @throws IllegalArgumentException if the size of {@code dest}
+         * does not match the number of dimensions.
+         */
+        public long[] getCounts(long[] dest) {
+            checkDimension(dest.length);
+            System.arraycopy(counts, 0, dest, 0, dimension);
+            return dest;
+        }
+
+        /**
+         * Gets the number of elements of the sub-box not yet visited.
+         *
+         * @return the number of remaining elements.
+         */
+        public long getRemaining() {
+            return remaining;
+        }
+    }
+}
@@ -18,6 +18,10 @@
 package org.apache.commons.numbers.arrays;
 
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * Converter between unidimensional storage structure and multidimensional
@@ -37,6 +41,12 @@ import java.util.Arrays;
  *  <li>...</li>
  *  <li>(1, 3, 2) corresponds to 23</li>
  * </ul>
+ *
+ * <p>Sequential traversal of the multidimensional indices should use a
+ * {@link #cursor() cursor} (or a {@link #spliterator() spliterator} for
+ * parallel processing): successive indices are obtained by incrementing
+ * the previous ones, "odometer-style", rather than by repeated calls to
+ * {@link #toMulti(int)} that perform a division per dimension.
  */
 public final class MultidimensionalCounter {
     /**
@@ -119,12 +129,27 @@ public final class MultidimensionalCounter {
      * {@code 0} and the value returned by {@link #getSize()} (excluded).
      */
     public int[] toMulti(int index) {
+        return toMulti(index, new int[dimension]);
+    }
+
+    /**
+     * Converts to a multidimensional counter.
+     *
+     * @param index Index in unidimensional counter.
+     * @param indices Array in which to store the multidimensional counts.
+     * @return {@code indices}.
+     * @throws IndexOutOfBoundsException if {@code index} is not between
+     * {@code 0} and the value returned by {@link #getSize()} (excluded).
+     * @throws IllegalArgumentException if the size of {@code indices}
+     * does not match the number of dimensions.
+     */
+    public int[] toMulti(int index,
+                         int[] indices) {
         if (index < 0 ||
             index >= totalSize) {
             throw new IndexOutOfBoundsException(createIndexOutOfBoundsMessage(totalSize, index));
         }
-
-        final int[] indices = new int[dimension];
+        checkDimension(indices.length);
 
         for (int i = 0; i < last; i++) {
             indices[i] = index / uniCounterOffset[i];
@@ -137,6 +162,43 @@ public final class MultidimensionalCounter {
         return indices;
     }
 
+    /**
+     * Converts a range of unidimensional indices to multidimensional counts.
+     * The counts corresponding to index {@code from + k} are stored in
+     * {@code indices[k * d]} to {@code indices[k * d + d - 1]}, where
+     * {@code d} is the {@link #getDimension() number of dimensions}.
+     * Only the first index of the range is converted using divisions.
+     *
+     * @param from First index in unidimensional counter (inclusive).
+     * @param to Last index in unidimensional counter (exclusive).
+     * @param indices Array in which to store the multidimensional counts.
+     * @return {@code indices}.
+     * @throws IndexOutOfBoundsException if the range is not within
+     * {@code [0, getSize())}.
+     * @throws IllegalArgumentException if the size of {@code indices}
+     * is smaller than {@code (to - from) * getDimension()}.
+     */
+    public int[] toMulti(int from,
+                         int to,
+                         int[] indices) {
+        checkRange(from, to);
+        final int n = to - from;
+        if ((long) n * dimension > indices.length) {
+            throw new IllegalArgumentException("Array too small: " + indices.length +
+                                               " (expected: " + ((long) n * dimension) + ")");
+        }
+        if (n == 0) {
+            return indices;
+        }
+        final int[] counts = toMulti(from);
+        System.arraycopy(counts, 0, indices, 0, dimension);
+        for (int k = 1; k < n; k++) {
+            increment(counts);
+            System.arraycopy(counts, 0, indices, k * dimension, dimension);
+        }
+        return indices;
+    }
+
     /**
      * Converts to a unidimensional counter.
      *
@@ -149,10 +211,7 @@ public final class MultidimensionalCounter {
      * {@link MultidimensionalCounter#of(int...) constructor}.
      */
     public int toUni(int... c) {
-        if (c.length != dimension) {
-            throw new IllegalArgumentException("Wrong number of arguments: " + c.length +
-                                               "(expected: " + dimension + ")");
-        }
+        checkDimension(c.length);
         int count = 0;
         for (int i = 0; i < dimension; i++) {
             final int index = c[i];
@@ -189,6 +248,99 @@ public final class MultidimensionalCounter {
         return Arrays.toString(size);
     }
 
+    /**
+     * Creates a cursor over all the multidimensional counts, in increasing
+     * order of the unidimensional index.
+     *
+     * @return a new cursor.
+     */
+    public Cursor cursor() {
+        return new Cursor(0, totalSize);
+    }
+
+    /**
+     * Creates a cursor over the multidimensional counts corresponding to the
+     * unidimensional indices {@code [from, to)}, in increasing order.
+     *
+     * @param from First index in unidimensional counter (inclusive).
+     * @param to Last index in unidimensional counter (exclusive).
+     * @return a new cursor.
+     * @throws IndexOutOfBoundsException if the range is not within
+     * {@code [0, getSize())}.
+     */
+    public Cursor cursor(int from,
+                         int to) {
+        checkRange(from, to);
+        return new Cursor(from, to);
+    }
+
+    /**
+     * Creates a spliterator over all the multidimensional counts, in increasing
+     * order of the unidimensional index.
+     * Splitting divides the unidimensional index range, so that
+     * multidimensional loops can be processed in parallel, e.g.:
+     * <pre>
+     * StreamSupport.stream(counter.spliterator(), true)
+     *              .forEach(c -&gt; process(c[0], c[1], c[2]));
+     * </pre>
+     *
+     * <p>Each spliterator reuses a single array to report the counts: the
+     * array passed to the action must not be modified, and its contents
+     * must be copied if they are needed after the action returns.
+     *
+     * @return a new spliterator.
+     */
+    public Spliterator<int[]> spliterator() {
+        return new CounterSpliterator(0, totalSize);
+    }
+
+    /**
+     * Increments the multidimensional counts to those of the next
+     * unidimensional index. The counts are assumed to be valid and not
+     * to correspond to the last index.
+     *
+     * @param counts Multidimensional counts.
+     */
+    private void increment(int[] counts) {
+        int i = last;
+        while (++counts[i] == size[i] &&
+               i > 0) {
+            counts[i] = 0;
+            i--;
+        }
+    }
+
+    /**
+     * Check the number of dimensions.
+     *
+     * @param n the number of dimensions
+     * @throws IllegalArgumentException if {@code n} does not match
+     * the number of dimensions of this counter.
+     */
+    private void checkDimension(int n) {
+        if (n != dimension) {
+            throw new IllegalArgumentException("Wrong number of arguments: " + n +
+                                               "(expected: " + dimension + ")");
+        }
+    }
+
+    /**
+     * Check the range of unidimensional indices.
+     *
+     * @param from the first index (inclusive)
+     * @param to the last index (exclusive)
+     * @throws IndexOutOfBoundsException if the range is not within
+     * {@code [0, totalSize)}.
+     */
+    private void checkRange(int from, int to) {
+        if (from < 0 ||
+            from > to ||
+            to > totalSize) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to +
+                                                ") out of bounds for size " + totalSize);
+        }
+    }
+
     /**
      * Check the size is strictly positive: {@code size > 0}.
      *
@@ -211,4 +363,187 @@ public final class MultidimensionalCounter {
     private static String createIndexOutOfBoundsMessage(int size, int index) {
         return "Index out of bounds [0, " + (size - 1) + "]: " + index;
     }
+
+    /**
+     * Iterates over multidimensional counts in increasing order of the
+     * unidimensional index.
+     * Each step increments the counts of the previous step, without division
+     * nor allocation: {@link #next()} always returns the same array, updated
+     * in place, which must not be modified by the caller.
+     *
+     * <p>This class is not thread-safe.
+     */
+    public final class Cursor implements Iterator<int[]> {
+        /** Current multidimensional counts. */
+        private final int[] counts;
+        /** Next unidimensional index. */
+        private int index;
+        /** Last unidimensional index (exclusive). */
+        private final int end;
+
+        /**
+         * @param from First index (inclusive).
+         * @param to Last index (exclusive).
+         */
+        Cursor(int from,
+               int to) {
+            counts = new int[dimension];
+            index = from;
+            end = to;
+            if (from < to) {
+                toMulti(from, counts);
+                // Position before the first element: the first increment
+                // of the last dimension cannot carry over.
+                counts[last]--;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            return index < end;
+        }
+
+        /**
+         * Advances to the next multidimensional counts.
+         *
+         * @return the counts (shared array, updated by each call).
+         * @throws NoSuchElementException if the iteration has no more elements.
+         */
+        @Override
+        public int[] next() {
+            if (index >= end) {
+                throw new NoSuchElementException();
+            }
+            advance();
+            return counts;
+        }
+
+        /**
+         * Advances to the next multidimensional counts.
+         *
+         * @return the unidimensional index of the new current counts, or
+         * {@code -1} if the iteration has no more elements.
+         */
+        public int nextIndex() {
+            if (index >= end) {
+                return -1;
+            }
+            advance();
+            return index - 1;
+        }
+
+        /**
+         * Gets the count of the given dimension at the current position.
+         *
+         * @param dim Dimension.
+         * @return the count.
+         * @throws IndexOutOfBoundsException if {@code dim} is not a valid
+         * dimension.
+         */
+        public int getCount(int dim) {
+            return counts[dim];
+        }
+
+        /**
+         * Copies the counts at the current position.
+         *
+         * @param dest Array in which to store the counts.
+         * @return {@code dest}.
+         * @throws IllegalArgumentException if the size of {@code dest}
+         * does not match the number of dimensions.
+         */
+        public int[] getCounts(int[] dest) {
+            checkDimension(dest.length);
+            System.arraycopy(counts, 0, dest, 0, dimension);
+            return dest;
+        }
+
+        /** Increments the counts. */
+        private void advance() {
+            increment(counts);
+            index++;
+        }
+    }
+
+    /**
+     * Spliterator over a range of unidimensional indices, reporting the
+     * corresponding multidimensional counts.
+     */
+    private final class CounterSpliterator implements Spliterator<int[]> {
+        /** Next unidimensional index. */
+        private int index;
+        /** Last unidimensional index (exclusive). */
+        private final int end;
+        /** Counts of the previous index; {@code null} if not yet computed. */
+        private int[] counts;
+
+        /**
+         * @param from First index (inclusive).
+         * @param to Last index (exclusive).
+         */
+        CounterSpliterator(int from,
+                           int to) {
+            index = from;
+            end = to;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean tryAdvance(Consumer<? super int[]> action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(advance());
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void forEachRemaining(Consumer<? super int[]> action) {
+            while (index < end) {
+                action.accept(advance());
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Spliterator<int[]> trySplit() {
+            final int lo = index;
+            final int mid = (lo + end) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            counts = null;
+            return new CounterSpliterator(lo, mid);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long estimateSize() {
+            return (long) end - index;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+
+        /**
+         * Advances to the next index.
+         *
+         * @return the counts of the new current index.
+         */
+        private int[] advance() {
+            if (counts == null) {
+                counts = toMulti(index);
+            } else {
+                increment(counts);
+            }
+            index++;
+            return counts;
+        }
+    }
 }
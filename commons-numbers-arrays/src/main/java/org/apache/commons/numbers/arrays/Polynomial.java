@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.arrays;
+
+/**
+ * Evaluates polynomials using Horner's scheme.
+ * The coefficients are given in order of increasing degree:
+ * \( p(x) = c_0 + c_1 x + \dots + c_n x^n \).
+ *
+ * <p>The compensated scheme computes the rounding errors of each step of
+ * Horner's scheme using error-free transformations and accumulates them in a
+ * second polynomial evaluation. The result is as accurate as if computed in
+ * twice the working precision and then rounded, at roughly twice the cost
+ * of the plain scheme. This improves the accuracy near the roots of the
+ * polynomial where the plain scheme suffers from cancellation.
+ *
+ * <p>The methods evaluating the polynomial at many points compute the points
+ * in blocks, so that the evaluations are independent of each other
+ * and can be pipelined. The results are identical to the evaluation at
+ * each point.
+ *
+ * @see <a href="https://doi.org/10.1016/j.cam.2006.08.019">
+ * Graillat, Langlois and Louvet (2009) Algorithms for accurate, validated and
+ * fast polynomial evaluation</a>
+ */
+public final class Polynomial {
+    /** Number of points evaluated together. */
+    private static final int BLOCK_SIZE = 64;
+
+    /** Private constructor. */
+    private Polynomial() {
+        // intentionally empty.
+    }
+
+    /**
+     * Evaluates the polynomial using Horner's scheme.
+     *
+     * @param c Coefficients (in order of increasing degree).
+     * @param x Point.
+     * @return \( \sum_i c_i x^i \); 0 if there are no coefficients.
+     */
+    public static double value(double[] c,
+                               double x) {
+        final int n = c.length - 1;
+        if (n < 0) {
+            return 0;
+        }
+        double s = c[n];
+        for (int i = n - 1; i >= 0; i--) {
+            s = s * x + c[i];
+        }
+        return s;
+    }
+
+    /**
+     * Evaluates the polynomial at each point using Horner's scheme.
+     * The output array may be the same as the input array.
+     *
+     * @param c Coefficients (in order of increasing degree).
+     * @param x Points.
+     * @param result Values of the polynomial at the points.
+     * @throws IllegalArgumentException if the sizes of the point and
+     * result arrays are different.
+     */
+    public static void value(double[] c,
+                             double[] x,
+                             double[] result) {
+        checkDimensions(x, result);
+        final int n = c.length - 1;
+        final int m = x.length;
+        final double[] xs = new double[Math.min(BLOCK_SIZE, m)];
+        final double[] s = new double[xs.length];
+        for (int from = 0; from < m; from += BLOCK_SIZE) {
+            final int len = Math.min(BLOCK_SIZE, m - from);
+            System.arraycopy(x, from, xs, 0, len);
+            final double cn = n < 0 ? 0 : c[n];
+            for (int j = 0; j < len; j++) {
+                s[j] = cn;
+            }
+            for (int i = n - 1; i >= 0; i--) {
+                final double ci = c[i];
+                for (int j = 0; j < len; j++) {
+                    s[j] = s[j] * xs[j] + ci;
+                }
+            }
+            System.arraycopy(s, 0, result, from, len);
+        }
+    }
+
+    /**
+     * Evaluates the polynomial using the compensated Horner scheme.
+     *
+     * @param c Coefficients (in order of increasing degree).
+     * @param x Point.
+     * @return \( \sum_i c_i x^i \); 0 if there are no coefficients.
+     */
+    public static double compensatedValue(double[] c,
+                                          double x) {
+        final int n = c.length - 1;
+        if (n < 0) {
+            return 0;
+        }
+        double s = c[n];
+        double r = 0;
+        for (int i = n - 1; i >= 0; i--) {
+            // Error-free transformations: s * x = p + pi ; p + c[i] = s + sigma
+            final double p = s * x;
+            final double pi = Intrinsics.productLow(s, x, p);
+            s = p + c[i];
+            final double sigma = sumLow(p, c[i], s);
+            // Horner's scheme on the errors
+            r = r * x + (pi + sigma);
+        }
+        return combine(s, r);
+    }
+
+    /**
+     * Evaluates the polynomial at each point using the compensated Horner scheme.
+     * The output array may be the same as the input array.
+     *
+     * @param c Coefficients (in order of increasing degree).
+     * @param x Points.
+     * @param result Values of the polynomial at the points.
+     * @throws IllegalArgumentException if the sizes of the point and
+     * result arrays are different.
+     */
+    public static void compensatedValue(double[] c,
+                                        double[] x,
+                                        double[] result) {
+        checkDimensions(x, result);
+        final int n = c.length - 1;
+        final int m = x.length;
+        final double[] xs = new double[Math.min(BLOCK_SIZE, m)];
+        final double[] s = new double[xs.length];
+        final double[] r = new double[xs.length];
+        for (int from = 0; from < m; from += BLOCK_SIZE) {
+            final int len = Math.min(BLOCK_SIZE, m - from);
+            System.arraycopy(x, from, xs, 0, len);
+            final double cn = n < 0 ? 0 : c[n];
+            for (int j = 0; j < len; j++) {
+                s[j] = cn;
+                r[j] = 0;
+            }
+            for (int i = n - 1; i >= 0; i--) {
+                final double ci = c[i];
+                for (int j = 0; j < len; j++) {
+                    final double xj = xs[j];
+                    final double sj = s[j];
+                    final double p = sj * xj;
+                    final double pi = Intrinsics.productLow(sj, xj, p);
+                    final double t = p + ci;
+                    s[j] = t;
+                    r[j] = r[j] * xj + (pi + sumLow(p, ci, t));
+                }
+            }
+            for (int j = 0; j < len; j++) {
+                result[from + j] = combine(s[j], r[j]);
+            }
+        }
+    }
+
+    /**
+     * Computes the round-off of the sum {@code a + b} using Knuth's two-sum algorithm.
+     *
+     * @param a First part of sum.
+     * @param b Second part of sum.
+     * @param sum Sum (a + b).
+     * @return the low part of the sum.
+     */
+    private static double sumLow(double a,
+                                 double b,
+                                 double sum) {
+        final double bVirtual = sum - a;
+        return (a - (sum - bVirtual)) + (b - bVirtual);
+    }
+
+    /**
+     * Adds the accumulated round-off to the result of Horner's scheme.
+     *
+     * @param s Result of Horner's scheme.
+     * @param r Result of Horner's scheme on the round-off terms.
+     * @return the compensated result.
+     */
+    private static double combine(double s,
+                                  double r) {
+        final double result = s + r;
+        if (Double.isNaN(result) && !Double.isNaN(s)) {
+            // The round-off of an infinite intermediate is NaN:
+            // let IEEE754 handle this with the uncompensated result.
+            return s;
+        }
+        return result;
+    }
+
+    /**
+     * @param x Points.
+     * @param result Results.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     */
+    private static void checkDimensions(double[] x,
+                                        double[] result) {
+        if (x.length != result.length) {
+            throw new IllegalArgumentException("Dimension mismatch: " + x.length + " != " + result.length);
+        }
+    }
+}
@@ -16,6 +16,9 @@
  */
 package org.apache.commons.numbers.arrays;
 
+import java.util.function.DoubleConsumer;
+import java.util.stream.IntStream;
+
 /**
  * Computes the Cartesian norm (2-norm), handling both overflow and underflow.
  * Translation of the <a href="http://www.netlib.org/minpack">minpack</a>
@@ -37,14 +40,83 @@ public final class SafeNorm {
      * @return the 2-norm of the vector.
      */
     public static double value(double[] v) {
+        return value(v, 0, v.length);
+    }
+
+    /**
+     * Computes the 2-norm of each row of a matrix stored in row-major order.
+     *
+     * @param matrix Matrix elements, in row-major order.
+     * @param columns Number of columns.
+     * @return the 2-norm of each row.
+     * @throws IllegalArgumentException if {@code columns} is not strictly
+     * positive or does not divide the length of {@code matrix}.
+     * @see #rowValues(double[], int, boolean)
+     */
+    public static double[] rowValues(double[] matrix,
+                                     int columns) {
+        return rowValues(matrix, columns, false);
+    }
+
+    /**
+     * Computes the 2-norm of each row of a matrix stored in row-major order.
+     * The norm of each row is identical to the value returned by
+     * {@link #value(double[])} for an array holding that row.
+     *
+     * @param matrix Matrix elements, in row-major order.
+     * @param columns Number of columns.
+     * @param parallel Whether the rows may be processed concurrently.
+     * @return the 2-norm of each row.
+     * @throws IllegalArgumentException if {@code columns} is not strictly
+     * positive or does not divide the length of {@code matrix}.
+     */
+    public static double[] rowValues(double[] matrix,
+                                     int columns,
+                                     boolean parallel) {
+        if (columns <= 0 ||
+            matrix.length % columns != 0) {
+            throw new IllegalArgumentException("Invalid number of columns: " + columns +
+                                               " (matrix length: " + matrix.length + ")");
+        }
+        final double[] norms = new double[matrix.length / columns];
+        if (parallel) {
+            IntStream.range(0, norms.length).parallel()
+                .forEach(i -> norms[i] = value(matrix, i * columns, (i + 1) * columns));
+        } else {
+            for (int i = 0; i < norms.length; i++) {
+                norms[i] = value(matrix, i * columns, (i + 1) * columns);
+            }
+        }
+        return norms;
+    }
+
+    /**
+     * Creates an accumulator for computing the 2-norm of a vector whose
+     * coordinates are supplied incrementally.
+     *
+     * @return a new (empty) accumulator.
+     */
+    public static Accumulator accumulator() {
+        return new Accumulator();
+    }
+
+    /**
+     * @param v Cartesian coordinates.
+     * @param from Index of the first coordinate (inclusive).
+     * @param to Index of the last coordinate (exclusive).
+     * @return the 2-norm of the vector {@code v[from, to)}.
+     */
+    private static double value(double[] v,
+                                int from,
+                                int to) {
         double s1 = 0;
         double s2 = 0;
         double s3 = 0;
         double x1max = 0;
         double x3max = 0;
-        final double floatn = v.length;
+        final double floatn = to - from;
         final double agiant = R_GIANT / floatn;
-        for (int i = 0; i < v.length; i++) {
+        for (int i = from; i < to; i++) {
             final double xabs = Math.abs(v[i]);
             if (xabs < R_DWARF || xabs > agiant) {
                 if (xabs > R_DWARF) {
@@ -72,6 +144,24 @@ public final class SafeNorm {
                 s2 += xabs * xabs;
             }
         }
+        return norm(s1, x1max, s2, s3, x3max);
+    }
+
+    /**
+     * Combines the partial sums into the 2-norm.
+     *
+     * @param s1 Scaled sum of squares of the large components.
+     * @param x1max Largest of the large components.
+     * @param s2 Sum of squares of the intermediate components.
+     * @param s3 Scaled sum of squares of the small components.
+     * @param x3max Largest of the small components.
+     * @return the 2-norm.
+     */
+    private static double norm(double s1,
+                               double x1max,
+                               double s2,
+                               double s3,
+                               double x3max) {
         double norm;
         if (s1 != 0) {
             norm = x1max * Math.sqrt(s1 + (s2 / x1max) / x1max);
@@ -88,4 +178,173 @@ public final class SafeNorm {
         }
         return norm;
     }
+
+    /**
+     * Incremental computation of the 2-norm, using the same overflow and
+     * underflow safe algorithm as {@link SafeNorm#value(double[])}.
+     *
+     * <p>Coordinates can be added one at a time or in chunks, and accumulators
+     * holding the partial results of disjoint parts of a vector can be
+     * {@link #combine(Accumulator) combined}. This allows usage as a mutable
+     * reduction, e.g.:
+     * <pre>
+     * double norm = stream.collect(SafeNorm::accumulator,
+     *                              SafeNorm.Accumulator::add,
+     *                              SafeNorm.Accumulator::combine).value();
+     * </pre>
+     *
+     * <p>Since the number of coordinates is not known in advance, the threshold
+     * above which a coordinate is considered large does not depend on the
+     * length of the vector. The result may therefore differ in the last bits
+     * from the value computed by {@link SafeNorm#value(double[])} on the
+     * whole array.
+     *
+     * <p>This class is not thread-safe.
+     */
+    public static final class Accumulator implements DoubleConsumer {
+        /** Scaled sum of squares of the large components. */
+        private double s1;
+        /** Sum of squares of the intermediate components. */
+        private double s2;
+        /** Scaled sum of squares of the small components. */
+        private double s3;
+        /** Largest of the large components. */
+        private double x1max;
+        /** Largest of the small components. */
+        private double x3max;
+        /** Number of coordinates. */
+        private long count;
+
+        /** Create an instance. */
+        Accumulator() {}
+
+        /**
+         * Adds a coordinate.
+         *
+         * @param x Coordinate.
+         */
+        @Override
+        public void accept(double x) {
+            add(x);
+        }
+
+        /**
+         * Adds a coordinate.
+         *
+         * @param x Coordinate.
+         * @return this instance.
+         */
+        public Accumulator add(double x) {
+            final double xabs = Math.abs(x);
+            if (xabs < R_DWARF || xabs > R_GIANT) {
+                if (xabs > R_DWARF) {
+                    if (xabs > x1max) {
+                        final double r = x1max / xabs;
+                        s1 = 1 + s1 * r * r;
+                        x1max = xabs;
+                    } else {
+                        final double r = xabs / x1max;
+                        s1 += r * r;
+                    }
+                } else {
+                    if (xabs > x3max) {
+                        final double r = x3max / xabs;
+                        s3 = 1 + s3 * r * r;
+                        x3max = xabs;
+                    } else {
+                        if (xabs != 0) {
+                            final double r = xabs / x3max;
+                            s3 += r * r;
+                        }
+                    }
+                }
+            } else {
+                s2 += xabs * xabs;
+            }
+            count++;
+            return this;
+        }
+
+        /**
+         * Adds all the coordinates.
+         *
+         * @param v Coordinates.
+         * @return this instance.
+         */
+        public Accumulator add(double[] v) {
+            return add(v, 0, v.length);
+        }
+
+        /**
+         * Adds the coordinates {@code v[from, to)}.
+         *
+         * @param v Coordinates.
+         * @param from Index of the first coordinate (inclusive).
+         * @param to Index of the last coordinate (exclusive).
+         * @return this instance.
+         * @throws IndexOutOfBoundsException if the range is not within
+         * the bounds of {@code v}.
+         */
+        public Accumulator add(double[] v,
+                               int from,
+                               int to) {
+            if (from < 0 ||
+                from > to ||
+                to > v.length) {
+                throw new IndexOutOfBoundsException("Range [" + from + ", " + to +
+                                                    ") out of bounds for length " + v.length);
+            }
+            for (int i = from; i < to; i++) {
+                add(v[i]);
+            }
+            return this;
+        }
+
+        /**
+         * Adds the partial result held by {@code other} to this instance.
+         * The {@code other} accumulator is not modified.
+         *
+         * @param other Accumulator.
+         * @return this instance.
+         */
+        public Accumulator combine(Accumulator other) {
+            if (other.x1max > x1max) {
+                final double r = x1max / other.x1max;
+                s1 = other.s1 + s1 * r * r;
+                x1max = other.x1max;
+            } else if (other.x1max != 0) {
+                final double r = other.x1max / x1max;
+                s1 += other.s1 * r * r;
+            }
+            if (other.x3max > x3max) {
+                final double r = x3max / other.x3max;
+                s3 = other.s3 + s3 * r * r;
+                x3max = other.x3max;
+            } else if (other.x3max != 0) {
+                final double r = other.x3max / x3max;
+                s3 += other.s3 * r * r;
+            }
+            s2 += other.s2;
+            count += other.count;
+            return this;
+        }
+
+        /**
+         * Gets the number of coordinates added so far.
+         *
+         * @return the number of coordinates.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Computes the 2-norm of the coordinates added so far.
+         *
+         * @return the 2-norm.
+         */
+        public double value() {
+            return norm(s1, x1max, s2, s3, x3max);
+        }
+    }
 }
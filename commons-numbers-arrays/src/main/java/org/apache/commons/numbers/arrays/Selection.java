@@ -0,0 +1,645 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.arrays;
+
+import java.util.Arrays;
+
+/**
+ * Partial sorting of {@code double} arrays: selection of the k-th smallest
+ * elements and computation of quantiles.
+ *
+ * <p>Selection of index {@code k} rearranges the elements in-place such that
+ * {@code a[k]} holds the value it would have if the array was sorted, all elements
+ * before {@code k} are less than or equal to {@code a[k]} and all elements after
+ * {@code k} are greater than or equal to {@code a[k]}. This costs {@code O(n)}
+ * on average instead of {@code O(n log n)} for a full sort. When several indices are
+ * selected at once the array is partitioned around each of them in a single pass.
+ *
+ * <p>The ordering is the one imposed by {@link Double#compare(double, double)}
+ * (and {@link Arrays#sort(double[])}): {@code -0.0} is less than {@code 0.0}
+ * and {@code NaN} is greater than any other value, including positive infinity.
+ *
+ * <p>The algorithm is a quickselect using three-way partitioning. The pivot is
+ * chosen by sampling the data as in Floyd and Rivest's SELECT algorithm when
+ * a single index is selected in a large range, otherwise as the median of three
+ * (or Tukey's ninther) elements. To guarantee {@code O(n log n)} worst case
+ * performance the recursion depth is limited, after which the selection reverts
+ * to a heap select (single index) or a sort (multiple indices), as in introselect.
+ *
+ * @see <a href="https://doi.org/10.1145/360680.360694">
+ * Floyd and Rivest (1975) Algorithm 489: The algorithm SELECT</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Introselect">Introselect</a>
+ */
+public final class Selection {
+    /** Size of a range below which it is sorted using insertion sort. */
+    private static final int SORT_THRESHOLD = 16;
+    /** Size of a range above which the pivot for a single index is chosen by sampling. */
+    private static final int SAMPLING_THRESHOLD = 600;
+    /** Size of a range above which the pivot is chosen as Tukey's ninther. */
+    private static final int NINTHER_THRESHOLD = 40;
+
+    /** Private constructor. */
+    private Selection() {
+        // intentionally empty.
+    }
+
+    /**
+     * Partially sorts the array such that index {@code k} holds the
+     * value it would have if the array was sorted.
+     *
+     * @param a Values.
+     * @param k Index.
+     * @throws IndexOutOfBoundsException if {@code k} is not a valid index.
+     */
+    public static void select(double[] a,
+                              int k) {
+        select(a, 0, a.length, k);
+    }
+
+    /**
+     * Partially sorts the range {@code [from, to)} of the array such that index
+     * {@code k} holds the value it would have if the range was sorted.
+     * Elements outside the range are not modified.
+     *
+     * @param a Values.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param k Index.
+     * @throws IndexOutOfBoundsException if the range is invalid or {@code k}
+     * is not in the range.
+     */
+    public static void select(double[] a,
+                              int from,
+                              int to,
+                              int k) {
+        checkFromToIndex(from, to, a.length);
+        checkIndex(k, from, to);
+        select(a, from, to, new int[] {k}, 1);
+    }
+
+    /**
+     * Partially sorts the array such that each of the indices {@code k} holds
+     * the value it would have if the array was sorted.
+     *
+     * @param a Values.
+     * @param k Indices (in any order; may contain duplicates).
+     * @throws IndexOutOfBoundsException if any index is invalid.
+     */
+    public static void select(double[] a,
+                              int[] k) {
+        select(a, 0, a.length, k);
+    }
+
+    /**
+     * Partially sorts the range {@code [from, to)} of the array such that each
+     * of the indices {@code k} holds the value it would have if the range was sorted.
+     * Elements outside the range are not modified.
+     *
+     * @param a Values.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param k Indices (in any order; may contain duplicates).
+     * @throws IndexOutOfBoundsException if the range is invalid or any index
+     * is not in the range.
+     */
+    public static void select(double[] a,
+                              int from,
+                              int to,
+                              int[] k) {
+        checkFromToIndex(from, to, a.length);
+        for (final int i : k) {
+            checkIndex(i, from, to);
+        }
+        final int[] keys = k.clone();
+        select(a, from, to, keys, sortUnique(keys));
+    }
+
+    /**
+     * Computes the quantiles of the values for each of the probabilities {@code p}.
+     *
+     * <p>The quantile is estimated by linear interpolation between the closest ranks
+     * (the default method of R and NumPy; type 7 in Hyndman and Fan): with {@code n}
+     * values sorted in ascending order, let {@code h = (n - 1) p}; the quantile is
+     * {@code a[floor(h)] + (h - floor(h)) (a[floor(h) + 1] - a[floor(h)])}.
+     * The values are ordered as by {@link Double#compare(double, double)}; any
+     * {@code NaN} values are the largest.
+     *
+     * <p>All the quantiles are computed with a single multiple-index
+     * {@link #select(double[], int[]) selection}. The array is partially sorted
+     * in-place; the caller should pass a copy if the order must be preserved.
+     *
+     * @param a Values.
+     * @param p Probabilities, in {@code [0, 1]}.
+     * @return the quantiles; {@code NaN} if the array is empty.
+     * @throws IllegalArgumentException if any probability is not in {@code [0, 1]}.
+     * @see <a href="https://doi.org/10.2307/2684934">
+     * Hyndman and Fan (1996) Sample Quantiles in Statistical Packages</a>
+     */
+    public static double[] quantile(double[] a,
+                                    double... p) {
+        for (final double x : p) {
+            if (!(x >= 0 && x <= 1)) {
+                throw new IllegalArgumentException("Invalid probability: " + x);
+            }
+        }
+        final int n = a.length;
+        final double[] q = new double[p.length];
+        if (n == 0) {
+            Arrays.fill(q, Double.NaN);
+            return q;
+        }
+
+        // Select the ranks bracketing each quantile in one pass.
+        final int[] keys = new int[2 * p.length];
+        int count = 0;
+        for (final double x : p) {
+            final double h = (n - 1) * x;
+            final int lo = (int) h;
+            keys[count++] = lo;
+            if (h > lo) {
+                keys[count++] = lo + 1;
+            }
+        }
+        final int[] unique = Arrays.copyOf(keys, count);
+        select(a, 0, n, unique, sortUnique(unique));
+
+        for (int i = 0; i < p.length; i++) {
+            final double h = (n - 1) * p[i];
+            final int lo = (int) h;
+            q[i] = h > lo ?
+                interpolate(a[lo], a[lo + 1], h - lo) :
+                a[lo];
+        }
+        return q;
+    }
+
+    /**
+     * Linear interpolation between {@code x} and {@code y}.
+     *
+     * @param x Lower value.
+     * @param y Upper value.
+     * @param t Fraction, in {@code (0, 1)}.
+     * @return the interpolated value.
+     */
+    private static double interpolate(double x,
+                                      double y,
+                                      double t) {
+        if (x == y) {
+            // Includes -0.0 and 0.0, and infinities of the same sign.
+            return x;
+        }
+        final double d = y - x;
+        if (Double.isInfinite(d)) {
+            // Overflow of the difference, or an infinite value.
+            return x * (1 - t) + y * t;
+        }
+        return x + t * d;
+    }
+
+    /**
+     * Partially sorts the range such that each of the keys holds the value it
+     * would have if the range was sorted.
+     *
+     * <p>Values that are not ordered by the primitive comparison operators are
+     * handled before the selection: {@code NaN} values are moved to the end of the range
+     * and, if present, {@code -0.0} values are placed before {@code 0.0} values
+     * by partitioning around zero.
+     *
+     * @param a Values.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param k Keys (sorted ascending, unique, within the range).
+     * @param n Number of keys.
+     */
+    private static void select(double[] a,
+                               int from,
+                               int to,
+                               int[] k,
+                               int n) {
+        if (n == 0) {
+            return;
+        }
+        // Move NaN to the end.
+        int end = to;
+        for (int i = end; --i >= from;) {
+            final double v = a[i];
+            if (v != v) {
+                a[i] = a[--end];
+                a[end] = v;
+            }
+        }
+        // Keys in [end, to) are NaN.
+        int kb = n - 1;
+        while (kb >= 0 && k[kb] >= end) {
+            kb--;
+        }
+        if (kb < 0) {
+            return;
+        }
+
+        int negativeZeros = 0;
+        for (int i = from; i < end; i++) {
+            if (Double.doubleToRawLongBits(a[i]) == Long.MIN_VALUE) {
+                negativeZeros++;
+            }
+        }
+        if (negativeZeros == 0) {
+            select(a, from, end - 1, k, 0, kb, maxDepth(end - from));
+            return;
+        }
+
+        // Three-way partition around zero: [from, lt) < 0 ; [lt, gt] == 0 ; (gt, end) > 0
+        int lt = from;
+        int gt = end - 1;
+        int i = from;
+        while (i <= gt) {
+            final double v = a[i];
+            if (v < 0) {
+                a[i++] = a[lt];
+                a[lt++] = v;
+            } else if (v > 0) {
+                a[i] = a[gt];
+                a[gt--] = v;
+            } else {
+                i++;
+            }
+        }
+        Arrays.fill(a, lt, lt + negativeZeros, -0.0);
+        Arrays.fill(a, lt + negativeZeros, gt + 1, 0.0);
+
+        int p = 0;
+        while (p <= kb && k[p] < lt) {
+            p++;
+        }
+        int q = p;
+        while (q <= kb && k[q] <= gt) {
+            q++;
+        }
+        if (p > 0) {
+            select(a, from, lt - 1, k, 0, p - 1, maxDepth(lt - from));
+        }
+        if (q <= kb) {
+            select(a, gt + 1, end - 1, k, q, kb, maxDepth(end - 1 - gt));
+        }
+    }
+
+    /**
+     * Partially sorts the range {@code [left, right]} such that each of the keys
+     * {@code k[ka..kb]} holds the value it would have if the range was sorted.
+     * The range must not contain {@code NaN} or {@code -0.0}.
+     *
+     * @param a Values.
+     * @param l Index of the first element (inclusive).
+     * @param r Index of the last element (inclusive).
+     * @param k Keys (sorted ascending, unique).
+     * @param ka Index of the first key (inclusive).
+     * @param kb Index of the last key (inclusive); the keys are within the range.
+     * @param depth Remaining recursion depth before reverting to a heap select or sort.
+     */
+    private static void select(double[] a,
+                               int l,
+                               int r,
+                               int[] k,
+                               int ka,
+                               int kb,
+                               int depth) {
+        int left = l;
+        int right = r;
+        int lo = ka;
+        int hi = kb;
+        int d = depth;
+        while (true) {
+            if (right - left < SORT_THRESHOLD) {
+                insertionSort(a, left, right);
+                return;
+            }
+            if (d == 0) {
+                if (lo == hi) {
+                    heapSelect(a, left, right, k[lo]);
+                } else {
+                    Arrays.sort(a, left, right + 1);
+                }
+                return;
+            }
+            d--;
+
+            final double v;
+            if (lo == hi && right - left > SAMPLING_THRESHOLD) {
+                // Floyd-Rivest: select the key within a sample range around it;
+                // the value at the key is then a pivot close to the target rank.
+                final int key = k[lo];
+                final int n = right - left + 1;
+                final int i = key - left + 1;
+                final double z = Math.log(n);
+                final double s = 0.5 * Math.exp(2 * z / 3);
+                final double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * Math.signum(i - n / 2.0);
+                final int ll = Math.min(key, Math.max(left, (int) (key - i * s / n + sd)));
+                final int rr = Math.max(key, Math.min(right, (int) (key + (n - i) * s / n + sd)));
+                select(a, ll, rr, k, lo, lo, d);
+                v = a[key];
+            } else {
+                v = a[pivotIndex(a, left, right)];
+            }
+
+            // Three-way partition: [left, lt) < v ; [lt, gt] == v ; (gt, right] > v
+            int lt = left;
+            int gt = right;
+            int i = left;
+            while (i <= gt) {
+                final double x = a[i];
+                if (x < v) {
+                    a[i++] = a[lt];
+                    a[lt++] = x;
+                } else if (x > v) {
+                    a[i] = a[gt];
+                    a[gt--] = x;
+                } else {
+                    i++;
+                }
+            }
+
+            // Keys in [lt, gt] are done.
+            int p = lo;
+            while (p <= hi && k[p] < lt) {
+                p++;
+            }
+            int q = p;
+            while (q <= hi && k[q] <= gt) {
+                q++;
+            }
+            final boolean doLeft = p > lo;
+            final boolean doRight = q <= hi;
+            if (doLeft && doRight) {
+                // Recurse into the smaller side; iterate on the larger side.
+                if (lt - left < right - gt) {
+                    select(a, left, lt - 1, k, lo, p - 1, d);
+                    left = gt + 1;
+                    lo = q;
+                } else {
+                    select(a, gt + 1, right, k, q, hi, d);
+                    right = lt - 1;
+                    hi = p - 1;
+                }
+            } else if (doLeft) {
+                right = lt - 1;
+                hi = p - 1;
+            } else if (doRight) {
+                left = gt + 1;
+                lo = q;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Partially sorts the range {@code [left, right]} such that index {@code k}
+     * holds the value it would have if the range was sorted, using a heap of the
+     * elements on the smaller side of {@code k}. This has {@code O(n log n)}
+     * worst case performance.
+     *
+     * @param a Values.
+     * @param left Index of the first element (inclusive).
+     * @param right Index of the last element (inclusive).
+     * @param k Index.
+     */
+    static void heapSelect(double[] a,
+                           int left,
+                           int right,
+                           int k) {
+        if (k - left < right - k) {
+            // Max-heap of the (k - left + 1) smallest elements, rooted at left.
+            final int n = k - left + 1;
+            for (int i = (n >>> 1) - 1; i >= 0; i--) {
+                siftDownMax(a, left, i, n);
+            }
+            for (int i = k + 1; i <= right; i++) {
+                final double x = a[i];
+                if (x < a[left]) {
+                    a[i] = a[left];
+                    a[left] = x;
+                    siftDownMax(a, left, 0, n);
+                }
+            }
+            // Move the maximum of the heap to k.
+            final double x = a[left];
+            a[left] = a[k];
+            a[k] = x;
+        } else {
+            // Min-heap of the (right - k + 1) largest elements, rooted at k.
+            final int n = right - k + 1;
+            for (int i = (n >>> 1) - 1; i >= 0; i--) {
+                siftDownMin(a, k, i, n);
+            }
+            for (int i = left; i < k; i++) {
+                final double x = a[i];
+                if (x > a[k]) {
+                    a[i] = a[k];
+                    a[k] = x;
+                    siftDownMin(a, k, 0, n);
+                }
+            }
+        }
+    }
+
+    /**
+     * Restores the max-heap property below node {@code i}.
+     *
+     * @param a Values.
+     * @param offset Index of the root of the heap.
+     * @param i Node.
+     * @param n Size of the heap.
+     */
+    private static void siftDownMax(double[] a,
+                                    int offset,
+                                    int i,
+                                    int n) {
+        final double x = a[offset + i];
+        int j = i;
+        int c;
+        while ((c = 2 * j + 1) < n) {
+            if (c + 1 < n && a[offset + c + 1] > a[offset + c]) {
+                c++;
+            }
+            if (a[offset + c] <= x) {
+                break;
+            }
+            a[offset + j] = a[offset + c];
+            j = c;
+        }
+        a[offset + j] = x;
+    }
+
+    /**
+     * Restores the min-heap property below node {@code i}.
+     *
+     * @param a Values.
+     * @param offset Index of the root of the heap.
+     * @param i Node.
+     * @param n Size of the heap.
+     */
+    private static void siftDownMin(double[] a,
+                                    int offset,
+                                    int i,
+                                    int n) {
+        final double x = a[offset + i];
+        int j = i;
+        int c;
+        while ((c = 2 * j + 1) < n) {
+            if (c + 1 < n && a[offset + c + 1] < a[offset + c]) {
+                c++;
+            }
+            if (a[offset + c] >= x) {
+                break;
+            }
+            a[offset + j] = a[offset + c];
+            j = c;
+        }
+        a[offset + j] = x;
+    }
+
+    /**
+     * Sorts the range {@code [left, right]} using insertion sort.
+     *
+     * @param a Values.
+     * @param left Index of the first element (inclusive).
+     * @param right Index of the last element (inclusive).
+     */
+    private static void insertionSort(double[] a,
+                                      int left,
+                                      int right) {
+        for (int i = left + 1; i <= right; i++) {
+            final double x = a[i];
+            int j = i - 1;
+            while (j >= left && a[j] > x) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = x;
+        }
+    }
+
+    /**
+     * Chooses a pivot as the median of three elements, or as the median of
+     * the medians of three samples of three elements for large ranges.
+     *
+     * @param a Values.
+     * @param left Index of the first element (inclusive).
+     * @param right Index of the last element (inclusive).
+     * @return the index of the pivot.
+     */
+    private static int pivotIndex(double[] a,
+                                  int left,
+                                  int right) {
+        final int m = (left + right) >>> 1;
+        if (right - left > NINTHER_THRESHOLD) {
+            final int s = (right - left) >>> 3;
+            return med3(a,
+                        med3(a, left, left + s, left + 2 * s),
+                        med3(a, m - s, m, m + s),
+                        med3(a, right - 2 * s, right - s, right));
+        }
+        return med3(a, left, m, right);
+    }
+
+    /**
+     * @param a Values.
+     * @param i First index.
+     * @param j Second index.
+     * @param k Third index.
+     * @return the index of the median of the three values.
+     */
+    private static int med3(double[] a,
+                            int i,
+                            int j,
+                            int k) {
+        final double x = a[i];
+        final double y = a[j];
+        final double z = a[k];
+        if (x < y) {
+            if (y < z) {
+                return j;
+            }
+            return x < z ? k : i;
+        }
+        if (x < z) {
+            return i;
+        }
+        return y < z ? k : j;
+    }
+
+    /**
+     * @param n Size of a range.
+     * @return the maximum recursion depth of the quickselect for the range.
+     */
+    private static int maxDepth(int n) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(n));
+    }
+
+    /**
+     * Sorts the keys and removes duplicates.
+     *
+     * @param k Keys.
+     * @return the number of unique keys, stored at the start of the array.
+     */
+    private static int sortUnique(int[] k) {
+        if (k.length < 2) {
+            return k.length;
+        }
+        Arrays.sort(k);
+        int n = 1;
+        for (int i = 1; i < k.length; i++) {
+            if (k[i] != k[n - 1]) {
+                k[n++] = k[i];
+            }
+        }
+        return n;
+    }
+
+    /**
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param length Length of the array.
+     * @throws IndexOutOfBoundsException if the range is invalid.
+     */
+    private static void checkFromToIndex(int from,
+                                         int to,
+                                         int length) {
+        if (from < 0 ||
+            from > to ||
+            to > length) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to +
+                                                ") out of bounds for length " + length);
+        }
+    }
+
+    /**
+     * @param k Index.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @throws IndexOutOfBoundsException if the index is not in the range.
+     */
+    private static void checkIndex(int k,
+                                   int from,
+                                   int to) {
+        if (k < from ||
+            k >= to) {
+            throw new IndexOutOfBoundsException("Index " + k + " out of bounds for range [" +
+                                                from + ", " + to + ")");
+        }
+    }
+}
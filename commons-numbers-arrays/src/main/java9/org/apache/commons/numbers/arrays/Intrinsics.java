@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.arrays;
+
+/**
+ * Low-level arithmetic kernels that have a faster implementation on recent
+ * Java runtimes.
+ *
+ * <p>This is the Java 9+ implementation packaged in the multi-release JAR.
+ * It uses {@code Math.fma} which is intrinsic on most platforms.
+ */
+final class Intrinsics {
+    /** No instances. */
+    private Intrinsics() {}
+
+    /**
+     * Computes the round-off of the product {@code a * b}, i.e. the low part
+     * of the exact product. The standard precision product must be provided.
+     *
+     * <p>The product is computed using a fused multiply-add. The result is
+     * exact if {@code |a * b| >= 2^-968}. If either factor is not finite the
+     * result is NaN.
+     *
+     * @param a First factor.
+     * @param b Second factor.
+     * @param prodHigh Product of the factors (a * b).
+     * @return the low part of the product.
+     */
+    static double productLow(double a,
+                             double b,
+                             double prodHigh) {
+        return Math.fma(a, b, -prodHigh);
+    }
+}
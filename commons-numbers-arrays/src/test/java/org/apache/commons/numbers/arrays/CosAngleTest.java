@@ -16,6 +16,8 @@
  */
 package org.apache.commons.numbers.arrays;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -88,4 +90,91 @@ class CosAngleTest {
             CosAngle.value(a, b);
         });
     }
+
+    @Test
+    void testMatrix() {
+        final double[][] v = createVectors(150, 5);
+        final double[][] m = CosAngle.matrix(v);
+        final double[][] p = CosAngle.matrix(v, true);
+        final double[][] c = CosAngle.matrix(v, Arrays.copyOf(v, 70), true);
+        Assertions.assertEquals(v.length, m.length);
+        Assertions.assertEquals(70, c[0].length);
+        for (int i = 0; i < v.length; i++) {
+            for (int j = 0; j < v.length; j++) {
+                final double expected = CosAngle.value(v[Math.min(i, j)], v[Math.max(i, j)]);
+                Assertions.assertEquals(expected, m[i][j]);
+                Assertions.assertEquals(expected, p[i][j]);
+                if (j < 70) {
+                    Assertions.assertEquals(CosAngle.value(v[i], v[j]), c[i][j]);
+                }
+            }
+        }
+        Assertions.assertEquals(0, CosAngle.matrix(new double[0][]).length);
+    }
+
+    @Test
+    void testMatrix_dimensionMismatch() {
+        final double[][] v = {{1, 2}, {3, 4}, {5}};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CosAngle.matrix(v));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> CosAngle.matrix(new double[][] {{1, 2}}, new double[][] {{1, 2, 3}}, false));
+    }
+
+    @Test
+    void testNearestQuery() {
+        final double[][] v = {{1, 0}, {0, 1}, {1, 1}, {-1, 0}, {2, 0}, {0, 0}};
+        Assertions.assertArrayEquals(new int[] {0, 4, 2}, CosAngle.nearest(v, new double[] {3, 0}, 3));
+        Assertions.assertArrayEquals(new int[] {2}, CosAngle.nearest(v, new double[] {1, 1}, 1));
+        // Zero vector is never selected
+        Assertions.assertArrayEquals(new int[] {0, 4, 2, 1, 3},
+                                     CosAngle.nearest(v, new double[] {1, 0}, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CosAngle.nearest(v, new double[] {1, 0}, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CosAngle.nearest(v, new double[] {1}, 1));
+    }
+
+    @Test
+    void testNearestAll() {
+        final double[][] v = createVectors(200, 3);
+        final int k = 7;
+        final int[][] nn = CosAngle.nearest(v, k, false);
+        final int[][] nnp = CosAngle.nearest(v, k, true);
+        for (int i = 0; i < v.length; i++) {
+            final int fi = i;
+            final Integer[] order = new Integer[v.length];
+            for (int j = 0; j < order.length; j++) {
+                order[j] = j;
+            }
+            final double[] sim = new double[v.length];
+            for (int j = 0; j < sim.length; j++) {
+                sim[j] = CosAngle.value(v[i], v[j]);
+            }
+            Arrays.sort(order, (a, b) -> {
+                final int cmp = Double.compare(sim[b], sim[a]);
+                return cmp != 0 ? cmp : Integer.compare(a, b);
+            });
+            final int[] expected = Arrays.stream(order).mapToInt(Integer::intValue)
+                .filter(j -> j != fi).limit(k).toArray();
+            Assertions.assertArrayEquals(expected, nn[i]);
+            Assertions.assertArrayEquals(expected, nnp[i]);
+        }
+    }
+
+    /**
+     * Creates vectors with coordinates taken from a deterministic sequence.
+     *
+     * @param n Number of vectors.
+     * @param dim Dimension.
+     * @return the vectors.
+     */
+    private static double[][] createVectors(int n, int dim) {
+        final double[][] v = new double[n][dim];
+        long seed = 12345;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < dim; j++) {
+                seed = seed * 6364136223846793005L + 1442695040888963407L;
+                v[i][j] = (seed >> 11) * 0x1.0p-53;
+            }
+        }
+        return v;
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.arrays;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+
+/**
+ * Test cases for the {@link Intrinsics} class. The Java 9+ build runs these
+ * tests a second time using the multi-release implementation.
+ */
+class IntrinsicsTest {
+    @Test
+    void testProductLow() {
+        assertProductLow(1.1, -2.7);
+        assertProductLow(1 + 0x1.0p-52, 1 - 0x1.0p-53);
+        // Factors close to the overflow limit
+        assertProductLow(Double.MAX_VALUE, 0.75);
+        assertProductLow(-0.99, Double.MAX_VALUE);
+        assertProductLow(0x1.fffffffffffffp511, 0x1.fffffffffffffp511);
+        // Small factors with a product above the limit for the error bound
+        assertProductLow(0x1.0000000000001p-484, 0x1.fffffffffffffp-484);
+        assertProductLow(Double.MIN_NORMAL, 0x1.fffffffffffffp54);
+        assertProductLow(Double.MIN_VALUE, 0x1.fffffffffffffp106);
+
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_SHI_RO_256_PP, 20261019L);
+        for (int i = 0; i < 2000; i++) {
+            // Magnitude of the product in [2^-968, 2^1024)
+            final int exp = -968 + rng.nextInt(1991);
+            final int lower = Math.max(-1022, exp - 1023);
+            final int expA = lower + rng.nextInt(Math.min(1023, exp + 1022) - lower + 1);
+            final double a = Math.scalb(1 + rng.nextDouble(), expA);
+            final double b = Math.scalb(1 + rng.nextDouble(), exp - expA);
+            if (Double.isFinite(a * b)) {
+                assertProductLow(rng.nextBoolean() ? a : -a, rng.nextBoolean() ? b : -b);
+            }
+        }
+    }
+
+    @Test
+    void testProductLowNonFinite() {
+        Assertions.assertEquals(Double.NaN,
+            Intrinsics.productLow(Double.POSITIVE_INFINITY, 1, Double.POSITIVE_INFINITY));
+        Assertions.assertEquals(Double.NaN,
+            Intrinsics.productLow(2, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY));
+        Assertions.assertEquals(Double.NaN, Intrinsics.productLow(Double.NaN, 1, Double.NaN));
+    }
+
+    /**
+     * Assert the low part of the product is within {@code 2^-104 |a * b|} of the exact round-off.
+     *
+     * @param a First factor.
+     * @param b Second factor.
+     */
+    private static void assertProductLow(double a, double b) {
+        final double p = a * b;
+        final double expected = new BigDecimal(a).multiply(new BigDecimal(b)).subtract(new BigDecimal(p)).doubleValue();
+        Assertions.assertEquals(expected, Intrinsics.productLow(a, b, p), 0x1.0p-104 * Math.abs(p),
+            () -> a + " * " + b);
+    }
+}
@@ -297,4 +297,119 @@ class LinearCombinationTest {
                                                                a[7][3], b[7][3])));
         Assertions.assertTrue(Double.isNaN(LinearCombination.value(a[7], b[7])));
     }
+
+    @Test
+    void testSparseDense() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_SHI_RO_256_PP);
+        for (int n = 0; n < 50; n++) {
+            final double[] dense = new double[100];
+            for (int i = 0; i < dense.length; i++) {
+                dense[i] = 1e10 * (rng.nextDouble() - 0.5);
+            }
+            // Sparse vector with n distinct random indices
+            final double[] densified = new double[dense.length];
+            for (int i = 0; i < n; i++) {
+                int index;
+                do {
+                    index = rng.nextInt(dense.length);
+                } while (densified[index] != 0);
+                densified[index] = 1e10 * (rng.nextDouble() - 0.5);
+            }
+            final int[] indices = new int[n];
+            final double[] values = new double[n];
+            for (int i = 0, j = 0; i < dense.length; i++) {
+                if (densified[i] != 0) {
+                    indices[j] = i;
+                    values[j++] = densified[i];
+                }
+            }
+            Assertions.assertEquals(LinearCombination.value(densified, dense),
+                                    LinearCombination.value(indices, values, dense));
+        }
+    }
+
+    @Test
+    void testSparseSparse() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_SHI_RO_256_PP);
+        final int size = 200;
+        for (int repeat = 0; repeat < 50; repeat++) {
+            final double[] d1 = new double[size];
+            final double[] d2 = new double[size];
+            int n1 = 0;
+            int n2 = 0;
+            for (int i = 0; i < size; i++) {
+                if (rng.nextInt(3) == 0) {
+                    d1[i] = 1e10 * (rng.nextDouble() - 0.5);
+                    n1++;
+                }
+                if (rng.nextInt(3) == 0) {
+                    d2[i] = 1e10 * (rng.nextDouble() - 0.5);
+                    n2++;
+                }
+            }
+            final int[] i1 = new int[n1];
+            final double[] v1 = new double[n1];
+            final int[] i2 = new int[n2];
+            final double[] v2 = new double[n2];
+            for (int i = 0, j1 = 0, j2 = 0; i < size; i++) {
+                if (d1[i] != 0) {
+                    i1[j1] = i;
+                    v1[j1++] = d1[i];
+                }
+                if (d2[i] != 0) {
+                    i2[j2] = i;
+                    v2[j2++] = d2[i];
+                }
+            }
+            final double expected = LinearCombination.value(d1, d2);
+            Assertions.assertEquals(expected, LinearCombination.value(i1, v1, i2, v2));
+            Assertions.assertEquals(expected, LinearCombination.value(i2, v2, i1, v1));
+            Assertions.assertEquals(expected, LinearCombination.value(i1, v1, d2));
+        }
+    }
+
+    @Test
+    void testSparseCancellation() {
+        // 1e20 + 1 - 1e20 with the large terms far apart in the vectors
+        final int[] i1 = {3, 1000, 5000000};
+        final double[] v1 = {1e10, 1, -1e10};
+        final int[] i2 = {0, 3, 1000, 5000000};
+        final double[] v2 = {7, 1e10, 1, 1e10};
+        Assertions.assertEquals(1.0, LinearCombination.value(i1, v1, i2, v2));
+        Assertions.assertEquals(0.0, LinearCombination.value(new int[0], new double[0], i2, v2));
+        Assertions.assertEquals(0.0, LinearCombination.value(new int[] {1}, new double[] {2}, i2, v2));
+        Assertions.assertEquals(14.0, LinearCombination.value(new int[] {0}, new double[] {2}, i2, v2));
+    }
+
+    @Test
+    void testSparseInfinite() {
+        final int[] i1 = {1, 2, 4};
+        final double[] v1 = {Double.POSITIVE_INFINITY, 2, 3};
+        final int[] i2 = {0, 1, 2, 4};
+        final double[] v2 = {Double.NaN, 1, 2, 3};
+        // Only common positions are multiplied: the NaN is not used
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, LinearCombination.value(i1, v1, i2, v2));
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, LinearCombination.value(i1, v1, new double[] {0, 1, 2, 3, 4}));
+        v1[2] = Double.NEGATIVE_INFINITY;
+        Assertions.assertEquals(Double.NaN, LinearCombination.value(i1, v1, i2, v2));
+    }
+
+    @Test
+    void testSparseInvalid() {
+        final double[] d = new double[5];
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> LinearCombination.value(new int[2], new double[3], d));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> LinearCombination.value(new int[] {0, 5}, new double[2], d));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> LinearCombination.value(new int[] {2, 1}, new double[2], d));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> LinearCombination.value(new int[] {1, 1}, new double[2], d));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> LinearCombination.value(new int[2], new double[3], new int[0], new double[0]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> LinearCombination.value(new int[0], new double[0], new int[] {1, 1}, new double[2]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> LinearCombination.value(new int[] {2, 1}, new double[2], new int[0], new double[0]));
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.arrays;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link LongMultidimensionalCounter} class.
+ */
+class LongMultidimensionalCounterTest {
+    @Test
+    void testPreconditions() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongMultidimensionalCounter.of(0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongMultidimensionalCounter.of(2, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongMultidimensionalCounter.of(-1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongMultidimensionalCounter.of(-1, -1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> LongMultidimensionalCounter.of(Integer.MAX_VALUE, Integer.MAX_VALUE, 3));
+
+        final LongMultidimensionalCounter c = LongMultidimensionalCounter.of(2, 3);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> c.toUni(1, 1, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> c.toUni(3, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> c.toUni(0, -1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> c.toMulti(-1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> c.toMulti(6));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> c.toMulti(0, new long[3]));
+    }
+
+    @Test
+    void testConsistencyWithIntCounter() {
+        final MultidimensionalCounter ic = MultidimensionalCounter.of(2, 3, 4, 5);
+        final LongMultidimensionalCounter lc = LongMultidimensionalCounter.of(2, 3, 4, 5);
+        Assertions.assertEquals(ic.getSize(), lc.getSize());
+        Assertions.assertEquals(ic.getDimension(), lc.getDimension());
+        Assertions.assertEquals(ic.toString(), lc.toString());
+        for (int i = 0; i < ic.getSize(); i++) {
+            final long[] expected = Arrays.stream(ic.toMulti(i)).asLongStream().toArray();
+            Assertions.assertArrayEquals(expected, lc.toMulti(i));
+            Assertions.assertEquals(i, lc.toUni(expected));
+        }
+    }
+
+    @Test
+    void testLargeSize() {
+        final LongMultidimensionalCounter c = LongMultidimensionalCounter.of(100000, 70000, 3);
+        Assertions.assertEquals(21000000000L, c.getSize());
+        Assertions.assertArrayEquals(new long[] {210000, 3, 1}, c.getStrides());
+        Assertions.assertArrayEquals(new long[] {100000, 70000, 3}, c.getSizes());
+        Assertions.assertEquals(20999999999L, c.toUni(99999, 69999, 2));
+        final long[] indices = new long[3];
+        for (final long i : new long[] {0, Integer.MAX_VALUE, 1L << 32, 12345678901L, c.getSize() - 1}) {
+            Assertions.assertEquals(i, c.toUni(c.toMulti(i, indices)));
+        }
+        Assertions.assertArrayEquals(new long[] {58788, 66300, 0}, c.toMulti(12345678900L));
+    }
+
+    @Test
+    void testCursor() {
+        final LongMultidimensionalCounter c = LongMultidimensionalCounter.of(3, 1, 4);
+        final LongMultidimensionalCounter.Cursor cursor = c.cursor();
+        Assertions.assertEquals(12, cursor.getRemaining());
+        final long[] counts = new long[3];
+        for (long i = 0; i < c.getSize(); i++) {
+            Assertions.assertTrue(cursor.hasNext());
+            Assertions.assertEquals(i, cursor.nextLong());
+            Assertions.assertArrayEquals(c.toMulti(i), cursor.getCounts(counts));
+            Assertions.assertEquals(counts[2], cursor.getCount(2));
+        }
+        Assertions.assertFalse(cursor.hasNext());
+        Assertions.assertThrows(NoSuchElementException.class, cursor::nextLong);
+    }
+
+    @Test
+    void testStridedCursor() {
+        final LongMultidimensionalCounter c = LongMultidimensionalCounter.of(6, 7, 8);
+        final long[] from = {1, 0, 2};
+        final long[] to = {6, 7, 7};
+        final long[] step = {2, 3, 1};
+        final LongMultidimensionalCounter.Cursor cursor = c.cursor(from, to, step);
+        Assertions.assertEquals(3 * 3 * 5, cursor.getRemaining());
+        for (long i = from[0]; i < to[0]; i += step[0]) {
+            for (long j = from[1]; j < to[1]; j += step[1]) {
+                for (long k = from[2]; k < to[2]; k += step[2]) {
+                    Assertions.assertEquals(c.toUni(i, j, k), cursor.nextLong());
+                    Assertions.assertArrayEquals(new long[] {i, j, k}, cursor.getCounts(new long[3]));
+                }
+            }
+        }
+        Assertions.assertFalse(cursor.hasNext());
+
+        // Empty sub-box
+        Assertions.assertFalse(c.cursor(new long[] {1, 2, 3}, new long[] {4, 2, 5}, new long[] {1, 1, 1}).hasNext());
+        // Single element
+        final LongMultidimensionalCounter.Cursor single =
+            c.cursor(new long[] {5, 6, 7}, new long[] {6, 7, 8}, new long[] {4, 4, 4});
+        Assertions.assertEquals(c.getSize() - 1, single.nextLong());
+        Assertions.assertFalse(single.hasNext());
+    }
+
+    @Test
+    void testStridedCursorPreconditions() {
+        final LongMultidimensionalCounter c = LongMultidimensionalCounter.of(6, 7);
+        final long[] zero = {0, 0};
+        final long[] one = {1, 1};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> c.cursor(new long[1], one, one));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> c.cursor(zero, one, new long[] {1, 0}));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> c.cursor(zero, new long[] {7, 1}, one));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> c.cursor(new long[] {-1, 0}, one, one));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> c.cursor(new long[] {2, 0}, one, one));
+    }
+}
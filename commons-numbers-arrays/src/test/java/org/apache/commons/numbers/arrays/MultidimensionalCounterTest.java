@@ -17,7 +17,14 @@
 
 package org.apache.commons.numbers.arrays;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -117,4 +124,103 @@ class MultidimensionalCounterTest {
         final MultidimensionalCounter c = MultidimensionalCounter.of(sizes);
         Assertions.assertEquals(Arrays.toString(sizes), c.toString());
     }
+
+    @Test
+    void testToMultiWithArray() {
+        final MultidimensionalCounter c = MultidimensionalCounter.of(3, 2, 5);
+        final int[] indices = new int[3];
+        for (int i = 0; i < c.getSize(); i++) {
+            Assertions.assertSame(indices, c.toMulti(i, indices));
+            Assertions.assertArrayEquals(c.toMulti(i), indices);
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> c.toMulti(0, new int[2]));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> c.toMulti(30, indices));
+    }
+
+    @Test
+    void testToMultiRange() {
+        final MultidimensionalCounter c = MultidimensionalCounter.of(3, 2, 5);
+        final int d = c.getDimension();
+        for (final int[] range : new int[][] {{0, 30}, {7, 19}, {4, 5}, {12, 12}}) {
+            final int[] indices = c.toMulti(range[0], range[1], new int[(range[1] - range[0]) * d]);
+            for (int i = range[0]; i < range[1]; i++) {
+                final int k = (i - range[0]) * d;
+                Assertions.assertArrayEquals(c.toMulti(i), Arrays.copyOfRange(indices, k, k + d));
+            }
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> c.toMulti(0, 2, new int[5]));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> c.toMulti(-1, 2, new int[9]));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> c.toMulti(3, 2, new int[9]));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> c.toMulti(28, 31, new int[9]));
+    }
+
+    @Test
+    void testCursor() {
+        final MultidimensionalCounter c = MultidimensionalCounter.of(4, 1, 3, 2);
+        final MultidimensionalCounter.Cursor cursor = c.cursor();
+        int i = 0;
+        while (cursor.hasNext()) {
+            final int[] counts = cursor.next();
+            Assertions.assertArrayEquals(c.toMulti(i), counts);
+            Assertions.assertArrayEquals(counts, cursor.getCounts(new int[4]));
+            Assertions.assertEquals(counts[2], cursor.getCount(2));
+            i++;
+        }
+        Assertions.assertEquals(c.getSize(), i);
+        Assertions.assertThrows(NoSuchElementException.class, cursor::next);
+        Assertions.assertEquals(-1, cursor.nextIndex());
+
+        final MultidimensionalCounter.Cursor range = c.cursor(5, 17);
+        for (int j = 5; j < 17; j++) {
+            Assertions.assertEquals(j, range.nextIndex());
+            Assertions.assertArrayEquals(c.toMulti(j), range.getCounts(new int[4]));
+        }
+        Assertions.assertFalse(range.hasNext());
+        Assertions.assertFalse(c.cursor(3, 3).hasNext());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> c.cursor(0, 25));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> c.cursor(2, 1));
+    }
+
+    @Test
+    void testCursorOneDimension() {
+        final MultidimensionalCounter c = MultidimensionalCounter.of(5);
+        final MultidimensionalCounter.Cursor cursor = c.cursor();
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertArrayEquals(new int[] {i}, cursor.next());
+        }
+        Assertions.assertFalse(cursor.hasNext());
+    }
+
+    @Test
+    void testSpliterator() {
+        final MultidimensionalCounter c = MultidimensionalCounter.of(7, 3, 11);
+        final List<int[]> expected = new ArrayList<>();
+        for (int i = 0; i < c.getSize(); i++) {
+            expected.add(c.toMulti(i));
+        }
+        final List<int[]> sequential = StreamSupport.stream(c.spliterator(), false)
+            .map(int[]::clone).collect(Collectors.toList());
+        final List<int[]> parallel = StreamSupport.stream(c.spliterator(), true)
+            .map(int[]::clone).collect(Collectors.toList());
+        for (int i = 0; i < c.getSize(); i++) {
+            Assertions.assertArrayEquals(expected.get(i), sequential.get(i));
+            Assertions.assertArrayEquals(expected.get(i), parallel.get(i));
+        }
+        Assertions.assertEquals(c.getSize(), sequential.size());
+        Assertions.assertEquals(c.getSize(), parallel.size());
+
+        // Split after partial traversal
+        final Spliterator<int[]> s = c.spliterator();
+        Assertions.assertEquals(c.getSize(), s.estimateSize());
+        final List<int[]> parts = new ArrayList<>();
+        Assertions.assertTrue(s.tryAdvance(a -> parts.add(a.clone())));
+        final Spliterator<int[]> prefix = s.trySplit();
+        Assertions.assertNotNull(prefix);
+        prefix.forEachRemaining(a -> parts.add(a.clone()));
+        s.forEachRemaining(a -> parts.add(a.clone()));
+        Assertions.assertFalse(s.tryAdvance(a -> parts.add(a)));
+        for (int i = 0; i < c.getSize(); i++) {
+            Assertions.assertArrayEquals(expected.get(i), parts.get(i));
+        }
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.arrays;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link Polynomial} class.
+ */
+class PolynomialTest {
+
+    @Test
+    void testValue() {
+        // 1 + 2x + 3x^2
+        final double[] c = {1, 2, 3};
+        Assertions.assertEquals(1, Polynomial.value(c, 0));
+        Assertions.assertEquals(6, Polynomial.value(c, 1));
+        Assertions.assertEquals(17, Polynomial.value(c, 2));
+        Assertions.assertEquals(2, Polynomial.value(c, -1));
+        Assertions.assertEquals(6, Polynomial.compensatedValue(c, 1));
+        Assertions.assertEquals(17, Polynomial.compensatedValue(c, 2));
+        Assertions.assertEquals(4.5, Polynomial.value(new double[] {4.5}, 123));
+        Assertions.assertEquals(4.5, Polynomial.compensatedValue(new double[] {4.5}, 123));
+    }
+
+    @Test
+    void testNoCoefficients() {
+        Assertions.assertEquals(0.0, Polynomial.value(new double[0], 2));
+        Assertions.assertEquals(0.0, Polynomial.compensatedValue(new double[0], 2));
+        final double[] r = {1, 2};
+        Polynomial.value(new double[0], new double[2], r);
+        Assertions.assertArrayEquals(new double[2], r);
+        r[0] = 1;
+        Polynomial.compensatedValue(new double[0], new double[2], r);
+        Assertions.assertArrayEquals(new double[2], r);
+    }
+
+    @Test
+    void testNonFinite() {
+        final double[] c = {1, 2, 3};
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, Polynomial.value(c, Double.POSITIVE_INFINITY));
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, Polynomial.compensatedValue(c, Double.POSITIVE_INFINITY));
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, Polynomial.compensatedValue(c, 1e300));
+        Assertions.assertEquals(Double.NaN, Polynomial.compensatedValue(c, Double.NaN));
+        Assertions.assertEquals(Double.NaN, Polynomial.compensatedValue(new double[] {1, Double.NaN}, 2));
+    }
+
+    @Test
+    void testCompensatedNearRoot() {
+        // (x - 1)^11 expanded: the plain scheme suffers from cancellation near 1
+        final int n = 11;
+        final double[] c = new double[n + 1];
+        for (int i = 0; i <= n; i++) {
+            c[i] = binomial(n, i) * ((n - i) % 2 == 0 ? 1 : -1);
+        }
+        double maxPlain = 0;
+        double maxCompensated = 0;
+        for (int i = 0; i <= 200; i++) {
+            // Distance 0.05 to 0.15 from the root: condition number 1e12 to 1e17
+            final double x = 1 + (i % 2 == 0 ? 1 : -1) * (0.05 + i * 5e-4);
+            final double exact = exact(c, x);
+            if (exact == 0) {
+                continue;
+            }
+            final double plain = Math.abs((Polynomial.value(c, x) - exact) / exact);
+            final double comp = Math.abs((Polynomial.compensatedValue(c, x) - exact) / exact);
+            maxPlain = Math.max(maxPlain, plain);
+            maxCompensated = Math.max(maxCompensated, comp);
+        }
+        // The plain scheme has no correct digits when the condition number is large.
+        Assertions.assertTrue(maxPlain > 1e-1, () -> "plain error too small");
+        Assertions.assertTrue(maxCompensated < 1e-14, () -> "compensated error too large");
+    }
+
+    @Test
+    void testCompensatedWellConditioned() {
+        final double[] c = {0.5, -1.25, 3.75, 0.125, -2.5, 1.0 / 3};
+        for (int i = -50; i <= 50; i++) {
+            final double x = i / 7.0;
+            final double exact = exact(c, x);
+            Assertions.assertEquals(exact, Polynomial.compensatedValue(c, x), Math.ulp(exact));
+        }
+    }
+
+    @Test
+    void testArrays() {
+        final double[] c = {1.5, -2.25, 0.75, 3.125, -0.5, 0.0625, 7};
+        // Length covering several blocks
+        final double[] x = new double[150];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = (i - 75) / 13.0;
+        }
+        final double[] r1 = new double[x.length];
+        final double[] r2 = new double[x.length];
+        Polynomial.value(c, x, r1);
+        Polynomial.compensatedValue(c, x, r2);
+        for (int i = 0; i < x.length; i++) {
+            Assertions.assertEquals(Polynomial.value(c, x[i]), r1[i]);
+            Assertions.assertEquals(Polynomial.compensatedValue(c, x[i]), r2[i]);
+        }
+        // In-place
+        final double[] y = x.clone();
+        Polynomial.value(c, y, y);
+        Assertions.assertArrayEquals(r1, y);
+        final double[] z = x.clone();
+        Polynomial.compensatedValue(c, z, z);
+        Assertions.assertArrayEquals(r2, z);
+    }
+
+    @Test
+    void testDimensionMismatch() {
+        final double[] c = {1, 2};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Polynomial.value(c, new double[2], new double[3]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Polynomial.compensatedValue(c, new double[3], new double[2]));
+    }
+
+    /**
+     * @param n Size of the set.
+     * @param k Size of the subsets.
+     * @return the binomial coefficient.
+     */
+    private static double binomial(int n, int k) {
+        double b = 1;
+        for (int i = 1; i <= k; i++) {
+            b = b * (n - k + i) / i;
+        }
+        return Math.rint(b);
+    }
+
+    /**
+     * @param c Coefficients.
+     * @param x Point.
+     * @return the value of the polynomial computed with BigDecimal arithmetic.
+     */
+    private static double exact(double[] c, double x) {
+        final BigDecimal bx = new BigDecimal(x);
+        BigDecimal s = BigDecimal.ZERO;
+        for (int i = c.length - 1; i >= 0; i--) {
+            s = s.multiply(bx).add(new BigDecimal(c[i]));
+        }
+        return s.round(MathContext.DECIMAL128).doubleValue();
+    }
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.commons.numbers.arrays;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -73,6 +75,91 @@ class SafeNormTest {
         Assertions.assertEquals(Math.sqrt(101) * 1e-20, SafeNorm.value(v));
     }
 
+    @Test
+    void testRowValues() {
+        final double[] matrix = new double[] {
+            1e-320, 1e-320, 0,
+            1e300, 1e300, 0,
+            -0.9, 8.7, -6.5,
+            0, 0, 0,
+        };
+        final double[] expected = new double[4];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = SafeNorm.value(Arrays.copyOfRange(matrix, i * 3, i * 3 + 3));
+        }
+        Assertions.assertArrayEquals(expected, SafeNorm.rowValues(matrix, 3));
+        Assertions.assertArrayEquals(expected, SafeNorm.rowValues(matrix, 3, true));
+        Assertions.assertArrayEquals(new double[0], SafeNorm.rowValues(new double[0], 3));
+    }
+
+    @Test
+    void testRowValuesInvalidColumns() {
+        final double[] matrix = new double[6];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SafeNorm.rowValues(matrix, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SafeNorm.rowValues(matrix, -2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SafeNorm.rowValues(matrix, 4));
+    }
+
+    @Test
+    void testAccumulator() {
+        final double[] v = new double[] {-0.9, 8.7, -6.5, -4.3, -2.1, 0, 1.2, 3.4, -5.6, 7.8, 9.0};
+        final SafeNorm.Accumulator acc = SafeNorm.accumulator();
+        Assertions.assertEquals(0d, acc.value());
+        for (final double x : v) {
+            acc.add(x);
+        }
+        Assertions.assertEquals(v.length, acc.getCount());
+        Assertions.assertEquals(SafeNorm.value(v), acc.value());
+        Assertions.assertEquals(SafeNorm.value(v), SafeNorm.accumulator().add(v).value());
+    }
+
+    @Test
+    void testAccumulatorTinyAndBig() {
+        Assertions.assertEquals(Math.sqrt(2) * 1e-320,
+                                SafeNorm.accumulator().add(1e-320).add(1e-320).value());
+        Assertions.assertEquals(Math.sqrt(2) * 1e300,
+                                SafeNorm.accumulator().add(1e300).add(-1e300).value());
+        Assertions.assertEquals(Math.sqrt(101) * 1e-20,
+                                SafeNorm.accumulator().add(new double[] {1e-20, 1e-19}).value());
+    }
+
+    @Test
+    void testAccumulatorCombine() {
+        final double[] v = new double[] {1e-320, 3e-321, 1.5, -2.5, 1e300, -3e299, 1e-20, 4};
+        final double expected = SafeNorm.accumulator().add(v).value();
+        for (int split = 0; split <= v.length; split++) {
+            final SafeNorm.Accumulator a = SafeNorm.accumulator().add(v, 0, split);
+            final SafeNorm.Accumulator b = SafeNorm.accumulator().add(v, split, v.length);
+            Assertions.assertEquals(expected, a.combine(b).value(), Math.ulp(expected) * 2);
+            Assertions.assertEquals(v.length, a.getCount());
+        }
+        final double[] w = new double[] {1e-320, 1e300, 2e300};
+        final SafeNorm.Accumulator a = SafeNorm.accumulator().add(w, 0, 1);
+        final SafeNorm.Accumulator b = SafeNorm.accumulator().add(w, 1, 3);
+        Assertions.assertEquals(SafeNorm.value(w), b.combine(a).value());
+    }
+
+    @Test
+    void testAccumulatorStream() {
+        final double[] v = new double[1000];
+        for (int i = 0; i < v.length; i++) {
+            v[i] = (i - 500) * 1.25;
+        }
+        final double norm = Arrays.stream(v).parallel()
+            .collect(SafeNorm::accumulator, SafeNorm.Accumulator::add, SafeNorm.Accumulator::combine)
+            .value();
+        Assertions.assertEquals(direct(v), norm, Math.ulp(norm) * 2);
+    }
+
+    @Test
+    void testAccumulatorInvalidRange() {
+        final SafeNorm.Accumulator acc = SafeNorm.accumulator();
+        final double[] v = new double[3];
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> acc.add(v, -1, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> acc.add(v, 2, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> acc.add(v, 0, 4));
+    }
+
     /**
      * Direct computation.
      *
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.arrays;
+
+import java.util.Arrays;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link Selection} class.
+ */
+class SelectionTest {
+
+    @Test
+    void testSelectSingle() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_RO_SHI_RO_128_PP, 12345L);
+        for (final int n : new int[] {1, 2, 5, 16, 17, 50, 601, 2000, 10000}) {
+            for (int repeat = 0; repeat < 5; repeat++) {
+                final double[] values = createValues(rng, n, repeat);
+                final double[] sorted = values.clone();
+                Arrays.sort(sorted);
+                for (final int k : new int[] {0, n / 3, n / 2, n - 1, rng.nextInt(n)}) {
+                    final double[] a = values.clone();
+                    Selection.select(a, k);
+                    assertSelected(sorted, a, 0, n, k);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSelectMultiple() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_RO_SHI_RO_128_PP, 67890L);
+        for (final int n : new int[] {3, 20, 100, 1000, 5000}) {
+            for (int repeat = 0; repeat < 5; repeat++) {
+                final double[] values = createValues(rng, n, repeat);
+                final double[] sorted = values.clone();
+                Arrays.sort(sorted);
+                final int[] k = new int[1 + rng.nextInt(10)];
+                for (int i = 0; i < k.length; i++) {
+                    k[i] = rng.nextInt(n);
+                }
+                final int[] k0 = k.clone();
+                final double[] a = values.clone();
+                Selection.select(a, k);
+                // Keys are not modified
+                Assertions.assertArrayEquals(k0, k);
+                for (final int i : k) {
+                    assertSelected(sorted, a, 0, n, i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSelectRange() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_RO_SHI_RO_128_PP, 2468L);
+        final int n = 700;
+        final double[] values = createValues(rng, n, 2);
+        final int from = 37;
+        final int to = 690;
+        final double[] sorted = Arrays.copyOfRange(values, from, to);
+        Arrays.sort(sorted);
+        final double[] a = values.clone();
+        Selection.select(a, from, to, 400);
+        assertSelected(sorted, Arrays.copyOfRange(a, from, to), 0, to - from, 400 - from);
+        Assertions.assertArrayEquals(Arrays.copyOf(values, from), Arrays.copyOf(a, from));
+        Assertions.assertArrayEquals(Arrays.copyOfRange(values, to, n), Arrays.copyOfRange(a, to, n));
+
+        final double[] b = values.clone();
+        Selection.select(b, from, to, new int[] {from, 100, 600, to - 1});
+        for (final int k : new int[] {from, 100, 600, to - 1}) {
+            assertSelected(sorted, Arrays.copyOfRange(b, from, to), 0, to - from, k - from);
+        }
+        Assertions.assertArrayEquals(Arrays.copyOf(values, from), Arrays.copyOf(b, from));
+    }
+
+    @Test
+    void testSelectSignedZeroAndNaN() {
+        final double[] values = {0.0, Double.NaN, -0.0, 1, -1, 0.0, -0.0, Double.NaN,
+            Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -0.0, 0.0, 2, -2, 0.0};
+        final double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (int k = 0; k < values.length; k++) {
+            final double[] a = values.clone();
+            Selection.select(a, k);
+            assertSelected(sorted, a, 0, a.length, k);
+        }
+        // Large arrays with many zeros
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_RO_SHI_RO_128_PP, 1L);
+        final double[] z = new double[3000];
+        for (int i = 0; i < z.length; i++) {
+            final int c = rng.nextInt(5);
+            z[i] = c == 0 ? 0.0 : c == 1 ? -0.0 : c == 2 ? Double.NaN : rng.nextDouble() - 0.5;
+        }
+        final double[] zs = z.clone();
+        Arrays.sort(zs);
+        final int[] keys = {0, 500, 1000, 1400, 1500, 1600, 2000, 2999};
+        final double[] a = z.clone();
+        Selection.select(a, keys);
+        for (final int k : keys) {
+            assertSelected(zs, a, 0, a.length, k);
+        }
+    }
+
+    @Test
+    void testHeapSelect() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_RO_SHI_RO_128_PP, 13579L);
+        final int n = 100;
+        final double[] values = createValues(rng, n, 0);
+        final double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (int k = 0; k < n; k++) {
+            final double[] a = values.clone();
+            Selection.heapSelect(a, 0, n - 1, k);
+            assertSelected(sorted, a, 0, n, k);
+        }
+    }
+
+    @Test
+    void testSelectInvalidIndex() {
+        final double[] a = new double[10];
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Selection.select(a, -1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Selection.select(a, 10));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Selection.select(a, 2, 5, 5));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Selection.select(a, 2, 5, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Selection.select(a, -1, 5, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Selection.select(a, 6, 5, 5));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Selection.select(a, 6, 11, 7));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Selection.select(a, new int[] {1, 10}));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Selection.select(new double[0], 0));
+        // No keys
+        Selection.select(a, new int[0]);
+    }
+
+    @Test
+    void testQuantile() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_RO_SHI_RO_128_PP, 97531L);
+        final double[] p = {0, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 1};
+        for (final int n : new int[] {1, 2, 3, 10, 101, 1000, 4321}) {
+            final double[] values = createValues(rng, n, 0);
+            final double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            final double[] q = Selection.quantile(values.clone(), p);
+            for (int i = 0; i < p.length; i++) {
+                final double h = (n - 1) * p[i];
+                final int lo = (int) Math.floor(h);
+                final double expected = lo == n - 1 ?
+                    sorted[lo] :
+                    sorted[lo] + (h - lo) * (sorted[lo + 1] - sorted[lo]);
+                Assertions.assertEquals(expected, q[i], Math.ulp(expected));
+            }
+        }
+    }
+
+    @Test
+    void testQuantileEdgeCases() {
+        Assertions.assertArrayEquals(new double[] {Double.NaN, Double.NaN},
+            Selection.quantile(new double[0], 0.5, 0.75));
+        Assertions.assertArrayEquals(new double[0], Selection.quantile(new double[] {1, 2}));
+        // Median of an even number of values
+        Assertions.assertArrayEquals(new double[] {2.5}, Selection.quantile(new double[] {4, 1, 3, 2}, 0.5));
+        // Signed zeros and NaN are ordered as Double.compare
+        Assertions.assertArrayEquals(new double[] {-0.0, 0.0, Double.NaN},
+            Selection.quantile(new double[] {Double.NaN, 0.0, -0.0}, 0, 0.5, 1));
+        // Overflow of the difference
+        Assertions.assertArrayEquals(new double[] {0.0},
+            Selection.quantile(new double[] {Double.MAX_VALUE, -Double.MAX_VALUE}, 0.5));
+        Assertions.assertArrayEquals(new double[] {Double.POSITIVE_INFINITY},
+            Selection.quantile(new double[] {Double.POSITIVE_INFINITY, 1}, 0.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Selection.quantile(new double[1], -0.1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Selection.quantile(new double[1], 1.1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Selection.quantile(new double[1], Double.NaN));
+    }
+
+    /**
+     * Creates the values. The type of data depends on the repeat:
+     * random; many duplicates; sorted; reverse sorted; random with special values.
+     *
+     * @param rng Source of randomness.
+     * @param n Length.
+     * @param repeat Repeat.
+     * @return the values
+     */
+    private static double[] createValues(UniformRandomProvider rng, int n, int repeat) {
+        final double[] a = new double[n];
+        for (int i = 0; i < n; i++) {
+            switch (repeat % 5) {
+            case 1:
+                a[i] = rng.nextInt(5) - 2;
+                break;
+            case 2:
+                a[i] = i;
+                break;
+            case 3:
+                a[i] = n - i;
+                break;
+            case 4:
+                final int c = rng.nextInt(10);
+                a[i] = c == 0 ? Double.NaN : c == 1 ? -0.0 : c == 2 ? 0.0 : rng.nextDouble() - 0.5;
+                break;
+            default:
+                a[i] = rng.nextDouble() - 0.5;
+                break;
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Assert the array is partitioned at {@code k} with the value of the sorted array.
+     *
+     * @param sorted Sorted values.
+     * @param a Partially sorted values.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param k Index.
+     */
+    private static void assertSelected(double[] sorted, double[] a, int from, int to, int k) {
+        final double v = a[k];
+        Assertions.assertEquals(sorted[k], v, () -> "k=" + k);
+        for (int i = from; i < k; i++) {
+            final int j = i;
+            Assertions.assertTrue(Double.compare(a[i], v) <= 0, () -> "a[" + j + "] > a[" + k + "]");
+        }
+        for (int i = k + 1; i < to; i++) {
+            final int j = i;
+            Assertions.assertTrue(Double.compare(a[i], v) >= 0, () -> "a[" + j + "] < a[" + k + "]");
+        }
+        // Same values
+        final double[] b = a.clone();
+        Arrays.sort(b);
+        Assertions.assertArrayEquals(sorted, b);
+    }
+}
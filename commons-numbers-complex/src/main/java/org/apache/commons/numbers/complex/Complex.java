@@ -119,10 +119,6 @@ public final class Complex implements Serializable  {
     private static final long UNSIGN_MASK = 0x7fff_ffff_ffff_ffffL;
     /** Mask to extract the 52-bit mantissa from a long representation of a double. */
     private static final long MANTISSA_MASK = 0x000f_ffff_ffff_ffffL;
-    /** The multiplier used to split the double value into hi and low parts. This must be odd
-     * and a value of 2^s + 1 in the range {@code p/2 <= s <= p-1} where p is the number of
-     * bits of precision of the floating point number. Here {@code s = 27}.*/
-    private static final double MULTIPLIER = 1.34217729E8;
 
     /**
      * Crossover point to switch computation for asin/acos factor A.
@@ -2928,71 +2924,18 @@ public final class Complex implements Serializable  {
             // - the final term is -1 (which does not require split multiplication and addition)
             // - The answer will not be NaN as the terms are not NaN components
             // - The order is known to be 1 > |x| >= |y|
-            // The squares are computed using a split multiply algorithm and
-            // the summation using an extended precision summation algorithm.
+            // The squares are computed using a split multiply algorithm (or FMA on JDK 9+)
+            // and the summation using an extended precision summation algorithm.
 
-            // Split x and y as one 26 bits number and one 27 bits number
-            final double xHigh = splitHigh(x);
-            final double xLow  = x - xHigh;
-            final double yHigh = splitHigh(y);
-            final double yLow  = y - yHigh;
-
-            // Accurate split multiplication x * x and y * y
-            final double x2Low = squareLow(xLow, xHigh, xx);
-            final double y2Low = squareLow(yLow, yHigh, yy);
+            // Accurate multiplication x * x and y * y
+            final double x2Low = Intrinsics.squareLow(x, xx);
+            final double y2Low = Intrinsics.squareLow(y, yy);
 
             return sumx2y2m1(xx, x2Low, yy, y2Low);
         }
         return (x - 1) * (x + 1) + yy;
     }
 
-    /**
-     * Implement Dekker's method to split a value into two parts. Multiplying by (2^s + 1) create
-     * a big value from which to derive the two split parts.
-     * <pre>
-     * c = (2^s + 1) * a
-     * a_big = c - a
-     * a_hi = c - a_big
-     * a_lo = a - a_hi
-     * a = a_hi + a_lo
-     * </pre>
-     *
-     * <p>The multiplicand must be odd allowing a p-bit value to be split into
-     * (p-s)-bit value {@code a_hi} and a non-overlapping (s-1)-bit value {@code a_lo}.
-     * Combined they have (p􏰔-1) bits of significand but the sign bit of {@code a_lo}
-     * contains a bit of information.
-     *
-     * @param a Value.
-     * @return the high part of the value.
-     * @see <a href="https://doi.org/10.1007/BF01397083">
-     * Dekker (1971) A floating-point technique for extending the available precision</a>
-     */
-    private static double splitHigh(double a) {
-        final double c = MULTIPLIER * a;
-        return c - (c - a);
-    }
-
-    /**
-     * Compute the round-off from the square of a split number with {@code low} and {@code high}
-     * components. Uses Dekker's algorithm for split multiplication modified for a square product.
-     *
-     * <p>Note: This is candidate to be replaced with {@code Math.fma(x, x, -x * x)} to compute
-     * the round-off from the square product {@code x * x}. This would remove the requirement
-     * to compute the split number and make this method redundant. {@code Math.fma} requires
-     * JDK 9 and FMA hardware support.
-     *
-     * @param low Low part of number.
-     * @param high High part of number.
-     * @param square Square of the number.
-     * @return <code>low * low - (((product - high * high) - low * high) - high * low)</code>
-     * @see <a href="http://www-2.cs.cmu.edu/afs/cs/project/quake/public/papers/robust-arithmetic.ps">
-     * Shewchuk (1997) Theorum 18</a>
-     */
-    private static double squareLow(double low, double high, double square) {
-        final double lh = low * high;
-        return low * low - (((square - high * high) - lh) - lh);
-    }
-
     /**
      * Compute the round-off from the sum of two numbers {@code a} and {@code b} using
      * Dekker's two-sum algorithm. The values are required to be ordered by magnitude:
@@ -3661,17 +3604,9 @@ public final class Complex implements Serializable  {
         final double xx = x * x;
         final double yy = y * y;
         // Compute the round-off from the products.
-        // With FMA hardware support in JDK 9+ this can be replaced with the much faster:
-        // xxLow = Math.fma(x, x, -xx)
-        // yyLow = Math.fma(y, y, -yy)
-        // Dekker mul12
-        final double xHigh = splitHigh(x);
-        final double xLow = x - xHigh;
-        final double xxLow = squareLow(xLow, xHigh, xx);
-        // Dekker mul12
-        final double yHigh = splitHigh(y);
-        final double yLow = y - yHigh;
-        final double yyLow = squareLow(yLow, yHigh, yy);
+        // This uses Dekker mul12, or the much faster Math.fma on JDK 9+.
+        final double xxLow = Intrinsics.squareLow(x, xx);
+        final double yyLow = Intrinsics.squareLow(y, yy);
         // Dekker add2
         final double r = xx + yy;
         // Note: The order is important. Assume xx > yy and drop Dekker's conditional
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.complex;
+
+/**
+ * Low-level arithmetic kernels that have a faster implementation on recent
+ * Java runtimes.
+ *
+ * <p>This is the Java 9+ implementation packaged in the multi-release JAR.
+ * It uses {@code Math.fma} which is intrinsic on most platforms.
+ */
+final class Intrinsics {
+    /** No instances. */
+    private Intrinsics() {}
+
+    /**
+     * Compute the round-off from the square of a number using a fused multiply-add.
+     *
+     * <p>The result is exact if {@code x^2} is finite and {@code x^2 >= 2^-968}.
+     *
+     * @param x Number.
+     * @param square Square of the number.
+     * @return the low part of the exact square.
+     */
+    static double squareLow(double x, double square) {
+        return Math.fma(x, x, -square);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.complex;
+
+import java.math.BigDecimal;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Intrinsics}. The Java 9+ build runs these tests a second
+ * time using the multi-release implementation.
+ */
+class IntrinsicsTest {
+    @Test
+    void testSquareLow() {
+        assertSquareLow(1.1);
+        assertSquareLow(-(1 + 0x1.0p-52));
+        // Values at the limits for an exact result
+        assertSquareLow(0x1.fffffffffffffp510);
+        assertSquareLow(0x1.6a09e667f3bccp511);
+        assertSquareLow(0x1.0p-484);
+        assertSquareLow(0x1.0000000000001p-484);
+
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64, 20261019L);
+        for (int i = 0; i < 2000; i++) {
+            // Square in [2^-968, 2^1022)
+            final double x = Math.scalb(1 + rng.nextDouble(), -484 + rng.nextInt(995));
+            assertSquareLow(rng.nextBoolean() ? x : -x);
+        }
+    }
+
+    /**
+     * Assert the low part of the square is the exact round-off.
+     *
+     * @param x Value.
+     */
+    private static void assertSquareLow(double x) {
+        final double square = x * x;
+        final BigDecimal bx = new BigDecimal(x);
+        final double expected = bx.multiply(bx).subtract(new BigDecimal(square)).doubleValue();
+        // The sign of a zero round-off is not specified
+        Assertions.assertEquals(expected, Intrinsics.squareLow(x, square), 0.0, () -> Double.toString(x));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+/**
+ * Mutable accumulator: the in-place counterpart of the {@link Addition} and
+ * {@link Multiplication} operators.
+ *
+ * <p>Each operation updates the state of the accumulator rather than creating
+ * a new element. This reduces allocation when accumulating sums or products
+ * of elements of a heavy type. The current value is obtained as an element
+ * using {@link #get()}.
+ *
+ * <p>Implementations are not thread-safe.
+ *
+ * @param <T> Type of elements.
+ */
+public interface Accumulator<T> {
+    /**
+     * In-place addition.
+     *
+     * @param a Element.
+     * @return this accumulator, updated to {@code this + a}.
+     */
+    Accumulator<T> addInPlace(T a);
+
+    /**
+     * In-place subtraction.
+     *
+     * @param a Element.
+     * @return this accumulator, updated to {@code this - a}.
+     */
+    Accumulator<T> subtractInPlace(T a);
+
+    /**
+     * In-place multiplication.
+     *
+     * @param a Element.
+     * @return this accumulator, updated to {@code this * a}.
+     */
+    Accumulator<T> multiplyInPlace(T a);
+
+    /**
+     * In-place addition of a product.
+     *
+     * @param a Element.
+     * @param b Element.
+     * @return this accumulator, updated to {@code this + a * b}.
+     */
+    Accumulator<T> fma(T a, T b);
+
+    /**
+     * Gets the current value.
+     *
+     * @return the value
+     */
+    T get();
+}
@@ -18,6 +18,9 @@ package org.apache.commons.numbers.core;
 
 import java.math.BigInteger;
 import java.text.MessageFormat;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Some useful, arithmetics related, additions to the built-in functions in
@@ -28,6 +31,40 @@ public final class ArithmeticUtils {
 
     /** Overflow gcd exception message for 2^63. */
     private static final String OVERFLOW_GCD_MESSAGE_2_POWER_63 = "overflow: gcd({0}, {1}) is 2^63";
+    /** Overflow gcd exception message for 2^31 for an array. */
+    private static final String OVERFLOW_GCD_MESSAGE_2_POWER_31_ARRAY = "overflow: gcd is 2^31";
+    /** Overflow gcd exception message for 2^63 for an array. */
+    private static final String OVERFLOW_GCD_MESSAGE_2_POWER_63_ARRAY = "overflow: gcd is 2^63";
+    /** Array length above which the parallel gcd splits the computation. */
+    private static final int PARALLEL_GCD_THRESHOLD = 1 << 13;
+    /** Largest {@code r} such that {@code r * r} is a {@code long}. */
+    private static final long MAX_LONG_SQRT = 3037000499L;
+    /** Bit mask for the quadratic residues modulo 64. */
+    private static final long SQUARE_RESIDUES_64 = 0x202021202030213L;
+    /** Bit mask for the quadratic residues modulo 63. */
+    private static final long SQUARE_RESIDUES_63 = 0x402483012450293L;
+    /** Bit mask for the quadratic residues modulo 13. */
+    private static final int SQUARE_RESIDUES_13 = 0x161b;
+    /** Bit mask for the quadratic residues modulo 11. */
+    private static final int SQUARE_RESIDUES_11 = 0x23b;
+    /** Bit mask for the quadratic residues modulo 5. */
+    private static final int SQUARE_RESIDUES_5 = 0x13;
+    /** Modulus for the quadratic residue filters: 63 * 13 * 11 * 5. */
+    private static final int SQUARE_FILTER_MODULUS = 45045;
+    /** Modulus for the quadratic residue filters. */
+    private static final BigInteger BIG_SQUARE_FILTER_MODULUS = BigInteger.valueOf(SQUARE_FILTER_MODULUS);
+    /** Bit mask with bit {@code k} set for each odd prime {@code k < 64}. */
+    private static final long ODD_PRIMES_64 = 0x28208a20a08a28a8L;
+    /** Natural logarithm of 2. */
+    private static final double LN_2 = Math.log(2);
+    /** Largest magnitude of a base with shared cached powers. */
+    private static final int MAX_CACHED_BASE = 16;
+    /** Largest exponent of the shared cached powers of small bases. */
+    private static final int MAX_CACHED_EXPONENT = 256;
+    /** Maximum number of ints in the magnitude of a BigInteger. */
+    private static final int MAX_MAG_LENGTH = Integer.MAX_VALUE / Integer.SIZE + 1;
+    /** Overflow exponent message. */
+    private static final String OVERFLOW_EXPONENT_MESSAGE = "overflow: exponent {0} is too large";
 
     /** Negative exponent exception message part 1. */
     private static final String NEGATIVE_EXPONENT_1 = "negative exponent ({";
@@ -69,46 +106,12 @@ public final class ArithmeticUtils {
     public static int gcd(int p, int q) {
         // Perform the gcd algorithm on negative numbers, so that -2^31 does not
         // need to be handled separately
-        int a = p > 0 ? -p : p;
-        int b = q > 0 ? -q : q;
-
-        int negatedGcd;
-        if (a == 0) {
-            negatedGcd = b;
-        } else if (b == 0) {
-            negatedGcd = a;
-        } else {
-            // Make "a" and "b" odd, keeping track of common power of 2.
-            final int aTwos = Integer.numberOfTrailingZeros(a);
-            final int bTwos = Integer.numberOfTrailingZeros(b);
-            a >>= aTwos;
-            b >>= bTwos;
-            final int shift = Math.min(aTwos, bTwos);
-
-            // "a" and "b" are negative and odd.
-            // If a < b then "gdc(a, b)" is equal to "gcd(a - b, b)".
-            // If a > b then "gcd(a, b)" is equal to "gcd(b - a, a)".
-            // Hence, in the successive iterations:
-            //  "a" becomes the negative absolute difference of the current values,
-            //  "b" becomes that value of the two that is closer to zero.
-            while (a != b) {
-                final int delta = a - b;
-                b = Math.max(a, b);
-                a = delta > 0 ? -delta : delta;
-
-                // Remove any power of 2 in "a" ("b" is guaranteed to be odd).
-                a >>= Integer.numberOfTrailingZeros(a);
-            }
-
-            // Recover the common power of 2.
-            negatedGcd = a << shift;
-        }
+        final int negatedGcd = negatedGcd(p > 0 ? -p : p, q > 0 ? -q : q);
         if (negatedGcd == Integer.MIN_VALUE) {
             throw new NumbersArithmeticException("overflow: gcd({0}, {1}) is 2^31",
                                               p, q);
-        } else {
-            return -negatedGcd;
         }
+        return -negatedGcd;
     }
 
     /**
@@ -140,61 +143,249 @@ public final class ArithmeticUtils {
      * a non-negative {@code long} value.
      */
     public static long gcd(final long p, final long q) {
-        long u = p;
-        long v = q;
-        if ((u == 0) || (v == 0)) {
-            if ((u == Long.MIN_VALUE) || (v == Long.MIN_VALUE)) {
-                throw new NumbersArithmeticException(OVERFLOW_GCD_MESSAGE_2_POWER_63,
-                                                  p, q);
-            }
-            return Math.abs(u) + Math.abs(v);
-        }
-        // keep u and v negative, as negative integers range down to
+        // Keep the values negative, as negative integers range down to
         // -2^63, while positive numbers can only be as large as 2^63-1
-        // (i.e. we can't necessarily negate a negative number without
-        // overflow)
-        /* assert u!=0 && v!=0; */
-        if (u > 0) {
-            u = -u;
-        } // make u negative
-        if (v > 0) {
-            v = -v;
-        } // make v negative
-        // B1. [Find power of 2]
-        int k = 0;
-        while ((u & 1) == 0 && (v & 1) == 0 && k < 63) { // while u and v are
-                                                            // both even...
-            u /= 2;
-            v /= 2;
-            k++; // cast out twos.
-        }
-        if (k == 63) {
+        final long negatedGcd = negatedGcd(p > 0 ? -p : p, q > 0 ? -q : q);
+        if (negatedGcd == Long.MIN_VALUE) {
             throw new NumbersArithmeticException(OVERFLOW_GCD_MESSAGE_2_POWER_63,
                                               p, q);
         }
-        // B2. Initialize: u and v have been divided by 2^k and at least
-        // one is odd.
-        long t = ((u & 1) == 1) ? v : -(u / 2)/* B3 */;
-        // t negative: u was odd, v may be even (t replaces v)
-        // t positive: u was even, v is odd (t replaces u)
-        do {
-            /* assert u<0 && v<0; */
-            // B4/B3: cast out twos from t.
-            while ((t & 1) == 0) { // while t is even..
-                t /= 2; // cast out twos
-            }
-            // B5 [reset max(u,v)]
-            if (t > 0) {
-                u = -t;
-            } else {
-                v = t;
-            }
-            // B6/B3. at this point both u and v should be odd.
-            t = (v - u) / 2;
-            // |u| larger: t positive (replace u)
-            // |v| larger: t negative (replace v)
-        } while (t != 0);
-        return -u * (1L << k); // gcd is u*2^k
+        return -negatedGcd;
+    }
+
+    /**
+     * Computes the greatest common divisor of the absolute value of the numbers.
+     * The computation stops early if the result is 1.
+     *
+     * <p>The special cases follow {@link #gcd(int, int)}: the result for an
+     * empty array, or an array of zeros, is 0.
+     *
+     * @param values Numbers.
+     * @return the greatest common divisor (never negative).
+     * @throws ArithmeticException if the result cannot be represented as
+     * a non-negative {@code int} value.
+     */
+    public static int gcd(int[] values) {
+        final int negatedGcd = negatedGcd(values, 0, values.length);
+        if (negatedGcd == Integer.MIN_VALUE) {
+            throw new NumbersArithmeticException(OVERFLOW_GCD_MESSAGE_2_POWER_31_ARRAY);
+        }
+        return -negatedGcd;
+    }
+
+    /**
+     * Computes the greatest common divisor of the absolute value of the numbers.
+     * The computation stops early if the result is 1.
+     *
+     * <p>The special cases follow {@link #gcd(long, long)}: the result for an
+     * empty array, or an array of zeros, is 0.
+     *
+     * @param values Numbers.
+     * @return the greatest common divisor (never negative).
+     * @throws ArithmeticException if the result cannot be represented as
+     * a non-negative {@code long} value.
+     */
+    public static long gcd(long[] values) {
+        final long negatedGcd = negatedGcd(values, 0, values.length);
+        if (negatedGcd == Long.MIN_VALUE) {
+            throw new NumbersArithmeticException(OVERFLOW_GCD_MESSAGE_2_POWER_63_ARRAY);
+        }
+        return -negatedGcd;
+    }
+
+    /**
+     * Computes the greatest common divisor of the absolute value of the numbers
+     * using the common {@link ForkJoinPool} to process large arrays in parallel.
+     *
+     * @param values Numbers.
+     * @return the greatest common divisor (never negative).
+     * @throws ArithmeticException if the result cannot be represented as
+     * a non-negative {@code int} value.
+     * @see #gcd(int[])
+     */
+    public static int parallelGcd(int[] values) {
+        if (values.length <= PARALLEL_GCD_THRESHOLD) {
+            return gcd(values);
+        }
+        final long negatedGcd = ForkJoinPool.commonPool().invoke(
+            new GcdTask(values, null, 0, values.length, new AtomicBoolean()));
+        if (negatedGcd == Integer.MIN_VALUE) {
+            throw new NumbersArithmeticException(OVERFLOW_GCD_MESSAGE_2_POWER_31_ARRAY);
+        }
+        return (int) -negatedGcd;
+    }
+
+    /**
+     * Computes the greatest common divisor of the absolute value of the numbers
+     * using the common {@link ForkJoinPool} to process large arrays in parallel.
+     *
+     * @param values Numbers.
+     * @return the greatest common divisor (never negative).
+     * @throws ArithmeticException if the result cannot be represented as
+     * a non-negative {@code long} value.
+     * @see #gcd(long[])
+     */
+    public static long parallelGcd(long[] values) {
+        if (values.length <= PARALLEL_GCD_THRESHOLD) {
+            return gcd(values);
+        }
+        final long negatedGcd = ForkJoinPool.commonPool().invoke(
+            new GcdTask(null, values, 0, values.length, new AtomicBoolean()));
+        if (negatedGcd == Long.MIN_VALUE) {
+            throw new NumbersArithmeticException(OVERFLOW_GCD_MESSAGE_2_POWER_63_ARRAY);
+        }
+        return -negatedGcd;
+    }
+
+    /**
+     * Computes the greatest common divisor of the absolute value of each pair of
+     * corresponding numbers. The output array may be the same as either input array.
+     *
+     * @param a First numbers.
+     * @param b Second numbers.
+     * @param result Greatest common divisors {@code gcd(a[i], b[i])}.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @throws ArithmeticException if a result cannot be represented as
+     * a non-negative {@code int} value.
+     * @see #gcd(int, int)
+     */
+    public static void gcd(int[] a, int[] b, int[] result) {
+        checkDimensions(a.length, b.length);
+        checkDimensions(a.length, result.length);
+        for (int i = 0; i < a.length; i++) {
+            result[i] = gcd(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Computes the greatest common divisor of the absolute value of each pair of
+     * corresponding numbers. The output array may be the same as either input array.
+     *
+     * @param a First numbers.
+     * @param b Second numbers.
+     * @param result Greatest common divisors {@code gcd(a[i], b[i])}.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @throws ArithmeticException if a result cannot be represented as
+     * a non-negative {@code long} value.
+     * @see #gcd(long, long)
+     */
+    public static void gcd(long[] a, long[] b, long[] result) {
+        checkDimensions(a.length, b.length);
+        checkDimensions(a.length, result.length);
+        for (int i = 0; i < a.length; i++) {
+            result[i] = gcd(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Computes the negated greatest common divisor of two numbers using the binary
+     * gcd method. The numbers are negative so that -2^31 does not need to be handled
+     * separately.
+     *
+     * @param p Number (must be negative or zero).
+     * @param q Number (must be negative or zero).
+     * @return the negated greatest common divisor.
+     */
+    private static int negatedGcd(int p, int q) {
+        int a = p;
+        int b = q;
+        if (a == 0) {
+            return b;
+        } else if (b == 0) {
+            return a;
+        }
+        // Make "a" and "b" odd, keeping track of common power of 2.
+        final int aTwos = Integer.numberOfTrailingZeros(a);
+        final int bTwos = Integer.numberOfTrailingZeros(b);
+        a >>= aTwos;
+        b >>= bTwos;
+        final int shift = Math.min(aTwos, bTwos);
+
+        // "a" and "b" are negative and odd.
+        // If a < b then "gdc(a, b)" is equal to "gcd(a - b, b)".
+        // If a > b then "gcd(a, b)" is equal to "gcd(b - a, a)".
+        // Hence, in the successive iterations:
+        //  "a" becomes the negative absolute difference of the current values,
+        //  "b" becomes that value of the two that is closer to zero.
+        while (a != b) {
+            final int delta = a - b;
+            b = Math.max(a, b);
+            a = delta > 0 ? -delta : delta;
+
+            // Remove any power of 2 in "a" ("b" is guaranteed to be odd).
+            a >>= Integer.numberOfTrailingZeros(a);
+        }
+
+        // Recover the common power of 2.
+        return a << shift;
+    }
+
+    /**
+     * Computes the negated greatest common divisor of two numbers using the binary
+     * gcd method. The numbers are negative so that -2^63 does not need to be handled
+     * separately.
+     *
+     * @param p Number (must be negative or zero).
+     * @param q Number (must be negative or zero).
+     * @return the negated greatest common divisor.
+     * @see #negatedGcd(int, int)
+     */
+    private static long negatedGcd(long p, long q) {
+        long a = p;
+        long b = q;
+        if (a == 0) {
+            return b;
+        } else if (b == 0) {
+            return a;
+        }
+        final int aTwos = Long.numberOfTrailingZeros(a);
+        final int bTwos = Long.numberOfTrailingZeros(b);
+        a >>= aTwos;
+        b >>= bTwos;
+        final int shift = Math.min(aTwos, bTwos);
+        while (a != b) {
+            final long delta = a - b;
+            b = Math.max(a, b);
+            a = delta > 0 ? -delta : delta;
+            a >>= Long.numberOfTrailingZeros(a);
+        }
+        return a << shift;
+    }
+
+    /**
+     * Computes the negated greatest common divisor of the numbers in the range
+     * {@code [from, to)}. Stops early if the result is -1.
+     *
+     * @param values Numbers.
+     * @param from Start (inclusive).
+     * @param to End (exclusive).
+     * @return the negated greatest common divisor.
+     */
+    private static int negatedGcd(int[] values, int from, int to) {
+        int g = 0;
+        for (int i = from; i < to && g != -1; i++) {
+            final int v = values[i];
+            g = negatedGcd(g, v > 0 ? -v : v);
+        }
+        return g;
+    }
+
+    /**
+     * Computes the negated greatest common divisor of the numbers in the range
+     * {@code [from, to)}. Stops early if the result is -1.
+     *
+     * @param values Numbers.
+     * @param from Start (inclusive).
+     * @param to End (exclusive).
+     * @return the negated greatest common divisor.
+     */
+    private static long negatedGcd(long[] values, int from, int to) {
+        long g = 0;
+        for (int i = from; i < to && g != -1; i++) {
+            final long v = values[i];
+            g = negatedGcd(g, v > 0 ? -v : v);
+        }
+        return g;
     }
 
     /**
@@ -263,6 +454,50 @@ public final class ArithmeticUtils {
         return lcm;
     }
 
+    /**
+     * Computes the least common multiple of the absolute value of the numbers.
+     *
+     * <p>The special cases follow {@link #lcm(int, int)}: the result is 0 if any
+     * number is 0. The result for an empty array is 1.
+     *
+     * @param values Numbers.
+     * @return the least common multiple, never negative.
+     * @throws ArithmeticException if the result cannot be represented as
+     * a non-negative {@code int} value.
+     */
+    public static int lcm(int[] values) {
+        int lcm = 1;
+        for (final int v : values) {
+            lcm = lcm(lcm, v);
+            if (lcm == 0) {
+                return 0;
+            }
+        }
+        return lcm;
+    }
+
+    /**
+     * Computes the least common multiple of the absolute value of the numbers.
+     *
+     * <p>The special cases follow {@link #lcm(long, long)}: the result is 0 if any
+     * number is 0. The result for an empty array is 1.
+     *
+     * @param values Numbers.
+     * @return the least common multiple, never negative.
+     * @throws ArithmeticException if the result cannot be represented as
+     * a non-negative {@code long} value.
+     */
+    public static long lcm(long[] values) {
+        long lcm = 1;
+        for (final long v : values) {
+            lcm = lcm(lcm, v);
+            if (lcm == 0) {
+                return 0;
+            }
+        }
+        return lcm;
+    }
+
     /**
      * Raise an int to an int power.
      *
@@ -344,7 +579,7 @@ public final class ArithmeticUtils {
             throw new IllegalArgumentException(NEGATIVE_EXPONENT_1 + e + NEGATIVE_EXPONENT_2);
         }
 
-        return k.pow(e);
+        return powPositive(k, e);
     }
 
     /**
@@ -354,25 +589,18 @@ public final class ArithmeticUtils {
      * @param e Exponent (must be positive or zero).
      * @return k<sup>e</sup>
      * @throws IllegalArgumentException if {@code e < 0}.
+     * @throws ArithmeticException if the result is outside the supported
+     * range of {@code BigInteger}.
      */
     public static BigInteger pow(final BigInteger k, final long e) {
         if (e < 0) {
             throw new IllegalArgumentException(NEGATIVE_EXPONENT_1 + e + NEGATIVE_EXPONENT_2);
         }
 
-        long exp = e;
-        BigInteger result = BigInteger.ONE;
-        BigInteger k2p    = k;
-        while (exp != 0) {
-            if ((exp & 0x1) != 0) {
-                result = result.multiply(k2p);
-            }
-            k2p = k2p.multiply(k2p);
-            exp >>= 1;
+        if (e <= Integer.MAX_VALUE) {
+            return powPositive(k, (int) e);
         }
-
-        return result;
-
+        return powHuge(k, (e & 1) != 0, e);
     }
 
     /**
@@ -382,23 +610,142 @@ public final class ArithmeticUtils {
      * @param e Exponent (must be positive or zero).
      * @return k<sup>e</sup>
      * @throws IllegalArgumentException if {@code e < 0}.
+     * @throws ArithmeticException if the result is outside the supported
+     * range of {@code BigInteger}.
      */
     public static BigInteger pow(final BigInteger k, final BigInteger e) {
         if (e.compareTo(BigInteger.ZERO) < 0) {
             throw new IllegalArgumentException(NEGATIVE_EXPONENT_1 + e + NEGATIVE_EXPONENT_2);
         }
 
-        BigInteger exp = e;
-        BigInteger result = BigInteger.ONE;
-        BigInteger k2p    = k;
-        while (!BigInteger.ZERO.equals(exp)) {
-            if (exp.testBit(0)) {
-                result = result.multiply(k2p);
+        if (e.bitLength() < Integer.SIZE) {
+            return powPositive(k, e.intValue());
+        }
+        return powHuge(k, e.testBit(0), e);
+    }
+
+    /**
+     * Raise a BigInteger to a non-negative int power.
+     *
+     * <p>Powers of small bases are looked up in a shared bounded cache. Otherwise
+     * powers of 2 are removed from the base and applied using a shift, and the
+     * remaining odd part is raised to the power using sliding-window exponentiation.
+     *
+     * @param k Number to raise.
+     * @param e Exponent (must be positive or zero).
+     * @return k<sup>e</sup>
+     * @throws ArithmeticException if the result is outside the supported
+     * range of {@code BigInteger}.
+     */
+    private static BigInteger powPositive(BigInteger k, int e) {
+        if (e == 0) {
+            return BigInteger.ONE;
+        }
+        final BigInteger a = k.abs();
+        if (a.bitLength() <= 1) {
+            // 0, 1 or -1
+            return k.signum() < 0 && (e & 1) == 0 ? BigInteger.ONE : k;
+        }
+        // Fail fast before any multiplication if the result may be outside the
+        // supported range of BigInteger. This uses the same limits as BigInteger.pow.
+        final int bits = a.bitLength();
+        if (a.getLowestSetBit() == bits - 1) {
+            // Power of 2: the result has exactly (bitLength - 1) * e + 1 bits
+            if ((long) (bits - 1) * e >= Integer.MAX_VALUE) {
+                throw new NumbersArithmeticException(OVERFLOW_EXPONENT_MESSAGE, e);
+            }
+        } else if ((long) bits * e / Integer.SIZE > MAX_MAG_LENGTH) {
+            // Upper bound on the size of the result
+            throw new NumbersArithmeticException(OVERFLOW_EXPONENT_MESSAGE, e);
+        }
+        BigInteger result;
+        if (e <= MAX_CACHED_EXPONENT && a.bitLength() <= Integer.SIZE - 1 &&
+            a.intValue() <= MAX_CACHED_BASE && SmallBasePowers.CACHE[a.intValue()] != null) {
+            result = SmallBasePowers.CACHE[a.intValue()].pow(e);
+        } else {
+            final int twos = a.getLowestSetBit();
+            if (twos == 0) {
+                result = powWindowed(a, e);
+            } else {
+                final BigInteger odd = a.shiftRight(twos);
+                result = odd.equals(BigInteger.ONE) ? odd : powWindowed(odd, e);
+                result = result.shiftLeft(Math.multiplyExact(twos, e));
             }
-            k2p = k2p.multiply(k2p);
-            exp = exp.shiftRight(1);
         }
+        return k.signum() < 0 && (e & 1) != 0 ? result.negate() : result;
+    }
+
+    /**
+     * Raise a BigInteger to a power that is too large for an int.
+     * The result can only be represented if the magnitude of the base is
+     * 0 or 1.
+     *
+     * @param k Number to raise.
+     * @param odd Set to true if the exponent is odd.
+     * @param e Exponent.
+     * @return k<sup>e</sup>
+     * @throws ArithmeticException if the magnitude of {@code k} is above 1.
+     */
+    private static BigInteger powHuge(BigInteger k, boolean odd, Object e) {
+        if (k.abs().bitLength() <= 1) {
+            return k.signum() < 0 && !odd ? BigInteger.ONE : k;
+        }
+        throw new NumbersArithmeticException(OVERFLOW_EXPONENT_MESSAGE, e);
+    }
 
+    /**
+     * Raise a BigInteger to a power using left-to-right sliding-window
+     * exponentiation. Each window of the exponent uses a single multiplication
+     * by a precomputed odd power of the base.
+     *
+     * @param a Number to raise (must be greater than 1).
+     * @param e Exponent (must be strictly positive).
+     * @return a<sup>e</sup>
+     */
+    private static BigInteger powWindowed(BigInteger a, int e) {
+        final int bits = Integer.SIZE - Integer.numberOfLeadingZeros(e);
+        // Window size minimising the number of multiplications:
+        // 2^(w-1) precomputations + bits / (w+1) window multiplications
+        final int w;
+        if (bits <= 8) {
+            w = 1;
+        } else if (bits < 24) {
+            w = 2;
+        } else {
+            w = 3;
+        }
+        // Odd powers: a^1, a^3, ..., a^(2^w - 1)
+        final BigInteger[] odd = new BigInteger[1 << (w - 1)];
+        odd[0] = a;
+        if (w > 1) {
+            final BigInteger a2 = a.multiply(a);
+            for (int i = 1; i < odd.length; i++) {
+                odd[i] = odd[i - 1].multiply(a2);
+            }
+        }
+        // The most significant bit of the exponent starts the first window
+        BigInteger result = null;
+        int i = bits - 1;
+        while (i >= 0) {
+            if ((e & (1 << i)) == 0) {
+                result = result.multiply(result);
+                i--;
+            } else {
+                // Window [j, i] of at most w bits ending with a 1 bit
+                int j = Math.max(i - w + 1, 0);
+                j += Integer.numberOfTrailingZeros(e >>> j);
+                final BigInteger p = odd[((e >>> j) & ((1 << (i - j + 1)) - 1)) >>> 1];
+                if (result == null) {
+                    result = p;
+                } else {
+                    for (int s = j; s <= i; s++) {
+                        result = result.multiply(result);
+                    }
+                    result = result.multiply(p);
+                }
+                i = j - 1;
+            }
+        }
         return result;
     }
 
@@ -412,6 +759,421 @@ public final class ArithmeticUtils {
         return (n > 0) && ((n & (n - 1)) == 0);
     }
 
+    /**
+     * Returns the integer square root of the argument: the largest {@code r}
+     * such that {@code r * r <= x}.
+     *
+     * @param x Number (must be positive or zero).
+     * @return \( \lfloor \sqrt{x} \rfloor \)
+     * @throws IllegalArgumentException if {@code x < 0}.
+     */
+    public static int isqrt(int x) {
+        checkNonNegative(x);
+        // The correctly rounded square root of an int never rounds up to the
+        // next integer: truncation is exact.
+        return (int) Math.sqrt(x);
+    }
+
+    /**
+     * Returns the integer square root of the argument: the largest {@code r}
+     * such that {@code r * r <= x}.
+     *
+     * @param x Number (must be positive or zero).
+     * @return \( \lfloor \sqrt{x} \rfloor \)
+     * @throws IllegalArgumentException if {@code x < 0}.
+     */
+    public static long isqrt(long x) {
+        checkNonNegative(x);
+        // The floating-point estimate may be off by one
+        long r = Math.min((long) Math.sqrt(x), MAX_LONG_SQRT);
+        while (r * r > x) {
+            r--;
+        }
+        while (r < MAX_LONG_SQRT && (r + 1) * (r + 1) <= x) {
+            r++;
+        }
+        return r;
+    }
+
+    /**
+     * Returns the integer square root of the argument: the largest {@code r}
+     * such that {@code r * r <= x}.
+     *
+     * @param x Number (must be positive or zero).
+     * @return \( \lfloor \sqrt{x} \rfloor \)
+     * @throws IllegalArgumentException if {@code x < 0}.
+     */
+    public static BigInteger isqrt(BigInteger x) {
+        return iroot(x, 2);
+    }
+
+    /**
+     * Returns the integer cube root of the argument: the cube root rounded
+     * towards zero.
+     *
+     * @param x Number.
+     * @return the integer cube root
+     */
+    public static int icbrt(int x) {
+        return (int) iroot((long) x, 3);
+    }
+
+    /**
+     * Returns the integer cube root of the argument: the cube root rounded
+     * towards zero.
+     *
+     * @param x Number.
+     * @return the integer cube root
+     */
+    public static long icbrt(long x) {
+        return iroot(x, 3);
+    }
+
+    /**
+     * Returns the integer cube root of the argument: the cube root rounded
+     * towards zero.
+     *
+     * @param x Number.
+     * @return the integer cube root
+     */
+    public static BigInteger icbrt(BigInteger x) {
+        return iroot(x, 3);
+    }
+
+    /**
+     * Returns the integer {@code k}-th root of the argument: the root rounded
+     * towards zero. For positive {@code x} this is the largest {@code r} such
+     * that \( r^k \le x \).
+     *
+     * @param x Number.
+     * @param k Degree of the root.
+     * @return the integer root
+     * @throws IllegalArgumentException if {@code k < 1}, or if {@code k} is
+     * even and {@code x < 0}.
+     */
+    public static int iroot(int x, int k) {
+        return (int) iroot((long) x, k);
+    }
+
+    /**
+     * Returns the integer {@code k}-th root of the argument: the root rounded
+     * towards zero. For positive {@code x} this is the largest {@code r} such
+     * that \( r^k \le x \).
+     *
+     * @param x Number.
+     * @param k Degree of the root.
+     * @return the integer root
+     * @throws IllegalArgumentException if {@code k < 1}, or if {@code k} is
+     * even and {@code x < 0}.
+     */
+    public static long iroot(long x, int k) {
+        checkRoot(x < 0, k, x);
+        if (k == 2) {
+            return isqrt(x);
+        }
+        // Note: the magnitude of Long.MIN_VALUE is 2^63 as an unsigned value
+        return x < 0 ?
+            -rootUnsigned(-x, k) :
+            rootUnsigned(x, k);
+    }
+
+    /**
+     * Returns the integer {@code k}-th root of the argument: the root rounded
+     * towards zero. For positive {@code x} this is the largest {@code r} such
+     * that \( r^k \le x \).
+     *
+     * <p>The root is computed using Newton iterations seeded with a floating-point
+     * estimate.
+     *
+     * @param x Number.
+     * @param k Degree of the root.
+     * @return the integer root
+     * @throws IllegalArgumentException if {@code k < 1}, or if {@code k} is
+     * even and {@code x < 0}.
+     */
+    public static BigInteger iroot(BigInteger x, int k) {
+        checkRoot(x.signum() < 0, k, x);
+        if (x.bitLength() < Long.SIZE) {
+            return BigInteger.valueOf(iroot(x.longValue(), k));
+        }
+        if (x.signum() < 0) {
+            return rootPositive(x.negate(), k).negate();
+        }
+        return rootPositive(x, k);
+    }
+
+    /**
+     * Returns true if the argument is the square of an integer.
+     *
+     * @param x Number.
+     * @return true if {@code x} is a perfect square
+     */
+    public static boolean isPerfectSquare(int x) {
+        return isPerfectSquare((long) x);
+    }
+
+    /**
+     * Returns true if the argument is the square of an integer.
+     *
+     * <p>Most non-squares are rejected using quadratic residue tests before
+     * the integer square root is computed.
+     *
+     * @param x Number.
+     * @return true if {@code x} is a perfect square
+     */
+    public static boolean isPerfectSquare(long x) {
+        if (x < 0 ||
+            ((SQUARE_RESIDUES_64 >>> x) & 1) == 0 ||
+            !isSquareResidue((int) (x % SQUARE_FILTER_MODULUS))) {
+            return false;
+        }
+        final long r = isqrt(x);
+        return r * r == x;
+    }
+
+    /**
+     * Returns true if the argument is the square of an integer.
+     *
+     * <p>Most non-squares are rejected using quadratic residue tests before
+     * the integer square root is computed.
+     *
+     * @param x Number.
+     * @return true if {@code x} is a perfect square
+     */
+    public static boolean isPerfectSquare(BigInteger x) {
+        if (x.bitLength() < Long.SIZE) {
+            return isPerfectSquare(x.longValue());
+        }
+        if (x.signum() < 0 ||
+            ((SQUARE_RESIDUES_64 >>> x.intValue()) & 1) == 0 ||
+            !isSquareResidue(x.mod(BIG_SQUARE_FILTER_MODULUS).intValue())) {
+            return false;
+        }
+        final BigInteger r = rootPositive(x, 2);
+        return r.multiply(r).equals(x);
+    }
+
+    /**
+     * Returns true if the argument is a perfect power: \( x = a^k \) for
+     * some integer {@code a} and some {@code k > 1}.
+     * The values -1, 0 and 1 are perfect powers.
+     *
+     * @param x Number.
+     * @return true if {@code x} is a perfect power
+     */
+    public static boolean isPerfectPower(int x) {
+        return isPerfectPower((long) x);
+    }
+
+    /**
+     * Returns true if the argument is a perfect power: \( x = a^k \) for
+     * some integer {@code a} and some {@code k > 1}.
+     * The values -1, 0 and 1 are perfect powers.
+     *
+     * @param x Number.
+     * @return true if {@code x} is a perfect power
+     */
+    public static boolean isPerfectPower(long x) {
+        if ((x >= -1 && x <= 1) || isPerfectSquare(x)) {
+            return true;
+        }
+        // Test odd prime exponents k where 2^k <= |x|.
+        // The number of trailing zeros of a k-th power is a multiple of k.
+        final long a = x < 0 ? -x : x;
+        final int log2 = Long.SIZE - 1 - Long.numberOfLeadingZeros(a);
+        final int twos = Long.numberOfTrailingZeros(a);
+        for (int k = 3; k <= log2; k += 2) {
+            if (((ODD_PRIMES_64 >>> k) & 1) != 0 && twos % k == 0) {
+                final long r = rootUnsigned(a, k);
+                long p = r;
+                for (int i = 1; i < k; i++) {
+                    p *= r;
+                }
+                if (p == a) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the argument is a perfect power: \( x = a^k \) for
+     * some integer {@code a} and some {@code k > 1}.
+     * The values -1, 0 and 1 are perfect powers.
+     *
+     * @param x Number.
+     * @return true if {@code x} is a perfect power
+     */
+    public static boolean isPerfectPower(BigInteger x) {
+        if (x.bitLength() < Long.SIZE) {
+            return isPerfectPower(x.longValue());
+        }
+        if (isPerfectSquare(x)) {
+            return true;
+        }
+        final BigInteger a = x.abs();
+        final int log2 = a.bitLength() - 1;
+        final int twos = a.getLowestSetBit();
+        for (int k = 3; k <= log2; k += 2) {
+            if (twos % k == 0 && isOddPrime(k) &&
+                rootPositive(a, k).pow(k).equals(a)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compute the integer root of the unsigned magnitude.
+     *
+     * @param a Number (unsigned; at most 2^63).
+     * @param k Degree of the root (must be strictly positive).
+     * @return \( \lfloor a^{1/k} \rfloor \)
+     */
+    private static long rootUnsigned(long a, int k) {
+        if (k == 1) {
+            return a;
+        }
+        if (Long.SIZE - Long.numberOfLeadingZeros(a) <= k) {
+            // a < 2^k
+            return a == 0 ? 0 : 1;
+        }
+        final double da = a < 0 ? 0x1.0p63 : a;
+        long r = (long) (k == 3 ? Math.cbrt(da) : Math.pow(da, 1.0 / k));
+        // Correct the floating-point estimate
+        while (!powLessOrEqualUnsigned(r, k, a)) {
+            r--;
+        }
+        while (powLessOrEqualUnsigned(r + 1, k, a)) {
+            r++;
+        }
+        return r;
+    }
+
+    /**
+     * Test if \( r^k \le a \) without overflow.
+     *
+     * @param r Number (must be strictly positive).
+     * @param k Exponent.
+     * @param a Number (unsigned).
+     * @return true if \( r^k \le a \)
+     */
+    private static boolean powLessOrEqualUnsigned(long r, int k, long a) {
+        final long limit = divideUnsigned(a, r);
+        long p = 1;
+        for (int i = 0; i < k; i++) {
+            // p * r <= a  <==>  p <= floor(a / r)
+            if (Long.compareUnsigned(p, limit) > 0) {
+                return false;
+            }
+            p *= r;
+        }
+        return true;
+    }
+
+    /**
+     * Compute the integer root of the positive argument using Newton iterations.
+     *
+     * @param x Number (must be strictly positive).
+     * @param k Degree of the root (must be strictly positive).
+     * @return \( \lfloor x^{1/k} \rfloor \)
+     */
+    private static BigInteger rootPositive(BigInteger x, int k) {
+        if (k == 1) {
+            return x;
+        }
+        final int bitLength = x.bitLength();
+        if (bitLength <= k) {
+            // x < 2^k
+            return BigInteger.ONE;
+        }
+        // Floating-point estimate of log2(x^(1/k)) using the top 63 bits
+        final int e = Math.max(0, bitLength - Long.SIZE + 1);
+        final double log2 = (Math.log(x.shiftRight(e).longValue()) / LN_2 + e) / k;
+        BigInteger r;
+        if (log2 < Long.SIZE - 2) {
+            r = BigInteger.valueOf((long) Math.exp(log2 * LN_2) + 1);
+        } else {
+            final int shift = (int) log2 - 52;
+            r = BigInteger.valueOf((long) Math.exp((log2 - shift) * LN_2)).shiftLeft(shift);
+        }
+        // A Newton iteration from any positive value is an upper bound on the root.
+        // Subsequent iterations decrease strictly until the root is reached.
+        final BigInteger bk = BigInteger.valueOf(k);
+        final BigInteger bk1 = BigInteger.valueOf(k - 1L);
+        r = r.multiply(bk1).add(x.divide(r.pow(k - 1))).divide(bk);
+        while (true) {
+            final BigInteger next = r.multiply(bk1).add(x.divide(r.pow(k - 1))).divide(bk);
+            if (next.compareTo(r) >= 0) {
+                return r;
+            }
+            r = next;
+        }
+    }
+
+    /**
+     * Test if the residue modulo {@link #SQUARE_FILTER_MODULUS} may be the residue
+     * of a square.
+     *
+     * @param r Residue (must be positive or zero).
+     * @return false if {@code r} is not a quadratic residue
+     */
+    private static boolean isSquareResidue(int r) {
+        return ((SQUARE_RESIDUES_63 >>> (r % 63)) & 1) != 0 &&
+               ((SQUARE_RESIDUES_13 >>> (r % 13)) & 1) != 0 &&
+               ((SQUARE_RESIDUES_11 >>> (r % 11)) & 1) != 0 &&
+               ((SQUARE_RESIDUES_5 >>> (r % 5)) & 1) != 0;
+    }
+
+    /**
+     * Test if the odd number is prime using trial division.
+     *
+     * @param k Number (must be odd and greater than 1).
+     * @return true if {@code k} is prime
+     */
+    private static boolean isOddPrime(int k) {
+        if (k < Long.SIZE) {
+            return ((ODD_PRIMES_64 >>> k) & 1) != 0;
+        }
+        for (int d = 3; d <= k / d; d += 2) {
+            if (k % d == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check the argument is not negative.
+     *
+     * @param x Number.
+     * @throws IllegalArgumentException if {@code x < 0}.
+     */
+    private static void checkNonNegative(long x) {
+        if (x < 0) {
+            throw new IllegalArgumentException("negative argument (" + x + ")");
+        }
+    }
+
+    /**
+     * Check the arguments for a root.
+     *
+     * @param negative Set to true if the number is negative.
+     * @param k Degree of the root.
+     * @param x Number.
+     * @throws IllegalArgumentException if {@code k < 1}, or if {@code k} is
+     * even and the number is negative.
+     */
+    private static void checkRoot(boolean negative, int k, Object x) {
+        if (k < 1) {
+            throw new IllegalArgumentException("root degree is not strictly positive (" + k + ")");
+        }
+        if (negative && (k & 1) == 0) {
+            throw new IllegalArgumentException("even root of negative argument (" + x + ")");
+        }
+    }
+
     /**
      * Returns the unsigned remainder from dividing the first argument
      * by the second where each argument and the result is interpreted
@@ -534,6 +1296,129 @@ public final class ArithmeticUtils {
         return dividend >= 0L || dividend < divisor ? 0L : 1L;
     }
 
+    /**
+     * Returns the most significant 64 bits of the 128-bit product of two
+     * signed 64-bit values.
+     *
+     * <p>The least significant 64 bits are given by {@code a * b}.</p>
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return the high 64 bits of the signed product
+     */
+    public static long multiplyHigh(long a, long b) {
+        return Intrinsics.multiplyHigh(a, b);
+    }
+
+    /**
+     * Returns the most significant 64 bits of the 128-bit product of two
+     * values where each argument is interpreted as an unsigned value.
+     *
+     * <p>The least significant 64 bits are given by {@code a * b}.</p>
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return the high 64 bits of the unsigned product
+     */
+    public static long multiplyHighUnsigned(long a, long b) {
+        // Correct the signed product: a negative signed value represents
+        // the unsigned value + 2^64.
+        return Intrinsics.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+    }
+
+    /**
+     * Check the array lengths are equal.
+     *
+     * @param length1 First length.
+     * @param length2 Second length.
+     * @throws IllegalArgumentException if the lengths are different.
+     */
+    private static void checkDimensions(int length1, int length2) {
+        if (length1 != length2) {
+            throw new IllegalArgumentException("Dimension mismatch: " + length1 + " != " + length2);
+        }
+    }
+
+    /**
+     * Computes the negated greatest common divisor of a range of an array.
+     * Either the {@code int} or the {@code long} array is used. All tasks share
+     * a flag that is set when any sub-range is found to have a gcd of 1; remaining
+     * tasks then return immediately.
+     */
+    private static final class GcdTask extends RecursiveTask<Long> {
+        /** Serializable version Id. */
+        private static final long serialVersionUID = 20261019L;
+
+        /** The int values (may be null). */
+        private final int[] ints;
+        /** The long values (may be null). */
+        private final long[] longs;
+        /** Start (inclusive). */
+        private final int from;
+        /** End (exclusive). */
+        private final int to;
+        /** Set when the gcd is known to be 1. */
+        private final AtomicBoolean coprime;
+
+        /**
+         * @param ints The int values (may be null).
+         * @param longs The long values (may be null).
+         * @param from Start (inclusive).
+         * @param to End (exclusive).
+         * @param coprime Set when the gcd is known to be 1.
+         */
+        GcdTask(int[] ints, long[] longs, int from, int to, AtomicBoolean coprime) {
+            this.ints = ints;
+            this.longs = longs;
+            this.from = from;
+            this.to = to;
+            this.coprime = coprime;
+        }
+
+        @Override
+        protected Long compute() {
+            if (coprime.get()) {
+                return -1L;
+            }
+            final long g;
+            if (to - from <= PARALLEL_GCD_THRESHOLD) {
+                g = ints != null ?
+                    negatedGcd(ints, from, to) :
+                    negatedGcd(longs, from, to);
+            } else {
+                final int mid = (from + to) >>> 1;
+                final GcdTask left = new GcdTask(ints, longs, from, mid, coprime);
+                left.fork();
+                final long right = new GcdTask(ints, longs, mid, to, coprime).compute();
+                g = negatedGcd(left.join(), right);
+            }
+            if (g == -1) {
+                coprime.set(true);
+            }
+            return g;
+        }
+    }
+
+    /**
+     * Holder for the shared caches of the powers of small bases. The caches
+     * are created on first use.
+     */
+    private static final class SmallBasePowers {
+        /** Caches indexed by the base. Bases that are a power of 2 use a shift. */
+        static final BigIntegerPowers[] CACHE = new BigIntegerPowers[MAX_CACHED_BASE + 1];
+
+        static {
+            for (int b = 3; b <= MAX_CACHED_BASE; b++) {
+                if (!isPowerOfTwo(b)) {
+                    CACHE[b] = BigIntegerPowers.of(b, MAX_CACHED_EXPONENT);
+                }
+            }
+        }
+
+        /** No instances. */
+        private SmallBasePowers() {}
+    }
+
     /**
      * Exception.
      */
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cache of the powers of a fixed {@code BigInteger} base.
+ *
+ * <p>Powers up to a maximum exponent are computed on demand and stored; the
+ * size of the cache is bounded by the maximum exponent. Powers above the
+ * maximum exponent are computed from the largest cached power.
+ *
+ * <p>This is useful when the same powers are used repeatedly, for example
+ * powers of 10 to scale decimal values.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @see ArithmeticUtils#pow(BigInteger, int)
+ */
+public final class BigIntegerPowers {
+    /** The base. */
+    private final BigInteger base;
+    /** The cached powers, indexed by the exponent. */
+    private final AtomicReferenceArray<BigInteger> powers;
+
+    /**
+     * @param base Base.
+     * @param maxExponent Maximum exponent to cache.
+     */
+    private BigIntegerPowers(BigInteger base, int maxExponent) {
+        this.base = base;
+        powers = new AtomicReferenceArray<>(maxExponent + 1);
+        powers.set(0, BigInteger.ONE);
+        if (maxExponent > 0) {
+            powers.set(1, base);
+        }
+    }
+
+    /**
+     * Create an instance.
+     *
+     * @param base Base.
+     * @param maxExponent Maximum exponent to cache.
+     * @return the cache
+     * @throws IllegalArgumentException if {@code maxExponent < 0} or
+     * {@code maxExponent == Integer.MAX_VALUE}.
+     */
+    public static BigIntegerPowers of(BigInteger base, int maxExponent) {
+        if (maxExponent < 0 || maxExponent == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid maximum exponent: " + maxExponent);
+        }
+        return new BigIntegerPowers(base, maxExponent);
+    }
+
+    /**
+     * Create an instance.
+     *
+     * @param base Base.
+     * @param maxExponent Maximum exponent to cache.
+     * @return the cache
+     * @throws IllegalArgumentException if {@code maxExponent < 0} or
+     * {@code maxExponent == Integer.MAX_VALUE}.
+     */
+    public static BigIntegerPowers of(long base, int maxExponent) {
+        return of(BigInteger.valueOf(base), maxExponent);
+    }
+
+    /**
+     * Gets the base.
+     *
+     * @return the base
+     */
+    public BigInteger getBase() {
+        return base;
+    }
+
+    /**
+     * Gets the maximum exponent of the cached powers.
+     *
+     * @return the maximum exponent
+     */
+    public int getMaxExponent() {
+        return powers.length() - 1;
+    }
+
+    /**
+     * Raise the base to the power.
+     *
+     * @param e Exponent (must be positive or zero).
+     * @return base<sup>e</sup>
+     * @throws IllegalArgumentException if {@code e < 0}.
+     */
+    public BigInteger pow(int e) {
+        final int max = powers.length() - 1;
+        if (e <= max) {
+            if (e < 0) {
+                throw new IllegalArgumentException("negative exponent (" + e + ")");
+            }
+            return cached(e);
+        }
+        if (max <= 1) {
+            return ArithmeticUtils.pow(base, e);
+        }
+        // base^e = (base^max)^q * base^r
+        final BigInteger p = ArithmeticUtils.pow(cached(max), e / max);
+        final int r = e % max;
+        return r == 0 ? p : p.multiply(cached(r));
+    }
+
+    /**
+     * Gets the cached power; the power is computed if absent.
+     *
+     * @param e Exponent (must be in the range of the cache).
+     * @return base<sup>e</sup>
+     */
+    private BigInteger cached(int e) {
+        BigInteger p = powers.get(e);
+        if (p == null) {
+            // Compute from the cached half power. This caches all powers in
+            // the chain e/2, e/4, ... Concurrent computations store the same value.
+            final BigInteger h = cached(e >>> 1);
+            p = h.multiply(h);
+            if ((e & 1) != 0) {
+                p = p.multiply(base);
+            }
+            powers.set(e, p);
+        }
+        return p;
+    }
+}
@@ -0,0 +1,671 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Computes double-double floating-point operations.
+ *
+ * <p>A double-double is an unevaluated sum of two {@code double} values, a
+ * high part {@code x} and a low part {@code xx}, such that {@code |xx|} is
+ * at most half an ulp of {@code x}. This provides about 106 bits of precision
+ * (the exponent range is that of a {@code double}), at a fraction of the cost
+ * of {@link BigDecimal} arithmetic.
+ *
+ * <p>The arithmetic is based on the error-free transformations described in the
+ * 1971 paper <a href="https://doi.org/10.1007/BF01397083">
+ * Dekker (1971) A floating-point technique for extending the available precision</a>.
+ * The algorithms are exposed as static methods operating on {@code (hi, lo)}
+ * pairs of {@code double} values, which do not allocate: the result is written
+ * to an array provided by the caller, e.g.
+ * <pre>
+ * double[] z = new double[2];
+ * for (int i = 0; i &lt; n; i++) {
+ *     DD.add(z[0], z[1], x[i], 0, z);
+ * }
+ * </pre>
+ *
+ * <p>If a result is not finite, its high part is the standard precision result
+ * and its low part is zero.
+ *
+ * <p>This class is immutable.
+ */
+public final class DD
+    extends Number
+    implements Comparable<DD>,
+               NativeOperators<DD>,
+               Serializable {
+    /*
+     * Caveat:
+     *
+     * The code below uses many additions/subtractions that may
+     * appear redundant. However, they should NOT be simplified, as they
+     * do use IEEE754 floating point arithmetic rounding properties.
+     */
+
+    /** A double-double number representing "0". */
+    public static final DD ZERO = new DD(0, 0);
+
+    /** A double-double number representing "1". */
+    public static final DD ONE = new DD(1, 0);
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261019L;
+
+    /** 2^63. Used for conversions to {@code long}. */
+    private static final double TWO_POW_63 = 0x1.0p63;
+
+    /** Mask to extract the lower 32 bits of a {@code long}. */
+    private static final long LOWER_32_BITS = 0xffff_ffffL;
+
+    /** The high part of the number. */
+    private final double x;
+
+    /** The low part of the number. */
+    private final double xx;
+
+    /**
+     * Private constructor: Instances are created using factory methods.
+     *
+     * @param x High part.
+     * @param xx Low part.
+     */
+    private DD(double x, double xx) {
+        this.x = x;
+        this.xx = xx;
+    }
+
+    /**
+     * Creates the double-double number equal to {@code x}.
+     *
+     * @param x Value.
+     * @return the double-double number.
+     */
+    public static DD of(double x) {
+        return new DD(x, 0);
+    }
+
+    /**
+     * Creates the double-double number equal to the exact sum {@code x + xx}.
+     * The parts are not required to be normalized.
+     *
+     * @param x First part.
+     * @param xx Second part.
+     * @return the double-double number.
+     */
+    public static DD of(double x, double xx) {
+        return ofSum(x, xx);
+    }
+
+    /**
+     * Creates the double-double number equal to {@code x}.
+     * The conversion is exact.
+     *
+     * @param x Value.
+     * @return the double-double number.
+     */
+    public static DD of(long x) {
+        // The upper and lower 32 bits are exactly representable.
+        final double hi = x & ~LOWER_32_BITS;
+        final double lo = x & LOWER_32_BITS;
+        final double s = hi + lo;
+        return new DD(s, fastTwoSumLow(hi, lo, s));
+    }
+
+    /**
+     * Creates the double-double number closest to {@code x}.
+     *
+     * @param x Value.
+     * @return the double-double number.
+     */
+    public static DD from(BigDecimal x) {
+        final double hi = x.doubleValue();
+        if (!Double.isFinite(hi)) {
+            return new DD(hi, 0);
+        }
+        final double lo = x.subtract(new BigDecimal(hi)).doubleValue();
+        final double s = hi + lo;
+        return new DD(s, fastTwoSumLow(hi, lo, s));
+    }
+
+    /**
+     * Creates the double-double number equal to the exact sum {@code a + b}.
+     *
+     * @param a First value.
+     * @param b Second value.
+     * @return the double-double number.
+     */
+    public static DD ofSum(double a, double b) {
+        final double s = a + b;
+        return create(s, s, twoSumLow(a, b, s));
+    }
+
+    /**
+     * Creates the double-double number equal to the exact product {@code a * b}
+     * (unless the product is sub-normal).
+     *
+     * @param a First value.
+     * @param b Second value.
+     * @return the double-double number.
+     */
+    public static DD ofProduct(double a, double b) {
+        final double p = a * b;
+        return create(p, p, twoProductLow(a, b, p));
+    }
+
+    /**
+     * Gets the high part of the number.
+     *
+     * @return the high part.
+     */
+    public double hi() {
+        return x;
+    }
+
+    /**
+     * Gets the low part of the number.
+     *
+     * @return the low part.
+     */
+    public double lo() {
+        return xx;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DD zero() {
+        return ZERO;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DD one() {
+        return ONE;
+    }
+
+    /**
+     * Returns the absolute value of this number.
+     *
+     * @return {@code |this|}.
+     */
+    public DD abs() {
+        return x < 0 ? negate() : this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DD negate() {
+        return new DD(-x, -xx);
+    }
+
+    /**
+     * Computes {@code this + y}.
+     *
+     * @param y Value.
+     * @return the sum.
+     */
+    public DD add(double y) {
+        final double s = x + y;
+        double e = twoSumLow(x, y, s) + xx;
+        final double z = s + e;
+        return create(s, z, fastTwoSumLow(s, e, z));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DD add(DD y) {
+        final double s = x + y.x;
+        double e = twoSumLow(x, y.x, s);
+        final double t = xx + y.xx;
+        final double f = twoSumLow(xx, y.xx, t);
+        e += t;
+        final double z = s + e;
+        e = fastTwoSumLow(s, e, z) + f;
+        final double zz = z + e;
+        return create(s, zz, fastTwoSumLow(z, e, zz));
+    }
+
+    /**
+     * Computes {@code this - y}.
+     *
+     * @param y Value.
+     * @return the difference.
+     */
+    public DD subtract(double y) {
+        return add(-y);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DD subtract(DD y) {
+        return add(y.negate());
+    }
+
+    /**
+     * Computes {@code this * y}.
+     *
+     * @param y Value.
+     * @return the product.
+     */
+    public DD multiply(double y) {
+        final double c = x * y;
+        final double cc = twoProductLow(x, y, c) + xx * y;
+        final double z = c + cc;
+        return create(c, z, fastTwoSumLow(c, cc, z));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DD multiply(DD y) {
+        final double c = x * y.x;
+        final double cc = twoProductLow(x, y.x, c) + (x * y.xx + xx * y.x);
+        final double z = c + cc;
+        return create(c, z, fastTwoSumLow(c, cc, z));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DD multiply(int n) {
+        // Exact conversion of the int
+        return multiply((double) n);
+    }
+
+    /**
+     * Computes {@code this / y}.
+     *
+     * @param y Value.
+     * @return the quotient.
+     */
+    public DD divide(double y) {
+        final double c = x / y;
+        final double u = c * y;
+        final double uu = twoProductLow(c, y, u);
+        final double cc = (x - u - uu + xx) / y;
+        final double z = c + cc;
+        return create(c, z, fastTwoSumLow(c, cc, z));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DD divide(DD y) {
+        final double c = x / y.x;
+        final double u = c * y.x;
+        final double uu = twoProductLow(c, y.x, u);
+        final double cc = (x - u - uu + xx - c * y.xx) / y.x;
+        final double z = c + cc;
+        return create(c, z, fastTwoSumLow(c, cc, z));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DD reciprocal() {
+        return ONE.divide(this);
+    }
+
+    /**
+     * Computes the square root of this number.
+     *
+     * @return {@code sqrt(this)}; {@code NaN} if this number is negative.
+     */
+    public DD sqrt() {
+        final double c = Math.sqrt(x);
+        if (c == 0 || !Double.isFinite(c)) {
+            return new DD(c, 0);
+        }
+        final double u = c * c;
+        final double uu = twoProductLow(c, c, u);
+        final double cc = (x - u - uu + xx) * 0.5 / c;
+        final double z = c + cc;
+        return new DD(z, fastTwoSumLow(c, cc, z));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DD pow(int n) {
+        if (n == 0) {
+            return ONE;
+        }
+        // Use a long to handle Integer.MIN_VALUE
+        long e = Math.abs((long) n);
+        DD result = ONE;
+        DD b = this;
+        while (true) {
+            if ((e & 1) != 0) {
+                result = result.multiply(b);
+            }
+            e >>>= 1;
+            if (e == 0) {
+                break;
+            }
+            b = b.multiply(b);
+        }
+        return n < 0 ? result.reciprocal() : result;
+    }
+
+    /**
+     * Computes the sum {@code (x, xx) + (y, yy)} of two double-double numbers.
+     * The parts of the result are stored in {@code z[0]} (high part) and
+     * {@code z[1]} (low part); {@code z} can hold one of the arguments.
+     *
+     * @param x High part of the first number.
+     * @param xx Low part of the first number.
+     * @param y High part of the second number.
+     * @param yy Low part of the second number.
+     * @param z Array in which to store the result.
+     * @return {@code z}.
+     */
+    public static double[] add(double x, double xx, double y, double yy, double[] z) {
+        final double s = x + y;
+        double e = twoSumLow(x, y, s);
+        final double t = xx + yy;
+        final double f = twoSumLow(xx, yy, t);
+        e += t;
+        final double r = s + e;
+        e = fastTwoSumLow(s, e, r) + f;
+        final double w = r + e;
+        return store(s, w, fastTwoSumLow(r, e, w), z);
+    }
+
+    /**
+     * Computes the product {@code (x, xx) * (y, yy)} of two double-double numbers.
+     * The parts of the result are stored in {@code z[0]} (high part) and
+     * {@code z[1]} (low part); {@code z} can hold one of the arguments.
+     *
+     * @param x High part of the first number.
+     * @param xx Low part of the first number.
+     * @param y High part of the second number.
+     * @param yy Low part of the second number.
+     * @param z Array in which to store the result.
+     * @return {@code z}.
+     */
+    public static double[] multiply(double x, double xx, double y, double yy, double[] z) {
+        final double c = x * y;
+        final double cc = twoProductLow(x, y, c) + (x * yy + xx * y);
+        final double w = c + cc;
+        return store(c, w, fastTwoSumLow(c, cc, w), z);
+    }
+
+    /**
+     * Computes the quotient {@code (x, xx) / (y, yy)} of two double-double numbers.
+     * The parts of the result are stored in {@code z[0]} (high part) and
+     * {@code z[1]} (low part); {@code z} can hold one of the arguments.
+     *
+     * @param x High part of the first number.
+     * @param xx Low part of the first number.
+     * @param y High part of the second number.
+     * @param yy Low part of the second number.
+     * @param z Array in which to store the result.
+     * @return {@code z}.
+     */
+    public static double[] divide(double x, double xx, double y, double yy, double[] z) {
+        final double c = x / y;
+        final double u = c * y;
+        final double uu = twoProductLow(c, y, u);
+        final double cc = (x - u - uu + xx - c * yy) / y;
+        final double w = c + cc;
+        return store(c, w, fastTwoSumLow(c, cc, w), z);
+    }
+
+    /**
+     * Computes the square root of the double-double number {@code (x, xx)}.
+     * The parts of the result are stored in {@code z[0]} (high part) and
+     * {@code z[1]} (low part).
+     *
+     * @param x High part of the number.
+     * @param xx Low part of the number.
+     * @param z Array in which to store the result.
+     * @return {@code z}.
+     */
+    public static double[] sqrt(double x, double xx, double[] z) {
+        final double c = Math.sqrt(x);
+        if (c == 0 || !Double.isFinite(c)) {
+            return store(c, c, 0, z);
+        }
+        final double u = c * c;
+        final double uu = twoProductLow(c, c, u);
+        final double cc = (x - u - uu + xx) * 0.5 / c;
+        final double w = c + cc;
+        return store(c, w, fastTwoSumLow(c, cc, w), z);
+    }
+
+    /**
+     * Computes the round-off from the sum of two numbers {@code a} and {@code b} using
+     * Knuth's two-sum algorithm. The values are not required to be ordered by magnitude.
+     * The standard precision sum must be provided.
+     *
+     * <p>The exact sum is {@code sum + twoSumLow(a, b, sum)}.
+     *
+     * @param a First part of sum.
+     * @param b Second part of sum.
+     * @param sum Sum of the parts (a + b).
+     * @return <code>(b - (sum - (sum - b))) + (a - (sum - b))</code>
+     */
+    public static double twoSumLow(double a, double b, double sum) {
+        final double bVirtual = sum - a;
+        // sum - bVirtual == aVirtual.
+        // a - aVirtual == a round-off
+        // b - bVirtual == b round-off
+        return (a - (sum - bVirtual)) + (b - bVirtual);
+    }
+
+    /**
+     * Computes the round-off from the sum of two numbers {@code a} and {@code b} using
+     * Dekker's two-sum algorithm. The values are required to be ordered by magnitude
+     * {@code |a| >= |b|}. The standard precision sum must be provided.
+     *
+     * @param a First part of sum.
+     * @param b Second part of sum.
+     * @param sum Sum of the parts (a + b).
+     * @return <code>b - (sum - a)</code>
+     */
+    public static double fastTwoSumLow(double a, double b, double sum) {
+        // bVitual = sum - a
+        // b - bVirtual == b round-off
+        return b - (sum - a);
+    }
+
+    /**
+     * Computes the low part of the exact product of {@code a} and {@code b},
+     * i.e. the rounding error of the standard precision product, using Dekker's
+     * mul12 algorithm (or a fused multiply-add on Java 9+). The standard
+     * precision product must be provided.
+     *
+     * <p>This is functionally equivalent to {@code Math.fma(a, b, -product)},
+     * with the following special cases:
+     * <ul>
+     *  <li>If {@code a * b} is sub-normal or zero then the result is 0.0.
+     *  <li>If {@code a * b} is infinite or NaN then the result is NaN.
+     * </ul>
+     *
+     * @param a First factor.
+     * @param b Second factor.
+     * @param product Product of the factors (a * b).
+     * @return the low part of the product.
+     */
+    public static double twoProductLow(double a, double b, double product) {
+        return Intrinsics.productLow(a, b, product);
+    }
+
+    /**
+     * Creates a number. If the high part is not finite the result is the
+     * standard precision result {@code c}, and the low part is zero.
+     *
+     * @param c Standard precision result.
+     * @param x High part.
+     * @param xx Low part.
+     * @return the number.
+     */
+    private static DD create(double c, double x, double xx) {
+        return Double.isFinite(x) ? new DD(x, xx) : new DD(c, 0);
+    }
+
+    /**
+     * Stores a number. If the high part is not finite the result is the
+     * standard precision result {@code c}, and the low part is zero.
+     *
+     * @param c Standard precision result.
+     * @param x High part.
+     * @param xx Low part.
+     * @param z Array in which to store the number.
+     * @return {@code z}.
+     */
+    private static double[] store(double c, double x, double xx, double[] z) {
+        if (Double.isFinite(x)) {
+            z[0] = x;
+            z[1] = xx;
+        } else {
+            z[0] = c;
+            z[1] = 0;
+        }
+        return z;
+    }
+
+    /**
+     * Converts this number to a {@code BigDecimal}. The conversion is exact.
+     *
+     * @return the number as a {@code BigDecimal}.
+     * @throws NumberFormatException if the number is not finite.
+     */
+    public BigDecimal bigDecimalValue() {
+        return new BigDecimal(x).add(new BigDecimal(xx));
+    }
+
+    /**
+     * Gets the number as a {@code double}, i.e. {@code hi() + lo()}.
+     *
+     * @return the number as a {@code double}.
+     */
+    @Override
+    public double doubleValue() {
+        return x + xx;
+    }
+
+    /**
+     * Gets the number as a {@code float}.
+     *
+     * @return the number as a {@code float}.
+     */
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    /**
+     * Gets the number as an {@code int}, rounding towards zero. Values outside
+     * the range of an {@code int} are clipped; {@code NaN} is converted to zero.
+     *
+     * @return the number as an {@code int}.
+     */
+    @Override
+    public int intValue() {
+        final long v = longValue();
+        if (v > Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        return v < Integer.MIN_VALUE ? Integer.MIN_VALUE : (int) v;
+    }
+
+    /**
+     * Gets the number as a {@code long}, rounding towards zero. Values outside
+     * the range of a {@code long} are clipped; {@code NaN} is converted to zero.
+     *
+     * @return the number as a {@code long}.
+     */
+    @Override
+    public long longValue() {
+        final double h = Math.rint(x);
+        if (h != x || xx == 0) {
+            // The high part is not an integer (so the low part cannot change the
+            // truncated value), or the low part is zero.
+            return (long) x;
+        }
+        if (x >= TWO_POW_63) {
+            // Representable only if x == 2^63 and the low part is negative
+            if (x == TWO_POW_63 && xx < 0) {
+                // 2^63 + floor(xx) using overflow of the long
+                return Long.MIN_VALUE + (long) Math.floor(xx);
+            }
+            return Long.MAX_VALUE;
+        }
+        if (x <= -TWO_POW_63) {
+            // Representable only if x == -2^63 and the low part is positive
+            if (x == -TWO_POW_63 && xx > 0) {
+                return Long.MIN_VALUE + (long) Math.ceil(xx);
+            }
+            return Long.MIN_VALUE;
+        }
+        // x is an integer in (-2^63, 2^63): x + xx truncated towards zero
+        return x > 0 ?
+            (long) x + (long) Math.floor(xx) :
+            (long) x + (long) Math.ceil(xx);
+    }
+
+    /**
+     * Compares this number with the specified number using the order
+     * of {@link Double#compare(double, double)} on the high parts, then
+     * on the low parts.
+     *
+     * @param other Number.
+     * @return a negative integer, zero, or a positive integer as this number is
+     * less than, equal to, or greater than {@code other}.
+     */
+    @Override
+    public int compareTo(DD other) {
+        final int c = Double.compare(x, other.x);
+        return c != 0 ? c : Double.compare(xx, other.xx);
+    }
+
+    /**
+     * Test for equality with another object. If the other object is a {@code DD} then
+     * the high and low parts are compared using {@link Double#equals(Object)} semantics;
+     * otherwise {@code false} is returned.
+     *
+     * @param other Object.
+     * @return {@code true} if the objects are equal.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof DD) {
+            final DD rhs = (DD) other;
+            return Double.doubleToLongBits(x) == Double.doubleToLongBits(rhs.x) &&
+                   Double.doubleToLongBits(xx) == Double.doubleToLongBits(rhs.xx);
+        }
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(x) + Double.hashCode(xx);
+    }
+
+    /**
+     * Returns a string representation of the number in the format
+     * {@code (hi,lo)}.
+     *
+     * @return a string representation of the number.
+     */
+    @Override
+    public String toString() {
+        return "(" + x + "," + xx + ")";
+    }
+}
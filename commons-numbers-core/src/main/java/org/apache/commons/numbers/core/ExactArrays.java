@@ -0,0 +1,451 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.math.BigInteger;
+
+/**
+ * Overflow-checked arithmetic on {@code int} and {@code long} arrays.
+ *
+ * <p>The element-wise operations are equivalent to applying
+ * {@link Math#addExact(long, long)}, {@link Math#subtractExact(long, long)} or
+ * {@link Math#multiplyExact(long, long)} to each element. Overflow is recorded
+ * without a branch for each element and is checked once at the end of the array.
+ * If an overflow occurs an {@code ArithmeticException} is thrown and the content
+ * of the result array is unspecified.
+ *
+ * <p>The sums and dot products are exact. Terms are accumulated using 128-bit
+ * integer arithmetic so that intermediate overflow of a {@code long} does not
+ * change the result; {@code BigInteger} arithmetic is only used when a dot product
+ * of {@code long} values overflows 128 bits.
+ */
+public final class ExactArrays {
+    /** Message for int overflow. */
+    private static final String INT_OVERFLOW = "integer overflow";
+    /** Message for long overflow. */
+    private static final String LONG_OVERFLOW = "long overflow";
+
+    /** No instances. */
+    private ExactArrays() {}
+
+    /**
+     * Adds the corresponding elements: {@code result[i] = a[i] + b[i]}.
+     * The output array may be the same as either input array.
+     *
+     * @param a First values.
+     * @param b Second values.
+     * @param result Sums.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @throws ArithmeticException if any result overflows an {@code int}.
+     */
+    public static void add(int[] a, int[] b, int[] result) {
+        checkDimensions(a.length, b.length, result.length);
+        long overflow = 0;
+        for (int i = 0; i < a.length; i++) {
+            final long s = (long) a[i] + b[i];
+            result[i] = (int) s;
+            overflow |= s - (int) s;
+        }
+        if (overflow != 0) {
+            throw new ArithmeticException(INT_OVERFLOW);
+        }
+    }
+
+    /**
+     * Adds the corresponding elements: {@code result[i] = a[i] + b[i]}.
+     * The output array may be the same as either input array.
+     *
+     * @param a First values.
+     * @param b Second values.
+     * @param result Sums.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @throws ArithmeticException if any result overflows a {@code long}.
+     */
+    public static void add(long[] a, long[] b, long[] result) {
+        checkDimensions(a.length, b.length, result.length);
+        long overflow = 0;
+        for (int i = 0; i < a.length; i++) {
+            final long x = a[i];
+            final long y = b[i];
+            final long s = x + y;
+            result[i] = s;
+            // Overflow iff the operands have the same sign and the result has a different sign
+            overflow |= (x ^ s) & (y ^ s);
+        }
+        if (overflow < 0) {
+            throw new ArithmeticException(LONG_OVERFLOW);
+        }
+    }
+
+    /**
+     * Subtracts the corresponding elements: {@code result[i] = a[i] - b[i]}.
+     * The output array may be the same as either input array.
+     *
+     * @param a First values.
+     * @param b Second values.
+     * @param result Differences.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @throws ArithmeticException if any result overflows an {@code int}.
+     */
+    public static void subtract(int[] a, int[] b, int[] result) {
+        checkDimensions(a.length, b.length, result.length);
+        long overflow = 0;
+        for (int i = 0; i < a.length; i++) {
+            final long s = (long) a[i] - b[i];
+            result[i] = (int) s;
+            overflow |= s - (int) s;
+        }
+        if (overflow != 0) {
+            throw new ArithmeticException(INT_OVERFLOW);
+        }
+    }
+
+    /**
+     * Subtracts the corresponding elements: {@code result[i] = a[i] - b[i]}.
+     * The output array may be the same as either input array.
+     *
+     * @param a First values.
+     * @param b Second values.
+     * @param result Differences.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @throws ArithmeticException if any result overflows a {@code long}.
+     */
+    public static void subtract(long[] a, long[] b, long[] result) {
+        checkDimensions(a.length, b.length, result.length);
+        long overflow = 0;
+        for (int i = 0; i < a.length; i++) {
+            final long x = a[i];
+            final long y = b[i];
+            final long s = x - y;
+            result[i] = s;
+            // Overflow iff the operands have different signs and the result
+            // has a different sign from the first operand
+            overflow |= (x ^ y) & (x ^ s);
+        }
+        if (overflow < 0) {
+            throw new ArithmeticException(LONG_OVERFLOW);
+        }
+    }
+
+    /**
+     * Multiplies the corresponding elements: {@code result[i] = a[i] * b[i]}.
+     * The output array may be the same as either input array.
+     *
+     * @param a First values.
+     * @param b Second values.
+     * @param result Products.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @throws ArithmeticException if any result overflows an {@code int}.
+     */
+    public static void multiply(int[] a, int[] b, int[] result) {
+        checkDimensions(a.length, b.length, result.length);
+        long overflow = 0;
+        for (int i = 0; i < a.length; i++) {
+            final long p = (long) a[i] * b[i];
+            result[i] = (int) p;
+            overflow |= p - (int) p;
+        }
+        if (overflow != 0) {
+            throw new ArithmeticException(INT_OVERFLOW);
+        }
+    }
+
+    /**
+     * Multiplies the corresponding elements: {@code result[i] = a[i] * b[i]}.
+     * The output array may be the same as either input array.
+     *
+     * @param a First values.
+     * @param b Second values.
+     * @param result Products.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @throws ArithmeticException if any result overflows a {@code long}.
+     */
+    public static void multiply(long[] a, long[] b, long[] result) {
+        checkDimensions(a.length, b.length, result.length);
+        long overflow = 0;
+        for (int i = 0; i < a.length; i++) {
+            final long x = a[i];
+            final long y = b[i];
+            final long lo = x * y;
+            result[i] = lo;
+            // The high part of the 128-bit product must be the sign extension of the low part
+            overflow |= Intrinsics.multiplyHigh(x, y) ^ (lo >> 63);
+        }
+        if (overflow != 0) {
+            throw new ArithmeticException(LONG_OVERFLOW);
+        }
+    }
+
+    /**
+     * Computes the sum of the values. The sum cannot overflow.
+     *
+     * @param x Values.
+     * @return the sum
+     */
+    public static long sum(int[] x) {
+        // Maximum magnitude is 2^31 * 2^31
+        long s = 0;
+        for (final int v : x) {
+            s += v;
+        }
+        return s;
+    }
+
+    /**
+     * Computes the exact sum of the values.
+     *
+     * <p>Intermediate overflow does not cause an exception; only the final
+     * sum must be representable as a {@code long}.
+     *
+     * @param x Values.
+     * @return the sum
+     * @throws ArithmeticException if the sum overflows a {@code long}.
+     * @see #bigSum(long[])
+     */
+    public static long sum(long[] x) {
+        long hi = 0;
+        long lo = 0;
+        for (final long v : x) {
+            final long s = lo + v;
+            hi += (v >> 63) + carry(lo, v, s);
+            lo = s;
+        }
+        return toLongExact(hi, lo);
+    }
+
+    /**
+     * Computes the exact sum of the values.
+     *
+     * @param x Values.
+     * @return the sum
+     */
+    public static BigInteger bigSum(long[] x) {
+        // The 128-bit accumulator cannot overflow for fewer than 2^63 terms
+        long hi = 0;
+        long lo = 0;
+        for (final long v : x) {
+            final long s = lo + v;
+            hi += (v >> 63) + carry(lo, v, s);
+            lo = s;
+        }
+        return toBigInteger(hi, lo);
+    }
+
+    /**
+     * Computes the exact dot product of the values.
+     *
+     * <p>Intermediate overflow does not cause an exception; only the final
+     * sum must be representable as a {@code long}.
+     *
+     * @param a First values.
+     * @param b Second values.
+     * @return the dot product
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @throws ArithmeticException if the dot product overflows a {@code long}.
+     * @see #bigDot(int[], int[])
+     */
+    public static long dot(int[] a, int[] b) {
+        checkDimensions(a.length, b.length);
+        long hi = 0;
+        long lo = 0;
+        for (int i = 0; i < a.length; i++) {
+            // Product cannot overflow
+            final long v = (long) a[i] * b[i];
+            final long s = lo + v;
+            hi += (v >> 63) + carry(lo, v, s);
+            lo = s;
+        }
+        return toLongExact(hi, lo);
+    }
+
+    /**
+     * Computes the exact dot product of the values.
+     *
+     * @param a First values.
+     * @param b Second values.
+     * @return the dot product
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     */
+    public static BigInteger bigDot(int[] a, int[] b) {
+        checkDimensions(a.length, b.length);
+        // The 128-bit accumulator cannot overflow for fewer than 2^63 terms
+        long hi = 0;
+        long lo = 0;
+        for (int i = 0; i < a.length; i++) {
+            final long v = (long) a[i] * b[i];
+            final long s = lo + v;
+            hi += (v >> 63) + carry(lo, v, s);
+            lo = s;
+        }
+        return toBigInteger(hi, lo);
+    }
+
+    /**
+     * Computes the exact dot product of the values.
+     *
+     * <p>Intermediate overflow does not cause an exception; only the final
+     * sum must be representable as a {@code long}.
+     *
+     * @param a First values.
+     * @param b Second values.
+     * @return the dot product
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @throws ArithmeticException if the dot product overflows a {@code long}.
+     * @see #bigDot(long[], long[])
+     */
+    public static long dot(long[] a, long[] b) {
+        checkDimensions(a.length, b.length);
+        long hi = 0;
+        long lo = 0;
+        long overflow = 0;
+        for (int i = 0; i < a.length; i++) {
+            final long x = a[i];
+            final long y = b[i];
+            final long v = x * y;
+            final long s = lo + v;
+            // Magnitude of the high part of the product is at most 2^62: t cannot overflow
+            final long t = Intrinsics.multiplyHigh(x, y) + carry(lo, v, s);
+            final long h = hi + t;
+            overflow |= (hi ^ h) & (t ^ h);
+            hi = h;
+            lo = s;
+        }
+        if (overflow < 0) {
+            final BigInteger dot = dotBigInteger(a, b);
+            if (dot.bitLength() >= Long.SIZE) {
+                throw new ArithmeticException(LONG_OVERFLOW);
+            }
+            return dot.longValue();
+        }
+        return toLongExact(hi, lo);
+    }
+
+    /**
+     * Computes the exact dot product of the values.
+     *
+     * <p>The products are summed using 128-bit arithmetic. If the sum overflows
+     * 128 bits then the dot product is recomputed using {@code BigInteger}.
+     *
+     * @param a First values.
+     * @param b Second values.
+     * @return the dot product
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     */
+    public static BigInteger bigDot(long[] a, long[] b) {
+        checkDimensions(a.length, b.length);
+        long hi = 0;
+        long lo = 0;
+        long overflow = 0;
+        for (int i = 0; i < a.length; i++) {
+            final long x = a[i];
+            final long y = b[i];
+            final long v = x * y;
+            final long s = lo + v;
+            final long t = Intrinsics.multiplyHigh(x, y) + carry(lo, v, s);
+            final long h = hi + t;
+            overflow |= (hi ^ h) & (t ^ h);
+            hi = h;
+            lo = s;
+        }
+        if (overflow < 0) {
+            return dotBigInteger(a, b);
+        }
+        return toBigInteger(hi, lo);
+    }
+
+    /**
+     * Computes the dot product of the values using {@code BigInteger}.
+     *
+     * @param a First values.
+     * @param b Second values.
+     * @return the dot product
+     */
+    private static BigInteger dotBigInteger(long[] a, long[] b) {
+        BigInteger sum = BigInteger.ZERO;
+        for (int i = 0; i < a.length; i++) {
+            sum = sum.add(BigInteger.valueOf(a[i]).multiply(BigInteger.valueOf(b[i])));
+        }
+        return sum;
+    }
+
+    /**
+     * Compute the unsigned carry from the addition {@code s = a + b}.
+     *
+     * @param a First value.
+     * @param b Second value.
+     * @param s Sum.
+     * @return the carry (0 or 1)
+     */
+    private static long carry(long a, long b, long s) {
+        // Carry if both top bits are set, or either is set and the top bit of the sum is not
+        return ((a & b) | ((a | b) & ~s)) >>> 63;
+    }
+
+    /**
+     * Convert the 128-bit value to a {@code long}.
+     *
+     * @param hi High 64-bits.
+     * @param lo Low 64-bits.
+     * @return the value
+     * @throws ArithmeticException if the value overflows a {@code long}.
+     */
+    private static long toLongExact(long hi, long lo) {
+        if (hi != (lo >> 63)) {
+            throw new ArithmeticException(LONG_OVERFLOW);
+        }
+        return lo;
+    }
+
+    /**
+     * Convert the 128-bit value to a {@code BigInteger}.
+     *
+     * @param hi High 64-bits.
+     * @param lo Low 64-bits.
+     * @return the value
+     */
+    private static BigInteger toBigInteger(long hi, long lo) {
+        return hi == (lo >> 63) ?
+            BigInteger.valueOf(lo) :
+            Int128.of(hi, lo).toBigInteger();
+    }
+
+    /**
+     * Check the array lengths are equal.
+     *
+     * @param length1 First length.
+     * @param length2 Second length.
+     * @param length3 Third length.
+     * @throws IllegalArgumentException if the lengths are different.
+     */
+    private static void checkDimensions(int length1, int length2, int length3) {
+        checkDimensions(length1, length2);
+        checkDimensions(length1, length3);
+    }
+
+    /**
+     * Check the array lengths are equal.
+     *
+     * @param length1 First length.
+     * @param length2 Second length.
+     * @throws IllegalArgumentException if the lengths are different.
+     */
+    private static void checkDimensions(int length1, int length2) {
+        if (length1 != length2) {
+            throw new IllegalArgumentException("Dimension mismatch: " + length1 + " != " + length2);
+        }
+    }
+}
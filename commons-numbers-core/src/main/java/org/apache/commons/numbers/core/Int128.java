@@ -0,0 +1,510 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+
+/**
+ * A 128-bit integer.
+ *
+ * <p>The number is stored as two {@code long} values holding the high and low
+ * 64-bits of the two's complement representation. As with the primitive
+ * {@code long} the arithmetic wraps on overflow, and the same bits can be
+ * interpreted as a signed or an unsigned value: methods with the suffix
+ * {@code Unsigned} use the unsigned interpretation.
+ *
+ * <p>This supports exact computations that overflow 64-bits, for example the
+ * product of two {@code long} values, without the use of {@link BigInteger}.
+ * Comparison of two products, which is the most common use, is provided by the
+ * allocation-free method {@link #compareProducts(long, long, long, long)}.
+ *
+ * <p>This class is immutable.
+ */
+public final class Int128
+    extends Number
+    implements Comparable<Int128>,
+               Serializable {
+    /** A 128-bit integer representing "0". */
+    public static final Int128 ZERO = new Int128(0, 0);
+
+    /** A 128-bit integer representing "1". */
+    public static final Int128 ONE = new Int128(0, 1);
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261019L;
+
+    /** Division by zero exception message. */
+    private static final String DIVIDE_BY_ZERO = "/ by zero";
+
+    /** The high 64-bits. */
+    private final long hi;
+
+    /** The low 64-bits. */
+    private final long lo;
+
+    /**
+     * Private constructor: Instances are created using factory methods.
+     *
+     * @param hi High 64-bits.
+     * @param lo Low 64-bits.
+     */
+    private Int128(long hi, long lo) {
+        this.hi = hi;
+        this.lo = lo;
+    }
+
+    /**
+     * Creates the 128-bit integer equal to {@code x}.
+     *
+     * @param x Value.
+     * @return the 128-bit integer.
+     */
+    public static Int128 of(long x) {
+        return new Int128(x >> 63, x);
+    }
+
+    /**
+     * Creates the 128-bit integer from the two's complement high and low 64-bits.
+     *
+     * @param hi High 64-bits.
+     * @param lo Low 64-bits.
+     * @return the 128-bit integer.
+     */
+    public static Int128 of(long hi, long lo) {
+        return new Int128(hi, lo);
+    }
+
+    /**
+     * Creates the 128-bit integer equal to {@code x} interpreted as an
+     * unsigned value.
+     *
+     * @param x Value.
+     * @return the 128-bit integer.
+     */
+    public static Int128 ofUnsigned(long x) {
+        return new Int128(0, x);
+    }
+
+    /**
+     * Creates the 128-bit integer equal to the exact product {@code a * b}.
+     *
+     * @param a First value.
+     * @param b Second value.
+     * @return the product.
+     */
+    public static Int128 ofProduct(long a, long b) {
+        return new Int128(Intrinsics.multiplyHigh(a, b), a * b);
+    }
+
+    /**
+     * Creates the 128-bit integer equal to the exact product {@code a * b}
+     * where each argument is interpreted as an unsigned value.
+     * The result should be interpreted as an unsigned value.
+     *
+     * @param a First value.
+     * @param b Second value.
+     * @return the product.
+     */
+    public static Int128 ofProductUnsigned(long a, long b) {
+        return new Int128(ArithmeticUtils.multiplyHighUnsigned(a, b), a * b);
+    }
+
+    /**
+     * Compares the exact products {@code a * b} and {@code c * d}.
+     *
+     * <p>This method does not allocate.
+     *
+     * @param a First factor of the first product.
+     * @param b Second factor of the first product.
+     * @param c First factor of the second product.
+     * @param d Second factor of the second product.
+     * @return a negative integer, zero, or a positive integer as the first
+     * product is less than, equal to, or greater than the second product.
+     */
+    public static int compareProducts(long a, long b, long c, long d) {
+        final int cmp = Long.compare(Intrinsics.multiplyHigh(a, b), Intrinsics.multiplyHigh(c, d));
+        return cmp != 0 ? cmp : Long.compareUnsigned(a * b, c * d);
+    }
+
+    /**
+     * Compares two 128-bit integers where each is interpreted as an unsigned value.
+     *
+     * @param x First value.
+     * @param y Second value.
+     * @return a negative integer, zero, or a positive integer as {@code x} is
+     * less than, equal to, or greater than {@code y}.
+     */
+    public static int compareUnsigned(Int128 x, Int128 y) {
+        final int cmp = Long.compareUnsigned(x.hi, y.hi);
+        return cmp != 0 ? cmp : Long.compareUnsigned(x.lo, y.lo);
+    }
+
+    /**
+     * Gets the high 64-bits of the two's complement representation.
+     *
+     * @return the high part.
+     */
+    public long hi() {
+        return hi;
+    }
+
+    /**
+     * Gets the low 64-bits of the two's complement representation.
+     *
+     * @return the low part.
+     */
+    public long lo() {
+        return lo;
+    }
+
+    /**
+     * Returns the signum function of this number.
+     *
+     * @return -1, 0, or 1 as the value of this number is negative, zero, or positive.
+     */
+    public int signum() {
+        return hi < 0 ? -1 : (hi | lo) == 0 ? 0 : 1;
+    }
+
+    /**
+     * Returns a number whose value is {@code (this + y)}.
+     *
+     * @param y Value to add.
+     * @return the sum.
+     */
+    public Int128 add(long y) {
+        final long s = lo + y;
+        // Carry out of the low part, and sign extension of y
+        final long carry = Long.compareUnsigned(s, lo) < 0 ? 1 : 0;
+        return new Int128(hi + (y >> 63) + carry, s);
+    }
+
+    /**
+     * Returns a number whose value is {@code (this + y)}.
+     *
+     * @param y Value to add.
+     * @return the sum.
+     */
+    public Int128 add(Int128 y) {
+        final long s = lo + y.lo;
+        final long carry = Long.compareUnsigned(s, lo) < 0 ? 1 : 0;
+        return new Int128(hi + y.hi + carry, s);
+    }
+
+    /**
+     * Returns a number whose value is {@code (this - y)}.
+     *
+     * @param y Value to subtract.
+     * @return the difference.
+     */
+    public Int128 subtract(Int128 y) {
+        final long s = lo - y.lo;
+        final long borrow = Long.compareUnsigned(lo, y.lo) < 0 ? 1 : 0;
+        return new Int128(hi - y.hi - borrow, s);
+    }
+
+    /**
+     * Returns a number whose value is {@code -this}.
+     *
+     * @return the negation.
+     */
+    public Int128 negate() {
+        return new Int128(lo == 0 ? -hi : ~hi, -lo);
+    }
+
+    /**
+     * Returns a number whose value is the absolute value of this number.
+     * As for {@link Math#abs(long)} the minimum value is returned unchanged.
+     *
+     * @return the absolute value.
+     */
+    public Int128 abs() {
+        return hi < 0 ? negate() : this;
+    }
+
+    /**
+     * Returns a number whose value is {@code (this * y)}. Only the low
+     * 128-bits of the product are retained.
+     *
+     * @param y Value to multiply by.
+     * @return the product.
+     */
+    public Int128 multiply(long y) {
+        // (hi * 2^64 + lo) * (yh * 2^64 + y) mod 2^128 with yh = y >> 63
+        final long h = ArithmeticUtils.multiplyHighUnsigned(lo, y) + hi * y + lo * (y >> 63);
+        return new Int128(h, lo * y);
+    }
+
+    /**
+     * Returns a number whose value is {@code (this / d)} rounded towards zero.
+     * As for the {@code long} operator the minimum value divided by -1 returns
+     * the minimum value.
+     *
+     * @param d Divisor.
+     * @return the quotient.
+     * @throws ArithmeticException if {@code d == 0}.
+     */
+    public Int128 divide(long d) {
+        final Int128 q = abs().divideUnsigned(d < 0 ? -d : d);
+        return (hi ^ d) < 0 ? q.negate() : q;
+    }
+
+    /**
+     * Returns the remainder of {@code (this / d)} rounded towards zero.
+     * The remainder has the sign of this number.
+     *
+     * @param d Divisor.
+     * @return the remainder.
+     * @throws ArithmeticException if {@code d == 0}.
+     */
+    public long remainder(long d) {
+        final long r = abs().remainderUnsigned(d < 0 ? -d : d);
+        return hi < 0 ? -r : r;
+    }
+
+    /**
+     * Returns the quotient of {@code (this / d)} where each argument is interpreted
+     * as an unsigned value.
+     *
+     * @param d Divisor.
+     * @return the quotient.
+     * @throws ArithmeticException if {@code d == 0}.
+     */
+    public Int128 divideUnsigned(long d) {
+        if (d == 0) {
+            throw new ArithmeticException(DIVIDE_BY_ZERO);
+        }
+        final long qh = Long.divideUnsigned(hi, d);
+        final long rh = hi - qh * d;
+        return new Int128(qh, ModularArithmetic.divideUnsigned(rh, lo, d));
+    }
+
+    /**
+     * Returns the remainder of {@code (this / d)} where each argument is interpreted
+     * as an unsigned value.
+     *
+     * @param d Divisor.
+     * @return the remainder (unsigned).
+     * @throws ArithmeticException if {@code d == 0}.
+     */
+    public long remainderUnsigned(long d) {
+        if (d == 0) {
+            throw new ArithmeticException(DIVIDE_BY_ZERO);
+        }
+        final long rh = Long.remainderUnsigned(hi, d);
+        return lo - ModularArithmetic.divideUnsigned(rh, lo, d) * d;
+    }
+
+    /**
+     * Computes the greatest common divisor of the absolute value of this number
+     * and the absolute value of {@code d}.
+     *
+     * <p>The special cases follow {@link ArithmeticUtils#gcd(long, long)}:
+     * {@code gcd(0, 0)} is 0 and an exception is raised if the result cannot be
+     * represented as a non-negative {@code long}.
+     *
+     * @param d Value.
+     * @return the greatest common divisor, never negative.
+     * @throws ArithmeticException if the result cannot be represented as
+     * a non-negative {@code long} value.
+     */
+    public long gcd(long d) {
+        if (d == 0) {
+            return ArithmeticUtils.gcd(longValueExact(), 0);
+        }
+        // gcd(a, d) = gcd(d, a mod d); the remainder is less than 2^63
+        return ArithmeticUtils.gcd(d, abs().remainderUnsigned(d < 0 ? -d : d));
+    }
+
+    /**
+     * Returns {@code true} if the value can be represented as a {@code long}.
+     *
+     * @return {@code true} if {@link #longValueExact()} will not throw
+     */
+    public boolean isLong() {
+        return hi == lo >> 63;
+    }
+
+    /**
+     * Converts this number to a {@code long}, checking for lost information.
+     *
+     * @return the value as a {@code long}
+     * @throws ArithmeticException if the value cannot be represented as a {@code long}.
+     */
+    public long longValueExact() {
+        if (!isLong()) {
+            throw new ArithmeticException("long overflow");
+        }
+        return lo;
+    }
+
+    /**
+     * Converts this number to a {@link BigInteger}.
+     *
+     * @return the value
+     */
+    public BigInteger toBigInteger() {
+        return BigInteger.valueOf(hi).shiftLeft(Long.SIZE)
+            .add(BigInteger.valueOf(lo >>> 1).shiftLeft(1))
+            .add(BigInteger.valueOf(lo & 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This returns the low 32-bits.
+     */
+    @Override
+    public int intValue() {
+        return (int) lo;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This returns the low 64-bits.
+     */
+    @Override
+    public long longValue() {
+        return lo;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The conversion is correctly rounded.
+     */
+    @Override
+    public float floatValue() {
+        if (isLong()) {
+            return lo;
+        }
+        // Conversion via a double would round twice. Use the same method as
+        // doubleValue to round once to 24-bits.
+        final Int128 a = abs();
+        final long h = a.hi;
+        final long l = a.lo;
+        if (h == 0) {
+            return unsignedToFloat(l) * (hi < 0 ? -1 : 1);
+        }
+        final int n = Long.SIZE - Long.numberOfLeadingZeros(h);
+        final long sticky = (l << (Long.SIZE - n)) != 0 ? 1 : 0;
+        final long top = (h << (Long.SIZE - n)) | (n == Long.SIZE ? 0 : l >>> n) | sticky;
+        // Exact scaling by 2^n
+        final float v = unsignedToFloat(top) * Math.scalb(1.0f, n);
+        return hi < 0 ? -v : v;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The conversion is correctly rounded.
+     */
+    @Override
+    public double doubleValue() {
+        if (isLong()) {
+            return lo;
+        }
+        final Int128 a = abs();
+        // Magnitude is at least 2^63. Take the top 64-bits with a sticky bit
+        // for the discarded bits to ensure correct rounding to 53-bits.
+        final long h = a.hi;
+        final long l = a.lo;
+        if (h == 0) {
+            return unsignedToDouble(l) * (hi < 0 ? -1 : 1);
+        }
+        final int n = Long.SIZE - Long.numberOfLeadingZeros(h);
+        final long sticky = (l << (Long.SIZE - n)) != 0 ? 1 : 0;
+        final long top = (h << (Long.SIZE - n)) | (n == Long.SIZE ? 0 : l >>> n) | sticky;
+        // Exact scaling by 2^n
+        final double v = unsignedToDouble(top) * Math.scalb(1.0, n);
+        return hi < 0 ? -v : v;
+    }
+
+    /**
+     * Convert the unsigned value to a double with correct rounding.
+     *
+     * @param x Value.
+     * @return the double value
+     */
+    private static double unsignedToDouble(long x) {
+        if (x >= 0) {
+            return x;
+        }
+        // Halve with a sticky bit: the 63-bit value has 10 bits below the
+        // 53-bit significand so rounding is unchanged
+        return ((double) ((x >>> 1) | (x & 1))) * 2;
+    }
+
+    /**
+     * Convert the unsigned value to a float with correct rounding.
+     *
+     * @param x Value.
+     * @return the float value
+     */
+    private static float unsignedToFloat(long x) {
+        if (x >= 0) {
+            return x;
+        }
+        // Halve with a sticky bit: the 63-bit value has 39 bits below the
+        // 24-bit significand so rounding is unchanged
+        return ((float) ((x >>> 1) | (x & 1))) * 2;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int compareTo(Int128 other) {
+        final int cmp = Long.compare(hi, other.hi);
+        return cmp != 0 ? cmp : Long.compareUnsigned(lo, other.lo);
+    }
+
+    /**
+     * Test for equality with another object. If the other object is an {@code Int128}
+     * then the high and low parts are compared; otherwise {@code false} is returned.
+     *
+     * @param other Object.
+     * @return {@code true} if the objects are equal.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof Int128) {
+            final Int128 rhs = (Int128) other;
+            return hi == rhs.hi && lo == rhs.lo;
+        }
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(hi) + Long.hashCode(lo);
+    }
+
+    /**
+     * Returns the decimal string representation of the signed value.
+     *
+     * @return a string representation of the number.
+     */
+    @Override
+    public String toString() {
+        return isLong() ? Long.toString(lo) : toBigInteger().toString();
+    }
+}
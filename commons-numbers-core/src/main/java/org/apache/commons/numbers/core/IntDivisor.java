@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+/**
+ * Division by an invariant {@code int} divisor using multiplication.
+ *
+ * <p>A magic multiplier is precomputed for the divisor so that each division
+ * is performed using a 64-bit multiplication, an addition and shifts. This is
+ * faster than hardware division when the same divisor is used repeatedly.
+ *
+ * <p>The divisor is interpreted as a signed value by {@link #divide(int)} and
+ * {@link #remainder(int)}, and as an unsigned value by {@link #divideUnsigned(int)}
+ * and {@link #remainderUnsigned(int)}. The results are identical to the
+ * corresponding operators and methods of {@link Integer}.
+ *
+ * <p>The method uses the round-up variant of the algorithm described in:
+ * <blockquote>
+ * Granlund, T. and Montgomery, P.L. (1994)
+ * Division by invariant integers using multiplication.
+ * Proceedings of the ACM SIGPLAN 1994 Conference on Programming Language
+ * Design and Implementation, pp 61-72.
+ * </blockquote>
+ *
+ * <p>This class is immutable and thread-safe.
+ *
+ * @see LongDivisor
+ */
+public final class IntDivisor {
+    /** Mask for the lower 32-bits of a long. */
+    private static final long MASK32 = 0xffffffffL;
+
+    /** The divisor. */
+    private final int d;
+    /** The magic multiplier for the unsigned divisor. */
+    private final long unsignedMagic;
+    /** The first shift for the unsigned divisor. */
+    private final int unsignedShift1;
+    /** The second shift for the unsigned divisor. */
+    private final int unsignedShift2;
+    /** The magic multiplier for the magnitude of the signed divisor. */
+    private final long signedMagic;
+    /** The first shift for the magnitude of the signed divisor. */
+    private final int signedShift1;
+    /** The second shift for the magnitude of the signed divisor. */
+    private final int signedShift2;
+
+    /**
+     * @param d Divisor.
+     */
+    private IntDivisor(int d) {
+        this.d = d;
+        final long unsigned = d & MASK32;
+        unsignedMagic = magic(unsigned);
+        unsignedShift1 = shift1(unsigned);
+        unsignedShift2 = shift2(unsigned);
+        final long abs = Math.abs((long) d);
+        signedMagic = magic(abs);
+        signedShift1 = shift1(abs);
+        signedShift2 = shift2(abs);
+    }
+
+    /**
+     * Create an instance.
+     *
+     * @param d Divisor.
+     * @return the divisor
+     * @throws ArithmeticException if {@code d == 0}.
+     */
+    public static IntDivisor of(int d) {
+        if (d == 0) {
+            throw new ArithmeticException("/ by zero");
+        }
+        return new IntDivisor(d);
+    }
+
+    /**
+     * Gets the divisor.
+     *
+     * @return the divisor
+     */
+    public int getDivisor() {
+        return d;
+    }
+
+    /**
+     * Returns the quotient of dividing the argument by the divisor.
+     * This is equal to {@code n / d}.
+     *
+     * @param n Dividend.
+     * @return the quotient
+     */
+    public int divide(int n) {
+        // Divide the magnitudes and apply the sign
+        final int q = (int) divideUnsigned(Math.abs((long) n), signedMagic, signedShift1, signedShift2);
+        final int sq = (n ^ d) >> 31;
+        return (q ^ sq) - sq;
+    }
+
+    /**
+     * Returns the remainder of dividing the argument by the divisor.
+     * This is equal to {@code n % d}.
+     *
+     * @param n Dividend.
+     * @return the remainder
+     */
+    public int remainder(int n) {
+        return n - divide(n) * d;
+    }
+
+    /**
+     * Returns the quotient of dividing the argument by the divisor where each
+     * argument is interpreted as an unsigned value.
+     * This is equal to {@link Integer#divideUnsigned(int, int) Integer.divideUnsigned(n, d)}.
+     *
+     * @param n Dividend.
+     * @return the quotient
+     * @see ArithmeticUtils#divideUnsigned(int, int)
+     */
+    public int divideUnsigned(int n) {
+        return (int) divideUnsigned(n & MASK32, unsignedMagic, unsignedShift1, unsignedShift2);
+    }
+
+    /**
+     * Returns the remainder of dividing the argument by the divisor where each
+     * argument is interpreted as an unsigned value.
+     * This is equal to {@link Integer#remainderUnsigned(int, int) Integer.remainderUnsigned(n, d)}.
+     *
+     * @param n Dividend.
+     * @return the remainder
+     * @see ArithmeticUtils#remainderUnsigned(int, int)
+     */
+    public int remainderUnsigned(int n) {
+        return n - (int) divideUnsigned(n & MASK32, unsignedMagic, unsignedShift1, unsignedShift2) * d;
+    }
+
+    /**
+     * Divides each value by the divisor.
+     * The output array may be the same as the input array.
+     *
+     * @param n Dividends.
+     * @param result Quotients.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @see #divide(int)
+     */
+    public void divide(int[] n, int[] result) {
+        checkDimensions(n.length, result.length);
+        for (int i = 0; i < n.length; i++) {
+            result[i] = divide(n[i]);
+        }
+    }
+
+    /**
+     * Computes the remainder of each value divided by the divisor.
+     * The output array may be the same as the input array.
+     *
+     * @param n Dividends.
+     * @param result Remainders.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @see #remainder(int)
+     */
+    public void remainder(int[] n, int[] result) {
+        checkDimensions(n.length, result.length);
+        for (int i = 0; i < n.length; i++) {
+            result[i] = remainder(n[i]);
+        }
+    }
+
+    /**
+     * Divides each unsigned value by the unsigned divisor.
+     * The output array may be the same as the input array.
+     *
+     * @param n Dividends.
+     * @param result Quotients.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @see #divideUnsigned(int)
+     */
+    public void divideUnsigned(int[] n, int[] result) {
+        checkDimensions(n.length, result.length);
+        for (int i = 0; i < n.length; i++) {
+            result[i] = divideUnsigned(n[i]);
+        }
+    }
+
+    /**
+     * Computes the remainder of each unsigned value divided by the unsigned divisor.
+     * The output array may be the same as the input array.
+     *
+     * @param n Dividends.
+     * @param result Remainders.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @see #remainderUnsigned(int)
+     */
+    public void remainderUnsigned(int[] n, int[] result) {
+        checkDimensions(n.length, result.length);
+        for (int i = 0; i < n.length; i++) {
+            result[i] = remainderUnsigned(n[i]);
+        }
+    }
+
+    /**
+     * Divide using the magic multiplier.
+     *
+     * @param n Dividend (in {@code [0, 2^32)}).
+     * @param m Magic multiplier (in {@code [0, 2^32]}).
+     * @param sh1 First shift.
+     * @param sh2 Second shift.
+     * @return the quotient
+     */
+    private static long divideUnsigned(long n, long m, int sh1, int sh2) {
+        // High 32-bits of the product (which is below 2^64)
+        final long t = (m * n) >>> 32;
+        return (t + ((n - t) >>> sh1)) >>> sh2;
+    }
+
+    /**
+     * Compute the magic multiplier {@code floor(2^32 * (2^l - d) / d) + 1}
+     * with {@code l = ceil(log2(d))}.
+     *
+     * @param d Divisor (in {@code [1, 2^32)}).
+     * @return the multiplier
+     */
+    private static long magic(long d) {
+        // 2^l - d is less than d: the dividend is below 2^64
+        return Long.divideUnsigned(((1L << log2Ceil(d)) - d) << 32, d) + 1;
+    }
+
+    /**
+     * Compute the first shift: {@code min(l, 1)}.
+     *
+     * @param d Divisor (in {@code [1, 2^32)}).
+     * @return the shift
+     */
+    private static int shift1(long d) {
+        return Math.min(log2Ceil(d), 1);
+    }
+
+    /**
+     * Compute the second shift: {@code max(l - 1, 0)}.
+     *
+     * @param d Divisor (in {@code [1, 2^32)}).
+     * @return the shift
+     */
+    private static int shift2(long d) {
+        return Math.max(log2Ceil(d) - 1, 0);
+    }
+
+    /**
+     * Compute {@code ceil(log2(d))}.
+     *
+     * @param d Value (in {@code [1, 2^32)}).
+     * @return ceil(log2(d))
+     */
+    private static int log2Ceil(long d) {
+        return Long.SIZE - Long.numberOfLeadingZeros(d - 1);
+    }
+
+    /**
+     * Check the array lengths are equal.
+     *
+     * @param length1 First length.
+     * @param length2 Second length.
+     * @throws IllegalArgumentException if the lengths are different.
+     */
+    private static void checkDimensions(int length1, int length2) {
+        if (length1 != length2) {
+            throw new IllegalArgumentException("Dimension mismatch: " + length1 + " != " + length2);
+        }
+    }
+}
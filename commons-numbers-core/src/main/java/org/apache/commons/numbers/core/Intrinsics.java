@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+/**
+ * Low-level arithmetic kernels that have a faster implementation on recent
+ * Java runtimes.
+ *
+ * <p>This is the Java 8 implementation using only standard precision arithmetic.
+ * A multi-release JAR contains an alternative implementation for Java 9+ using
+ * {@code Math.fma} and {@code Math.multiplyHigh}. Both implementations return
+ * identical results unless the magnitude of a product is below 2<sup>-968</sup>.
+ */
+final class Intrinsics {
+    /**
+     * The multiplier used to split the double value into high and low parts. From
+     * Dekker (1971): "The constant should be chosen equal to 2^(p - p/2) + 1,
+     * where p is the number of binary digits in the mantissa". Here p is 53
+     * and the multiplier is {@code 2^27 + 1}.
+     */
+    private static final double MULTIPLIER = 1.34217729E8;
+
+    /** The upper limit above which a number may overflow during the split into a high part.
+     * Assuming the multiplier is above 2^27 and the maximum exponent is 1023 then a safe
+     * limit is a value with an exponent of (1023 - 27) = 2^996. */
+    private static final double SAFE_UPPER = 0x1.0p996;
+
+    /** The scale to use when down-scaling during a split into a high part.
+     * This must be smaller than the inverse of the multiplier and a power of 2 for exact scaling. */
+    private static final double DOWN_SCALE = 0x1.0p-30;
+
+    /** The scale to use when re-scaling during a split into a high part.
+     * This is the inverse of {@link #DOWN_SCALE}. */
+    private static final double UP_SCALE = 0x1.0p30;
+
+    /** Mask to extract the lower 32-bits from a long. */
+    private static final long LOWER_32_BITS = 0xffffffffL;
+
+    /** No instances. */
+    private Intrinsics() {}
+
+    /**
+     * Computes the low part of the exact product of {@code a} and {@code b}
+     * using Dekker's mul12 algorithm. The standard precision product must be provided.
+     *
+     * <p>The result is exact if {@code |a * b| >= 2^-968}. Below this limit the
+     * round-off may be sub-normal and the result may be inexact.
+     *
+     * <p>Special cases:
+     * <ul>
+     *  <li>If the product is sub-normal the result is 0.
+     *  <li>If the product is infinite or NaN the result is NaN.
+     * </ul>
+     *
+     * @param a First factor.
+     * @param b Second factor.
+     * @param product Product of the factors (a * b).
+     * @return the low part of the product.
+     */
+    static double productLow(double a, double b, double product) {
+        // If the number is sub-normal, inf or nan there is no round-off.
+        final double abs = Math.abs(product);
+        if (abs <= Double.MIN_NORMAL || abs > Double.MAX_VALUE || Double.isNaN(abs)) {
+            // Returns 0.0 for sub-normal product, otherwise NaN for inf/nan:
+            return product - product;
+        }
+
+        // Dekker's split using multiplication will overflow if the value is within 2^27
+        // of double max value. So we must scale down big numbers. We only have to scale
+        // the largest number as we know the product does not overflow.
+        final double absA = Math.abs(a);
+        final double absB = Math.abs(b);
+        if (absA + absB + abs >= SAFE_UPPER) {
+            if (absA > absB) {
+                return productLowUnscaled(a * DOWN_SCALE, b, product * DOWN_SCALE) * UP_SCALE;
+            }
+            return productLowUnscaled(a, b * DOWN_SCALE, product * DOWN_SCALE) * UP_SCALE;
+        }
+        return productLowUnscaled(a, b, product);
+    }
+
+    /**
+     * Computes the low part of the product without scaling.
+     *
+     * @param a First factor.
+     * @param b Second factor.
+     * @param product Product of the factors (a * b).
+     * @return the low part of the product.
+     */
+    private static double productLowUnscaled(double a, double b, double product) {
+        double c = MULTIPLIER * a;
+        final double ha = c - (c - a);
+        final double la = a - ha;
+        c = MULTIPLIER * b;
+        final double hb = c - (c - b);
+        final double lb = b - hb;
+        return la * lb - (((product - ha * hb) - la * hb) - ha * lb);
+    }
+
+    /**
+     * Returns the most significant 64 bits of the signed 128-bit product of
+     * the two arguments.
+     *
+     * @param a First value.
+     * @param b Second value.
+     * @return the high part of the product.
+     */
+    static long multiplyHigh(long a, long b) {
+        // Hacker's Delight, section 8-2: multiword multiplication using 32-bit digits.
+        final long a1 = a >> 32;
+        final long a0 = a & LOWER_32_BITS;
+        final long b1 = b >> 32;
+        final long b0 = b & LOWER_32_BITS;
+
+        final long t = a1 * b0 + ((a0 * b0) >>> 32);
+        final long w1 = (t & LOWER_32_BITS) + a0 * b1;
+        return a1 * b1 + (t >> 32) + (w1 >> 32);
+    }
+}
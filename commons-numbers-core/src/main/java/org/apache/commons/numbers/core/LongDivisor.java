@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+/**
+ * Division by an invariant {@code long} divisor using multiplication.
+ *
+ * <p>A magic multiplier is precomputed for the divisor so that each division
+ * is performed using a 128-bit multiplication, an addition and shifts. This is
+ * faster than hardware division when the same divisor is used repeatedly.
+ *
+ * <p>The divisor is interpreted as a signed value by {@link #divide(long)} and
+ * {@link #remainder(long)}, and as an unsigned value by {@link #divideUnsigned(long)}
+ * and {@link #remainderUnsigned(long)}. The results are identical to the
+ * corresponding operators and methods of {@link Long}.
+ *
+ * <p>The method uses the round-up variant of the algorithm described in:
+ * <blockquote>
+ * Granlund, T. and Montgomery, P.L. (1994)
+ * Division by invariant integers using multiplication.
+ * Proceedings of the ACM SIGPLAN 1994 Conference on Programming Language
+ * Design and Implementation, pp 61-72.
+ * </blockquote>
+ *
+ * <p>This class is immutable and thread-safe.
+ *
+ * @see IntDivisor
+ */
+public final class LongDivisor {
+    /** The divisor. */
+    private final long d;
+    /** The magic multiplier for the unsigned divisor. */
+    private final long unsignedMagic;
+    /** The first shift for the unsigned divisor. */
+    private final int unsignedShift1;
+    /** The second shift for the unsigned divisor. */
+    private final int unsignedShift2;
+    /** The magic multiplier for the magnitude of the signed divisor. */
+    private final long signedMagic;
+    /** The first shift for the magnitude of the signed divisor. */
+    private final int signedShift1;
+    /** The second shift for the magnitude of the signed divisor. */
+    private final int signedShift2;
+
+    /**
+     * @param d Divisor.
+     */
+    private LongDivisor(long d) {
+        this.d = d;
+        unsignedMagic = magic(d);
+        unsignedShift1 = shift1(d);
+        unsignedShift2 = shift2(d);
+        // Magnitude (2^63 for Long.MIN_VALUE as an unsigned value)
+        final long abs = d < 0 ? -d : d;
+        signedMagic = magic(abs);
+        signedShift1 = shift1(abs);
+        signedShift2 = shift2(abs);
+    }
+
+    /**
+     * Create an instance.
+     *
+     * @param d Divisor.
+     * @return the divisor
+     * @throws ArithmeticException if {@code d == 0}.
+     */
+    public static LongDivisor of(long d) {
+        if (d == 0) {
+            throw new ArithmeticException("/ by zero");
+        }
+        return new LongDivisor(d);
+    }
+
+    /**
+     * Gets the divisor.
+     *
+     * @return the divisor
+     */
+    public long getDivisor() {
+        return d;
+    }
+
+    /**
+     * Returns the quotient of dividing the argument by the divisor.
+     * This is equal to {@code n / d}.
+     *
+     * @param n Dividend.
+     * @return the quotient
+     */
+    public long divide(long n) {
+        // Divide the magnitudes and apply the sign
+        final long sn = n >> 63;
+        final long q = divideUnsigned((n ^ sn) - sn, signedMagic, signedShift1, signedShift2);
+        final long sq = sn ^ (d >> 63);
+        return (q ^ sq) - sq;
+    }
+
+    /**
+     * Returns the remainder of dividing the argument by the divisor.
+     * This is equal to {@code n % d}.
+     *
+     * @param n Dividend.
+     * @return the remainder
+     */
+    public long remainder(long n) {
+        return n - divide(n) * d;
+    }
+
+    /**
+     * Returns the quotient of dividing the argument by the divisor where each
+     * argument is interpreted as an unsigned value.
+     * This is equal to {@link Long#divideUnsigned(long, long) Long.divideUnsigned(n, d)}.
+     *
+     * @param n Dividend.
+     * @return the quotient
+     * @see ArithmeticUtils#divideUnsigned(long, long)
+     */
+    public long divideUnsigned(long n) {
+        return divideUnsigned(n, unsignedMagic, unsignedShift1, unsignedShift2);
+    }
+
+    /**
+     * Returns the remainder of dividing the argument by the divisor where each
+     * argument is interpreted as an unsigned value.
+     * This is equal to {@link Long#remainderUnsigned(long, long) Long.remainderUnsigned(n, d)}.
+     *
+     * @param n Dividend.
+     * @return the remainder
+     * @see ArithmeticUtils#remainderUnsigned(long, long)
+     */
+    public long remainderUnsigned(long n) {
+        return n - divideUnsigned(n, unsignedMagic, unsignedShift1, unsignedShift2) * d;
+    }
+
+    /**
+     * Divides each value by the divisor.
+     * The output array may be the same as the input array.
+     *
+     * @param n Dividends.
+     * @param result Quotients.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @see #divide(long)
+     */
+    public void divide(long[] n, long[] result) {
+        checkDimensions(n.length, result.length);
+        for (int i = 0; i < n.length; i++) {
+            result[i] = divide(n[i]);
+        }
+    }
+
+    /**
+     * Computes the remainder of each value divided by the divisor.
+     * The output array may be the same as the input array.
+     *
+     * @param n Dividends.
+     * @param result Remainders.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @see #remainder(long)
+     */
+    public void remainder(long[] n, long[] result) {
+        checkDimensions(n.length, result.length);
+        for (int i = 0; i < n.length; i++) {
+            result[i] = remainder(n[i]);
+        }
+    }
+
+    /**
+     * Divides each unsigned value by the unsigned divisor.
+     * The output array may be the same as the input array.
+     *
+     * @param n Dividends.
+     * @param result Quotients.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @see #divideUnsigned(long)
+     */
+    public void divideUnsigned(long[] n, long[] result) {
+        checkDimensions(n.length, result.length);
+        for (int i = 0; i < n.length; i++) {
+            result[i] = divideUnsigned(n[i]);
+        }
+    }
+
+    /**
+     * Computes the remainder of each unsigned value divided by the unsigned divisor.
+     * The output array may be the same as the input array.
+     *
+     * @param n Dividends.
+     * @param result Remainders.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @see #remainderUnsigned(long)
+     */
+    public void remainderUnsigned(long[] n, long[] result) {
+        checkDimensions(n.length, result.length);
+        for (int i = 0; i < n.length; i++) {
+            result[i] = remainderUnsigned(n[i]);
+        }
+    }
+
+    /**
+     * Divide using the magic multiplier.
+     *
+     * @param n Dividend (unsigned).
+     * @param m Magic multiplier.
+     * @param sh1 First shift.
+     * @param sh2 Second shift.
+     * @return the quotient (unsigned)
+     */
+    private static long divideUnsigned(long n, long m, int sh1, int sh2) {
+        // Unsigned high part of m * n
+        final long t = Intrinsics.multiplyHigh(m, n) + ((m >> 63) & n) + ((n >> 63) & m);
+        return (t + ((n - t) >>> sh1)) >>> sh2;
+    }
+
+    /**
+     * Compute the magic multiplier {@code floor(2^64 * (2^l - d) / d) + 1}
+     * with {@code l = ceil(log2(d))}.
+     *
+     * @param d Divisor (unsigned).
+     * @return the multiplier
+     */
+    private static long magic(long d) {
+        final int l = log2Ceil(d);
+        // 2^l - d is less than d: the quotient fits in 64-bits
+        final long hi = l == Long.SIZE ? -d : (1L << l) - d;
+        return ModularArithmetic.divideUnsigned(hi, 0, d) + 1;
+    }
+
+    /**
+     * Compute the first shift: {@code min(l, 1)}.
+     *
+     * @param d Divisor (unsigned).
+     * @return the shift
+     */
+    private static int shift1(long d) {
+        return Math.min(log2Ceil(d), 1);
+    }
+
+    /**
+     * Compute the second shift: {@code max(l - 1, 0)}.
+     *
+     * @param d Divisor (unsigned).
+     * @return the shift
+     */
+    private static int shift2(long d) {
+        return Math.max(log2Ceil(d) - 1, 0);
+    }
+
+    /**
+     * Compute {@code ceil(log2(d))}.
+     *
+     * @param d Value (unsigned).
+     * @return ceil(log2(d))
+     */
+    private static int log2Ceil(long d) {
+        return Long.SIZE - Long.numberOfLeadingZeros(d - 1);
+    }
+
+    /**
+     * Check the array lengths are equal.
+     *
+     * @param length1 First length.
+     * @param length2 Second length.
+     * @throws IllegalArgumentException if the lengths are different.
+     */
+    private static void checkDimensions(int length1, int length2) {
+        if (length1 != length2) {
+            throw new IllegalArgumentException("Dimension mismatch: " + length1 + " != " + length2);
+        }
+    }
+}
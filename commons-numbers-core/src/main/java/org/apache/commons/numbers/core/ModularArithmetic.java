@@ -0,0 +1,695 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+/**
+ * Modular arithmetic on {@code int} and {@code long} values without the use of
+ * {@link java.math.BigInteger}.
+ *
+ * <p>All results are in the range {@code [0, m)} for the modulus {@code m}; arguments
+ * outside this range (including negative values) are first reduced using
+ * {@link Math#floorMod(long, long)} semantics.
+ *
+ * <p>For repeated operations with a fixed modulus use a precomputed context:
+ * {@link Barrett} for an {@code int} modulus and {@link Montgomery} for an odd
+ * {@code long} modulus. These avoid the hardware division of the static methods.
+ */
+public final class ModularArithmetic {
+    /** Mask for the lower 32-bits of a long. */
+    private static final long MASK32 = 0xffffffffL;
+    /** 2^32. */
+    private static final long TWO_POW_32 = 1L << 32;
+    /** Negative exponent exception message part 1. */
+    private static final String NEGATIVE_EXPONENT_1 = "negative exponent (";
+    /** Negative exponent exception message part 2. */
+    private static final String NEGATIVE_EXPONENT_2 = ")";
+    /** Not invertible exception message part 1. */
+    private static final String NOT_INVERTIBLE_1 = "not invertible: ";
+    /** Not invertible exception message part 2. */
+    private static final String NOT_INVERTIBLE_2 = " mod ";
+    /** Dimension mismatch exception message. */
+    private static final String DIMENSION_MISMATCH = "Dimension mismatch: ";
+
+    /**
+     * Precomputed Barrett reduction for a fixed {@code int} modulus.
+     *
+     * <p>The product of two residues is less than 2<sup>62</sup> and is reduced
+     * using a multiplication by the precomputed reciprocal
+     * \( \mu = \lfloor (2^{64} - 1) / m \rfloor \) and a single correction.
+     *
+     * <p>This class is immutable and thread-safe.
+     */
+    public static final class Barrett {
+        /** The modulus. */
+        private final int m;
+        /** The reciprocal of the modulus: floor((2^64 - 1) / m) (unsigned). */
+        private final long mu;
+
+        /**
+         * @param m Modulus.
+         */
+        private Barrett(int m) {
+            this.m = m;
+            mu = Long.divideUnsigned(-1L, m);
+        }
+
+        /**
+         * Create an instance.
+         *
+         * @param m Modulus.
+         * @return the context
+         * @throws IllegalArgumentException if {@code m <= 0}.
+         */
+        public static Barrett of(int m) {
+            checkModulus(m);
+            return new Barrett(m);
+        }
+
+        /**
+         * Gets the modulus.
+         *
+         * @return the modulus
+         */
+        public int getModulus() {
+            return m;
+        }
+
+        /**
+         * Reduces the value modulo {@code m}.
+         *
+         * @param a Value.
+         * @return {@code a mod m}
+         */
+        public int mod(long a) {
+            if (a >= 0 && a < 1L << 62) {
+                return reduce(a);
+            }
+            return (int) Math.floorMod(a, m);
+        }
+
+        /**
+         * Multiplies two values modulo {@code m}.
+         *
+         * @param a First value.
+         * @param b Second value.
+         * @return {@code (a * b) mod m}
+         */
+        public int mulMod(int a, int b) {
+            return reduce((long) residue(a) * residue(b));
+        }
+
+        /**
+         * Raises a value to a power modulo {@code m}.
+         *
+         * @param a Value.
+         * @param e Exponent.
+         * @return {@code a^e mod m}
+         * @throws IllegalArgumentException if {@code e < 0}.
+         */
+        public int powMod(int a, long e) {
+            checkExponent(e);
+            return pow(residue(a), e);
+        }
+
+        /**
+         * Computes the multiplicative inverse modulo {@code m}.
+         *
+         * @param a Value.
+         * @return {@code x} such that {@code a * x mod m == 1 mod m}
+         * @throws ArithmeticException if {@code a} is not invertible.
+         */
+        public int inverseMod(int a) {
+            return (int) inverse(residue(a), m);
+        }
+
+        /**
+         * Multiplies the corresponding values modulo {@code m}.
+         * The output array may be the same as either input array.
+         *
+         * @param a First values.
+         * @param b Second values.
+         * @param result Products {@code (a[i] * b[i]) mod m}.
+         * @throws IllegalArgumentException if the sizes of the arrays are different.
+         */
+        public void mulMod(int[] a, int[] b, int[] result) {
+            checkDimensions(a.length, b.length);
+            checkDimensions(a.length, result.length);
+            for (int i = 0; i < a.length; i++) {
+                result[i] = reduce((long) residue(a[i]) * residue(b[i]));
+            }
+        }
+
+        /**
+         * Raises each value to a power modulo {@code m}.
+         * The output array may be the same as the input array.
+         *
+         * @param a Values.
+         * @param e Exponent.
+         * @param result Powers {@code a[i]^e mod m}.
+         * @throws IllegalArgumentException if {@code e < 0} or the sizes of the
+         * arrays are different.
+         */
+        public void powMod(int[] a, long e, int[] result) {
+            checkExponent(e);
+            checkDimensions(a.length, result.length);
+            for (int i = 0; i < a.length; i++) {
+                result[i] = pow(residue(a[i]), e);
+            }
+        }
+
+        /**
+         * Reduce the value to the range {@code [0, m)}.
+         *
+         * @param a Value.
+         * @return the residue
+         */
+        private int residue(int a) {
+            return a >= 0 && a < m ? a : Math.floorMod(a, m);
+        }
+
+        /**
+         * Barrett reduction.
+         *
+         * @param x Value in {@code [0, 2^62)}.
+         * @return {@code x mod m}
+         */
+        private int reduce(long x) {
+            // The estimate q is at most 1 less than floor(x / m) since
+            // x * (2^64 / m - mu) / 2^64 < x * 2 / 2^64 <= 1/2.
+            // x is positive: correct the signed high part for an unsigned mu.
+            final long q = Intrinsics.multiplyHigh(x, mu) + ((mu >> 63) & x);
+            final long r = x - q * m;
+            return (int) (r >= m ? r - m : r);
+        }
+
+        /**
+         * Raises a residue to a power.
+         *
+         * @param a Residue.
+         * @param e Exponent (must be positive or zero).
+         * @return {@code a^e mod m}
+         */
+        private int pow(int a, long e) {
+            long result = reduce(1);
+            long base = a;
+            for (long exp = e; exp != 0; exp >>>= 1) {
+                if ((exp & 0x1) != 0) {
+                    result = reduce(result * base);
+                }
+                base = reduce(base * base);
+            }
+            return (int) result;
+        }
+    }
+
+    /**
+     * Precomputed Montgomery multiplication for a fixed odd {@code long} modulus.
+     *
+     * <p>Values are represented in the Montgomery domain as \( \bar{a} = a R \bmod m \)
+     * with \( R = 2^{64} \). The Montgomery product
+     * \( \bar{a} \bar{b} R^{-1} \bmod m \) requires two 64-bit multiplications with
+     * 128-bit results and no division.
+     *
+     * <p>The domain methods {@link #toMontgomery(long)}, {@link #multiplyMontgomery(long, long)}
+     * and {@link #fromMontgomery(long)} can be used to chain many operations with a
+     * single conversion.
+     *
+     * <p>This class is immutable and thread-safe.
+     */
+    public static final class Montgomery {
+        /** The modulus. */
+        private final long m;
+        /** The inverse of the modulus modulo 2^64. */
+        private final long mInv;
+        /** R mod m: the Montgomery representation of 1. */
+        private final long r1;
+        /** R^2 mod m. */
+        private final long r2;
+
+        /**
+         * @param m Modulus.
+         */
+        private Montgomery(long m) {
+            this.m = m;
+            // Newton iteration: each step doubles the number of correct bits.
+            // m * m == 1 mod 8 provides 3 correct bits.
+            long inv = m;
+            for (int i = 0; i < 5; i++) {
+                inv *= 2 - m * inv;
+            }
+            mInv = inv;
+            // 2^64 mod m: -m is 2^64 - m as an unsigned value
+            r1 = Long.remainderUnsigned(-m, m);
+            // 2^128 mod m by doubling
+            long r = r1;
+            for (int i = 0; i < 64; i++) {
+                r = r >= m - r ? r - (m - r) : r + r;
+            }
+            r2 = r;
+        }
+
+        /**
+         * Create an instance.
+         *
+         * @param m Modulus.
+         * @return the context
+         * @throws IllegalArgumentException if {@code m} is not positive and odd.
+         */
+        public static Montgomery of(long m) {
+            if (m <= 0 || (m & 0x1) == 0) {
+                throw new IllegalArgumentException("Modulus is not positive and odd: " + m);
+            }
+            return new Montgomery(m);
+        }
+
+        /**
+         * Gets the modulus.
+         *
+         * @return the modulus
+         */
+        public long getModulus() {
+            return m;
+        }
+
+        /**
+         * Multiplies two values modulo {@code m}.
+         *
+         * @param a First value.
+         * @param b Second value.
+         * @return {@code (a * b) mod m}
+         */
+        public long mulMod(long a, long b) {
+            // (a b / R) * R^2 / R
+            return multiply(multiply(residue(a), residue(b)), r2);
+        }
+
+        /**
+         * Raises a value to a power modulo {@code m}.
+         *
+         * @param a Value.
+         * @param e Exponent.
+         * @return {@code a^e mod m}
+         * @throws IllegalArgumentException if {@code e < 0}.
+         */
+        public long powMod(long a, long e) {
+            checkExponent(e);
+            return pow(residue(a), e);
+        }
+
+        /**
+         * Computes the multiplicative inverse modulo {@code m}.
+         *
+         * @param a Value.
+         * @return {@code x} such that {@code a * x mod m == 1 mod m}
+         * @throws ArithmeticException if {@code a} is not invertible.
+         */
+        public long inverseMod(long a) {
+            return inverse(residue(a), m);
+        }
+
+        /**
+         * Converts the value to the Montgomery domain.
+         *
+         * @param a Value.
+         * @return {@code a R mod m}
+         */
+        public long toMontgomery(long a) {
+            return multiply(residue(a), r2);
+        }
+
+        /**
+         * Converts the value from the Montgomery domain.
+         *
+         * @param a Value in the Montgomery domain (in {@code [0, m)}).
+         * @return {@code a R^-1 mod m}
+         */
+        public long fromMontgomery(long a) {
+            return redc(0, a);
+        }
+
+        /**
+         * Multiplies two values in the Montgomery domain.
+         *
+         * @param a First value in the Montgomery domain (in {@code [0, m)}).
+         * @param b Second value in the Montgomery domain (in {@code [0, m)}).
+         * @return {@code a b R^-1 mod m}
+         */
+        public long multiplyMontgomery(long a, long b) {
+            return multiply(a, b);
+        }
+
+        /**
+         * Multiplies the corresponding values modulo {@code m}.
+         * The output array may be the same as either input array.
+         *
+         * @param a First values.
+         * @param b Second values.
+         * @param result Products {@code (a[i] * b[i]) mod m}.
+         * @throws IllegalArgumentException if the sizes of the arrays are different.
+         */
+        public void mulMod(long[] a, long[] b, long[] result) {
+            checkDimensions(a.length, b.length);
+            checkDimensions(a.length, result.length);
+            for (int i = 0; i < a.length; i++) {
+                result[i] = multiply(multiply(residue(a[i]), residue(b[i])), r2);
+            }
+        }
+
+        /**
+         * Raises each value to a power modulo {@code m}.
+         * The output array may be the same as the input array.
+         *
+         * @param a Values.
+         * @param e Exponent.
+         * @param result Powers {@code a[i]^e mod m}.
+         * @throws IllegalArgumentException if {@code e < 0} or the sizes of the
+         * arrays are different.
+         */
+        public void powMod(long[] a, long e, long[] result) {
+            checkExponent(e);
+            checkDimensions(a.length, result.length);
+            for (int i = 0; i < a.length; i++) {
+                result[i] = pow(residue(a[i]), e);
+            }
+        }
+
+        /**
+         * Reduce the value to the range {@code [0, m)}.
+         *
+         * @param a Value.
+         * @return the residue
+         */
+        private long residue(long a) {
+            return a >= 0 && a < m ? a : Math.floorMod(a, m);
+        }
+
+        /**
+         * Montgomery product of two values in {@code [0, m)}.
+         *
+         * @param a First value.
+         * @param b Second value.
+         * @return {@code a b R^-1 mod m}
+         */
+        private long multiply(long a, long b) {
+            // Values are positive: the signed high part is the unsigned high part
+            return redc(Intrinsics.multiplyHigh(a, b), a * b);
+        }
+
+        /**
+         * Montgomery reduction of the 128-bit value {@code hi * 2^64 + lo} where
+         * {@code hi < m}.
+         *
+         * @param hi High 64-bits.
+         * @param lo Low 64-bits.
+         * @return {@code (hi * 2^64 + lo) R^-1 mod m}
+         */
+        private long redc(long hi, long lo) {
+            // t * m == lo mod 2^64: the subtraction clears the low 64-bits
+            final long t = lo * mInv;
+            // Unsigned high part of t * m (m is positive)
+            final long tm = Intrinsics.multiplyHigh(t, m) + ((t >> 63) & m);
+            final long r = hi - tm;
+            return r < 0 ? r + m : r;
+        }
+
+        /**
+         * Raises a residue to a power.
+         *
+         * @param a Residue.
+         * @param e Exponent (must be positive or zero).
+         * @return {@code a^e mod m}
+         */
+        private long pow(long a, long e) {
+            long result = r1;
+            long base = multiply(a, r2);
+            for (long exp = e; exp != 0; exp >>>= 1) {
+                if ((exp & 0x1) != 0) {
+                    result = multiply(result, base);
+                }
+                base = multiply(base, base);
+            }
+            return redc(0, result);
+        }
+    }
+
+    /** Private constructor. */
+    private ModularArithmetic() {
+        // intentionally empty.
+    }
+
+    /**
+     * Multiplies two values modulo {@code m}.
+     *
+     * @param a First value.
+     * @param b Second value.
+     * @param m Modulus.
+     * @return {@code (a * b) mod m}
+     * @throws IllegalArgumentException if {@code m <= 0}.
+     */
+    public static int mulMod(int a, int b, int m) {
+        checkModulus(m);
+        return (int) (((long) Math.floorMod(a, m) * Math.floorMod(b, m)) % m);
+    }
+
+    /**
+     * Multiplies two values modulo {@code m}.
+     *
+     * @param a First value.
+     * @param b Second value.
+     * @param m Modulus.
+     * @return {@code (a * b) mod m}
+     * @throws IllegalArgumentException if {@code m <= 0}.
+     */
+    public static long mulMod(long a, long b, long m) {
+        checkModulus(m);
+        return multiply(Math.floorMod(a, m), Math.floorMod(b, m), m);
+    }
+
+    /**
+     * Raises a value to a power modulo {@code m}.
+     *
+     * @param a Value.
+     * @param e Exponent.
+     * @param m Modulus.
+     * @return {@code a^e mod m}
+     * @throws IllegalArgumentException if {@code e < 0} or {@code m <= 0}.
+     */
+    public static int powMod(int a, long e, int m) {
+        return Barrett.of(m).powMod(a, e);
+    }
+
+    /**
+     * Raises a value to a power modulo {@code m}.
+     *
+     * <p>An odd modulus uses {@link Montgomery} multiplication.
+     *
+     * @param a Value.
+     * @param e Exponent.
+     * @param m Modulus.
+     * @return {@code a^e mod m}
+     * @throws IllegalArgumentException if {@code e < 0} or {@code m <= 0}.
+     */
+    public static long powMod(long a, long e, long m) {
+        checkModulus(m);
+        checkExponent(e);
+        if ((m & 0x1) != 0) {
+            return Montgomery.of(m).powMod(a, e);
+        }
+        long result = 1 % m;
+        long base = Math.floorMod(a, m);
+        for (long exp = e; exp != 0; exp >>>= 1) {
+            if ((exp & 0x1) != 0) {
+                result = multiply(result, base, m);
+            }
+            base = multiply(base, base, m);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the multiplicative inverse modulo {@code m}.
+     *
+     * @param a Value.
+     * @param m Modulus.
+     * @return {@code x} such that {@code a * x mod m == 1 mod m}
+     * @throws IllegalArgumentException if {@code m <= 0}.
+     * @throws ArithmeticException if {@code a} is not invertible.
+     */
+    public static int inverseMod(int a, int m) {
+        checkModulus(m);
+        return (int) inverse(Math.floorMod(a, m), m);
+    }
+
+    /**
+     * Computes the multiplicative inverse modulo {@code m}.
+     *
+     * @param a Value.
+     * @param m Modulus.
+     * @return {@code x} such that {@code a * x mod m == 1 mod m}
+     * @throws IllegalArgumentException if {@code m <= 0}.
+     * @throws ArithmeticException if {@code a} is not invertible.
+     */
+    public static long inverseMod(long a, long m) {
+        checkModulus(m);
+        return inverse(Math.floorMod(a, m), m);
+    }
+
+    /**
+     * Multiplies two residues modulo {@code m}.
+     *
+     * @param a First value in {@code [0, m)}.
+     * @param b Second value in {@code [0, m)}.
+     * @param m Modulus.
+     * @return {@code (a * b) mod m}
+     */
+    private static long multiply(long a, long b, long m) {
+        if (m <= Integer.MAX_VALUE) {
+            // Product is below 2^62
+            return (a * b) % m;
+        }
+        // Values are positive: the signed high part is the unsigned high part
+        return remainder(Intrinsics.multiplyHigh(a, b), a * b, m);
+    }
+
+    /**
+     * Computes the remainder of the unsigned 128-bit value {@code hi * 2^64 + lo}
+     * divided by {@code m}.
+     *
+     * @param hi High 64-bits (must be less than {@code m}).
+     * @param lo Low 64-bits.
+     * @param m Divisor (must be positive).
+     * @return the remainder
+     */
+    static long remainder(long hi, long lo, long m) {
+        // The remainder is less than m: the low 64-bits of the product q * m suffice
+        return lo - divideUnsigned(hi, lo, m) * m;
+    }
+
+    /**
+     * Computes the quotient of the unsigned 128-bit value {@code hi * 2^64 + lo}
+     * divided by the unsigned value {@code d}.
+     *
+     * <p>This is a Java port of the algorithm {@code divlu} described in the book
+     * "Hacker's Delight" (section "Unsigned long division") using 32-bit digits.
+     *
+     * @param hi High 64-bits (must be less than {@code d} as unsigned values).
+     * @param lo Low 64-bits.
+     * @param d Divisor (unsigned, must not be zero).
+     * @return the unsigned quotient
+     */
+    static long divideUnsigned(long hi, long lo, long d) {
+        // Normalise the divisor
+        final int s = Long.numberOfLeadingZeros(d);
+        final long v = d << s;
+        final long vn1 = v >>> 32;
+        final long vn0 = v & MASK32;
+        final long un32 = s == 0 ? hi : (hi << s) | (lo >>> (64 - s));
+        final long un10 = lo << s;
+        final long un1 = un10 >>> 32;
+        final long un0 = un10 & MASK32;
+
+        // First quotient digit
+        long q1 = Long.divideUnsigned(un32, vn1);
+        long rhat = un32 - q1 * vn1;
+        while (q1 >= TWO_POW_32 || Long.compareUnsigned(q1 * vn0, (rhat << 32) + un1) > 0) {
+            q1--;
+            rhat += vn1;
+            if (rhat >= TWO_POW_32) {
+                break;
+            }
+        }
+        final long un21 = (un32 << 32) + un1 - q1 * v;
+
+        // Second quotient digit
+        long q0 = Long.divideUnsigned(un21, vn1);
+        rhat = un21 - q0 * vn1;
+        while (q0 >= TWO_POW_32 || Long.compareUnsigned(q0 * vn0, (rhat << 32) + un0) > 0) {
+            q0--;
+            rhat += vn1;
+            if (rhat >= TWO_POW_32) {
+                break;
+            }
+        }
+        return (q1 << 32) | q0;
+    }
+
+    /**
+     * Computes the multiplicative inverse using the extended Euclidean algorithm.
+     *
+     * @param a Value in {@code [0, m)}.
+     * @param m Modulus.
+     * @return the inverse
+     * @throws ArithmeticException if {@code a} is not invertible.
+     */
+    private static long inverse(long a, long m) {
+        // Invariant: t * a == r mod m; the coefficients are bounded by m
+        long t = 0;
+        long newT = 1;
+        long r = m;
+        long newR = a;
+        while (newR != 0) {
+            final long q = r / newR;
+            long tmp = t - q * newT;
+            t = newT;
+            newT = tmp;
+            tmp = r - q * newR;
+            r = newR;
+            newR = tmp;
+        }
+        if (r != 1) {
+            throw new ArithmeticException(NOT_INVERTIBLE_1 + a + NOT_INVERTIBLE_2 + m);
+        }
+        return t < 0 ? t + m : t;
+    }
+
+    /**
+     * Check the modulus is positive.
+     *
+     * @param m Modulus.
+     * @throws IllegalArgumentException if {@code m <= 0}.
+     */
+    private static void checkModulus(long m) {
+        if (m <= 0) {
+            throw new IllegalArgumentException("Modulus is not positive: " + m);
+        }
+    }
+
+    /**
+     * Check the exponent is positive or zero.
+     *
+     * @param e Exponent.
+     * @throws IllegalArgumentException if {@code e < 0}.
+     */
+    private static void checkExponent(long e) {
+        if (e < 0) {
+            throw new IllegalArgumentException(NEGATIVE_EXPONENT_1 + e + NEGATIVE_EXPONENT_2);
+        }
+    }
+
+    /**
+     * Check the array lengths are equal.
+     *
+     * @param length1 First length.
+     * @param length2 Second length.
+     * @throws IllegalArgumentException if the lengths are different.
+     */
+    private static void checkDimensions(int length1, int length2) {
+        if (length1 != length2) {
+            throw new IllegalArgumentException(DIMENSION_MISMATCH + length1 + " != " + length2);
+        }
+    }
+}
@@ -51,6 +51,10 @@ public final class Precision {
 
     /** Offset to order signed double numbers lexicographically. */
     private static final long SGN_MASK = 0x8000000000000000L;
+    /** Mask of the exponent bits. A larger magnitude is NaN. */
+    private static final long EXPONENT_MASK = 0x7ff0000000000000L;
+    /** Block size for the branch-free test of array elements. */
+    private static final int MISMATCH_BLOCK = 64;
     /** Offset to order signed double numbers lexicographically. */
     private static final int SGN_MASK_FLOAT = 0x80000000;
     /** Positive zero. */
@@ -63,6 +67,17 @@ public final class Precision {
     private static final int POSITIVE_ZERO_FLOAT_BITS = Float.floatToRawIntBits(+0.0f);
     /** Negative zero bits. */
     private static final int NEGATIVE_ZERO_FLOAT_BITS = Float.floatToRawIntBits(-0.0f);
+    /** Exact powers of ten representable as a double: 10^0 to 10^22. */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22,
+    };
+    /** One quarter. Scaled values below this are rounded without an exact product. */
+    private static final double QUARTER = 0.25;
+    /** Limit of the scaled value for rounding with double precision arithmetic. */
+    private static final double ROUND_FAST_LIMIT = 0x1.0p48;
+    /** Minimum margin from a rounding boundary of the scaled value (above its rounding error). */
+    private static final double ROUND_FAST_MIN_MARGIN = 0x1.0p-50;
 
     static {
         /*
@@ -441,6 +456,433 @@ public final class Precision {
             equals(x, y, maxUlps);
     }
 
+    /**
+     * Returns the number of floating point values from {@code x} to {@code y}.
+     * Two adjacent values have a distance of 1; {@code +0.0} and {@code -0.0}
+     * have a distance of 0. The result is consistent with
+     * {@link #equals(double,double,int) equals(x, y, maxUlps)} which is {@code true}
+     * if and only if {@code ulpDistance(x, y) <= maxUlps}.
+     *
+     * @param x First value.
+     * @param y Second value.
+     * @return the ulp distance; or {@link Long#MAX_VALUE} if either argument is
+     * {@code NaN} or the distance is too large to represent.
+     */
+    public static long ulpDistance(double x, double y) {
+        final long xInt = Double.doubleToRawLongBits(x);
+        final long yInt = Double.doubleToRawLongBits(y);
+        final long xMag = xInt & ~SGN_MASK;
+        final long yMag = yInt & ~SGN_MASK;
+        if (xMag > EXPONENT_MASK || yMag > EXPONENT_MASK) {
+            // NaN
+            return Long.MAX_VALUE;
+        }
+        if (((xInt ^ yInt) & SGN_MASK) == 0L) {
+            // Same sign: no risk of overflow
+            return Math.abs(xMag - yMag);
+        }
+        // Opposite signs: the distance is the sum of the distances to zero.
+        // This is negative on overflow.
+        final long d = xMag + yMag;
+        return d < 0 ? Long.MAX_VALUE : d;
+    }
+
+    /**
+     * Returns the maximum {@link #ulpDistance(double, double) ulp distance}
+     * between the corresponding elements of the arrays.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @return the maximum ulp distance; or 0 for empty arrays.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @see #ulpDistance(double, double)
+     */
+    public static long maxUlpDistance(double[] x, double[] y) {
+        checkDimensions(x, y);
+        return maxUlpDistance(x, y, 0, x.length);
+    }
+
+    /**
+     * Returns the maximum {@link #ulpDistance(double, double) ulp distance}
+     * between the corresponding elements of the arrays in the range
+     * {@code [from, to)}.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @return the maximum ulp distance; or 0 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @see #ulpDistance(double, double)
+     */
+    public static long maxUlpDistance(double[] x, double[] y, int from, int to) {
+        checkFromToIndex(from, to, Math.min(x.length, y.length));
+        long max = 0;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, ulpDistance(x[i], y[i]));
+        }
+        return max;
+    }
+
+    /**
+     * Finds the index of the first pair of corresponding elements that are not
+     * {@link #equals(double,double,int) equal} within the allowed ulp distance.
+     * If the arrays have different lengths and all elements of the common prefix
+     * are equal then the length of the shorter array is returned.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @param maxUlps {@code (maxUlps - 1)} is the number of floating point
+     * values between corresponding elements.
+     * @return the index of the first mismatch; or -1 if there is no mismatch.
+     * @see #equals(double, double, int)
+     */
+    public static int mismatch(double[] x, double[] y, int maxUlps) {
+        final int length = Math.min(x.length, y.length);
+        return mismatchLength(mismatch(x, y, 0, length, maxUlps), length, x, y);
+    }
+
+    /**
+     * Finds the index of the first pair of corresponding elements in the range
+     * {@code [from, to)} that are not {@link #equals(double,double,int) equal}
+     * within the allowed ulp distance.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param maxUlps {@code (maxUlps - 1)} is the number of floating point
+     * values between corresponding elements.
+     * @return the index of the first mismatch; or -1 if there is no mismatch.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @see #equals(double, double, int)
+     */
+    public static int mismatch(double[] x, double[] y, int from, int to, int maxUlps) {
+        checkFromToIndex(from, to, Math.min(x.length, y.length));
+        for (int i = from; i < to; i += MISMATCH_BLOCK) {
+            final int end = Math.min(to, i + MISMATCH_BLOCK);
+            // Branch-free test of the block
+            boolean equal = true;
+            for (int j = i; j < end; j++) {
+                equal &= ulpDistance(x[j], y[j]) <= maxUlps;
+            }
+            if (!equal) {
+                for (int j = i; j < end; j++) {
+                    if (ulpDistance(x[j], y[j]) > maxUlps) {
+                        return j;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the index of the first pair of corresponding elements that are not
+     * {@link #equalsIncludingNaN(double,double,int) equal} within the allowed
+     * ulp distance, or both {@code NaN}.
+     * If the arrays have different lengths and all elements of the common prefix
+     * are equal then the length of the shorter array is returned.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @param maxUlps {@code (maxUlps - 1)} is the number of floating point
+     * values between corresponding elements.
+     * @return the index of the first mismatch; or -1 if there is no mismatch.
+     * @see #equalsIncludingNaN(double, double, int)
+     */
+    public static int mismatchIncludingNaN(double[] x, double[] y, int maxUlps) {
+        final int length = Math.min(x.length, y.length);
+        return mismatchLength(mismatchIncludingNaN(x, y, 0, length, maxUlps), length, x, y);
+    }
+
+    /**
+     * Finds the index of the first pair of corresponding elements in the range
+     * {@code [from, to)} that are not {@link #equalsIncludingNaN(double,double,int) equal}
+     * within the allowed ulp distance, or both {@code NaN}.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param maxUlps {@code (maxUlps - 1)} is the number of floating point
+     * values between corresponding elements.
+     * @return the index of the first mismatch; or -1 if there is no mismatch.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @see #equalsIncludingNaN(double, double, int)
+     */
+    public static int mismatchIncludingNaN(double[] x, double[] y, int from, int to, int maxUlps) {
+        checkFromToIndex(from, to, Math.min(x.length, y.length));
+        for (int i = from; i < to; i += MISMATCH_BLOCK) {
+            final int end = Math.min(to, i + MISMATCH_BLOCK);
+            boolean equal = true;
+            for (int j = i; j < end; j++) {
+                equal &= ulpDistance(x[j], y[j]) <= maxUlps | bothNaN(x[j], y[j]);
+            }
+            if (!equal) {
+                for (int j = i; j < end; j++) {
+                    if (!equalsIncludingNaN(x[j], y[j], maxUlps)) {
+                        return j;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the index of the first pair of corresponding elements that are not
+     * {@link #equals(double,double,double) equal} within the allowed absolute error.
+     * If the arrays have different lengths and all elements of the common prefix
+     * are equal then the length of the shorter array is returned.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @param eps Amount of allowed absolute error.
+     * @return the index of the first mismatch; or -1 if there is no mismatch.
+     * @see #equals(double, double, double)
+     */
+    public static int mismatch(double[] x, double[] y, double eps) {
+        final int length = Math.min(x.length, y.length);
+        return mismatchLength(mismatch(x, y, 0, length, eps), length, x, y);
+    }
+
+    /**
+     * Finds the index of the first pair of corresponding elements in the range
+     * {@code [from, to)} that are not {@link #equals(double,double,double) equal}
+     * within the allowed absolute error.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param eps Amount of allowed absolute error.
+     * @return the index of the first mismatch; or -1 if there is no mismatch.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @see #equals(double, double, double)
+     */
+    public static int mismatch(double[] x, double[] y, int from, int to, double eps) {
+        checkFromToIndex(from, to, Math.min(x.length, y.length));
+        for (int i = from; i < to; i += MISMATCH_BLOCK) {
+            final int end = Math.min(to, i + MISMATCH_BLOCK);
+            boolean equal = true;
+            for (int j = i; j < end; j++) {
+                equal &= Math.abs(y[j] - x[j]) <= eps | ulpDistance(x[j], y[j]) <= 1;
+            }
+            if (!equal) {
+                for (int j = i; j < end; j++) {
+                    if (!equals(x[j], y[j], eps)) {
+                        return j;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the index of the first pair of corresponding elements that are not
+     * {@link #equalsIncludingNaN(double,double,double) equal} within the allowed
+     * absolute error, or both {@code NaN}.
+     * If the arrays have different lengths and all elements of the common prefix
+     * are equal then the length of the shorter array is returned.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @param eps Amount of allowed absolute error.
+     * @return the index of the first mismatch; or -1 if there is no mismatch.
+     * @see #equalsIncludingNaN(double, double, double)
+     */
+    public static int mismatchIncludingNaN(double[] x, double[] y, double eps) {
+        final int length = Math.min(x.length, y.length);
+        return mismatchLength(mismatchIncludingNaN(x, y, 0, length, eps), length, x, y);
+    }
+
+    /**
+     * Finds the index of the first pair of corresponding elements in the range
+     * {@code [from, to)} that are not {@link #equalsIncludingNaN(double,double,double) equal}
+     * within the allowed absolute error, or both {@code NaN}.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param eps Amount of allowed absolute error.
+     * @return the index of the first mismatch; or -1 if there is no mismatch.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @see #equalsIncludingNaN(double, double, double)
+     */
+    public static int mismatchIncludingNaN(double[] x, double[] y, int from, int to, double eps) {
+        checkFromToIndex(from, to, Math.min(x.length, y.length));
+        for (int i = from; i < to; i += MISMATCH_BLOCK) {
+            final int end = Math.min(to, i + MISMATCH_BLOCK);
+            boolean equal = true;
+            for (int j = i; j < end; j++) {
+                equal &= Math.abs(y[j] - x[j]) <= eps | ulpDistance(x[j], y[j]) <= 1 | bothNaN(x[j], y[j]);
+            }
+            if (!equal) {
+                for (int j = i; j < end; j++) {
+                    if (!equalsIncludingNaN(x[j], y[j], eps)) {
+                        return j;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the index of the first pair of corresponding elements that are not
+     * {@link #equalsWithRelativeTolerance(double,double,double) equal} within the
+     * allowed relative error.
+     * If the arrays have different lengths and all elements of the common prefix
+     * are equal then the length of the shorter array is returned.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @param eps Amount of allowed relative error.
+     * @return the index of the first mismatch; or -1 if there is no mismatch.
+     * @see #equalsWithRelativeTolerance(double, double, double)
+     */
+    public static int mismatchWithRelativeTolerance(double[] x, double[] y, double eps) {
+        final int length = Math.min(x.length, y.length);
+        return mismatchLength(mismatchWithRelativeTolerance(x, y, 0, length, eps), length, x, y);
+    }
+
+    /**
+     * Finds the index of the first pair of corresponding elements in the range
+     * {@code [from, to)} that are not {@link #equalsWithRelativeTolerance(double,double,double) equal}
+     * within the allowed relative error.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param eps Amount of allowed relative error.
+     * @return the index of the first mismatch; or -1 if there is no mismatch.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @see #equalsWithRelativeTolerance(double, double, double)
+     */
+    public static int mismatchWithRelativeTolerance(double[] x, double[] y, int from, int to, double eps) {
+        checkFromToIndex(from, to, Math.min(x.length, y.length));
+        for (int i = from; i < to; i += MISMATCH_BLOCK) {
+            final int end = Math.min(to, i + MISMATCH_BLOCK);
+            boolean equal = true;
+            for (int j = i; j < end; j++) {
+                final double a = x[j];
+                final double b = y[j];
+                equal &= Math.abs((a - b) / Math.max(Math.abs(a), Math.abs(b))) <= eps | ulpDistance(a, b) <= 1;
+            }
+            if (!equal) {
+                for (int j = i; j < end; j++) {
+                    if (!equalsWithRelativeTolerance(x[j], y[j], eps)) {
+                        return j;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares two arrays lexicographically given some amount of allowed error.
+     * The elements at the first {@link #mismatch(double[],double[],double) mismatch}
+     * are compared using {@link #compareTo(double,double,double)}; if there is
+     * no mismatch the array lengths are compared.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @param eps Allowed error when checking for equality.
+     * @return 0 if the arrays are considered equal, a negative value if the first
+     * is smaller than the second, a positive value if the first is larger than
+     * the second.
+     */
+    public static int compareTo(double[] x, double[] y, double eps) {
+        final int length = Math.min(x.length, y.length);
+        final int i = mismatch(x, y, 0, length, eps);
+        if (i < 0) {
+            return Integer.compare(x.length, y.length);
+        }
+        return compareTo(x[i], y[i], eps);
+    }
+
+    /**
+     * Compares two arrays lexicographically given some amount of allowed error.
+     * The elements at the first {@link #mismatch(double[],double[],int) mismatch}
+     * are compared using {@link #compareTo(double,double,int)}; if there is
+     * no mismatch the array lengths are compared.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @param maxUlps {@code (maxUlps - 1)} is the number of floating point
+     * values between corresponding elements.
+     * @return 0 if the arrays are considered equal, a negative value if the first
+     * is smaller than the second, a positive value if the first is larger than
+     * the second.
+     */
+    public static int compareTo(double[] x, double[] y, int maxUlps) {
+        final int length = Math.min(x.length, y.length);
+        final int i = mismatch(x, y, 0, length, maxUlps);
+        if (i < 0) {
+            return Integer.compare(x.length, y.length);
+        }
+        return compareTo(x[i], y[i], maxUlps);
+    }
+
+    /**
+     * Test if both values are {@code NaN}.
+     *
+     * @param x First value.
+     * @param y Second value.
+     * @return true if both are {@code NaN}
+     */
+    private static boolean bothNaN(double x, double y) {
+        // Combine the booleans with bitwise AND
+        return Double.isNaN(x) & Double.isNaN(y);
+    }
+
+    /**
+     * Adjust the mismatch index of the common prefix of two arrays to account
+     * for different lengths.
+     *
+     * @param index Mismatch index of the common prefix (or -1).
+     * @param length Length of the common prefix.
+     * @param x First values.
+     * @param y Second values.
+     * @return the mismatch index.
+     */
+    private static int mismatchLength(int index, int length, double[] x, double[] y) {
+        return index < 0 && x.length != y.length ? length : index;
+    }
+
+    /**
+     * Check the arrays have the same length.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     */
+    private static void checkDimensions(double[] x, double[] y) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("Dimension mismatch: " + x.length + " != " + y.length);
+        }
+    }
+
+    /**
+     * Check the range {@code [from, to)} is within {@code [0, length)}.
+     *
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param length Length.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    private static void checkFromToIndex(int from, int to, int length) {
+        if (from < 0 || from > to || to > length) {
+            throw new IndexOutOfBoundsException(
+                "Range [" + from + ", " + to + ") out of bounds for length " + length);
+        }
+    }
+
     /**
      * Rounds the given value to the specified number of decimal places.
      * The value is rounded using the {@link RoundingMode#HALF_UP} method.
@@ -460,6 +902,13 @@ public final class Precision {
      * If {@code x} is infinite or {@code NaN}, then the value of {@code x} is
      * returned unchanged, regardless of the other parameters.
      *
+     * <p>The result is the value of the decimal representation of {@code x}
+     * returned by {@link Double#toString(double)}, rounded to {@code scale} decimal
+     * places. For the common case of a non-negative scale up to 22 the computation
+     * uses double precision arithmetic and does not allocate; {@link BigDecimal}
+     * arithmetic is only used when the value is too close to a rounding boundary
+     * to decide the rounding otherwise.
+     *
      * @param x Value to round.
      * @param scale Number of digits to the right of the decimal point.
      * @param roundingMethod Rounding method as defined in {@link BigDecimal}.
@@ -471,6 +920,144 @@ public final class Precision {
     public static double round(double x,
                                int scale,
                                RoundingMode roundingMethod) {
+        final double rounded = roundFast(x, scale, roundingMethod);
+        // NaN if undecided
+        if (rounded == rounded) {
+            return rounded;
+        }
+        return roundBigDecimal(x, scale, roundingMethod);
+    }
+
+    /**
+     * Rounds each value to the specified number of decimal places.
+     * The output array may be the same as the input array.
+     *
+     * @param x Values to round.
+     * @param scale Number of digits to the right of the decimal point.
+     * @param roundingMethod Rounding method as defined in {@link BigDecimal}.
+     * @param result Rounded values.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @throws ArithmeticException if {@code roundingMethod} is
+     * {@link RoundingMode#UNNECESSARY} and the specified scaling operation
+     * would require rounding.
+     * @see #round(double, int, RoundingMode)
+     */
+    public static void round(double[] x,
+                             int scale,
+                             RoundingMode roundingMethod,
+                             double[] result) {
+        checkDimensions(x, result);
+        for (int i = 0; i < x.length; i++) {
+            result[i] = round(x[i], scale, roundingMethod);
+        }
+    }
+
+    /**
+     * Rounds the given value to the specified number of decimal places using
+     * double precision arithmetic.
+     *
+     * <p>The decimal representation {@code d} of {@code x} (see {@link Double#toString(double)})
+     * is within half an ulp of {@code x}. The exact value of {@code |x| * 10^scale}
+     * is computed as an unevaluated sum using an error-free product. If it is further
+     * than the possible error of the decimal representation from any integer or half-integer,
+     * then {@code |d| * 10^scale} has the same integer part and is on the same side of
+     * the half-integer, which decides the rounding for all rounding methods.
+     * The rounded integer is exact and its division by the (exact) power of ten is
+     * correctly rounded, as is the conversion of the rounded {@code BigDecimal} to a double.
+     *
+     * @param x Value to round.
+     * @param scale Number of digits to the right of the decimal point.
+     * @param roundingMethod Rounding method.
+     * @return the rounded value; or {@code NaN} if undecided.
+     */
+    private static double roundFast(double x,
+                                    int scale,
+                                    RoundingMode roundingMethod) {
+        if (scale < 0 ||
+            scale >= POWERS_OF_TEN.length ||
+            roundingMethod == RoundingMode.UNNECESSARY) {
+            return Double.NaN;
+        }
+        final double ax = Math.abs(x);
+        if (ax == 0) {
+            return x;
+        }
+        if (!(ax <= Double.MAX_VALUE)) {
+            return Double.NaN;
+        }
+        final double p = POWERS_OF_TEN[scale];
+        final double y = ax * p;
+
+        final double integer;
+        final boolean aboveHalf;
+        if (y < QUARTER) {
+            // The scaled decimal representation is in (0, 0.5): it is not zero
+            // as x is not zero, and the error is much less than the margin.
+            integer = 0;
+            aboveHalf = false;
+        } else {
+            if (y >= ROUND_FAST_LIMIT) {
+                return Double.NaN;
+            }
+            // y + yy == |x| * 10^scale exactly. Since y >= 0.25 the product is normal.
+            final double yy = Intrinsics.productLow(ax, p, y);
+            double n = Math.floor(y);
+            double f = (y - n) + yy;
+            if (f < 0) {
+                n -= 1;
+                f += 1;
+            }
+            // Maximum distance of the scaled decimal representation from y + yy
+            // (with a factor of 2), bounded below by the rounding error of f.
+            final double margin = 4 * Math.max(Math.ulp(ax) * p, ROUND_FAST_MIN_MARGIN);
+            if (f < margin ||
+                Math.abs(f - 0.5) < margin ||
+                1 - f < margin) {
+                return Double.NaN;
+            }
+            integer = n;
+            aboveHalf = f > 0.5;
+        }
+
+        final boolean away;
+        switch (roundingMethod) {
+        case UP:
+            away = true;
+            break;
+        case DOWN:
+            away = false;
+            break;
+        case CEILING:
+            away = x > 0;
+            break;
+        case FLOOR:
+            away = x < 0;
+            break;
+        default:
+            // HALF_UP, HALF_DOWN, HALF_EVEN: the fraction is not one half.
+            away = aboveHalf;
+            break;
+        }
+        final double rounded = away ? integer + 1 : integer;
+        // MATH-1089: negative values rounded to zero should result in negative zero
+        return Math.copySign(rounded / p, x);
+    }
+
+    /**
+     * Rounds the given value to the specified number of decimal places using
+     * {@link BigDecimal} arithmetic.
+     *
+     * @param x Value to round.
+     * @param scale Number of digits to the right of the decimal point.
+     * @param roundingMethod Rounding method as defined in {@link BigDecimal}.
+     * @return the rounded value.
+     * @throws ArithmeticException if {@code roundingMethod} is
+     * {@link RoundingMode#UNNECESSARY} and the specified scaling operation
+     * would require rounding.
+     */
+    private static double roundBigDecimal(double x,
+                                          int scale,
+                                          RoundingMode roundingMethod) {
         try {
             final double rounded = (new BigDecimal(Double.toString(x))
                    .setScale(scale, roundingMethod))
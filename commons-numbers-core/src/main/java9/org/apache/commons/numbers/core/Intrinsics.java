@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+/**
+ * Low-level arithmetic kernels that have a faster implementation on recent
+ * Java runtimes.
+ *
+ * <p>This is the Java 9+ implementation packaged in the multi-release JAR.
+ * It uses {@code Math.fma} and {@code Math.multiplyHigh} which are intrinsic
+ * on most platforms. Results are identical to the Java 8 implementation
+ * unless the magnitude of a product is below 2<sup>-968</sup>.
+ */
+final class Intrinsics {
+    /** No instances. */
+    private Intrinsics() {}
+
+    /**
+     * Computes the low part of the exact product of {@code a} and {@code b}
+     * using a fused multiply-add. The standard precision product must be provided.
+     *
+     * <p>The result is exact if {@code |a * b| >= 2^-968}. Below this limit the
+     * round-off may be sub-normal and the result is rounded once.
+     *
+     * <p>Special cases:
+     * <ul>
+     *  <li>If the product is sub-normal the result is 0.
+     *  <li>If the product is infinite or NaN the result is NaN.
+     * </ul>
+     *
+     * @param a First factor.
+     * @param b Second factor.
+     * @param product Product of the factors (a * b).
+     * @return the low part of the product.
+     */
+    static double productLow(double a, double b, double product) {
+        // If the number is sub-normal, inf or nan there is no round-off.
+        final double abs = Math.abs(product);
+        if (abs <= Double.MIN_NORMAL || abs > Double.MAX_VALUE || Double.isNaN(abs)) {
+            // Returns 0.0 for sub-normal product, otherwise NaN for inf/nan:
+            return product - product;
+        }
+        return Math.fma(a, b, -product);
+    }
+
+    /**
+     * Returns the most significant 64 bits of the signed 128-bit product of
+     * the two arguments.
+     *
+     * @param a First value.
+     * @param b Second value.
+     * @return the high part of the product.
+     */
+    static long multiplyHigh(long a, long b) {
+        return Math.multiplyHigh(a, b);
+    }
+}
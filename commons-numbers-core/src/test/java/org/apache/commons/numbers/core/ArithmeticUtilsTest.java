@@ -253,6 +253,144 @@ class ArithmeticUtilsTest {
         }
     }
 
+    @Test
+    void testGcdArray() {
+        Assertions.assertEquals(0, ArithmeticUtils.gcd(new int[0]));
+        Assertions.assertEquals(0, ArithmeticUtils.gcd(new int[3]));
+        Assertions.assertEquals(0L, ArithmeticUtils.gcd(new long[0]));
+        Assertions.assertEquals(0L, ArithmeticUtils.gcd(new long[3]));
+        Assertions.assertEquals(10, ArithmeticUtils.gcd(new int[] {30, -50, 0, 70}));
+        Assertions.assertEquals(10L, ArithmeticUtils.gcd(new long[] {30, -50, 0, 70}));
+        Assertions.assertEquals(1 << 30, ArithmeticUtils.gcd(new int[] {Integer.MIN_VALUE, 1 << 30}));
+        Assertions.assertEquals(1L << 62, ArithmeticUtils.gcd(new long[] {Long.MIN_VALUE, 1L << 62}));
+        Assertions.assertEquals(Integer.MAX_VALUE, ArithmeticUtils.gcd(new int[] {0, -Integer.MAX_VALUE}));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.gcd(new int[] {0, Integer.MIN_VALUE, Integer.MIN_VALUE}));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.gcd(new long[] {0, Long.MIN_VALUE, Long.MIN_VALUE}));
+        // Early exit at 1 ignores later values
+        Assertions.assertEquals(1, ArithmeticUtils.gcd(new int[] {2, 3, Integer.MIN_VALUE}));
+        Assertions.assertEquals(1L, ArithmeticUtils.gcd(new long[] {2, 3, Long.MIN_VALUE}));
+
+        final java.util.Random r = new java.util.Random(12345);
+        for (int i = 0; i < 200; i++) {
+            final long factor = 1 + r.nextInt(1 << 20);
+            final int n = 1 + r.nextInt(10);
+            final int[] x = new int[n];
+            final long[] y = new long[n];
+            BigInteger gx = BigInteger.ZERO;
+            BigInteger gy = BigInteger.ZERO;
+            for (int j = 0; j < n; j++) {
+                x[j] = (int) (factor * (r.nextInt(1 << 10) - (1 << 9)));
+                y[j] = factor * (r.nextInt() >> 1);
+                gx = gx.gcd(BigInteger.valueOf(x[j]));
+                gy = gy.gcd(BigInteger.valueOf(y[j]));
+            }
+            Assertions.assertEquals(gx.intValue(), ArithmeticUtils.gcd(x));
+            Assertions.assertEquals(gy.longValue(), ArithmeticUtils.gcd(y));
+            Assertions.assertEquals(gx.intValue(), ArithmeticUtils.parallelGcd(x));
+            Assertions.assertEquals(gy.longValue(), ArithmeticUtils.parallelGcd(y));
+        }
+    }
+
+    @Test
+    void testParallelGcd() {
+        final int n = 100000;
+        final int[] x = new int[n];
+        final long[] y = new long[n];
+        final java.util.Random r = new java.util.Random(67890);
+        for (int i = 0; i < n; i++) {
+            x[i] = 6 * 7 * (r.nextInt(1000) + 1);
+            y[i] = 6L * 7 * 11 * 13 * (r.nextInt() & Integer.MAX_VALUE);
+        }
+        Assertions.assertEquals(ArithmeticUtils.gcd(x), ArithmeticUtils.parallelGcd(x));
+        Assertions.assertEquals(ArithmeticUtils.gcd(y), ArithmeticUtils.parallelGcd(y));
+        // Coprime
+        x[n - 1] = 5;
+        y[n / 2] = 5;
+        Assertions.assertEquals(1, ArithmeticUtils.parallelGcd(x));
+        Assertions.assertEquals(1L, ArithmeticUtils.parallelGcd(y));
+        // Overflow
+        Arrays.fill(x, Integer.MIN_VALUE);
+        Arrays.fill(y, 0);
+        y[n - 1] = Long.MIN_VALUE;
+        Assertions.assertThrows(ArithmeticException.class, () -> ArithmeticUtils.parallelGcd(x));
+        Assertions.assertThrows(ArithmeticException.class, () -> ArithmeticUtils.parallelGcd(y));
+        x[0] = 1 << 30;
+        Assertions.assertEquals(1 << 30, ArithmeticUtils.parallelGcd(x));
+    }
+
+    @Test
+    void testGcdPairwise() {
+        final int[] a = {30, -30, 0, 0, Integer.MIN_VALUE, 77};
+        final int[] b = {50, 50, 0, -7, 1 << 10, 30};
+        final int[] c = new int[a.length];
+        ArithmeticUtils.gcd(a, b, c);
+        for (int i = 0; i < a.length; i++) {
+            Assertions.assertEquals(ArithmeticUtils.gcd(a[i], b[i]), c[i]);
+        }
+        final long[] x = {30, -30, 0, 0, Long.MIN_VALUE, 77, 60247241209L};
+        final long[] y = {50, 50, 0, -7, 1L << 50, 30, 153092023L};
+        final long[] z = new long[x.length];
+        ArithmeticUtils.gcd(x, y, z);
+        for (int i = 0; i < x.length; i++) {
+            Assertions.assertEquals(ArithmeticUtils.gcd(x[i], y[i]), z[i]);
+        }
+        // In-place
+        ArithmeticUtils.gcd(a, b, a);
+        Assertions.assertArrayEquals(c, a);
+        ArithmeticUtils.gcd(x, y, y);
+        Assertions.assertArrayEquals(z, y);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArithmeticUtils.gcd(a, new int[1], c));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArithmeticUtils.gcd(a, b, new int[1]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArithmeticUtils.gcd(x, new long[1], z));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArithmeticUtils.gcd(x, y, new long[1]));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.gcd(new int[] {Integer.MIN_VALUE}, new int[1], new int[1]));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.gcd(new long[] {Long.MIN_VALUE}, new long[1], new long[1]));
+    }
+
+    @Test
+    void testLcmArray() {
+        Assertions.assertEquals(1, ArithmeticUtils.lcm(new int[0]));
+        Assertions.assertEquals(1L, ArithmeticUtils.lcm(new long[0]));
+        Assertions.assertEquals(11550, ArithmeticUtils.lcm(new int[] {30, -50, 77, 2}));
+        Assertions.assertEquals(11550L, ArithmeticUtils.lcm(new long[] {30, -50, 77, 2}));
+        Assertions.assertEquals(0, ArithmeticUtils.lcm(new int[] {30, 0, Integer.MAX_VALUE, Integer.MAX_VALUE - 1}));
+        Assertions.assertEquals(0L, ArithmeticUtils.lcm(new long[] {30, 0, Long.MAX_VALUE, Long.MAX_VALUE - 1}));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.lcm(new int[] {Integer.MAX_VALUE, Integer.MAX_VALUE - 1}));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.lcm(new int[] {1, Integer.MIN_VALUE}));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.lcm(new long[] {Long.MAX_VALUE, Long.MAX_VALUE - 1}));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.lcm(new long[] {1, Long.MIN_VALUE}));
+
+        final java.util.Random r = new java.util.Random(13579);
+        for (int i = 0; i < 200; i++) {
+            final int n = 1 + r.nextInt(6);
+            final int[] x = new int[n];
+            final long[] y = new long[n];
+            BigInteger lcm = BigInteger.ONE;
+            for (int j = 0; j < n; j++) {
+                x[j] = r.nextInt(200) - 100;
+                y[j] = x[j];
+                final BigInteger v = BigInteger.valueOf(x[j]).abs();
+                lcm = v.signum() == 0 ? BigInteger.ZERO :
+                    lcm.signum() == 0 ? lcm : lcm.multiply(v).divide(lcm.gcd(v));
+            }
+            if (lcm.bitLength() < Integer.SIZE) {
+                Assertions.assertEquals(lcm.intValue(), ArithmeticUtils.lcm(x));
+            } else {
+                Assertions.assertThrows(ArithmeticException.class, () -> ArithmeticUtils.lcm(x));
+            }
+            Assertions.assertEquals(lcm.longValue(), ArithmeticUtils.lcm(y));
+        }
+    }
+
     @Test
     void testPow() {
 
@@ -317,6 +455,66 @@ class ArithmeticUtilsTest {
 
     }
 
+    @Test
+    void testPowBigInteger() {
+        final java.util.Random rng = new java.util.Random(8642);
+        final int[] exponents = {1, 2, 3, 7, 8, 31, 255, 256, 257, 1000, 4097};
+        for (int i = -40; i <= 40; i++) {
+            final BigInteger k = BigInteger.valueOf(i);
+            for (final int e : exponents) {
+                Assertions.assertEquals(k.pow(e), ArithmeticUtils.pow(k, e));
+            }
+        }
+        for (int i = 0; i < 200; i++) {
+            BigInteger k = new BigInteger(2 + rng.nextInt(300), rng).shiftLeft(rng.nextInt(3));
+            if (rng.nextBoolean()) {
+                k = k.negate();
+            }
+            final int e = rng.nextInt(1 << rng.nextInt(12));
+            final BigInteger expected = k.pow(e);
+            Assertions.assertEquals(expected, ArithmeticUtils.pow(k, e));
+            Assertions.assertEquals(expected, ArithmeticUtils.pow(k, (long) e));
+            Assertions.assertEquals(expected, ArithmeticUtils.pow(k, BigInteger.valueOf(e)));
+        }
+        // Exponent with a window at the top bits
+        final BigInteger three = BigInteger.valueOf(3);
+        Assertions.assertEquals(three.pow((1 << 24) + 7), ArithmeticUtils.pow(three, (1 << 24) + 7));
+
+        // Exponents too large for an int
+        final long big = 1L << 40;
+        final BigInteger bigger = BigInteger.ONE.shiftLeft(100).add(BigInteger.ONE);
+        for (final BigInteger k : new BigInteger[] {BigInteger.ZERO, BigInteger.ONE}) {
+            Assertions.assertEquals(k, ArithmeticUtils.pow(k, big));
+            Assertions.assertEquals(k, ArithmeticUtils.pow(k, bigger));
+        }
+        final BigInteger m1 = BigInteger.ONE.negate();
+        Assertions.assertEquals(BigInteger.ONE, ArithmeticUtils.pow(m1, big));
+        Assertions.assertEquals(m1, ArithmeticUtils.pow(m1, big + 1));
+        Assertions.assertEquals(m1, ArithmeticUtils.pow(m1, bigger));
+        Assertions.assertEquals(BigInteger.ONE, ArithmeticUtils.pow(m1, bigger.add(BigInteger.ONE)));
+        Assertions.assertThrows(ArithmeticException.class, () -> ArithmeticUtils.pow(BigInteger.TEN, big));
+        Assertions.assertThrows(ArithmeticException.class, () -> ArithmeticUtils.pow(BigInteger.TEN, bigger));
+
+        // Results outside the supported range of BigInteger fail before any multiplication
+        for (final int k : new int[] {2, 3, -3, 6, 1000003}) {
+            final BigInteger b = BigInteger.valueOf(k);
+            Assertions.assertThrows(ArithmeticException.class, () -> ArithmeticUtils.pow(b, Integer.MAX_VALUE));
+            Assertions.assertThrows(ArithmeticException.class, () -> ArithmeticUtils.pow(b, (long) Integer.MAX_VALUE));
+            Assertions.assertThrows(ArithmeticException.class,
+                () -> ArithmeticUtils.pow(b, BigInteger.valueOf(Integer.MAX_VALUE)));
+        }
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.pow(BigInteger.ONE.shiftLeft(1000).add(BigInteger.ONE), 1 << 22));
+        // Exponents between the lower bound (bitLength - 1) * e and the upper bound
+        // bitLength * e on the size of the result
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.pow(BigInteger.valueOf(3), 1_500_000_000));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.pow(BigInteger.valueOf(-5), 900_000_000));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.pow(BigInteger.valueOf(3), 1_500_000_000L));
+    }
+
     @Test
     void testPowIntOverflow() {
         Assertions.assertThrows(ArithmeticException.class,
@@ -528,6 +726,196 @@ class ArithmeticUtilsTest {
         return toUnsignedBigInteger(dividend).divide(toUnsignedBigInteger(divisor)).longValue();
     }
 
+    @Test
+    void testIsqrt() {
+        for (int i = 0; i < 100000; i++) {
+            final int r = ArithmeticUtils.isqrt(i);
+            Assertions.assertTrue(r * r <= i && (r + 1) * (r + 1) > i);
+        }
+        Assertions.assertEquals(46340, ArithmeticUtils.isqrt(Integer.MAX_VALUE));
+        Assertions.assertEquals(3037000499L, ArithmeticUtils.isqrt(Long.MAX_VALUE));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArithmeticUtils.isqrt(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArithmeticUtils.isqrt(-1L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArithmeticUtils.isqrt(BigInteger.ONE.negate()));
+        // Around perfect squares
+        for (long r = 3037000499L; r > 0; r = r * 3 / 4) {
+            final long x = r * r;
+            Assertions.assertEquals(r, ArithmeticUtils.isqrt(x));
+            Assertions.assertEquals(r - 1, ArithmeticUtils.isqrt(x - 1));
+            Assertions.assertEquals(r, ArithmeticUtils.isqrt(x + 1));
+            if (x <= Integer.MAX_VALUE) {
+                Assertions.assertEquals((int) r, ArithmeticUtils.isqrt((int) x));
+                Assertions.assertEquals((int) r - 1, ArithmeticUtils.isqrt((int) x - 1));
+            }
+        }
+        final java.util.Random rng = new java.util.Random(24680);
+        for (int i = 0; i < 1000; i++) {
+            final long x = (rng.nextLong() >>> 1) >>> rng.nextInt(63);
+            Assertions.assertEquals(referenceRoot(BigInteger.valueOf(x), 2).longValue(), ArithmeticUtils.isqrt(x));
+            final BigInteger b = new BigInteger(64 + rng.nextInt(2000), rng);
+            final BigInteger r = ArithmeticUtils.isqrt(b);
+            Assertions.assertEquals(referenceRoot(b, 2), r);
+            Assertions.assertEquals(r, ArithmeticUtils.isqrt(r.multiply(r)));
+            Assertions.assertEquals(r.subtract(BigInteger.ONE), ArithmeticUtils.isqrt(r.multiply(r).subtract(BigInteger.ONE)));
+        }
+    }
+
+    @Test
+    void testIroot() {
+        Assertions.assertEquals(0, ArithmeticUtils.icbrt(0));
+        Assertions.assertEquals(2, ArithmeticUtils.icbrt(26));
+        Assertions.assertEquals(3, ArithmeticUtils.icbrt(27));
+        Assertions.assertEquals(-3, ArithmeticUtils.icbrt(-28));
+        Assertions.assertEquals(1290, ArithmeticUtils.icbrt(Integer.MAX_VALUE));
+        Assertions.assertEquals(-1290, ArithmeticUtils.icbrt(Integer.MIN_VALUE));
+        Assertions.assertEquals(2097151L, ArithmeticUtils.icbrt(Long.MAX_VALUE));
+        Assertions.assertEquals(-2097152L, ArithmeticUtils.icbrt(Long.MIN_VALUE));
+        Assertions.assertEquals(-2L, ArithmeticUtils.iroot(Long.MIN_VALUE, 63));
+        Assertions.assertEquals(-1L, ArithmeticUtils.iroot(Long.MIN_VALUE, 65));
+        Assertions.assertEquals(Long.MIN_VALUE, ArithmeticUtils.iroot(Long.MIN_VALUE, 1));
+        Assertions.assertEquals(1L, ArithmeticUtils.iroot(Long.MAX_VALUE, 63));
+        Assertions.assertEquals(1L, ArithmeticUtils.iroot(Long.MAX_VALUE, 1000));
+        Assertions.assertEquals(0L, ArithmeticUtils.iroot(0L, 7));
+        Assertions.assertEquals(-5, ArithmeticUtils.iroot(-5, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArithmeticUtils.iroot(2, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArithmeticUtils.iroot(-2L, 4));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArithmeticUtils.iroot(BigInteger.TEN, -1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ArithmeticUtils.iroot(BigInteger.ONE.shiftLeft(100).negate(), 2));
+
+        final java.util.Random rng = new java.util.Random(97531);
+        for (int i = 0; i < 1000; i++) {
+            final int k = 1 + rng.nextInt(70);
+            final long x = rng.nextLong() >> rng.nextInt(64);
+            final int kk = x < 0 && (k & 1) == 0 ? k + 1 : k;
+            final long r = ArithmeticUtils.iroot(x, kk);
+            Assertions.assertEquals(referenceRoot(BigInteger.valueOf(x), kk), BigInteger.valueOf(r),
+                () -> x + " " + kk);
+            if (x == (int) x) {
+                Assertions.assertEquals((int) r, ArithmeticUtils.iroot((int) x, kk));
+            }
+            final BigInteger b = new BigInteger(64 + rng.nextInt(1000), rng);
+            final BigInteger bx = rng.nextBoolean() ? b : b.negate();
+            final int bk = bx.signum() < 0 && (k & 1) == 0 ? k + 1 : k;
+            Assertions.assertEquals(referenceRoot(bx, bk), ArithmeticUtils.iroot(bx, bk));
+            // Exact powers
+            final BigInteger root = ArithmeticUtils.iroot(b, k);
+            Assertions.assertEquals(root, ArithmeticUtils.iroot(root.pow(k), k));
+            if (root.compareTo(BigInteger.ONE) > 0) {
+                Assertions.assertEquals(root.subtract(BigInteger.ONE),
+                    ArithmeticUtils.iroot(root.pow(k).subtract(BigInteger.ONE), k));
+            }
+        }
+        Assertions.assertEquals(BigInteger.valueOf(-1000), ArithmeticUtils.icbrt(BigInteger.valueOf(-1000000000)));
+        Assertions.assertEquals(BigInteger.TEN.pow(100), ArithmeticUtils.icbrt(BigInteger.TEN.pow(300)));
+        Assertions.assertEquals(BigInteger.ONE, ArithmeticUtils.iroot(BigInteger.TEN.pow(30), 100));
+    }
+
+    /**
+     * Compute the integer root rounded towards zero using bisection.
+     *
+     * @param x Number.
+     * @param k Degree.
+     * @return the root
+     */
+    private static BigInteger referenceRoot(BigInteger x, int k) {
+        if (x.signum() < 0) {
+            return referenceRoot(x.negate(), k).negate();
+        }
+        BigInteger lo = BigInteger.ZERO;
+        BigInteger hi = BigInteger.ONE.shiftLeft(x.bitLength() / k + 1);
+        // Invariant: lo^k <= x < hi^k
+        while (hi.subtract(lo).compareTo(BigInteger.ONE) > 0) {
+            final BigInteger mid = lo.add(hi).shiftRight(1);
+            if (mid.pow(k).compareTo(x) <= 0) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    @Test
+    void testIsPerfectSquare() {
+        int count = 0;
+        for (int i = -10; i < 100000; i++) {
+            final boolean expected = i >= 0 && ArithmeticUtils.isqrt(i) * ArithmeticUtils.isqrt(i) == i;
+            Assertions.assertEquals(expected, ArithmeticUtils.isPerfectSquare(i));
+            Assertions.assertEquals(expected, ArithmeticUtils.isPerfectSquare((long) i));
+            Assertions.assertEquals(expected, ArithmeticUtils.isPerfectSquare(BigInteger.valueOf(i)));
+            count += expected ? 1 : 0;
+        }
+        Assertions.assertEquals(317, count);
+        Assertions.assertTrue(ArithmeticUtils.isPerfectSquare(3037000499L * 3037000499L));
+        Assertions.assertFalse(ArithmeticUtils.isPerfectSquare(3037000499L * 3037000499L + 1));
+        Assertions.assertFalse(ArithmeticUtils.isPerfectSquare(Long.MAX_VALUE));
+        Assertions.assertFalse(ArithmeticUtils.isPerfectSquare(Long.MIN_VALUE));
+        final java.util.Random rng = new java.util.Random(11223);
+        for (int i = 0; i < 500; i++) {
+            final BigInteger r = new BigInteger(32 + rng.nextInt(500), rng);
+            final BigInteger x = r.multiply(r);
+            Assertions.assertTrue(ArithmeticUtils.isPerfectSquare(x));
+            Assertions.assertFalse(ArithmeticUtils.isPerfectSquare(x.add(BigInteger.ONE)));
+            Assertions.assertFalse(ArithmeticUtils.isPerfectSquare(x.negate()));
+            Assertions.assertFalse(ArithmeticUtils.isPerfectSquare(x.add(r.shiftLeft(1)).add(BigInteger.TEN)));
+        }
+    }
+
+    @Test
+    void testIsPerfectPower() {
+        Assertions.assertTrue(ArithmeticUtils.isPerfectPower(0));
+        Assertions.assertTrue(ArithmeticUtils.isPerfectPower(1));
+        Assertions.assertTrue(ArithmeticUtils.isPerfectPower(-1));
+        Assertions.assertFalse(ArithmeticUtils.isPerfectPower(2));
+        Assertions.assertFalse(ArithmeticUtils.isPerfectPower(-4));
+        Assertions.assertTrue(ArithmeticUtils.isPerfectPower(-8));
+        Assertions.assertTrue(ArithmeticUtils.isPerfectPower(Integer.MIN_VALUE));
+        Assertions.assertTrue(ArithmeticUtils.isPerfectPower(Long.MIN_VALUE));
+        Assertions.assertFalse(ArithmeticUtils.isPerfectPower(Long.MAX_VALUE));
+        Assertions.assertTrue(ArithmeticUtils.isPerfectPower(1L << 62));
+        Assertions.assertTrue(ArithmeticUtils.isPerfectPower(-(1L << 61)));
+        Assertions.assertTrue(ArithmeticUtils.isPerfectPower(-(1L << 62)));
+        Assertions.assertFalse(ArithmeticUtils.isPerfectPower(-(1L << 32)));
+        Assertions.assertTrue(ArithmeticUtils.isPerfectPower(ArithmeticUtils.pow(3L, 39)));
+        Assertions.assertTrue(ArithmeticUtils.isPerfectPower(-ArithmeticUtils.pow(7L, 19)));
+        Assertions.assertFalse(ArithmeticUtils.isPerfectPower(ArithmeticUtils.pow(7L, 19) + 1));
+
+        // Exhaustive small range
+        final java.util.Set<Long> powers = new java.util.HashSet<>();
+        final long limit = 100000;
+        for (long a = 2; a * a <= limit; a++) {
+            for (long p = a * a; p <= limit; p *= a) {
+                powers.add(p);
+            }
+        }
+        for (long x = 2; x <= limit; x++) {
+            final boolean expected = powers.contains(x);
+            Assertions.assertEquals(expected, ArithmeticUtils.isPerfectPower(x));
+            Assertions.assertEquals(expected, ArithmeticUtils.isPerfectPower((int) x));
+            Assertions.assertEquals(expected, ArithmeticUtils.isPerfectPower(BigInteger.valueOf(x)));
+            // Negative numbers are odd powers
+            final boolean odd = expected && (referenceRoot(BigInteger.valueOf(x), 3).pow(3).longValue() == x ||
+                referenceRoot(BigInteger.valueOf(x), 5).pow(5).longValue() == x ||
+                referenceRoot(BigInteger.valueOf(x), 7).pow(7).longValue() == x ||
+                referenceRoot(BigInteger.valueOf(x), 11).pow(11).longValue() == x ||
+                referenceRoot(BigInteger.valueOf(x), 13).pow(13).longValue() == x);
+            Assertions.assertEquals(odd, ArithmeticUtils.isPerfectPower(-x));
+        }
+
+        final BigInteger big = BigInteger.valueOf(12345678901L);
+        for (int k = 2; k < 30; k++) {
+            final BigInteger p = big.pow(k);
+            Assertions.assertTrue(ArithmeticUtils.isPerfectPower(p));
+            Assertions.assertFalse(ArithmeticUtils.isPerfectPower(p.add(BigInteger.ONE)));
+            // Negative values require an odd factor in the exponent
+            Assertions.assertEquals(!ArithmeticUtils.isPowerOfTwo(k), ArithmeticUtils.isPerfectPower(p.negate()));
+        }
+        Assertions.assertTrue(ArithmeticUtils.isPerfectPower(BigInteger.valueOf(3).pow(97)));
+        Assertions.assertFalse(ArithmeticUtils.isPerfectPower(BigInteger.valueOf(6).pow(97).add(BigInteger.valueOf(6))));
+        Assertions.assertTrue(ArithmeticUtils.isPerfectPower(BigInteger.ONE.shiftLeft(101).negate()));
+    }
+
     @Test
     void testRemainderUnsignedInt() {
         Assertions.assertEquals(36, ArithmeticUtils.remainderUnsigned(-2147479015, 63));
@@ -624,4 +1012,21 @@ class ArithmeticUtilsTest {
             }
         }
     }
+
+    @Test
+    void testMultiplyHigh() {
+        final long[] longs = getLongSpecialCases();
+        final BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (long a : longs) {
+            for (long b : longs) {
+                final BigInteger signed = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b));
+                Assertions.assertEquals(signed.shiftRight(64).longValue(), ArithmeticUtils.multiplyHigh(a, b),
+                    () -> a + " * " + b);
+                final BigInteger unsigned = BigInteger.valueOf(a).and(mask)
+                    .multiply(BigInteger.valueOf(b).and(mask));
+                Assertions.assertEquals(unsigned.shiftRight(64).longValue(), ArithmeticUtils.multiplyHighUnsigned(a, b),
+                    () -> a + " * " + b + " (unsigned)");
+            }
+        }
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link BigIntegerPowers}.
+ */
+class BigIntegerPowersTest {
+    @Test
+    void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BigIntegerPowers.of(10, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BigIntegerPowers.of(10, Integer.MAX_VALUE));
+        final BigIntegerPowers p = BigIntegerPowers.of(10, 5);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> p.pow(-1));
+    }
+
+    @Test
+    void testProperties() {
+        final BigIntegerPowers p = BigIntegerPowers.of(BigInteger.TEN, 17);
+        Assertions.assertEquals(BigInteger.TEN, p.getBase());
+        Assertions.assertEquals(17, p.getMaxExponent());
+        Assertions.assertEquals(BigInteger.valueOf(-3), BigIntegerPowers.of(-3, 0).getBase());
+    }
+
+    @Test
+    void testPow() {
+        for (final long base : new long[] {0, 1, -1, 2, 10, -7, 123456789012345L}) {
+            final BigInteger b = BigInteger.valueOf(base);
+            for (final int max : new int[] {0, 1, 2, 10, 64}) {
+                final BigIntegerPowers p = BigIntegerPowers.of(base, max);
+                // Access in random order then repeat to use the cached values
+                for (int repeat = 0; repeat < 2; repeat++) {
+                    for (int e = 150; e >= 0; e -= 7) {
+                        Assertions.assertEquals(b.pow(e), p.pow(e));
+                    }
+                    for (int e = 0; e <= 150; e++) {
+                        Assertions.assertEquals(b.pow(e), p.pow(e));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testPowIsCached() {
+        final BigIntegerPowers p = BigIntegerPowers.of(10, 100);
+        Assertions.assertSame(p.pow(50), p.pow(50));
+        Assertions.assertSame(p.pow(25), p.pow(25));
+        Assertions.assertSame(p.pow(100), p.pow(100));
+    }
+
+    @Test
+    void testConcurrentAccess() throws InterruptedException, ExecutionException {
+        final BigIntegerPowers p = BigIntegerPowers.of(13, 500);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int offset = t;
+                results.add(executor.submit(() -> {
+                    final BigInteger b = BigInteger.valueOf(13);
+                    for (int e = offset; e <= 600; e += 3) {
+                        if (!b.pow(e).equals(p.pow(e))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (final Future<Boolean> f : results) {
+                Assertions.assertTrue(f.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link DD} class.
+ */
+class DDTest {
+    /** Relative error expected for double-double operations (2^-102). */
+    private static final double EPS = 0x1.0p-102;
+    /** Context for the reference computations. */
+    private static final MathContext MC = new MathContext(60);
+
+    @Test
+    void testFactories() {
+        final DD a = DD.of(1.5);
+        Assertions.assertEquals(1.5, a.hi());
+        Assertions.assertEquals(0.0, a.lo());
+
+        final DD b = DD.ofSum(1, 0x1.0p-60);
+        Assertions.assertEquals(1.0, b.hi());
+        Assertions.assertEquals(0x1.0p-60, b.lo());
+        Assertions.assertEquals(b, DD.of(0x1.0p-60, 1));
+
+        final DD c = DD.ofProduct(1 + 0x1.0p-30, 1 + 0x1.0p-30);
+        Assertions.assertEquals(0, new BigDecimal(1 + 0x1.0p-30).pow(2).compareTo(c.bigDecimalValue()));
+
+        for (final long v : new long[] {0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 12345,
+                                        (1L << 53) + 1, -(1L << 60) - 7}) {
+            final DD d = DD.of(v);
+            Assertions.assertEquals(0, BigDecimal.valueOf(v).compareTo(d.bigDecimalValue()));
+            Assertions.assertEquals(v, d.longValue());
+        }
+
+        final BigDecimal pi = new BigDecimal("3.14159265358979323846264338327950288419716939937510");
+        final DD p = DD.from(pi);
+        Assertions.assertEquals(Math.PI, p.hi());
+        assertClose(pi, p, EPS);
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, DD.from(new BigDecimal("1e400")).hi());
+    }
+
+    @Test
+    void testArithmetic() {
+        final SplittableRandom rng = new SplittableRandom(1234567L);
+        for (int i = 0; i < 200; i++) {
+            final DD a = DD.ofSum(rng.nextDouble() * 10 - 5, (rng.nextDouble() - 0.5) * 1e-17);
+            final DD b = DD.ofSum(rng.nextDouble() * 4 + 0.5, (rng.nextDouble() - 0.5) * 1e-17);
+            final BigDecimal ba = a.bigDecimalValue();
+            final BigDecimal bb = b.bigDecimalValue();
+            final double y = rng.nextDouble() * 3 + 1;
+            assertClose(ba.add(bb), a.add(b), EPS);
+            assertClose(ba.subtract(bb), a.subtract(b), EPS);
+            assertClose(ba.multiply(bb), a.multiply(b), EPS);
+            assertClose(ba.divide(bb, MC), a.divide(b), EPS);
+            assertClose(ba.add(new BigDecimal(y)), a.add(y), EPS);
+            assertClose(ba.subtract(new BigDecimal(y)), a.subtract(y), EPS);
+            assertClose(ba.multiply(new BigDecimal(y)), a.multiply(y), EPS);
+            assertClose(ba.divide(new BigDecimal(y), MC), a.divide(y), EPS);
+            assertClose(bb.sqrt(MC), b.sqrt(), EPS);
+            assertClose(ba.multiply(BigDecimal.valueOf(7)), a.multiply(7), EPS);
+            assertClose(BigDecimal.ONE.divide(bb, MC), b.reciprocal(), EPS);
+            assertClose(bb.pow(5), b.pow(5), 8 * EPS);
+            assertClose(BigDecimal.ONE.divide(bb.pow(3), MC), b.pow(-3), 8 * EPS);
+        }
+    }
+
+    @Test
+    void testStaticPairs() {
+        final SplittableRandom rng = new SplittableRandom(98765L);
+        final double[] z = new double[2];
+        for (int i = 0; i < 100; i++) {
+            final DD a = DD.ofSum(rng.nextDouble() * 10 - 5, (rng.nextDouble() - 0.5) * 1e-17);
+            final DD b = DD.ofSum(rng.nextDouble() * 4 + 0.5, (rng.nextDouble() - 0.5) * 1e-17);
+            assertSame(a.add(b), DD.add(a.hi(), a.lo(), b.hi(), b.lo(), z));
+            assertSame(a.multiply(b), DD.multiply(a.hi(), a.lo(), b.hi(), b.lo(), z));
+            assertSame(a.divide(b), DD.divide(a.hi(), a.lo(), b.hi(), b.lo(), z));
+            assertSame(b.sqrt(), DD.sqrt(b.hi(), b.lo(), z));
+        }
+        // Accumulation in place
+        z[0] = 0;
+        z[1] = 0;
+        for (int i = 0; i < 10; i++) {
+            DD.add(z[0], z[1], 0.1, 0, z);
+        }
+        Assertions.assertEquals(0, new BigDecimal(0.1).multiply(BigDecimal.TEN)
+                                .compareTo(DD.of(z[0], z[1]).bigDecimalValue()));
+    }
+
+    @Test
+    void testErrorFreeTransformations() {
+        final double[] values = {1.1, -2.7, 1e300, 3e-300, 0x1.fffffffffffffp1023, 123456789.123};
+        for (final double a : values) {
+            for (final double b : values) {
+                final double s = a + b;
+                if (Double.isFinite(s)) {
+                    Assertions.assertEquals(0, new BigDecimal(a).add(new BigDecimal(b))
+                                            .compareTo(new BigDecimal(s).add(new BigDecimal(DD.twoSumLow(a, b, s)))));
+                }
+                final double p = a * b;
+                if (Double.isFinite(p) && Math.abs(p) > 0x1.0p-960) {
+                    Assertions.assertEquals(0, new BigDecimal(a).multiply(new BigDecimal(b))
+                                            .compareTo(new BigDecimal(p).add(new BigDecimal(DD.twoProductLow(a, b, p)))));
+                }
+            }
+        }
+        Assertions.assertEquals(0.0, DD.twoProductLow(1e-200, 1e-200, 1e-200 * 1e-200));
+        Assertions.assertEquals(Double.NaN, DD.twoProductLow(1e200, 1e200, 1e200 * 1e200));
+        Assertions.assertEquals(0x1.0p-53, DD.fastTwoSumLow(1.0, 0x1.0p-53, 1.0 + 0x1.0p-53));
+    }
+
+    @Test
+    void testNonFinite() {
+        Assertions.assertEquals(DD.of(Double.POSITIVE_INFINITY), DD.of(1e308).multiply(DD.of(10)));
+        Assertions.assertEquals(DD.of(Double.POSITIVE_INFINITY), DD.of(1e308).add(DD.of(1e308)));
+        Assertions.assertEquals(Double.NaN, DD.of(-2).sqrt().hi());
+        Assertions.assertEquals(DD.ZERO, DD.ZERO.sqrt());
+        Assertions.assertEquals(0.0, DD.of(1).divide(DD.ZERO).lo());
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, DD.of(1).divide(DD.ZERO).hi());
+    }
+
+    @Test
+    void testConversions() {
+        final DD a = DD.ofSum(1L << 60, -0.25);
+        Assertions.assertEquals((1L << 60) - 1, a.longValue());
+        Assertions.assertEquals(-(1L << 60) + 1, a.negate().longValue());
+        Assertions.assertEquals(Integer.MAX_VALUE, a.intValue());
+        Assertions.assertEquals(Integer.MIN_VALUE, a.negate().intValue());
+        Assertions.assertEquals(0x1.0p60, a.doubleValue());
+        Assertions.assertEquals(0x1.0p60f, a.floatValue());
+        Assertions.assertEquals(Long.MAX_VALUE, DD.ofSum(0x1.0p63, -1).longValue());
+        Assertions.assertEquals(Long.MAX_VALUE, DD.ofSum(0x1.0p63, 1).longValue());
+        Assertions.assertEquals(Long.MIN_VALUE, DD.ofSum(-0x1.0p63, -1).longValue());
+        Assertions.assertEquals(Long.MIN_VALUE + 1, DD.ofSum(-0x1.0p63, 1).longValue());
+        Assertions.assertEquals(Long.MIN_VALUE, DD.of(-0x1.0p64).longValue());
+        Assertions.assertEquals(2, DD.ofSum(2.5, 1e-20).longValue());
+        Assertions.assertEquals(-2, DD.ofSum(-2.5, 1e-20).intValue());
+        Assertions.assertEquals(0, DD.of(Double.NaN).longValue());
+    }
+
+    @Test
+    void testObjectMethods() {
+        final DD a = DD.ofSum(1, 0x1.0p-60);
+        final DD b = DD.ofSum(1, 0x1.0p-60);
+        Assertions.assertEquals(a, b);
+        Assertions.assertEquals(a.hashCode(), b.hashCode());
+        Assertions.assertNotEquals(a, DD.of(1));
+        Assertions.assertNotEquals(a, Double.valueOf(1));
+        Assertions.assertEquals(1, a.compareTo(DD.ONE));
+        Assertions.assertEquals(-1, DD.ONE.compareTo(a));
+        Assertions.assertEquals(0, a.compareTo(b));
+        Assertions.assertEquals("(1.0," + 0x1.0p-60 + ")", a.toString());
+        Assertions.assertEquals(DD.ZERO, a.zero());
+        Assertions.assertEquals(DD.ONE, a.one());
+        Assertions.assertEquals(a, a.negate().abs());
+        Assertions.assertEquals(DD.ONE, a.pow(0));
+    }
+
+    /**
+     * Assert the double-double number is close to the expected value.
+     *
+     * @param expected Expected value.
+     * @param actual Actual value.
+     * @param eps Relative tolerance.
+     */
+    private static void assertClose(BigDecimal expected, DD actual, double eps) {
+        final BigDecimal err = actual.bigDecimalValue().subtract(expected).abs();
+        final double rel = err.doubleValue() / expected.abs().doubleValue();
+        Assertions.assertTrue(rel <= eps, () -> expected + " vs " + actual + " : rel error " + rel);
+        // Normalized
+        Assertions.assertEquals(actual.hi(), actual.hi() + actual.lo());
+    }
+
+    /**
+     * Assert the pair holds the same parts as the number.
+     *
+     * @param expected Expected value.
+     * @param z Pair.
+     */
+    private static void assertSame(DD expected, double[] z) {
+        Assertions.assertEquals(expected.hi(), z[0]);
+        Assertions.assertEquals(expected.lo(), z[1]);
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.BinaryOperator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link ExactArrays}.
+ */
+class ExactArraysTest {
+    /** Limits used to create edge case values. */
+    private static final long[] LONG_EDGES = {
+        0, 1, -1, 2, -2, Integer.MAX_VALUE, Integer.MIN_VALUE,
+        Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE + 1,
+        1L << 32, -(1L << 32), 3037000499L, 3037000500L, -3037000500L,
+    };
+    /** Limits used to create edge case values. */
+    private static final int[] INT_EDGES = {
+        0, 1, -1, 2, -2, Integer.MAX_VALUE, Integer.MIN_VALUE,
+        Integer.MAX_VALUE - 1, Integer.MIN_VALUE + 1, 46340, 46341, -46341,
+    };
+
+    @Test
+    void testDimensionMismatch() {
+        final int[] i1 = new int[1];
+        final int[] i2 = new int[2];
+        final long[] l1 = new long[1];
+        final long[] l2 = new long[2];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExactArrays.add(i1, i2, i1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExactArrays.add(i1, i1, i2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExactArrays.subtract(i1, i2, i1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExactArrays.multiply(i1, i1, i2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExactArrays.add(l1, l2, l1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExactArrays.subtract(l1, l1, l2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExactArrays.multiply(l2, l1, l1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExactArrays.dot(i1, i2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExactArrays.bigDot(i1, i2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExactArrays.dot(l1, l2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExactArrays.bigDot(l1, l2));
+    }
+
+    @Test
+    void testIntElementwise() {
+        assertIntElementwise(ExactArrays::add, Math::addExact);
+        assertIntElementwise(ExactArrays::subtract, Math::subtractExact);
+        assertIntElementwise(ExactArrays::multiply, Math::multiplyExact);
+    }
+
+    @Test
+    void testLongElementwise() {
+        assertLongElementwise(ExactArrays::add, Math::addExact);
+        assertLongElementwise(ExactArrays::subtract, Math::subtractExact);
+        assertLongElementwise(ExactArrays::multiply, Math::multiplyExact);
+    }
+
+    /**
+     * Operation on int arrays.
+     */
+    private interface IntArrayOperation {
+        /**
+         * Apply the operation.
+         *
+         * @param a First values.
+         * @param b Second values.
+         * @param result Result.
+         */
+        void apply(int[] a, int[] b, int[] result);
+    }
+
+    /**
+     * Operation on long arrays.
+     */
+    private interface LongArrayOperation {
+        /**
+         * Apply the operation.
+         *
+         * @param a First values.
+         * @param b Second values.
+         * @param result Result.
+         */
+        void apply(long[] a, long[] b, long[] result);
+    }
+
+    private static void assertIntElementwise(IntArrayOperation op, BinaryOperator<Integer> exact) {
+        for (final int x : INT_EDGES) {
+            for (final int y : INT_EDGES) {
+                // Place the pair after some valid values
+                final int[] a = {1, 2, 3, x};
+                final int[] b = {4, 5, 6, y};
+                final int[] r = new int[4];
+                Integer expected;
+                try {
+                    expected = exact.apply(x, y);
+                } catch (ArithmeticException ex) {
+                    expected = null;
+                }
+                if (expected == null) {
+                    Assertions.assertThrows(ArithmeticException.class, () -> op.apply(a, b, r));
+                } else {
+                    op.apply(a, b, r);
+                    Assertions.assertEquals(expected.intValue(), r[3]);
+                    Assertions.assertEquals((int) exact.apply(1, 4), r[0]);
+                    // In-place
+                    op.apply(a, b, a);
+                    Assertions.assertArrayEquals(r, a);
+                }
+            }
+        }
+    }
+
+    private static void assertLongElementwise(LongArrayOperation op, BinaryOperator<Long> exact) {
+        for (final long x : LONG_EDGES) {
+            for (final long y : LONG_EDGES) {
+                final long[] a = {1, 2, 3, x};
+                final long[] b = {4, 5, 6, y};
+                final long[] r = new long[4];
+                Long expected;
+                try {
+                    expected = exact.apply(x, y);
+                } catch (ArithmeticException ex) {
+                    expected = null;
+                }
+                if (expected == null) {
+                    Assertions.assertThrows(ArithmeticException.class, () -> op.apply(a, b, r));
+                } else {
+                    op.apply(a, b, r);
+                    Assertions.assertEquals(expected.longValue(), r[3]);
+                    Assertions.assertEquals((long) exact.apply(1L, 4L), r[0]);
+                    op.apply(a, b, b);
+                    Assertions.assertArrayEquals(r, b);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSumInt() {
+        Assertions.assertEquals(0, ExactArrays.sum(new int[0]));
+        final int[] x = new int[1000];
+        Arrays.fill(x, Integer.MAX_VALUE);
+        Assertions.assertEquals(1000L * Integer.MAX_VALUE, ExactArrays.sum(x));
+        Arrays.fill(x, Integer.MIN_VALUE);
+        Assertions.assertEquals(1000L * Integer.MIN_VALUE, ExactArrays.sum(x));
+    }
+
+    @Test
+    void testSumLong() {
+        Assertions.assertEquals(0, ExactArrays.sum(new long[0]));
+        Assertions.assertEquals(BigInteger.ZERO, ExactArrays.bigSum(new long[0]));
+        // Intermediate overflow
+        final long[] x = {Long.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, 5, Long.MAX_VALUE};
+        Assertions.assertEquals(3, ExactArrays.sum(Arrays.copyOf(x, 5)));
+        Assertions.assertThrows(ArithmeticException.class, () -> ExactArrays.sum(x));
+        Assertions.assertEquals(bigSum(x), ExactArrays.bigSum(x));
+        final long[] y = {Long.MIN_VALUE, -1};
+        Assertions.assertThrows(ArithmeticException.class, () -> ExactArrays.sum(y));
+        Assertions.assertEquals(bigSum(y), ExactArrays.bigSum(y));
+
+        final SplittableRandom rng = new SplittableRandom(123);
+        for (int i = 0; i < 500; i++) {
+            final long[] z = rng.longs(rng.nextInt(1, 50)).map(v -> v >> rng.nextInt(64)).toArray();
+            final BigInteger expected = bigSum(z);
+            Assertions.assertEquals(expected, ExactArrays.bigSum(z));
+            if (expected.bitLength() < Long.SIZE) {
+                Assertions.assertEquals(expected.longValue(), ExactArrays.sum(z));
+            } else {
+                Assertions.assertThrows(ArithmeticException.class, () -> ExactArrays.sum(z));
+            }
+        }
+    }
+
+    @Test
+    void testDotInt() {
+        Assertions.assertEquals(0, ExactArrays.dot(new int[0], new int[0]));
+        final int[] a = new int[10];
+        Arrays.fill(a, Integer.MIN_VALUE);
+        // 10 * 2^62 overflows
+        Assertions.assertThrows(ArithmeticException.class, () -> ExactArrays.dot(a, a));
+        Assertions.assertEquals(BigInteger.valueOf(10).shiftLeft(62), ExactArrays.bigDot(a, a));
+        final int[] b = a.clone();
+        b[1] = Integer.MAX_VALUE;
+        b[3] = Integer.MAX_VALUE;
+        b[5] = Integer.MAX_VALUE;
+        b[7] = Integer.MAX_VALUE;
+        b[9] = Integer.MAX_VALUE;
+        // Cancellation: 5 * 2^62 - 5 * (2^62 - 2^31)
+        Assertions.assertEquals(5L << 31, ExactArrays.dot(a, b));
+
+        final SplittableRandom rng = new SplittableRandom(456);
+        for (int i = 0; i < 500; i++) {
+            final int n = rng.nextInt(1, 50);
+            final int[] x = rng.ints(n).map(v -> v >> rng.nextInt(32)).toArray();
+            final int[] y = rng.ints(n).map(v -> v >> rng.nextInt(32)).toArray();
+            final BigInteger expected = bigDot(Arrays.stream(x).asLongStream().toArray(),
+                                               Arrays.stream(y).asLongStream().toArray());
+            Assertions.assertEquals(expected, ExactArrays.bigDot(x, y));
+            if (expected.bitLength() < Long.SIZE) {
+                Assertions.assertEquals(expected.longValue(), ExactArrays.dot(x, y));
+            } else {
+                Assertions.assertThrows(ArithmeticException.class, () -> ExactArrays.dot(x, y));
+            }
+        }
+    }
+
+    @Test
+    void testDotLong() {
+        Assertions.assertEquals(0, ExactArrays.dot(new long[0], new long[0]));
+        // Overflow of 128-bits uses the BigInteger fallback
+        final long[] a = {Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE};
+        Assertions.assertEquals(bigDot(a, a), ExactArrays.bigDot(a, a));
+        Assertions.assertThrows(ArithmeticException.class, () -> ExactArrays.dot(a, a));
+        final long[] b = {Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, 1};
+        final long[] c = {Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, 1};
+        Assertions.assertEquals(bigDot(b, c), ExactArrays.bigDot(b, c));
+        // 2 * 2^126 - 2 * (2^126 - 2^63) + 1 = 2^64 + 1
+        Assertions.assertThrows(ArithmeticException.class, () -> ExactArrays.dot(b, c));
+        c[2] = Long.MIN_VALUE + 1;
+        c[3] = Long.MIN_VALUE + 1;
+        b[2] = Long.MAX_VALUE;
+        b[3] = Long.MAX_VALUE;
+        Assertions.assertEquals(bigDot(b, c), ExactArrays.bigDot(b, c));
+
+        final SplittableRandom rng = new SplittableRandom(789);
+        for (int i = 0; i < 500; i++) {
+            final int n = rng.nextInt(1, 50);
+            final long[] x = rng.longs(n).map(v -> v >> rng.nextInt(64)).toArray();
+            final long[] y = rng.longs(n).map(v -> v >> rng.nextInt(64)).toArray();
+            final BigInteger expected = bigDot(x, y);
+            Assertions.assertEquals(expected, ExactArrays.bigDot(x, y));
+            if (expected.bitLength() < Long.SIZE) {
+                Assertions.assertEquals(expected.longValue(), ExactArrays.dot(x, y));
+            } else {
+                Assertions.assertThrows(ArithmeticException.class, () -> ExactArrays.dot(x, y));
+            }
+        }
+        // Result fits in a long after 128-bit overflow of intermediate sums
+        final long[] d = {Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, 7};
+        final long[] e = {Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, 1};
+        final long[] f = {1, 1, -2, 1};
+        Assertions.assertEquals(bigDot(d, e), ExactArrays.bigDot(d, e));
+        Assertions.assertEquals(7, ExactArrays.dot(d, f));
+        final long[] g = {Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, 3};
+        final long[] h = {Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, 5};
+        final long[] k = {Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, 1};
+        final long[] m = {Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1, Long.MIN_VALUE + 1, 1};
+        Assertions.assertEquals(bigDot(g, h), ExactArrays.bigDot(g, h));
+        Assertions.assertEquals(bigDot(k, m), ExactArrays.bigDot(k, m));
+        // 2 * 2^126 - 2 * (2^63 - 1)^2 + 1 = 2^65 - 1
+        Assertions.assertThrows(ArithmeticException.class, () -> ExactArrays.dot(k, m));
+    }
+
+    private static BigInteger bigSum(long[] x) {
+        BigInteger s = BigInteger.ZERO;
+        for (final long v : x) {
+            s = s.add(BigInteger.valueOf(v));
+        }
+        return s;
+    }
+
+    private static BigInteger bigDot(long[] a, long[] b) {
+        BigInteger s = BigInteger.ZERO;
+        for (int i = 0; i < a.length; i++) {
+            s = s.add(BigInteger.valueOf(a[i]).multiply(BigInteger.valueOf(b[i])));
+        }
+        return s;
+    }
+}
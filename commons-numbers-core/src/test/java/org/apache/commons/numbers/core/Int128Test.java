@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link Int128} class.
+ */
+class Int128Test {
+    /** 2^128. */
+    private static final BigInteger TWO_POW_128 = BigInteger.ONE.shiftLeft(128);
+    /** 2^127. */
+    private static final BigInteger TWO_POW_127 = BigInteger.ONE.shiftLeft(127);
+    /** 2^64 - 1. */
+    private static final BigInteger MASK64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+    /** Special long values. */
+    private static final long[] SPECIAL = {0, 1, -1, 2, -2, 3, Long.MAX_VALUE, Long.MIN_VALUE,
+        Long.MAX_VALUE - 1, Long.MIN_VALUE + 1, 1L << 32, -(1L << 32), 0xffffffffL};
+
+    @Test
+    void testFactories() {
+        Assertions.assertEquals(BigInteger.ZERO, Int128.ZERO.toBigInteger());
+        Assertions.assertEquals(BigInteger.ONE, Int128.ONE.toBigInteger());
+        for (final long x : SPECIAL) {
+            Assertions.assertEquals(BigInteger.valueOf(x), Int128.of(x).toBigInteger());
+            Assertions.assertEquals(unsigned(x), Int128.ofUnsigned(x).toBigInteger());
+            Assertions.assertEquals(x, Int128.of(x).hi() == x >> 63 ? Int128.of(x).lo() : 0);
+            for (final long y : SPECIAL) {
+                final Int128 v = Int128.of(x, y);
+                Assertions.assertEquals(x, v.hi());
+                Assertions.assertEquals(y, v.lo());
+                Assertions.assertEquals(BigInteger.valueOf(x).multiply(BigInteger.valueOf(y)),
+                    Int128.ofProduct(x, y).toBigInteger());
+                Assertions.assertEquals(unsigned(x).multiply(unsigned(y)),
+                    unsigned(Int128.ofProductUnsigned(x, y)));
+            }
+        }
+    }
+
+    @Test
+    void testArithmetic() {
+        final SplittableRandom rng = new SplittableRandom(1234L);
+        for (int i = 0; i < 5000; i++) {
+            final Int128 a = nextInt128(rng, i);
+            final Int128 b = nextInt128(rng, i + 7);
+            final long y = i < SPECIAL.length ? SPECIAL[i] : rng.nextLong() >> rng.nextInt(64);
+            final BigInteger ba = a.toBigInteger();
+            final BigInteger bb = b.toBigInteger();
+            final BigInteger by = BigInteger.valueOf(y);
+            Assertions.assertEquals(wrap(ba.add(by)), a.add(y).toBigInteger());
+            Assertions.assertEquals(wrap(ba.add(bb)), a.add(b).toBigInteger());
+            Assertions.assertEquals(wrap(ba.subtract(bb)), a.subtract(b).toBigInteger());
+            Assertions.assertEquals(wrap(ba.negate()), a.negate().toBigInteger());
+            Assertions.assertEquals(wrap(ba.abs()), a.abs().toBigInteger());
+            Assertions.assertEquals(wrap(ba.multiply(by)), a.multiply(y).toBigInteger());
+            Assertions.assertEquals(ba.signum(), a.signum());
+            Assertions.assertEquals(ba.compareTo(bb), a.compareTo(b));
+            Assertions.assertEquals(unsigned(a).compareTo(unsigned(b)), Int128.compareUnsigned(a, b));
+            Assertions.assertEquals(ba.bitLength() < 64, a.isLong());
+            Assertions.assertEquals(ba.toString(), a.toString());
+            Assertions.assertEquals(ba.longValue(), a.longValue());
+            Assertions.assertEquals(ba.intValue(), a.intValue());
+            Assertions.assertEquals(new BigDecimal(ba).round(MathContext.DECIMAL128).doubleValue(),
+                a.doubleValue(), () -> ba.toString());
+            Assertions.assertEquals(ba.doubleValue(), a.doubleValue(), () -> ba.toString());
+            Assertions.assertEquals(ba.floatValue(), a.floatValue(), () -> ba.toString());
+            if (y != 0) {
+                Assertions.assertEquals(wrap(ba.divide(by)), a.divide(y).toBigInteger(), () -> ba + " / " + y);
+                Assertions.assertEquals(ba.remainder(by).longValue(), a.remainder(y), () -> ba + " % " + y);
+                final BigInteger uy = unsigned(y);
+                Assertions.assertEquals(unsigned(a).divide(uy), unsigned(a.divideUnsigned(y)));
+                Assertions.assertEquals(unsigned(a).remainder(uy), unsigned(a.remainderUnsigned(y)));
+            }
+            final BigInteger gcd = ba.gcd(by);
+            if (gcd.bitLength() < 64) {
+                Assertions.assertEquals(gcd.longValue(), a.gcd(y), () -> "gcd(" + ba + ", " + y + ")");
+            } else {
+                Assertions.assertThrows(ArithmeticException.class, () -> a.gcd(y));
+            }
+        }
+    }
+
+    @Test
+    void testFloatingPointConversion() {
+        // Rounding to a double then a float would round twice
+        assertConversion(new BigInteger("811656774427592359937"));
+        // 2^k + 2^j + 1: the sticky bit decides ties
+        for (int k = 1; k < 127; k++) {
+            for (int j = 0; j < k; j++) {
+                final BigInteger b = BigInteger.ONE.shiftLeft(k).setBit(j).setBit(0);
+                assertConversion(b);
+                assertConversion(b.negate());
+            }
+        }
+        assertConversion(BigInteger.ONE.shiftLeft(127).negate());
+    }
+
+    /**
+     * Assert the conversion of the value to floating-point is correctly rounded.
+     *
+     * @param b Value (must be in the range of a signed 128-bit integer).
+     */
+    private static void assertConversion(BigInteger b) {
+        final Int128 a = Int128.of(b.shiftRight(Long.SIZE).longValue(), b.longValue());
+        Assertions.assertEquals(b.doubleValue(), a.doubleValue(), () -> b.toString());
+        Assertions.assertEquals(b.floatValue(), a.floatValue(), () -> b.toString());
+    }
+
+    @Test
+    void testDivideByZero() {
+        final Int128 a = Int128.of(42);
+        Assertions.assertThrows(ArithmeticException.class, () -> a.divide(0));
+        Assertions.assertThrows(ArithmeticException.class, () -> a.remainder(0));
+        Assertions.assertThrows(ArithmeticException.class, () -> a.divideUnsigned(0));
+        Assertions.assertThrows(ArithmeticException.class, () -> a.remainderUnsigned(0));
+    }
+
+    @Test
+    void testMinValue() {
+        final Int128 min = Int128.of(Long.MIN_VALUE, 0);
+        Assertions.assertEquals(min, min.negate());
+        Assertions.assertEquals(min, min.abs());
+        Assertions.assertEquals(min, min.divide(-1));
+        Assertions.assertEquals(0, min.remainder(-1));
+        Assertions.assertEquals(-0x1.0p127, min.doubleValue());
+        Assertions.assertEquals(TWO_POW_127.negate(), min.toBigInteger());
+        Assertions.assertThrows(ArithmeticException.class, min::longValueExact);
+        Assertions.assertEquals(Long.MIN_VALUE, Int128.of(Long.MIN_VALUE).longValueExact());
+        Assertions.assertEquals(1L << 62, min.gcd(1L << 62));
+        Assertions.assertThrows(ArithmeticException.class, () -> min.gcd(Long.MIN_VALUE));
+        Assertions.assertThrows(ArithmeticException.class, () -> min.gcd(0));
+        Assertions.assertEquals(5, Int128.of(-5).gcd(0));
+        Assertions.assertEquals(0, Int128.ZERO.gcd(0));
+    }
+
+    @Test
+    void testCompareProducts() {
+        final SplittableRandom rng = new SplittableRandom(5678L);
+        for (int i = 0; i < 5000; i++) {
+            final long a = i < SPECIAL.length ? SPECIAL[i] : rng.nextLong() >> rng.nextInt(64);
+            final long b = rng.nextLong() >> rng.nextInt(64);
+            final long c = rng.nextBoolean() ? a : rng.nextLong() >> rng.nextInt(64);
+            final long d = rng.nextBoolean() ? b : rng.nextLong() >> rng.nextInt(64);
+            final int expected = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b))
+                .compareTo(BigInteger.valueOf(c).multiply(BigInteger.valueOf(d)));
+            Assertions.assertEquals(expected, Integer.signum(Int128.compareProducts(a, b, c, d)));
+            Assertions.assertEquals(-expected, Integer.signum(Int128.compareProducts(c, d, a, b)));
+        }
+        Assertions.assertEquals(0, Int128.compareProducts(Long.MIN_VALUE, Long.MIN_VALUE,
+            Long.MIN_VALUE, Long.MIN_VALUE));
+        Assertions.assertTrue(Int128.compareProducts(Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MAX_VALUE) > 0);
+        Assertions.assertTrue(Int128.compareProducts(Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE) < 0);
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        final Int128 a = Int128.of(3, 4);
+        Assertions.assertEquals(a, a);
+        Assertions.assertEquals(a, Int128.of(3, 4));
+        Assertions.assertEquals(a.hashCode(), Int128.of(3, 4).hashCode());
+        Assertions.assertNotEquals(a, Int128.of(3, 5));
+        Assertions.assertNotEquals(a, Int128.of(2, 4));
+        Assertions.assertNotEquals(a, new Object());
+        Assertions.assertNotEquals(a, null);
+    }
+
+    /**
+     * Create a random 128-bit integer.
+     *
+     * @param rng Source of randomness.
+     * @param i Index used to select special cases.
+     * @return the value
+     */
+    private static Int128 nextInt128(SplittableRandom rng, int i) {
+        switch (i % 4) {
+        case 0:
+            return Int128.of(rng.nextLong() >> rng.nextInt(64));
+        case 1:
+            return Int128.of(rng.nextLong() >> rng.nextInt(64), rng.nextLong());
+        case 2:
+            return Int128.of(SPECIAL[rng.nextInt(SPECIAL.length)], SPECIAL[rng.nextInt(SPECIAL.length)]);
+        default:
+            return Int128.ofProduct(rng.nextLong(), rng.nextLong() >> rng.nextInt(64));
+        }
+    }
+
+    /**
+     * Wrap the value to the signed 128-bit range.
+     *
+     * @param x Value.
+     * @return the wrapped value
+     */
+    private static BigInteger wrap(BigInteger x) {
+        final BigInteger r = x.mod(TWO_POW_128);
+        return r.compareTo(TWO_POW_127) >= 0 ? r.subtract(TWO_POW_128) : r;
+    }
+
+    /**
+     * Get the unsigned value.
+     *
+     * @param x Value.
+     * @return the unsigned value
+     */
+    private static BigInteger unsigned(long x) {
+        return BigInteger.valueOf(x).and(MASK64);
+    }
+
+    /**
+     * Get the unsigned value.
+     *
+     * @param x Value.
+     * @return the unsigned value
+     */
+    private static BigInteger unsigned(Int128 x) {
+        return x.toBigInteger().mod(TWO_POW_128);
+    }
+}
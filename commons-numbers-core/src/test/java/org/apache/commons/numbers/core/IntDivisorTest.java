@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link IntDivisor} class.
+ */
+class IntDivisorTest {
+    @Test
+    void testDivisionByZero() {
+        Assertions.assertThrows(ArithmeticException.class, () -> IntDivisor.of(0));
+    }
+
+    @Test
+    void testDivide() {
+        final SplittableRandom rng = new SplittableRandom(12345L);
+        final int[] divisors = IntStream.concat(
+            IntStream.of(1, -1, 2, -2, 3, 7, 10, -10, 641, 1 << 15, (1 << 16) + 1, 1 << 30, (1 << 30) + 1,
+                Integer.MAX_VALUE, Integer.MAX_VALUE - 1, Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -3, 0x80000001),
+            rng.ints(300).map(x -> x >> rng.nextInt(32)).filter(x -> x != 0)).toArray();
+        final int[] specials = {0, 1, -1, 2, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE + 1,
+            Integer.MAX_VALUE - 1};
+        for (final int d : divisors) {
+            final IntDivisor divisor = IntDivisor.of(d);
+            Assertions.assertEquals(d, divisor.getDivisor());
+            final int[] values = IntStream.concat(IntStream.concat(IntStream.of(specials),
+                IntStream.of(d, d - 1, d + 1, 2 * d, -d, d * 3 - 1)),
+                rng.ints(300).map(x -> x >> rng.nextInt(32))).toArray();
+            for (final int n : values) {
+                Assertions.assertEquals(n / d, divisor.divide(n), () -> n + " / " + d);
+                Assertions.assertEquals(n % d, divisor.remainder(n), () -> n + " % " + d);
+                Assertions.assertEquals(Integer.divideUnsigned(n, d), divisor.divideUnsigned(n),
+                    () -> Integer.toUnsignedString(n) + " /u " + Integer.toUnsignedString(d));
+                Assertions.assertEquals(Integer.remainderUnsigned(n, d), divisor.remainderUnsigned(n),
+                    () -> Integer.toUnsignedString(n) + " %u " + Integer.toUnsignedString(d));
+            }
+        }
+    }
+
+    @Test
+    void testArrays() {
+        final SplittableRandom rng = new SplittableRandom(98765L);
+        final int[] n = rng.ints(37).toArray();
+        final int[] result = new int[n.length];
+        final IntDivisor divisor = IntDivisor.of(-123456789);
+        divisor.divide(n, result);
+        for (int i = 0; i < n.length; i++) {
+            Assertions.assertEquals(n[i] / -123456789, result[i]);
+        }
+        divisor.remainder(n, result);
+        for (int i = 0; i < n.length; i++) {
+            Assertions.assertEquals(n[i] % -123456789, result[i]);
+        }
+        divisor.divideUnsigned(n, result);
+        for (int i = 0; i < n.length; i++) {
+            Assertions.assertEquals(Integer.divideUnsigned(n[i], -123456789), result[i]);
+        }
+        final int[] copy = n.clone();
+        divisor.remainderUnsigned(copy, copy);
+        for (int i = 0; i < n.length; i++) {
+            Assertions.assertEquals(Integer.remainderUnsigned(n[i], -123456789), copy[i]);
+        }
+        final int[] bad = new int[1];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> divisor.divide(n, bad));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> divisor.remainder(n, bad));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> divisor.divideUnsigned(n, bad));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> divisor.remainderUnsigned(n, bad));
+    }
+}
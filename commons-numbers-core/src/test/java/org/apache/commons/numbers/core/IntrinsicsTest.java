@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link Intrinsics} class. The Java 9+ build runs these
+ * tests a second time using the multi-release implementation.
+ */
+class IntrinsicsTest {
+    @Test
+    void testProductLow() {
+        assertProductLow(1.1, -2.7);
+        assertProductLow(1 + 0x1.0p-52, 1 - 0x1.0p-53);
+        // Factors close to the overflow limit
+        assertProductLow(Double.MAX_VALUE, 0.75);
+        assertProductLow(-0.99, Double.MAX_VALUE);
+        assertProductLow(0x1.fffffffffffffp511, 0x1.fffffffffffffp511);
+        // Small factors with a product above the limit for an exact result
+        assertProductLow(0x1.0000000000001p-484, 0x1.fffffffffffffp-484);
+        assertProductLow(Double.MIN_NORMAL, 0x1.fffffffffffffp54);
+        assertProductLow(Double.MIN_VALUE, 0x1.fffffffffffffp106);
+
+        final SplittableRandom rng = new SplittableRandom(20261019L);
+        for (int i = 0; i < 2000; i++) {
+            // Magnitude of the product in [2^-968, 2^1024)
+            final int exp = rng.nextInt(-968, 1023);
+            final int expA = rng.nextInt(Math.max(-1022, exp - 1023), Math.min(1023, exp + 1022) + 1);
+            final double a = Math.scalb(1 + rng.nextDouble(), expA);
+            final double b = Math.scalb(1 + rng.nextDouble(), exp - expA);
+            if (Double.isFinite(a * b)) {
+                assertProductLow(rng.nextBoolean() ? a : -a, rng.nextBoolean() ? b : -b);
+            }
+        }
+    }
+
+    @Test
+    void testProductLowSpecialCases() {
+        Assertions.assertEquals(0.0, Intrinsics.productLow(1e-200, 1e-200, 1e-200 * 1e-200));
+        Assertions.assertEquals(0.0, Intrinsics.productLow(Double.MIN_VALUE, 0.5, 0.0));
+        Assertions.assertEquals(Double.NaN, Intrinsics.productLow(1e200, 1e200, 1e200 * 1e200));
+        Assertions.assertEquals(Double.NaN,
+            Intrinsics.productLow(Double.POSITIVE_INFINITY, 1, Double.POSITIVE_INFINITY));
+        Assertions.assertEquals(Double.NaN, Intrinsics.productLow(Double.NaN, 1, Double.NaN));
+    }
+
+    /**
+     * Assert the low part of the product is the exact round-off.
+     *
+     * @param a First factor.
+     * @param b Second factor.
+     */
+    private static void assertProductLow(double a, double b) {
+        final double p = a * b;
+        final double expected = new BigDecimal(a).multiply(new BigDecimal(b)).subtract(new BigDecimal(p)).doubleValue();
+        // The sign of a zero round-off is not specified
+        Assertions.assertEquals(expected, Intrinsics.productLow(a, b, p), 0.0, () -> a + " * " + b);
+    }
+}
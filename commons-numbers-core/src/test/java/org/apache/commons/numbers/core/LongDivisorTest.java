@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link LongDivisor} class.
+ */
+class LongDivisorTest {
+    @Test
+    void testDivisionByZero() {
+        Assertions.assertThrows(ArithmeticException.class, () -> LongDivisor.of(0));
+    }
+
+    @Test
+    void testDivide() {
+        final SplittableRandom rng = new SplittableRandom(12345L);
+        final long[] divisors = LongStream.concat(
+            LongStream.of(1, -1, 2, -2, 3, 7, 10, -10, 641, 1L << 31, (1L << 32) + 1, 1L << 62, (1L << 62) + 1,
+                Long.MAX_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE, Long.MIN_VALUE + 1, -3, 0x8000000000000001L),
+            rng.longs(200).map(x -> x >> rng.nextInt(64)).filter(x -> x != 0)).toArray();
+        final long[] specials = {0, 1, -1, 2, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1, Long.MAX_VALUE - 1};
+        for (final long d : divisors) {
+            final LongDivisor divisor = LongDivisor.of(d);
+            Assertions.assertEquals(d, divisor.getDivisor());
+            final long[] values = LongStream.concat(LongStream.concat(LongStream.of(specials),
+                LongStream.of(d, d - 1, d + 1, 2 * d, -d, d * 3 - 1)),
+                rng.longs(200).map(x -> x >> rng.nextInt(64))).toArray();
+            for (final long n : values) {
+                Assertions.assertEquals(n / d, divisor.divide(n), () -> n + " / " + d);
+                Assertions.assertEquals(n % d, divisor.remainder(n), () -> n + " % " + d);
+                Assertions.assertEquals(Long.divideUnsigned(n, d), divisor.divideUnsigned(n),
+                    () -> Long.toUnsignedString(n) + " /u " + Long.toUnsignedString(d));
+                Assertions.assertEquals(Long.remainderUnsigned(n, d), divisor.remainderUnsigned(n),
+                    () -> Long.toUnsignedString(n) + " %u " + Long.toUnsignedString(d));
+            }
+        }
+    }
+
+    @Test
+    void testArrays() {
+        final SplittableRandom rng = new SplittableRandom(98765L);
+        final long[] n = rng.longs(37).toArray();
+        final long[] result = new long[n.length];
+        final LongDivisor divisor = LongDivisor.of(-123456789L);
+        divisor.divide(n, result);
+        for (int i = 0; i < n.length; i++) {
+            Assertions.assertEquals(n[i] / -123456789L, result[i]);
+        }
+        divisor.remainder(n, result);
+        for (int i = 0; i < n.length; i++) {
+            Assertions.assertEquals(n[i] % -123456789L, result[i]);
+        }
+        divisor.divideUnsigned(n, result);
+        for (int i = 0; i < n.length; i++) {
+            Assertions.assertEquals(Long.divideUnsigned(n[i], -123456789L), result[i]);
+        }
+        final long[] copy = n.clone();
+        divisor.remainderUnsigned(copy, copy);
+        for (int i = 0; i < n.length; i++) {
+            Assertions.assertEquals(Long.remainderUnsigned(n[i], -123456789L), copy[i]);
+        }
+        final long[] bad = new long[1];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> divisor.divide(n, bad));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> divisor.remainder(n, bad));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> divisor.divideUnsigned(n, bad));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> divisor.remainderUnsigned(n, bad));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link ModularArithmetic} class.
+ */
+class ModularArithmeticTest {
+    /** Int moduli. */
+    private static final int[] INT_MODULI = {1, 2, 3, 7, 10, 65536, 1000000007, 2147483629, Integer.MAX_VALUE};
+    /** Long moduli. */
+    private static final long[] LONG_MODULI = {1, 2, 3, 10, 1000000007, 2147483648L, 4294967296L,
+        4294967311L, 1000000000000000003L, 9223372036854775783L, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+
+    @Test
+    void testIntMulModPowModInverseMod() {
+        final SplittableRandom rng = new SplittableRandom(123L);
+        for (final int m : INT_MODULI) {
+            final BigInteger bm = BigInteger.valueOf(m);
+            final ModularArithmetic.Barrett barrett = ModularArithmetic.Barrett.of(m);
+            Assertions.assertEquals(m, barrett.getModulus());
+            for (int i = 0; i < 500; i++) {
+                final int a = i < 4 ? new int[] {0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE}[i] : rng.nextInt();
+                final int b = rng.nextInt();
+                final long e = i < 3 ? i : rng.nextLong(Long.MAX_VALUE);
+                final BigInteger ba = BigInteger.valueOf(a);
+                final BigInteger bb = BigInteger.valueOf(b);
+                final int mul = ba.multiply(bb).mod(bm).intValue();
+                final int pow = ba.modPow(BigInteger.valueOf(e), bm).intValue();
+                Assertions.assertEquals(mul, ModularArithmetic.mulMod(a, b, m));
+                Assertions.assertEquals(mul, barrett.mulMod(a, b));
+                Assertions.assertEquals(pow, ModularArithmetic.powMod(a, e, m));
+                Assertions.assertEquals(pow, barrett.powMod(a, e));
+                final long x = rng.nextLong();
+                Assertions.assertEquals(Math.floorMod(x, m), barrett.mod(x));
+                Assertions.assertEquals(Math.floorMod(x >>> 2, m), barrett.mod(x >>> 2));
+                if (ba.gcd(bm).equals(BigInteger.ONE)) {
+                    final int inv = ba.modInverse(bm).intValue();
+                    Assertions.assertEquals(inv, ModularArithmetic.inverseMod(a, m));
+                    Assertions.assertEquals(inv, barrett.inverseMod(a));
+                } else {
+                    Assertions.assertThrows(ArithmeticException.class, () -> ModularArithmetic.inverseMod(a, m));
+                    Assertions.assertThrows(ArithmeticException.class, () -> barrett.inverseMod(a));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testLongMulModPowModInverseMod() {
+        final SplittableRandom rng = new SplittableRandom(456L);
+        for (final long m : LONG_MODULI) {
+            final BigInteger bm = BigInteger.valueOf(m);
+            final ModularArithmetic.Montgomery montgomery = (m & 1) == 0 ? null : ModularArithmetic.Montgomery.of(m);
+            for (int i = 0; i < 500; i++) {
+                final long a = i < 4 ? new long[] {0, -1, Long.MIN_VALUE, Long.MAX_VALUE}[i] : rng.nextLong();
+                final long b = i < 4 ? new long[] {0, m - 1, -m, Long.MAX_VALUE}[i] : rng.nextLong();
+                final long e = i < 3 ? i : rng.nextLong(Long.MAX_VALUE);
+                final BigInteger ba = BigInteger.valueOf(a);
+                final BigInteger bb = BigInteger.valueOf(b);
+                final long mul = ba.multiply(bb).mod(bm).longValue();
+                final long pow = ba.modPow(BigInteger.valueOf(e), bm).longValue();
+                Assertions.assertEquals(mul, ModularArithmetic.mulMod(a, b, m), () -> a + " * " + b + " mod " + m);
+                Assertions.assertEquals(pow, ModularArithmetic.powMod(a, e, m), () -> a + " ^ " + e + " mod " + m);
+                final boolean invertible = ba.gcd(bm).equals(BigInteger.ONE);
+                if (invertible) {
+                    Assertions.assertEquals(ba.modInverse(bm).longValue(), ModularArithmetic.inverseMod(a, m));
+                } else {
+                    Assertions.assertThrows(ArithmeticException.class, () -> ModularArithmetic.inverseMod(a, m));
+                }
+                if (montgomery != null) {
+                    Assertions.assertEquals(mul, montgomery.mulMod(a, b));
+                    Assertions.assertEquals(pow, montgomery.powMod(a, e));
+                    final long am = montgomery.toMontgomery(a);
+                    final long bmm = montgomery.toMontgomery(b);
+                    Assertions.assertEquals(mul, montgomery.fromMontgomery(montgomery.multiplyMontgomery(am, bmm)));
+                    Assertions.assertEquals(Math.floorMod(a, m), montgomery.fromMontgomery(am));
+                    if (invertible) {
+                        Assertions.assertEquals(ba.modInverse(bm).longValue(), montgomery.inverseMod(a));
+                    } else {
+                        Assertions.assertThrows(ArithmeticException.class, () -> montgomery.inverseMod(a));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testRemainder() {
+        final SplittableRandom rng = new SplittableRandom(789L);
+        for (int i = 0; i < 2000; i++) {
+            final long m = i < 10 ? Long.MAX_VALUE - i : Math.max(1, rng.nextLong(1, Long.MAX_VALUE) >>> rng.nextInt(62));
+            final long hi = rng.nextLong(m);
+            final long lo = rng.nextLong();
+            final BigInteger x = BigInteger.valueOf(hi).shiftLeft(64)
+                .add(BigInteger.valueOf(lo).and(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE)));
+            Assertions.assertEquals(x.mod(BigInteger.valueOf(m)).longValue(), ModularArithmetic.remainder(hi, lo, m),
+                () -> hi + ":" + lo + " % " + m);
+        }
+    }
+
+    @Test
+    void testBulk() {
+        final SplittableRandom rng = new SplittableRandom(321L);
+        final int[] a = rng.ints(50).toArray();
+        final int[] b = rng.ints(50).toArray();
+        final int[] r = new int[50];
+        final ModularArithmetic.Barrett barrett = ModularArithmetic.Barrett.of(1000000007);
+        barrett.mulMod(a, b, r);
+        for (int i = 0; i < a.length; i++) {
+            Assertions.assertEquals(barrett.mulMod(a[i], b[i]), r[i]);
+        }
+        barrett.powMod(a, 12345, r);
+        for (int i = 0; i < a.length; i++) {
+            Assertions.assertEquals(barrett.powMod(a[i], 12345), r[i]);
+        }
+        // In-place
+        final int[] c = a.clone();
+        barrett.powMod(c, 12345, c);
+        Assertions.assertArrayEquals(r, c);
+
+        final long[] x = rng.longs(50).toArray();
+        final long[] y = rng.longs(50).toArray();
+        final long[] z = new long[50];
+        final ModularArithmetic.Montgomery montgomery = ModularArithmetic.Montgomery.of(9223372036854775783L);
+        montgomery.mulMod(x, y, z);
+        for (int i = 0; i < x.length; i++) {
+            Assertions.assertEquals(montgomery.mulMod(x[i], y[i]), z[i]);
+        }
+        montgomery.powMod(x, 987654321L, z);
+        for (int i = 0; i < x.length; i++) {
+            Assertions.assertEquals(montgomery.powMod(x[i], 987654321L), z[i]);
+        }
+        montgomery.mulMod(x, y, x);
+        montgomery.mulMod(new long[0], new long[0], new long[0]);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> barrett.mulMod(a, new int[1], r));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> barrett.mulMod(a, b, new int[1]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> barrett.powMod(a, 1, new int[1]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> montgomery.mulMod(x, new long[1], z));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> montgomery.powMod(x, 1, new long[1]));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.Barrett.of(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.Barrett.of(-3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.Montgomery.of(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.Montgomery.of(-3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.Montgomery.of(10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.mulMod(1, 2, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.mulMod(1L, 2L, -1L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.powMod(1, 2, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.powMod(1L, 2L, 0L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.powMod(1, -2, 7));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.powMod(1L, -2L, 7L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.powMod(1L, -2L, 8L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.inverseMod(1, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.inverseMod(1L, 0L));
+        Assertions.assertThrows(ArithmeticException.class, () -> ModularArithmetic.inverseMod(0, 7));
+        Assertions.assertThrows(ArithmeticException.class, () -> ModularArithmetic.inverseMod(6L, 9L));
+    }
+}
@@ -16,7 +16,10 @@
  */
 package org.apache.commons.numbers.core;
 
+import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.function.BiPredicate;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -422,6 +425,235 @@ class PrecisionTest {
         Assertions.assertEquals("-0.0", Double.toString(Precision.round(-1e-10, 0)));
     }
 
+    @Test
+    void testRoundDoubleMatchesBigDecimal() {
+        final SplittableRandom rng = new SplittableRandom(876543L);
+        final RoundingMode[] modes = RoundingMode.values();
+        for (int i = 0; i < 4000; i++) {
+            final double x;
+            switch (i % 4) {
+            case 0:
+                // Short decimals including exact ties
+                x = rng.nextLong(-10000000, 10000000) / Math.pow(10, rng.nextInt(8));
+                break;
+            case 1:
+                // Values close to a tie at a random scale
+                x = Math.nextAfter((rng.nextInt(1000000) + 0.5) / Math.pow(10, rng.nextInt(6)),
+                                   rng.nextBoolean() ? 0 : 1e10);
+                break;
+            case 2:
+                x = rng.nextDouble() * Math.pow(10, rng.nextInt(-20, 20)) * (rng.nextBoolean() ? 1 : -1);
+                break;
+            default:
+                x = Double.longBitsToDouble(rng.nextLong());
+                break;
+            }
+            for (int scale = -2; scale <= 24; scale++) {
+                for (final RoundingMode mode : modes) {
+                    assertRound(x, scale, mode);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testRoundDoubleArray() {
+        final double[] x = {1.2345, -1.2345, 39.245, 0.0, -0.0, -1e-10, Double.NaN, Double.NEGATIVE_INFINITY};
+        final double[] result = new double[x.length];
+        for (final RoundingMode mode : new RoundingMode[] {RoundingMode.HALF_EVEN, RoundingMode.FLOOR}) {
+            Precision.round(x, 3, mode, result);
+            for (int i = 0; i < x.length; i++) {
+                Assertions.assertEquals(Precision.round(x[i], 3, mode), result[i]);
+            }
+            // In-place
+            final double[] y = x.clone();
+            Precision.round(y, 3, mode, y);
+            Assertions.assertArrayEquals(result, y);
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> Precision.round(x, 3, RoundingMode.HALF_UP, new double[1]));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> Precision.round(new double[] {1.25, 1.234}, 2, RoundingMode.UNNECESSARY, new double[2]));
+    }
+
+    /**
+     * Assert the rounding is the same as rounding the decimal representation of the value
+     * using {@link BigDecimal}.
+     *
+     * @param x Value.
+     * @param scale Scale.
+     * @param mode Rounding mode.
+     */
+    private static void assertRound(double x, int scale, RoundingMode mode) {
+        double expected;
+        try {
+            expected = new BigDecimal(Double.toString(x)).setScale(scale, mode).doubleValue();
+            if (expected == 0) {
+                expected = 0.0 * x;
+            }
+        } catch (NumberFormatException ex) {
+            expected = Double.isInfinite(x) ? x : Double.NaN;
+        } catch (ArithmeticException ex) {
+            Assertions.assertThrows(ArithmeticException.class, () -> Precision.round(x, scale, mode));
+            return;
+        }
+        final double actual = Precision.round(x, scale, mode);
+        Assertions.assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual),
+            () -> x + " scale=" + scale + " " + mode);
+    }
+
+    @Test
+    void testUlpDistance() {
+        Assertions.assertEquals(0, Precision.ulpDistance(1.5, 1.5));
+        Assertions.assertEquals(0, Precision.ulpDistance(0.0, -0.0));
+        Assertions.assertEquals(1, Precision.ulpDistance(1.0, Math.nextUp(1.0)));
+        Assertions.assertEquals(2, Precision.ulpDistance(-Double.MIN_VALUE, Double.MIN_VALUE));
+        Assertions.assertEquals(3, Precision.ulpDistance(Math.nextDown(Math.nextDown(-0.0)), Double.MIN_VALUE));
+        Assertions.assertEquals(1L << 52, Precision.ulpDistance(1.0, 2.0));
+        Assertions.assertEquals(1, Precision.ulpDistance(Double.MAX_VALUE, Double.POSITIVE_INFINITY));
+        Assertions.assertEquals(Long.MAX_VALUE, Precision.ulpDistance(-Double.MAX_VALUE, Double.MAX_VALUE));
+        Assertions.assertEquals(Long.MAX_VALUE, Precision.ulpDistance(Double.NaN, 1.0));
+        Assertions.assertEquals(Long.MAX_VALUE, Precision.ulpDistance(1.0, Double.NaN));
+        Assertions.assertEquals(Long.MAX_VALUE, Precision.ulpDistance(Double.NaN, Double.NaN));
+
+        // Consistent with equals
+        final SplittableRandom rng = new SplittableRandom(2345L);
+        final double[] special = {0.0, -0.0, Double.MIN_VALUE, -Double.MIN_VALUE, 1.0, -1.0,
+            Double.MAX_VALUE, -Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN};
+        for (int i = 0; i < 2000; i++) {
+            final double x = i < special.length ? special[i] : Double.longBitsToDouble(rng.nextLong());
+            final double y = i < special.length ? special[i / 2 % special.length] :
+                i % 2 == 0 ? Double.longBitsToDouble(rng.nextLong()) :
+                Double.longBitsToDouble(Double.doubleToRawLongBits(x) + rng.nextInt(-5, 5));
+            final long d = Precision.ulpDistance(x, y);
+            Assertions.assertEquals(d, Precision.ulpDistance(y, x));
+            for (final int maxUlps : new int[] {-1, 0, 1, 2, 3, 4, 5, 100, Integer.MAX_VALUE}) {
+                Assertions.assertEquals(Precision.equals(x, y, maxUlps), d <= maxUlps);
+            }
+        }
+    }
+
+    @Test
+    void testMaxUlpDistance() {
+        final double[] x = {1.0, 2.0, -0.0, 3.0};
+        final double[] y = {Math.nextUp(1.0), 2.0, 0.0, Math.nextDown(Math.nextDown(3.0))};
+        Assertions.assertEquals(2, Precision.maxUlpDistance(x, y));
+        Assertions.assertEquals(1, Precision.maxUlpDistance(x, y, 0, 3));
+        Assertions.assertEquals(0, Precision.maxUlpDistance(x, y, 1, 3));
+        Assertions.assertEquals(0, Precision.maxUlpDistance(x, y, 2, 2));
+        Assertions.assertEquals(0, Precision.maxUlpDistance(new double[0], new double[0]));
+        y[1] = Double.NaN;
+        Assertions.assertEquals(Long.MAX_VALUE, Precision.maxUlpDistance(x, y));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Precision.maxUlpDistance(x, new double[3]));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Precision.maxUlpDistance(x, y, -1, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Precision.maxUlpDistance(x, y, 3, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Precision.maxUlpDistance(x, y, 0, 5));
+    }
+
+    @Test
+    void testMismatch() {
+        final SplittableRandom rng = new SplittableRandom(3456L);
+        // Lengths spanning several blocks
+        for (final int n : new int[] {0, 1, 7, 63, 64, 65, 200}) {
+            final double[] x = new double[n];
+            for (int i = 0; i < n; i++) {
+                x[i] = rng.nextDouble(-10, 10);
+            }
+            Assertions.assertEquals(-1, Precision.mismatch(x, x.clone(), 0));
+            Assertions.assertEquals(-1, Precision.mismatch(x, x.clone(), 0.0));
+            Assertions.assertEquals(-1, Precision.mismatchWithRelativeTolerance(x, x.clone(), 0.0));
+            Assertions.assertEquals(-1, Precision.mismatchIncludingNaN(x, x.clone(), 0));
+            Assertions.assertEquals(-1, Precision.mismatchIncludingNaN(x, x.clone(), 0.0));
+            Assertions.assertEquals(0, Precision.compareTo(x, x.clone(), 0));
+            Assertions.assertEquals(0, Precision.compareTo(x, x.clone(), 0.0));
+            for (int k = 0; k < 10 && n != 0; k++) {
+                final double[] y = x.clone();
+                final int j = rng.nextInt(n);
+                final int j2 = Math.min(n - 1, j + rng.nextInt(3));
+                y[j] = Math.nextUp(Math.nextUp(y[j]));
+                y[j2] = y[j2] + 1e-3;
+                Assertions.assertEquals(j, Precision.mismatch(x, y, 1));
+                Assertions.assertEquals(j2, Precision.mismatch(x, y, 2));
+                Assertions.assertEquals(-1, Precision.mismatch(x, y, 1e-2));
+                Assertions.assertEquals(j2, Precision.mismatch(x, y, 1e-4));
+                Assertions.assertEquals(j, Precision.mismatchIncludingNaN(x, y, 1));
+                Assertions.assertEquals(j2, Precision.mismatchIncludingNaN(x, y, 1e-4));
+                Assertions.assertEquals(-1, Precision.mismatchWithRelativeTolerance(x, y, 1.0));
+                // Ranges
+                Assertions.assertEquals(-1, Precision.mismatch(x, y, 0, j, 0));
+                Assertions.assertEquals(-1, Precision.mismatch(x, y, j2 + 1, n, 0.0));
+                Assertions.assertEquals(j, Precision.mismatch(x, y, j, n, 0));
+                Assertions.assertEquals(j2, Precision.mismatchIncludingNaN(x, y, j, j2 + 1, 2));
+                Assertions.assertEquals(j2, Precision.mismatchIncludingNaN(x, y, j2, n, 0.0));
+                Assertions.assertEquals(j, Precision.mismatchWithRelativeTolerance(x, y, j, n, 0.0));
+                Assertions.assertEquals(Precision.compareTo(x[j], y[j], 1), Precision.compareTo(x, y, 1));
+                Assertions.assertTrue(Precision.compareTo(x, y, 1e-4) < 0);
+                Assertions.assertTrue(Precision.compareTo(y, x, 1e-4) > 0);
+                if (j != j2) {
+                    Assertions.assertEquals(2, Precision.maxUlpDistance(x, y, j, j + 1));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testMismatchMatchesScalar() {
+        final SplittableRandom rng = new SplittableRandom(4567L);
+        final double[] values = {0.0, -0.0, 1.0, Math.nextUp(1.0), 1.5, -1.0, 1e-300, Double.MIN_VALUE,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN};
+        for (int k = 0; k < 500; k++) {
+            final double[] x = new double[70];
+            final double[] y = new double[70];
+            for (int i = 0; i < x.length; i++) {
+                x[i] = values[rng.nextInt(values.length)];
+                y[i] = rng.nextInt(4) == 0 ? values[rng.nextInt(values.length)] : x[i];
+            }
+            Assertions.assertEquals(firstMismatch(x, y, (a, b) -> Precision.equals(a, b, 1)),
+                Precision.mismatch(x, y, 1));
+            Assertions.assertEquals(firstMismatch(x, y, (a, b) -> Precision.equals(a, b, 0.5)),
+                Precision.mismatch(x, y, 0.5));
+            Assertions.assertEquals(firstMismatch(x, y, (a, b) -> Precision.equalsIncludingNaN(a, b, 1)),
+                Precision.mismatchIncludingNaN(x, y, 1));
+            Assertions.assertEquals(firstMismatch(x, y, (a, b) -> Precision.equalsIncludingNaN(a, b, 0.5)),
+                Precision.mismatchIncludingNaN(x, y, 0.5));
+            Assertions.assertEquals(firstMismatch(x, y, (a, b) -> Precision.equalsWithRelativeTolerance(a, b, 0.5)),
+                Precision.mismatchWithRelativeTolerance(x, y, 0.5));
+        }
+    }
+
+    @Test
+    void testMismatchDifferentLengths() {
+        final double[] x = {1, 2, 3};
+        final double[] y = {1, 2};
+        Assertions.assertEquals(2, Precision.mismatch(x, y, 0));
+        Assertions.assertEquals(2, Precision.mismatch(y, x, 0.0));
+        Assertions.assertEquals(2, Precision.mismatchIncludingNaN(x, y, 0));
+        Assertions.assertEquals(2, Precision.mismatchIncludingNaN(x, y, 0.0));
+        Assertions.assertEquals(2, Precision.mismatchWithRelativeTolerance(x, y, 0.0));
+        Assertions.assertEquals(1, Precision.mismatch(x, new double[] {1, 3}, 0));
+        Assertions.assertTrue(Precision.compareTo(x, y, 0) > 0);
+        Assertions.assertTrue(Precision.compareTo(y, x, 0.0) < 0);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Precision.mismatch(x, y, 0, 3, 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Precision.mismatch(x, y, 0, 3, 0.0));
+    }
+
+    /**
+     * Find the first mismatch using the scalar predicate.
+     *
+     * @param x First values.
+     * @param y Second values.
+     * @param equal Equality predicate.
+     * @return the index of the first mismatch; or -1
+     */
+    private static int firstMismatch(double[] x, double[] y, BiPredicate<Double, Double> equal) {
+        for (int i = 0; i < x.length; i++) {
+            if (!equal.test(x[i], y[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     @Test
     void testRepresentableDelta() {
         int nonRepresentableCount = 0;
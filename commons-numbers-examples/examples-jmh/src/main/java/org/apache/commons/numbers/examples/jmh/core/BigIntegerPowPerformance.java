@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.examples.jmh.core;
+
+import org.apache.commons.numbers.core.ArithmeticUtils;
+import org.apache.commons.numbers.core.BigIntegerPowers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a benchmark to measure the speed of raising a {@link BigInteger} to
+ * a power using {@link ArithmeticUtils#pow(BigInteger, int)} and a
+ * {@link BigIntegerPowers} cache. This is compared to {@link BigInteger#pow(int)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class BigIntegerPowPerformance {
+    /**
+     * Contains the base and the exponent.
+     */
+    @State(Scope.Benchmark)
+    public static class Data {
+        /** The number of bits in the base. A value of 0 uses the base 10. */
+        @Param({"0", "64", "1024"})
+        private int bits;
+
+        /** The exponent. */
+        @Param({"20", "200", "2000"})
+        private int exponent;
+
+        /** The base. */
+        private BigInteger base;
+        /** The cache of powers of the base. */
+        private BigIntegerPowers powers;
+
+        /**
+         * Gets the base.
+         *
+         * @return the base
+         */
+        public BigInteger getBase() {
+            return base;
+        }
+
+        /**
+         * Gets the exponent.
+         *
+         * @return the exponent
+         */
+        public int getExponent() {
+            return exponent;
+        }
+
+        /**
+         * Gets the cache of powers of the base.
+         *
+         * @return the cache
+         */
+        public BigIntegerPowers getPowers() {
+            return powers;
+        }
+
+        /**
+         * Create the data.
+         */
+        @Setup
+        public void setup() {
+            if (bits == 0) {
+                base = BigInteger.TEN;
+            } else {
+                final SplittableRandom rng = new SplittableRandom();
+                final byte[] bytes = new byte[bits / Byte.SIZE];
+                for (int i = 0; i < bytes.length; i++) {
+                    bytes[i] = (byte) rng.nextInt();
+                }
+                base = new BigInteger(1, bytes).setBit(bits - 1);
+            }
+            powers = BigIntegerPowers.of(base, exponent);
+        }
+    }
+
+    /**
+     * Power using {@link BigInteger#pow(int)}.
+     *
+     * @param data Data.
+     * @return the power
+     */
+    @Benchmark
+    public BigInteger bigIntegerPow(Data data) {
+        return data.getBase().pow(data.getExponent());
+    }
+
+    /**
+     * Power using {@link ArithmeticUtils#pow(BigInteger, int)}.
+     *
+     * @param data Data.
+     * @return the power
+     */
+    @Benchmark
+    public BigInteger arithmeticUtilsPow(Data data) {
+        return ArithmeticUtils.pow(data.getBase(), data.getExponent());
+    }
+
+    /**
+     * Power using {@link BigIntegerPowers#pow(int)}.
+     *
+     * @param data Data.
+     * @return the power
+     */
+    @Benchmark
+    public BigInteger cachedPow(Data data) {
+        return data.getPowers().pow(data.getExponent());
+    }
+}
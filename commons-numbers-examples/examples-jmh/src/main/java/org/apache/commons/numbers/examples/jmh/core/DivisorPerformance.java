@@ -0,0 +1,360 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.examples.jmh.core;
+
+import org.apache.commons.numbers.core.ArithmeticUtils;
+import org.apache.commons.numbers.core.IntDivisor;
+import org.apache.commons.numbers.core.LongDivisor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a benchmark to measure the speed of division by an invariant divisor
+ * using the {@link IntDivisor} and {@link LongDivisor} classes. This is compared
+ * to the division operators and the unsigned division methods in
+ * {@link ArithmeticUtils} and the JDK.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class DivisorPerformance {
+    /**
+     * Contains the dividends and the divisor.
+     */
+    @State(Scope.Benchmark)
+    public static class Data {
+        /** The number of dividends. */
+        @Param({"1024"})
+        private int size;
+
+        /** The divisor. The value is used as an int and a long. */
+        @Param({"7", "1000003", "-1000003", "2147483647"})
+        private long divisor;
+
+        /** The int dividends. */
+        private int[] intValues;
+        /** The long dividends. */
+        private long[] longValues;
+        /** The int divisor. */
+        private IntDivisor intDivisor;
+        /** The long divisor. */
+        private LongDivisor longDivisor;
+
+        /**
+         * Gets the int dividends.
+         *
+         * @return the values
+         */
+        public int[] getIntValues() {
+            return intValues;
+        }
+
+        /**
+         * Gets the long dividends.
+         *
+         * @return the values
+         */
+        public long[] getLongValues() {
+            return longValues;
+        }
+
+        /**
+         * Gets the divisor as an int.
+         *
+         * @return the divisor
+         */
+        public int getIntDivisorValue() {
+            return (int) divisor;
+        }
+
+        /**
+         * Gets the divisor as a long.
+         *
+         * @return the divisor
+         */
+        public long getLongDivisorValue() {
+            return divisor;
+        }
+
+        /**
+         * Gets the precomputed int divisor.
+         *
+         * @return the divisor
+         */
+        public IntDivisor getIntDivisor() {
+            return intDivisor;
+        }
+
+        /**
+         * Gets the precomputed long divisor.
+         *
+         * @return the divisor
+         */
+        public LongDivisor getLongDivisor() {
+            return longDivisor;
+        }
+
+        /**
+         * Create the data.
+         */
+        @Setup
+        public void setup() {
+            final SplittableRandom rng = new SplittableRandom();
+            intValues = rng.ints(size).toArray();
+            longValues = rng.longs(size).toArray();
+            intDivisor = IntDivisor.of((int) divisor);
+            longDivisor = LongDivisor.of(divisor);
+        }
+    }
+
+    /**
+     * Baseline for the loop over the int values.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public int intBaseline(Data data) {
+        int s = 0;
+        for (final int x : data.getIntValues()) {
+            s += x;
+        }
+        return s;
+    }
+
+    /**
+     * Signed int remainder using the operator.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public int intRemainderOperator(Data data) {
+        final int d = data.getIntDivisorValue();
+        int s = 0;
+        for (final int x : data.getIntValues()) {
+            s += x % d;
+        }
+        return s;
+    }
+
+    /**
+     * Signed int remainder using the divisor.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public int intRemainderDivisor(Data data) {
+        final IntDivisor d = data.getIntDivisor();
+        int s = 0;
+        for (final int x : data.getIntValues()) {
+            s += d.remainder(x);
+        }
+        return s;
+    }
+
+    /**
+     * Unsigned int remainder using {@link ArithmeticUtils}.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public int intRemainderUnsignedArithmeticUtils(Data data) {
+        final int d = data.getIntDivisorValue();
+        int s = 0;
+        for (final int x : data.getIntValues()) {
+            s += ArithmeticUtils.remainderUnsigned(x, d);
+        }
+        return s;
+    }
+
+    /**
+     * Unsigned int remainder using {@link Integer#remainderUnsigned(int, int)}.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public int intRemainderUnsignedJdk(Data data) {
+        final int d = data.getIntDivisorValue();
+        int s = 0;
+        for (final int x : data.getIntValues()) {
+            s += Integer.remainderUnsigned(x, d);
+        }
+        return s;
+    }
+
+    /**
+     * Unsigned int remainder using the divisor.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public int intRemainderUnsignedDivisor(Data data) {
+        final IntDivisor d = data.getIntDivisor();
+        int s = 0;
+        for (final int x : data.getIntValues()) {
+            s += d.remainderUnsigned(x);
+        }
+        return s;
+    }
+
+    /**
+     * Baseline for the loop over the long values.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public long longBaseline(Data data) {
+        long s = 0;
+        for (final long x : data.getLongValues()) {
+            s += x;
+        }
+        return s;
+    }
+
+    /**
+     * Signed long remainder using the operator.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public long longRemainderOperator(Data data) {
+        final long d = data.getLongDivisorValue();
+        long s = 0;
+        for (final long x : data.getLongValues()) {
+            s += x % d;
+        }
+        return s;
+    }
+
+    /**
+     * Signed long remainder using the divisor.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public long longRemainderDivisor(Data data) {
+        final LongDivisor d = data.getLongDivisor();
+        long s = 0;
+        for (final long x : data.getLongValues()) {
+            s += d.remainder(x);
+        }
+        return s;
+    }
+
+    /**
+     * Unsigned long remainder using {@link ArithmeticUtils}.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public long longRemainderUnsignedArithmeticUtils(Data data) {
+        final long d = data.getLongDivisorValue();
+        long s = 0;
+        for (final long x : data.getLongValues()) {
+            s += ArithmeticUtils.remainderUnsigned(x, d);
+        }
+        return s;
+    }
+
+    /**
+     * Unsigned long remainder using {@link Long#remainderUnsigned(long, long)}.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public long longRemainderUnsignedJdk(Data data) {
+        final long d = data.getLongDivisorValue();
+        long s = 0;
+        for (final long x : data.getLongValues()) {
+            s += Long.remainderUnsigned(x, d);
+        }
+        return s;
+    }
+
+    /**
+     * Unsigned long remainder using the divisor.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public long longRemainderUnsignedDivisor(Data data) {
+        final LongDivisor d = data.getLongDivisor();
+        long s = 0;
+        for (final long x : data.getLongValues()) {
+            s += d.remainderUnsigned(x);
+        }
+        return s;
+    }
+
+    /**
+     * Unsigned long division using {@link ArithmeticUtils}.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public long longDivideUnsignedArithmeticUtils(Data data) {
+        final long d = data.getLongDivisorValue();
+        long s = 0;
+        for (final long x : data.getLongValues()) {
+            s += ArithmeticUtils.divideUnsigned(x, d);
+        }
+        return s;
+    }
+
+    /**
+     * Unsigned long division using the divisor.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public long longDivideUnsignedDivisor(Data data) {
+        final LongDivisor d = data.getLongDivisor();
+        long s = 0;
+        for (final long x : data.getLongValues()) {
+            s += d.divideUnsigned(x);
+        }
+        return s;
+    }
+}
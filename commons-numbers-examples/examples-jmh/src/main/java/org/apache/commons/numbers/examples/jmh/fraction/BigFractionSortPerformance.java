@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.examples.jmh.fraction;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.apache.commons.numbers.fraction.BigFractions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a benchmark to measure the speed of sorting {@link BigFraction} values
+ * using {@link Arrays#sort(Object[])} and {@link BigFractions#sort(BigFraction[])}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class BigFractionSortPerformance {
+    /**
+     * Contains the fractions.
+     */
+    @State(Scope.Benchmark)
+    public static class Data {
+        /** The number of fractions. */
+        @Param({"1000"})
+        private int size;
+
+        /** The number of bits in the numerator and denominator. */
+        @Param({"64", "512", "4096"})
+        private int bits;
+
+        /** The fractions. */
+        private BigFraction[] fractions;
+
+        /**
+         * Gets a copy of the fractions.
+         *
+         * @return the fractions
+         */
+        public BigFraction[] getFractions() {
+            return fractions.clone();
+        }
+
+        /**
+         * Create the fractions.
+         */
+        @Setup
+        public void setup() {
+            final SplittableRandom rng = new SplittableRandom();
+            fractions = new BigFraction[size];
+            for (int i = 0; i < size; i++) {
+                fractions[i] = BigFraction.of(randomBigInteger(rng).subtract(randomBigInteger(rng)),
+                    randomBigInteger(rng).add(BigInteger.ONE));
+            }
+        }
+
+        /**
+         * Create a random value with the configured number of bits.
+         *
+         * @param rng Source of randomness.
+         * @return the value
+         */
+        private BigInteger randomBigInteger(SplittableRandom rng) {
+            final byte[] bytes = new byte[bits / Byte.SIZE];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) rng.nextInt();
+            }
+            return new BigInteger(1, bytes);
+        }
+    }
+
+    /**
+     * Sort using {@link Arrays#sort(Object[])}.
+     *
+     * @param data Data.
+     * @return the sorted values
+     */
+    @Benchmark
+    public BigFraction[] arraysSort(Data data) {
+        final BigFraction[] f = data.getFractions();
+        Arrays.sort(f);
+        return f;
+    }
+
+    /**
+     * Sort using {@link BigFractions#sort(BigFraction[])}.
+     *
+     * @param data Data.
+     * @return the sorted values
+     */
+    @Benchmark
+    public BigFraction[] bigFractionsSort(Data data) {
+        final BigFraction[] f = data.getFractions();
+        BigFractions.sort(f);
+        return f;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.examples.jmh.fraction;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.apache.commons.numbers.fraction.BigFractionAccumulator;
+import org.apache.commons.numbers.fraction.BigFractions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a benchmark to measure the speed of the exact sum of many
+ * {@link BigFraction} values. The sum is computed sequentially using
+ * {@link BigFraction#add(BigFraction)}, using a {@link BigFractionAccumulator}
+ * with and without deferred reduction, and using {@link BigFractions}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class BigFractionSumPerformance {
+    /**
+     * Contains the fractions.
+     */
+    @State(Scope.Benchmark)
+    public static class Data {
+        /** The number of fractions. */
+        @Param({"100", "1000"})
+        private int size;
+
+        /** The maximum number of bits in the denominator. A value of 0 creates the
+         * harmonic series {@code 1/1 + 1/2 + ... + 1/n}. */
+        @Param({"0", "10", "40"})
+        private int bits;
+
+        /** The fractions. */
+        private BigFraction[] fractions;
+
+        /**
+         * Gets the fractions.
+         *
+         * @return the fractions
+         */
+        public BigFraction[] getFractions() {
+            return fractions;
+        }
+
+        /**
+         * Create the fractions.
+         */
+        @Setup
+        public void setup() {
+            final SplittableRandom rng = new SplittableRandom();
+            fractions = new BigFraction[size];
+            for (int i = 0; i < size; i++) {
+                fractions[i] = bits == 0 ?
+                    BigFraction.of(1, i + 1) :
+                    BigFraction.of(rng.nextInt(), rng.nextLong(1, 1L << bits));
+            }
+        }
+    }
+
+    /**
+     * Sum using {@link BigFraction#add(BigFraction)}.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public BigFraction add(Data data) {
+        BigFraction sum = BigFraction.ZERO;
+        for (final BigFraction f : data.getFractions()) {
+            sum = sum.add(f);
+        }
+        return sum;
+    }
+
+    /**
+     * Sum using a {@link BigFractionAccumulator}.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public BigFraction accumulator(Data data) {
+        final BigFractionAccumulator acc = BigFractionAccumulator.of(BigFraction.ZERO);
+        for (final BigFraction f : data.getFractions()) {
+            acc.addInPlace(f);
+        }
+        return acc.get();
+    }
+
+    /**
+     * Sum using a {@link BigFractionAccumulator} with deferred reduction.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public BigFraction deferredAccumulator(Data data) {
+        final BigFractionAccumulator acc = BigFractionAccumulator.of(BigFraction.ZERO, 1024);
+        for (final BigFraction f : data.getFractions()) {
+            acc.addInPlace(f);
+        }
+        return acc.get();
+    }
+
+    /**
+     * Sum using {@link BigFractions#sum(BigFraction...)}.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public BigFraction treeSum(Data data) {
+        return BigFractions.sum(data.getFractions());
+    }
+
+    /**
+     * Sum using {@link BigFractions#parallelSum(BigFraction...)}.
+     *
+     * @param data Data.
+     * @return the sum
+     */
+    @Benchmark
+    public BigFraction parallelTreeSum(Data data) {
+        return BigFractions.parallelSum(data.getFractions());
+    }
+}
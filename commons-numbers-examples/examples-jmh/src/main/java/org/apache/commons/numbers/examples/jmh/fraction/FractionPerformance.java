@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.examples.jmh.fraction;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.apache.commons.numbers.fraction.Fraction;
+import org.apache.commons.numbers.fraction.HybridFraction;
+import org.apache.commons.numbers.fraction.LongFraction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a benchmark to measure the speed of addition and multiplication of
+ * pairs of fractions using {@link Fraction}, {@link LongFraction},
+ * {@link HybridFraction} and {@link BigFraction}.
+ *
+ * <p>The components of each fraction are small enough that the results can be
+ * represented by a {@link Fraction}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class FractionPerformance {
+    /**
+     * Contains the fractions.
+     */
+    @State(Scope.Benchmark)
+    public static class Data {
+        /** The number of fractions. */
+        @Param({"1024"})
+        private int size;
+
+        /** The maximum number of bits in the numerator and denominator. */
+        @Param({"8", "15"})
+        private int bits;
+
+        /** The fractions. */
+        private Fraction[] fractions;
+        /** The fractions. */
+        private LongFraction[] longFractions;
+        /** The fractions. */
+        private HybridFraction[] hybridFractions;
+        /** The fractions. */
+        private BigFraction[] bigFractions;
+
+        /**
+         * Gets the fractions.
+         *
+         * @return the fractions
+         */
+        public Fraction[] getFractions() {
+            return fractions;
+        }
+
+        /**
+         * Gets the fractions.
+         *
+         * @return the fractions
+         */
+        public LongFraction[] getLongFractions() {
+            return longFractions;
+        }
+
+        /**
+         * Gets the fractions.
+         *
+         * @return the fractions
+         */
+        public HybridFraction[] getHybridFractions() {
+            return hybridFractions;
+        }
+
+        /**
+         * Gets the fractions.
+         *
+         * @return the fractions
+         */
+        public BigFraction[] getBigFractions() {
+            return bigFractions;
+        }
+
+        /**
+         * Create the fractions.
+         */
+        @Setup
+        public void setup() {
+            final SplittableRandom rng = new SplittableRandom();
+            fractions = new Fraction[size];
+            longFractions = new LongFraction[size];
+            hybridFractions = new HybridFraction[size];
+            bigFractions = new BigFraction[size];
+            final int shift = Integer.SIZE - bits;
+            for (int i = 0; i < size; i++) {
+                final int num = rng.nextInt() >> shift;
+                final int den = (rng.nextInt() >>> shift) | 1;
+                fractions[i] = Fraction.of(num, den);
+                longFractions[i] = LongFraction.of(num, den);
+                hybridFractions[i] = HybridFraction.of(num, den);
+                bigFractions[i] = BigFraction.of(num, den);
+            }
+        }
+    }
+
+    /**
+     * Add pairs of fractions using {@link Fraction}.
+     *
+     * @param data Data.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void fractionAdd(Data data, Blackhole bh) {
+        final Fraction[] f = data.getFractions();
+        for (int i = 1; i < f.length; i++) {
+            bh.consume(f[i - 1].add(f[i]));
+        }
+    }
+
+    /**
+     * Add pairs of fractions using {@link LongFraction}.
+     *
+     * @param data Data.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void longFractionAdd(Data data, Blackhole bh) {
+        final LongFraction[] f = data.getLongFractions();
+        for (int i = 1; i < f.length; i++) {
+            bh.consume(f[i - 1].add(f[i]));
+        }
+    }
+
+    /**
+     * Add pairs of fractions using {@link HybridFraction}.
+     *
+     * @param data Data.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void hybridFractionAdd(Data data, Blackhole bh) {
+        final HybridFraction[] f = data.getHybridFractions();
+        for (int i = 1; i < f.length; i++) {
+            bh.consume(f[i - 1].add(f[i]));
+        }
+    }
+
+    /**
+     * Add pairs of fractions using {@link BigFraction}.
+     *
+     * @param data Data.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void bigFractionAdd(Data data, Blackhole bh) {
+        final BigFraction[] f = data.getBigFractions();
+        for (int i = 1; i < f.length; i++) {
+            bh.consume(f[i - 1].add(f[i]));
+        }
+    }
+
+    /**
+     * Multiply pairs of fractions using {@link Fraction}.
+     *
+     * @param data Data.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void fractionMultiply(Data data, Blackhole bh) {
+        final Fraction[] f = data.getFractions();
+        for (int i = 1; i < f.length; i++) {
+            bh.consume(f[i - 1].multiply(f[i]));
+        }
+    }
+
+    /**
+     * Multiply pairs of fractions using {@link LongFraction}.
+     *
+     * @param data Data.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void longFractionMultiply(Data data, Blackhole bh) {
+        final LongFraction[] f = data.getLongFractions();
+        for (int i = 1; i < f.length; i++) {
+            bh.consume(f[i - 1].multiply(f[i]));
+        }
+    }
+
+    /**
+     * Multiply pairs of fractions using {@link HybridFraction}.
+     *
+     * @param data Data.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void hybridFractionMultiply(Data data, Blackhole bh) {
+        final HybridFraction[] f = data.getHybridFractions();
+        for (int i = 1; i < f.length; i++) {
+            bh.consume(f[i - 1].multiply(f[i]));
+        }
+    }
+
+    /**
+     * Multiply pairs of fractions using {@link BigFraction}.
+     *
+     * @param data Data.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void bigFractionMultiply(Data data, Blackhole bh) {
+        final BigFraction[] f = data.getBigFractions();
+        for (int i = 1; i < f.length; i++) {
+            bh.consume(f[i - 1].multiply(f[i]));
+        }
+    }
+}
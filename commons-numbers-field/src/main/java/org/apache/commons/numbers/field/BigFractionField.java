@@ -16,7 +16,9 @@
  */
 package org.apache.commons.numbers.field;
 
+import org.apache.commons.numbers.core.Accumulator;
 import org.apache.commons.numbers.fraction.BigFraction;
+import org.apache.commons.numbers.fraction.BigFractionAccumulator;
 
 /**
  * {@link BigFraction} field.
@@ -44,4 +46,10 @@ public final class BigFractionField extends AbstractField<BigFraction> {
     public BigFraction zero() {
         return BigFraction.ZERO;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public Accumulator<BigFraction> accumulator(BigFraction initial) {
+        return BigFractionAccumulator.of(initial);
+    }
 }
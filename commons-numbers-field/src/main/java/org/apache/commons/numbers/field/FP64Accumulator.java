@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.field;
+
+import org.apache.commons.numbers.core.Accumulator;
+
+/**
+ * {@link Accumulator} for {@link FP64} elements using a {@code double} value.
+ */
+final class FP64Accumulator implements Accumulator<FP64> {
+    /** The current value. */
+    private double value;
+
+    /**
+     * @param initial Initial value.
+     */
+    FP64Accumulator(double initial) {
+        value = initial;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FP64Accumulator addInPlace(FP64 a) {
+        value += a.doubleValue();
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FP64Accumulator subtractInPlace(FP64 a) {
+        value -= a.doubleValue();
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FP64Accumulator multiplyInPlace(FP64 a) {
+        value *= a.doubleValue();
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FP64Accumulator fma(FP64 a, FP64 b) {
+        // Not fused: the result matches the field operations
+        value += a.doubleValue() * b.doubleValue();
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FP64 get() {
+        return FP64.of(value);
+    }
+}
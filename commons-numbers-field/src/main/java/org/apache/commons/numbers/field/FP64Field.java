@@ -16,6 +16,8 @@
  */
 package org.apache.commons.numbers.field;
 
+import org.apache.commons.numbers.core.Accumulator;
+
 /**
  * {@link Double} field.
  */
@@ -46,4 +48,10 @@ public final class FP64Field extends AbstractField<FP64> {
     public FP64 zero() {
         return ZERO;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public Accumulator<FP64> accumulator(FP64 initial) {
+        return new FP64Accumulator(initial.doubleValue());
+    }
 }
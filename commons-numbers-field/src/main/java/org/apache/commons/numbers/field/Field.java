@@ -16,6 +16,8 @@
  */
 package org.apache.commons.numbers.field;
 
+import org.apache.commons.numbers.core.Accumulator;
+
 /**
  * Interface representing a <a href="http://mathworld.wolfram.com/Field.html">field</a>.
  *
@@ -80,4 +82,18 @@ public interface Field<T> {
      * {@code 0 + a == a}.
      */
     T zero();
+
+    /**
+     * Create a mutable accumulator initialised with the given value.
+     *
+     * <p>The default implementation applies the operations of this field.
+     * Fields of heavy element types may override this method to update the
+     * value in-place without allocation of intermediate elements.
+     *
+     * @param initial Initial value.
+     * @return the accumulator
+     */
+    default Accumulator<T> accumulator(T initial) {
+        return new FieldAccumulator<>(this, initial);
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.field;
+
+import org.apache.commons.numbers.core.Accumulator;
+
+/**
+ * {@link Accumulator} using the operations of a {@link Field}.
+ * Each operation replaces the current value with the result of the field operation.
+ *
+ * @param <T> Type of the field elements.
+ */
+final class FieldAccumulator<T> implements Accumulator<T> {
+    /** The field. */
+    private final Field<T> field;
+    /** The current value. */
+    private T value;
+
+    /**
+     * @param field Field.
+     * @param initial Initial value.
+     */
+    FieldAccumulator(Field<T> field, T initial) {
+        this.field = field;
+        value = initial;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FieldAccumulator<T> addInPlace(T a) {
+        value = field.add(value, a);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FieldAccumulator<T> subtractInPlace(T a) {
+        value = field.subtract(value, a);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FieldAccumulator<T> multiplyInPlace(T a) {
+        value = field.multiply(value, a);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FieldAccumulator<T> fma(T a, T b) {
+        value = field.add(value, field.multiply(a, b));
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T get() {
+        return value;
+    }
+}
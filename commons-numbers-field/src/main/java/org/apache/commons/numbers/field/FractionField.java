@@ -16,7 +16,9 @@
  */
 package org.apache.commons.numbers.field;
 
+import org.apache.commons.numbers.core.Accumulator;
 import org.apache.commons.numbers.fraction.Fraction;
+import org.apache.commons.numbers.fraction.FractionAccumulator;
 
 /**
  * {@link Fraction} field.
@@ -44,4 +46,10 @@ public final class FractionField extends AbstractField<Fraction> {
     public Fraction zero() {
         return Fraction.ZERO;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public Accumulator<Fraction> accumulator(Fraction initial) {
+        return FractionAccumulator.of(initial);
+    }
 }
@@ -22,6 +22,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.stream.Stream;
 
+import org.apache.commons.numbers.core.Accumulator;
 import org.apache.commons.numbers.core.Addition;
 import org.apache.commons.numbers.core.Multiplication;
 
@@ -132,6 +133,28 @@ class FieldParametricTest {
         assertEquals(r1, r2);
     }
 
+    @ParameterizedTest
+    @MethodSource("getList")
+    <T> void testAccumulator(FieldTestData<T> data) {
+        Field<T> field = data.getField();
+        T a = data.getA();
+        T b = data.getB();
+        T c = data.getC();
+        final Accumulator<T> acc = field.accumulator(a);
+        assertEquals(a, acc.get());
+        T expected = field.add(a, b);
+        assertEquals(expected, acc.addInPlace(b).get());
+        expected = field.subtract(expected, c);
+        assertEquals(expected, acc.subtractInPlace(c).get());
+        expected = field.multiply(expected, b);
+        assertEquals(expected, acc.multiplyInPlace(b).get());
+        expected = field.add(expected, field.multiply(a, c));
+        assertEquals(expected, acc.fma(a, c).get());
+        // Generic implementation
+        final Accumulator<T> acc2 = new FieldAccumulator<>(field, a);
+        assertEquals(expected, acc2.addInPlace(b).subtractInPlace(c).multiplyInPlace(b).fma(a, c).get());
+    }
+
     @ParameterizedTest
     @MethodSource("getList")
     <T extends Addition<T>> void testAdd(FieldTestData<T> data) {
@@ -21,6 +21,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Objects;
+import org.apache.commons.numbers.core.ArithmeticUtils;
 import org.apache.commons.numbers.core.NativeOperators;
 
 /**
@@ -56,6 +57,9 @@ public final class BigFraction
     /** The overflow limit for conversion from a double (2^31). */
     private static final long OVERFLOW = 1L << 31;
 
+    /** The bound on the relative error of the approximate comparison of magnitudes (2^-45). */
+    private static final double APPROXIMATION_ERROR = 0x1.0p-45;
+
     /** The numerator of this fraction reduced to lowest terms. */
     private final BigInteger numerator;
 
@@ -979,8 +983,8 @@ public final class BigFraction
             return ZERO;
         }
         if (exponent > 0) {
-            return new BigFraction(numerator.pow(exponent),
-                                   denominator.pow(exponent));
+            return new BigFraction(ArithmeticUtils.pow(numerator, exponent),
+                                   ArithmeticUtils.pow(denominator, exponent));
         }
         if (exponent == -1) {
             return this.reciprocal();
@@ -994,8 +998,8 @@ public final class BigFraction
         // The supported range for BigInteger is currently
         // +/-2^(Integer.MAX_VALUE) exclusive thus larger
         // exponents (long, BigInteger) are currently not supported.
-        return new BigFraction(denominator.pow(-exponent),
-                               numerator.pow(-exponent));
+        return new BigFraction(ArithmeticUtils.pow(denominator, -exponent),
+                               ArithmeticUtils.pow(numerator, -exponent));
     }
 
     /**
@@ -1025,6 +1029,11 @@ public final class BigFraction
     /**
      * Compares this object with the specified object for order using the signed magnitude.
      *
+     * <p>The magnitudes are compared using the cheapest test that can distinguish
+     * them: an estimate from the bit lengths of the numerators and denominators;
+     * then a {@code double} approximation of the magnitudes; and only if the values
+     * are too close for the approximation, the exact cross products.
+     *
      * @param other {@inheritDoc}
      * @return {@inheritDoc}
      */
@@ -1042,11 +1051,139 @@ public final class BigFraction
             return 0;
         }
         // Compare absolute magnitude
+        final int ln = absBitLength(numerator);
+        final int ld = absBitLength(denominator);
+        final int rn = absBitLength(other.numerator);
+        final int rd = absBitLength(other.denominator);
+        int cmp = compareMagnitudeEstimates(ln - ld, rn - rd);
+        if (cmp == 0) {
+            cmp = compareMagnitudeApproximations(
+                approximateMagnitude(numerator, ln, denominator, ld), approximationExponent(ln, ld),
+                approximateMagnitude(other.numerator, rn, other.denominator, rd), approximationExponent(rn, rd));
+            if (cmp == 0) {
+                cmp = compareMagnitude(other);
+            }
+        }
+        // Negative values with a larger magnitude are ordered first
+        return lhsSigNum > 0 ? cmp : -cmp;
+    }
+
+    /**
+     * Compares the magnitude of this fraction with the magnitude of the specified
+     * fraction using the exact cross products.
+     *
+     * @param other Fraction.
+     * @return -1, 0 or 1 as {@code |this|} is less than, equal to, or greater than {@code |other|}
+     */
+    int compareMagnitude(BigFraction other) {
         final BigInteger nOd = numerator.abs().multiply(other.denominator.abs());
         final BigInteger dOn = denominator.abs().multiply(other.numerator.abs());
         return nOd.compareTo(dOn);
     }
 
+    /**
+     * Gets the bit length of the absolute value.
+     *
+     * @param value Value.
+     * @return the bit length of {@code |value|}
+     */
+    static int absBitLength(BigInteger value) {
+        final int bits = value.bitLength();
+        // A negative power of 2 has one bit less than its magnitude
+        return value.signum() < 0 && value.getLowestSetBit() == bits ? bits + 1 : bits;
+    }
+
+    /**
+     * Compares magnitudes using estimates from the bit lengths. The estimate for
+     * {@code |p/q|} is {@code bitLength(p) - bitLength(q)} and the magnitude is in
+     * the open interval {@code (2^(e-1), 2^(e+1))}.
+     *
+     * @param e1 Estimate of the first magnitude.
+     * @param e2 Estimate of the second magnitude.
+     * @return -1 or 1 if the first magnitude is less than or greater than the second;
+     * or 0 if the estimates cannot distinguish the magnitudes
+     */
+    static int compareMagnitudeEstimates(int e1, int e2) {
+        final int diff = e1 - e2;
+        if (diff >= 2) {
+            return 1;
+        }
+        return diff <= -2 ? -1 : 0;
+    }
+
+    /**
+     * Approximates the magnitude {@code |p/q|} as {@code r * 2^e} using the
+     * {@code double} ratio of the upper 63 bits of the numerator and denominator.
+     * The relative error is below 2<sup>-50</sup>.
+     *
+     * @param num Numerator (p).
+     * @param numBits Bit length of the magnitude of the numerator.
+     * @param den Denominator (q).
+     * @param denBits Bit length of the magnitude of the denominator.
+     * @return the ratio r
+     * @see #approximationExponent(int, int)
+     */
+    static double approximateMagnitude(BigInteger num, int numBits, BigInteger den, int denBits) {
+        return upperBits(num, numBits) / upperBits(den, denBits);
+    }
+
+    /**
+     * Gets the exponent {@code e} of the approximation of the magnitude {@code |p/q|}.
+     *
+     * @param numBits Bit length of the magnitude of the numerator.
+     * @param denBits Bit length of the magnitude of the denominator.
+     * @return the exponent e
+     * @see #approximateMagnitude(BigInteger, int, BigInteger, int)
+     */
+    static int approximationExponent(int numBits, int denBits) {
+        return upperBitsShift(numBits) - upperBitsShift(denBits);
+    }
+
+    /**
+     * Compares magnitudes using the approximations {@code r1 * 2^e1} and {@code r2 * 2^e2}.
+     *
+     * @param r1 Ratio of the first approximation.
+     * @param e1 Exponent of the first approximation.
+     * @param r2 Ratio of the second approximation.
+     * @param e2 Exponent of the second approximation.
+     * @return -1 or 1 if the first magnitude is less than or greater than the second;
+     * or 0 if the approximations cannot distinguish the magnitudes
+     */
+    static int compareMagnitudeApproximations(double r1, int e1, double r2, int e2) {
+        // The ratio of the magnitudes. Any overflow to infinity or zero is
+        // outside the error bounds.
+        final double t = Math.scalb(r1 / r2, e1 - e2);
+        if (t > 1 + APPROXIMATION_ERROR) {
+            return 1;
+        }
+        return t < 1 - APPROXIMATION_ERROR ? -1 : 0;
+    }
+
+    /**
+     * Gets the magnitude of the upper 63 bits of the value as a {@code double}.
+     * If the value is truncated the relative error is below 2<sup>-62</sup>
+     * before rounding to a {@code double}.
+     *
+     * @param value Value.
+     * @param bits Bit length of the magnitude of the value.
+     * @return the upper bits
+     */
+    private static double upperBits(BigInteger value, int bits) {
+        final int shift = upperBitsShift(bits);
+        final long v = shift == 0 ? value.longValue() : value.shiftRight(shift).longValue();
+        return Math.abs((double) v);
+    }
+
+    /**
+     * Gets the shift to obtain the upper 63 bits of the magnitude of a value.
+     *
+     * @param bits Bit length of the magnitude of the value.
+     * @return the shift
+     */
+    private static int upperBitsShift(int bits) {
+        return Math.max(0, bits - 63);
+    }
+
     /**
      * Test for equality with another object. If the other object is a {@code Fraction} then a
      * comparison is made of the sign and magnitude; otherwise {@code false} is returned.
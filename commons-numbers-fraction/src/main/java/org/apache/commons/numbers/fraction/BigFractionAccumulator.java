@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+import java.math.BigInteger;
+import org.apache.commons.numbers.core.Accumulator;
+
+/**
+ * Mutable accumulator of {@link BigFraction} values.
+ *
+ * <p>The numerator and denominator are updated in-place and kept in reduced
+ * form. Addition uses the method of Knuth (4.5.1) which computes the greatest
+ * common divisor of the denominators and of a smaller intermediate, rather than
+ * of the full unreduced result; multiplication cancels common factors across
+ * the operands before the product is formed. No intermediate
+ * {@code BigFraction} is created for each step.
+ *
+ * <p>An accumulator created with a reduction threshold defers the reduction.
+ * Each operation forms the unreduced numerator and denominator using only
+ * multiplication and addition; the only reduction applied is the removal of
+ * a common power of 2, which requires a shift. The full reduction by the greatest
+ * common divisor is performed when the denominator has grown by more than the
+ * threshold number of bits, and has at least doubled in size, since the last
+ * reduction; on a call to
+ * {@link #reduce()}, or when the value is read with {@link #get()}. This is
+ * faster for long chains of operations where the cost of the greatest common
+ * divisor of large values exceeds the cost of operating on larger intermediates.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class BigFractionAccumulator implements Accumulator<BigFraction> {
+    /** The numerator of the value; reduced to lowest terms if the reduction is not deferred. */
+    private BigInteger numerator;
+    /** The denominator of the value; reduced to lowest terms if the reduction is not deferred. */
+    private BigInteger denominator;
+    /** The number of bits the denominator may grow before it is reduced. Zero if
+     * the reduction is not deferred. */
+    private final int threshold;
+    /** The bit length of the denominator above which the value is reduced. */
+    private int limit;
+
+    /**
+     * @param num Numerator.
+     * @param den Denominator.
+     * @param threshold Reduction threshold (zero if the reduction is not deferred).
+     */
+    private BigFractionAccumulator(BigInteger num, BigInteger den, int threshold) {
+        numerator = num;
+        denominator = den;
+        this.threshold = threshold;
+        limit = limit(den, threshold);
+    }
+
+    /**
+     * Create an instance.
+     *
+     * @param initial Initial value.
+     * @return the accumulator
+     */
+    public static BigFractionAccumulator of(BigFraction initial) {
+        return new BigFractionAccumulator(initial.getNumerator(), initial.getDenominator(), 0);
+    }
+
+    /**
+     * Create an instance that defers the reduction of the value to lowest terms.
+     * The value is reduced when the bit length of the denominator has grown by
+     * more than the {@code threshold}, and has at least doubled, since the last
+     * reduction.
+     *
+     * @param initial Initial value.
+     * @param threshold Number of bits the denominator may grow before it is reduced.
+     * @return the accumulator
+     * @throws IllegalArgumentException if {@code threshold <= 0}.
+     * @see #reduce()
+     */
+    public static BigFractionAccumulator of(BigFraction initial, int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Invalid reduction threshold: " + threshold);
+        }
+        return new BigFractionAccumulator(initial.getNumerator(), initial.getDenominator(), threshold);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigFractionAccumulator addInPlace(BigFraction a) {
+        add(a.getNumerator(), a.getDenominator());
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigFractionAccumulator subtractInPlace(BigFraction a) {
+        add(a.getNumerator().negate(), a.getDenominator());
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigFractionAccumulator multiplyInPlace(BigFraction a) {
+        final BigInteger num = a.getNumerator();
+        if (num.signum() == 0 || numerator.signum() == 0) {
+            numerator = BigInteger.ZERO;
+            denominator = BigInteger.ONE;
+        } else if (threshold != 0) {
+            numerator = numerator.multiply(num);
+            denominator = denominator.multiply(a.getDenominator());
+            normalize();
+        } else {
+            final BigInteger den = a.getDenominator();
+            final BigInteger d1 = numerator.gcd(den);
+            final BigInteger d2 = num.gcd(denominator);
+            numerator = divide(numerator, d1).multiply(divide(num, d2));
+            denominator = divide(denominator, d2).multiply(divide(den, d1));
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigFractionAccumulator fma(BigFraction a, BigFraction b) {
+        final BigInteger an = a.getNumerator();
+        final BigInteger bn = b.getNumerator();
+        if (an.signum() == 0 || bn.signum() == 0) {
+            return this;
+        }
+        if (threshold != 0) {
+            add(an.multiply(bn), a.getDenominator().multiply(b.getDenominator()));
+        } else {
+            // Reduced product
+            final BigInteger ad = a.getDenominator();
+            final BigInteger bd = b.getDenominator();
+            final BigInteger d1 = an.gcd(bd);
+            final BigInteger d2 = bn.gcd(ad);
+            add(divide(an, d1).multiply(divide(bn, d2)),
+                divide(ad, d2).multiply(divide(bd, d1)));
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigFraction get() {
+        reduce();
+        return BigFraction.of(numerator, denominator);
+    }
+
+    /**
+     * Reduce the value to lowest terms. This has no effect if the reduction
+     * is not deferred as the value is always in lowest terms.
+     *
+     * @return this accumulator
+     */
+    public BigFractionAccumulator reduce() {
+        if (threshold != 0) {
+            final BigInteger d = numerator.gcd(denominator);
+            numerator = divide(numerator, d);
+            denominator = divide(denominator, d);
+            limit = limit(denominator, threshold);
+        }
+        return this;
+    }
+
+    /**
+     * Add the value in-place.
+     *
+     * @param num Numerator of the value (reduced if the reduction is not deferred).
+     * @param den Denominator of the value (reduced if the reduction is not deferred).
+     */
+    private void add(BigInteger num, BigInteger den) {
+        if (num.signum() == 0) {
+            return;
+        }
+        if (numerator.signum() == 0) {
+            numerator = num;
+            denominator = den;
+            if (threshold != 0) {
+                normalize();
+            }
+            return;
+        }
+        if (threshold != 0) {
+            if (denominator.equals(den)) {
+                numerator = numerator.add(num);
+            } else {
+                numerator = numerator.multiply(den).add(num.multiply(denominator));
+                denominator = denominator.multiply(den);
+            }
+            normalize();
+            return;
+        }
+        if (denominator.equals(den)) {
+            // Common denominator: the result may share a factor with the denominator
+            final BigInteger t = numerator.add(num);
+            final BigInteger d = t.gcd(den);
+            numerator = divide(t, d);
+            denominator = t.signum() == 0 ? BigInteger.ONE : divide(den, d);
+            return;
+        }
+        // Let the two fractions be u/u' and v/v', and d1 = gcd(u', v').
+        // t = u(v'/d1) + v(u'/d1) is coprime to u'/d1 and v'/d1 but may
+        // share a factor d2 with d1. The result is (t/d2) / (u'/d1)(v'/d2).
+        final BigInteger d1 = denominator.gcd(den);
+        final BigInteger up = divide(denominator, d1);
+        final BigInteger vp = divide(den, d1);
+        final BigInteger t = numerator.multiply(vp).add(num.multiply(up));
+        if (t.signum() == 0) {
+            numerator = BigInteger.ZERO;
+            denominator = BigInteger.ONE;
+            return;
+        }
+        final BigInteger d2 = t.gcd(d1);
+        numerator = divide(t, d2);
+        denominator = up.multiply(divide(den, d2));
+    }
+
+    /**
+     * Partially reduce the unreduced value: a zero value is set to {@code 0 / 1};
+     * otherwise a common power of 2 is removed from the numerator and denominator.
+     * The value is reduced to lowest terms if the denominator exceeds the limit.
+     */
+    private void normalize() {
+        if (numerator.signum() == 0) {
+            numerator = BigInteger.ZERO;
+            denominator = BigInteger.ONE;
+            limit = limit(denominator, threshold);
+            return;
+        }
+        // Division of an exact multiple of 2^k by a shift is exact for negative values
+        final int k = Math.min(numerator.getLowestSetBit(), denominator.getLowestSetBit());
+        if (k != 0) {
+            numerator = numerator.shiftRight(k);
+            denominator = denominator.shiftRight(k);
+        }
+        if (denominator.bitLength() > limit) {
+            reduce();
+        }
+    }
+
+    /**
+     * Compute the bit length of the denominator above which the value is reduced.
+     *
+     * @param den Denominator.
+     * @param threshold Reduction threshold.
+     * @return the limit
+     */
+    private static int limit(BigInteger den, int threshold) {
+        // Allow the denominator to at least double in size. This bounds the number of
+        // reductions of a growing value.
+        final long bits = den.bitLength();
+        return (int) Math.min(Integer.MAX_VALUE, bits + Math.max(bits, threshold));
+    }
+
+    /**
+     * Divide the value by the divisor. Avoids the division if the divisor is 1.
+     *
+     * @param value Value.
+     * @param divisor Divisor (must be an exact divisor of the value).
+     * @return the quotient
+     */
+    private static BigInteger divide(BigInteger value, BigInteger divisor) {
+        return BigInteger.ONE.equals(divisor) ? value : value.divide(divisor);
+    }
+}
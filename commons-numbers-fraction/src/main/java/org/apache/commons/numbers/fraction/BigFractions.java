@@ -0,0 +1,393 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Bulk operations on {@link BigFraction} values.
+ *
+ * <p>The sum and product of many values are computed by combining the values
+ * in a balanced binary tree. Each level of the tree combines operands of
+ * similar size; this allows the sub-quadratic multiplication algorithms of
+ * {@link BigInteger} to be used, rather than repeatedly multiplying a large
+ * value by a small one. Intermediate results are not reduced by the greatest
+ * common divisor; only a common power of 2 is removed, which requires a shift.
+ * The result is reduced to lowest terms once.
+ *
+ * <p>The parallel variants compute independent branches of the tree using
+ * the common {@link java.util.concurrent.ForkJoinPool ForkJoinPool}.
+ *
+ * <p>Sorting caches an approximation of the magnitude of each value. Most
+ * comparisons are decided by the cached approximations; the exact cross
+ * products are only computed for values that are equal or very close.
+ */
+public final class BigFractions {
+    /** The number of values below which a parallel computation is sequential. */
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    /** No instances. */
+    private BigFractions() {}
+
+    /**
+     * Compute the sum of the values.
+     *
+     * @param values Values.
+     * @return the sum; zero if there are no values
+     */
+    public static BigFraction sum(BigFraction... values) {
+        return sum(values, false);
+    }
+
+    /**
+     * Compute the sum of the values.
+     *
+     * @param values Values.
+     * @return the sum; zero if there are no values
+     */
+    public static BigFraction sum(Iterable<BigFraction> values) {
+        return sum(toArray(values), false);
+    }
+
+    /**
+     * Compute the sum of the values in parallel.
+     *
+     * @param values Values.
+     * @return the sum; zero if there are no values
+     */
+    public static BigFraction parallelSum(BigFraction... values) {
+        return sum(values, true);
+    }
+
+    /**
+     * Compute the product of the values.
+     *
+     * @param values Values.
+     * @return the product; one if there are no values
+     */
+    public static BigFraction product(BigFraction... values) {
+        return product(values, false);
+    }
+
+    /**
+     * Compute the product of the values.
+     *
+     * @param values Values.
+     * @return the product; one if there are no values
+     */
+    public static BigFraction product(Iterable<BigFraction> values) {
+        return product(toArray(values), false);
+    }
+
+    /**
+     * Compute the product of the values in parallel.
+     *
+     * @param values Values.
+     * @return the product; one if there are no values
+     */
+    public static BigFraction parallelProduct(BigFraction... values) {
+        return product(values, true);
+    }
+
+    /**
+     * Sort the values into ascending order using {@link BigFraction#compareTo(BigFraction)}.
+     * The sort is stable: equal values are not reordered.
+     *
+     * @param values Values.
+     */
+    public static void sort(BigFraction[] values) {
+        final SortKey[] keys = new SortKey[values.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new SortKey(values[i]);
+        }
+        Arrays.sort(keys, SortKey::compare);
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = keys[i].value;
+        }
+    }
+
+    /**
+     * Compute the sum of the values.
+     *
+     * @param values Values.
+     * @param parallel Set to true to compute in parallel.
+     * @return the sum
+     */
+    private static BigFraction sum(BigFraction[] values, boolean parallel) {
+        if (values.length == 0) {
+            return BigFraction.ZERO;
+        }
+        final BigInteger[] nums = new BigInteger[values.length];
+        final BigInteger[] dens = new BigInteger[values.length];
+        for (int i = 0; i < values.length; i++) {
+            nums[i] = values[i].getNumerator();
+            dens[i] = values[i].getDenominator();
+        }
+        final BigInteger[] sum = parallel && values.length >= PARALLEL_THRESHOLD ?
+            new SumTask(nums, dens, 0, values.length).invoke() :
+            sum(nums, dens, 0, values.length);
+        return BigFraction.of(sum[0], sum[1]);
+    }
+
+    /**
+     * Compute the unreduced sum of the fractions in the range {@code [from, to)}.
+     *
+     * @param nums Numerators.
+     * @param dens Denominators.
+     * @param from Start of the range (inclusive).
+     * @param to End of the range (exclusive); must be above {@code from}.
+     * @return the numerator and denominator of the sum
+     */
+    private static BigInteger[] sum(BigInteger[] nums, BigInteger[] dens, int from, int to) {
+        if (to - from == 1) {
+            return new BigInteger[] {nums[from], dens[from]};
+        }
+        final int mid = (from + to) >>> 1;
+        return add(sum(nums, dens, from, mid), sum(nums, dens, mid, to));
+    }
+
+    /**
+     * Add the unreduced fractions.
+     *
+     * @param a Numerator and denominator of the first fraction.
+     * @param b Numerator and denominator of the second fraction.
+     * @return the numerator and denominator of the sum
+     */
+    private static BigInteger[] add(BigInteger[] a, BigInteger[] b) {
+        final BigInteger num;
+        final BigInteger den;
+        if (a[1].equals(b[1])) {
+            num = a[0].add(b[0]);
+            den = a[1];
+        } else {
+            num = a[0].multiply(b[1]).add(b[0].multiply(a[1]));
+            den = a[1].multiply(b[1]);
+        }
+        if (num.signum() == 0) {
+            return new BigInteger[] {BigInteger.ZERO, BigInteger.ONE};
+        }
+        // Remove a common power of 2. The values are exact multiples so a shift
+        // is an exact division for negative values.
+        final int k = Math.min(num.getLowestSetBit(), den.getLowestSetBit());
+        return k == 0 ?
+            new BigInteger[] {num, den} :
+            new BigInteger[] {num.shiftRight(k), den.shiftRight(k)};
+    }
+
+    /**
+     * Compute the product of the values.
+     *
+     * @param values Values.
+     * @param parallel Set to true to compute in parallel.
+     * @return the product
+     */
+    private static BigFraction product(BigFraction[] values, boolean parallel) {
+        if (values.length == 0) {
+            return BigFraction.ONE;
+        }
+        final BigInteger[] nums = new BigInteger[values.length];
+        final BigInteger[] dens = new BigInteger[values.length];
+        for (int i = 0; i < values.length; i++) {
+            nums[i] = values[i].getNumerator();
+            if (nums[i].signum() == 0) {
+                return BigFraction.ZERO;
+            }
+            dens[i] = values[i].getDenominator();
+        }
+        final BigInteger num;
+        final BigInteger den;
+        if (parallel && values.length >= PARALLEL_THRESHOLD) {
+            final ProductTask task = new ProductTask(dens, 0, values.length);
+            task.fork();
+            num = new ProductTask(nums, 0, values.length).invoke();
+            den = task.join();
+        } else {
+            num = product(nums, 0, values.length);
+            den = product(dens, 0, values.length);
+        }
+        return BigFraction.of(num, den);
+    }
+
+    /**
+     * Compute the product of the values in the range {@code [from, to)}.
+     *
+     * @param values Values.
+     * @param from Start of the range (inclusive).
+     * @param to End of the range (exclusive); must be above {@code from}.
+     * @return the product
+     */
+    private static BigInteger product(BigInteger[] values, int from, int to) {
+        if (to - from == 1) {
+            return values[from];
+        }
+        final int mid = (from + to) >>> 1;
+        return product(values, from, mid).multiply(product(values, mid, to));
+    }
+
+    /**
+     * Copy the values to an array.
+     *
+     * @param values Values.
+     * @return the array
+     */
+    private static BigFraction[] toArray(Iterable<BigFraction> values) {
+        final List<BigFraction> list = new ArrayList<>();
+        values.forEach(list::add);
+        return list.toArray(new BigFraction[0]);
+    }
+
+    /**
+     * Computes the unreduced sum of a range of fractions.
+     */
+    private static final class SumTask extends RecursiveTask<BigInteger[]> {
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261019L;
+
+        /** Numerators. */
+        private final BigInteger[] nums;
+        /** Denominators. */
+        private final BigInteger[] dens;
+        /** Start of the range (inclusive). */
+        private final int from;
+        /** End of the range (exclusive). */
+        private final int to;
+
+        /**
+         * @param nums Numerators.
+         * @param dens Denominators.
+         * @param from Start of the range (inclusive).
+         * @param to End of the range (exclusive).
+         */
+        SumTask(BigInteger[] nums, BigInteger[] dens, int from, int to) {
+            this.nums = nums;
+            this.dens = dens;
+            this.from = from;
+            this.to = to;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected BigInteger[] compute() {
+            if (to - from < PARALLEL_THRESHOLD) {
+                return sum(nums, dens, from, to);
+            }
+            final int mid = (from + to) >>> 1;
+            final SumTask left = new SumTask(nums, dens, from, mid);
+            left.fork();
+            final BigInteger[] right = new SumTask(nums, dens, mid, to).compute();
+            return add(left.join(), right);
+        }
+    }
+
+    /**
+     * Computes the product of a range of values.
+     */
+    private static final class ProductTask extends RecursiveTask<BigInteger> {
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261019L;
+
+        /** Values. */
+        private final BigInteger[] values;
+        /** Start of the range (inclusive). */
+        private final int from;
+        /** End of the range (exclusive). */
+        private final int to;
+
+        /**
+         * @param values Values.
+         * @param from Start of the range (inclusive).
+         * @param to End of the range (exclusive).
+         */
+        ProductTask(BigInteger[] values, int from, int to) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected BigInteger compute() {
+            if (to - from < PARALLEL_THRESHOLD) {
+                return product(values, from, to);
+            }
+            final int mid = (from + to) >>> 1;
+            final ProductTask left = new ProductTask(values, from, mid);
+            left.fork();
+            final BigInteger right = new ProductTask(values, mid, to).compute();
+            return left.join().multiply(right);
+        }
+    }
+
+    /**
+     * A value with a cached approximation of its magnitude.
+     */
+    private static final class SortKey {
+        /** The value. */
+        private final BigFraction value;
+        /** The sign of the value. */
+        private final int sign;
+        /** The estimate of the magnitude from the bit lengths. */
+        private final int estimate;
+        /** The ratio of the approximation of the magnitude. */
+        private final double ratio;
+        /** The exponent of the approximation of the magnitude. */
+        private final int exponent;
+
+        /**
+         * @param value Value.
+         */
+        SortKey(BigFraction value) {
+            this.value = value;
+            sign = value.signum();
+            final BigInteger num = value.getNumerator();
+            final BigInteger den = value.getDenominator();
+            final int numBits = BigFraction.absBitLength(num);
+            final int denBits = BigFraction.absBitLength(den);
+            estimate = numBits - denBits;
+            ratio = BigFraction.approximateMagnitude(num, numBits, den, denBits);
+            exponent = BigFraction.approximationExponent(numBits, denBits);
+        }
+
+        /**
+         * Compares this key with the other key. The ordering is the same as
+         * {@link BigFraction#compareTo(BigFraction)}.
+         *
+         * @param other Key.
+         * @return -1, 0 or 1 as this value is ordered before, equal to, or after the other value
+         */
+        int compare(SortKey other) {
+            if (sign != other.sign) {
+                return sign > other.sign ? 1 : -1;
+            }
+            if (sign == 0) {
+                return 0;
+            }
+            int cmp = BigFraction.compareMagnitudeEstimates(estimate, other.estimate);
+            if (cmp == 0) {
+                cmp = BigFraction.compareMagnitudeApproximations(ratio, exponent, other.ratio, other.exponent);
+                if (cmp == 0) {
+                    cmp = value.compareMagnitude(other.value);
+                }
+            }
+            return sign > 0 ? cmp : -cmp;
+        }
+    }
+}
@@ -856,7 +856,8 @@ public final class Fraction
         // Multiplication by the signum is equal to the absolute.
         final long nOd = ((long) numerator) * lns * other.denominator * rds;
         final long dOn = ((long) denominator) * lds * other.numerator * rns;
-        return Long.compare(nOd, dOn);
+        // Negative values with a larger magnitude are ordered first
+        return lhsSigNum > 0 ? Long.compare(nOd, dOn) : Long.compare(dOn, nOd);
     }
 
     /**
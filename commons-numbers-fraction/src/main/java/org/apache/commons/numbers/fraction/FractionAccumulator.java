@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+import org.apache.commons.numbers.core.Accumulator;
+import org.apache.commons.numbers.core.ArithmeticUtils;
+
+/**
+ * Mutable accumulator of {@link Fraction} values.
+ *
+ * <p>The numerator and denominator are updated in-place using the same
+ * arithmetic as {@link Fraction}; the value is always in reduced form. The
+ * results, and the conditions for an {@code ArithmeticException} on overflow,
+ * are the same as the equivalent chain of {@code Fraction} operations,
+ * without the allocation of an intermediate {@code Fraction} at each step.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class FractionAccumulator implements Accumulator<Fraction> {
+    /** The numerator of the value reduced to lowest terms. */
+    private int numerator;
+    /** The denominator of the value reduced to lowest terms. */
+    private int denominator;
+
+    /**
+     * @param num Numerator.
+     * @param den Denominator.
+     */
+    private FractionAccumulator(int num, int den) {
+        numerator = num;
+        denominator = den;
+    }
+
+    /**
+     * Create an instance.
+     *
+     * @param initial Initial value.
+     * @return the accumulator
+     */
+    public static FractionAccumulator of(Fraction initial) {
+        return new FractionAccumulator(initial.getNumerator(), initial.getDenominator());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FractionAccumulator addInPlace(Fraction a) {
+        addSub(a.getNumerator(), a.getDenominator(), true);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FractionAccumulator subtractInPlace(Fraction a) {
+        addSub(a.getNumerator(), a.getDenominator(), false);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FractionAccumulator multiplyInPlace(Fraction a) {
+        final int num = a.getNumerator();
+        if (num == 0 || numerator == 0) {
+            setZero();
+        } else {
+            // knuth 4.5.1
+            final int den = a.getDenominator();
+            final int d1 = ArithmeticUtils.gcd(numerator, den);
+            final int d2 = ArithmeticUtils.gcd(num, denominator);
+            set(Math.multiplyExact(numerator / d1, num / d2),
+                Math.multiplyExact(denominator / d2, den / d1));
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FractionAccumulator fma(Fraction a, Fraction b) {
+        final int an = a.getNumerator();
+        final int bn = b.getNumerator();
+        if (an != 0 && bn != 0) {
+            // Reduced product: knuth 4.5.1
+            final int ad = a.getDenominator();
+            final int bd = b.getDenominator();
+            final int d1 = ArithmeticUtils.gcd(an, bd);
+            final int d2 = ArithmeticUtils.gcd(bn, ad);
+            addSub(Math.multiplyExact(an / d1, bn / d2),
+                   Math.multiplyExact(ad / d2, bd / d1), true);
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Fraction get() {
+        return Fraction.of(numerator, denominator);
+    }
+
+    /**
+     * Set the value. The value must be in reduced form. This applies the same
+     * canonical form as {@link Fraction}: a value of 1 is stored as {@code 1 / 1}.
+     *
+     * @param num Numerator.
+     * @param den Denominator.
+     */
+    private void set(int num, int den) {
+        if (num == den) {
+            numerator = 1;
+            denominator = 1;
+        } else {
+            numerator = num;
+            denominator = den;
+        }
+    }
+
+    /**
+     * Set the value to zero.
+     */
+    private void setZero() {
+        numerator = 0;
+        denominator = 1;
+    }
+
+    /**
+     * Add or subtract the value in-place.
+     *
+     * @param num Numerator of the value (reduced).
+     * @param den Denominator of the value (reduced).
+     * @param isAdd Set to true to add; otherwise subtract.
+     * @see Fraction#add(Fraction)
+     */
+    private void addSub(int num, int den, boolean isAdd) {
+        if (num == 0) {
+            return;
+        }
+        if (numerator == 0) {
+            if (isAdd) {
+                set(num, den);
+            } else if (num == Integer.MIN_VALUE) {
+                set(num, -den);
+            } else {
+                set(-num, den);
+            }
+            return;
+        }
+        // t = u(v'/d1) +/- v(u'/d1) cannot overflow a long: see Fraction
+        final int d1 = ArithmeticUtils.gcd(denominator, den);
+        final long uvp = (long) numerator * (long) (den / d1);
+        final long upv = (long) num * (long) (denominator / d1);
+        final long t = isAdd ? uvp + upv : uvp - upv;
+        if (t == 0) {
+            setZero();
+            return;
+        }
+        // result is (t/d2) / (u'/d1)(v'/d2)
+        final long d2 = ArithmeticUtils.gcd(t, d1);
+        set(Math.toIntExact(t / d2),
+            Math.multiplyExact(denominator / d1, den / (int) d2));
+    }
+}
@@ -0,0 +1,693 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+import org.apache.commons.numbers.core.ArithmeticUtils;
+import org.apache.commons.numbers.core.Int128;
+import org.apache.commons.numbers.core.NativeOperators;
+
+/**
+ * Representation of a rational number without any overflow.
+ *
+ * <p>The number is stored using a {@code long} numerator and denominator when
+ * possible. If the result of an operation cannot be represented using 64-bit
+ * components the number is promoted to a {@link BigFraction}. Results are always
+ * reduced to lowest terms and a {@code BigFraction} result that can be represented
+ * using 64-bit components is demoted to the primitive representation.
+ *
+ * <p>This provides the speed of primitive arithmetic for typical values with the
+ * exact results of {@link BigFraction} when the values become large.
+ *
+ * <p>This class is immutable.
+ *
+ * <a href="https://en.wikipedia.org/wiki/Rational_number">Rational number</a>
+ */
+public final class HybridFraction
+    extends Number
+    implements Comparable<HybridFraction>,
+               NativeOperators<HybridFraction>,
+               Serializable {
+    /** A fraction representing "0". */
+    public static final HybridFraction ZERO = new HybridFraction(0, 1);
+
+    /** A fraction representing "1". */
+    public static final HybridFraction ONE = new HybridFraction(1, 1);
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261019L;
+
+    /** The maximum magnitude of a {@code long} that is exactly representable as a {@code double} (2^53). */
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    /**
+     * The numerator of this fraction reduced to lowest terms.
+     * Only valid if the fraction is not stored as a {@code BigFraction}.
+     */
+    private final long numerator;
+
+    /**
+     * The denominator of this fraction reduced to lowest terms; this is always positive.
+     * Only valid if the fraction is not stored as a {@code BigFraction}.
+     */
+    private final long denominator;
+
+    /**
+     * The fraction if it cannot be represented using the primitive components; otherwise null.
+     * The denominator of the fraction is positive.
+     */
+    private final BigFraction big;
+
+    /**
+     * Private constructor: Instances are created using factory methods.
+     *
+     * @param num Numerator (reduced to lowest terms).
+     * @param den Denominator (reduced to lowest terms and strictly positive).
+     */
+    private HybridFraction(long num, long den) {
+        numerator = num;
+        denominator = den;
+        big = null;
+    }
+
+    /**
+     * Private constructor: Instances are created using factory methods.
+     *
+     * @param big Fraction that cannot be represented using primitive components.
+     */
+    private HybridFraction(BigFraction big) {
+        numerator = 0;
+        denominator = 1;
+        this.big = big;
+    }
+
+    /**
+     * Create a fraction given the numerator. The denominator is {@code 1}.
+     *
+     * @param num Numerator.
+     * @return a new instance.
+     */
+    public static HybridFraction of(final long num) {
+        if (num == 0) {
+            return ZERO;
+        }
+        return new HybridFraction(num, 1);
+    }
+
+    /**
+     * Create a fraction given the numerator and denominator.
+     * The fraction is reduced to lowest terms.
+     *
+     * @param num Numerator.
+     * @param den Denominator.
+     * @throws ArithmeticException if the denominator is {@code zero}.
+     * @return a new instance.
+     */
+    public static HybridFraction of(final long num, final long den) {
+        if (den == 0) {
+            throw new FractionException(FractionException.ERROR_ZERO_DENOMINATOR);
+        }
+        if (num == 0) {
+            return ZERO;
+        }
+        if (num == Long.MIN_VALUE || den == Long.MIN_VALUE) {
+            // The gcd or the sign correction may overflow
+            return from(BigFraction.of(num, den));
+        }
+        final long d = ArithmeticUtils.gcd(num, den);
+        return den < 0 ?
+            new HybridFraction(-num / d, -den / d) :
+            new HybridFraction(num / d, den / d);
+    }
+
+    /**
+     * Create a fraction given the numerator. The denominator is {@code 1}.
+     *
+     * @param num Numerator.
+     * @return a new instance.
+     */
+    public static HybridFraction of(final BigInteger num) {
+        return from(BigFraction.of(num));
+    }
+
+    /**
+     * Create a fraction given the numerator and denominator.
+     * The fraction is reduced to lowest terms.
+     *
+     * @param num Numerator.
+     * @param den Denominator.
+     * @throws ArithmeticException if the denominator is {@code zero}.
+     * @return a new instance.
+     */
+    public static HybridFraction of(final BigInteger num, final BigInteger den) {
+        return from(BigFraction.of(num, den));
+    }
+
+    /**
+     * Create a fraction with the exact value of the double.
+     *
+     * @param value Value to convert to a fraction.
+     * @throws IllegalArgumentException if the given {@code value} is NaN or infinite.
+     * @return a new instance.
+     * @see BigFraction#from(double)
+     */
+    public static HybridFraction from(final double value) {
+        return from(BigFraction.from(value));
+    }
+
+    /**
+     * Create a fraction with the value of the {@code BigFraction}.
+     *
+     * @param value Value.
+     * @return a new instance.
+     */
+    public static HybridFraction from(final BigFraction value) {
+        final BigInteger num = value.getNumerator();
+        if (num.signum() == 0) {
+            return ZERO;
+        }
+        final BigInteger den = value.getDenominator();
+        if (den.signum() < 0) {
+            // Use a positive denominator
+            return from(BigFraction.of(num.negate(), den.negate()));
+        }
+        if (num.bitLength() < Long.SIZE && den.bitLength() < Long.SIZE) {
+            // BigFraction is reduced to lowest terms
+            return new HybridFraction(num.longValue(), den.longValue());
+        }
+        return new HybridFraction(value);
+    }
+
+    /**
+     * Returns a {@code HybridFraction} instance representing the specified string {@code s}.
+     *
+     * <p>The string must be in a format compatible with that produced by
+     * {@link #toString() HybridFraction.toString()}.
+     *
+     * @param s String representation.
+     * @return an instance.
+     * @throws NullPointerException if the string is null.
+     * @throws NumberFormatException if the string does not contain a parsable fraction.
+     * @see BigFraction#parse(String)
+     */
+    public static HybridFraction parse(String s) {
+        return from(BigFraction.parse(s));
+    }
+
+    @Override
+    public HybridFraction zero() {
+        return ZERO;
+    }
+
+    @Override
+    public HybridFraction one() {
+        return ONE;
+    }
+
+    /**
+     * Access the numerator as a {@code BigInteger}.
+     *
+     * @return the numerator as a {@code BigInteger}.
+     */
+    public BigInteger getNumerator() {
+        return big == null ? BigInteger.valueOf(numerator) : big.getNumerator();
+    }
+
+    /**
+     * Access the denominator as a {@code BigInteger}. The denominator is always positive.
+     *
+     * @return the denominator as a {@code BigInteger}.
+     */
+    public BigInteger getDenominator() {
+        return big == null ? BigInteger.valueOf(denominator) : big.getDenominator();
+    }
+
+    /**
+     * Returns a {@code BigFraction} with the value of this fraction.
+     *
+     * @return the fraction as a {@code BigFraction}.
+     */
+    public BigFraction toBigFraction() {
+        return big == null ? BigFraction.of(numerator, denominator) : big;
+    }
+
+    /**
+     * Retrieves the sign of this fraction.
+     *
+     * @return -1 if the value is strictly negative, 1 if it is strictly
+     * positive, 0 if it is 0.
+     */
+    public int signum() {
+        return big == null ? Long.signum(numerator) : big.signum();
+    }
+
+    /**
+     * Returns the absolute value of this fraction.
+     *
+     * @return the absolute value.
+     */
+    public HybridFraction abs() {
+        return signum() >= 0 ?
+            this :
+            negate();
+    }
+
+    @Override
+    public HybridFraction negate() {
+        if (big != null || numerator == Long.MIN_VALUE) {
+            return from(toBigFraction().negate());
+        }
+        return new HybridFraction(-numerator, denominator);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Raises an exception if the fraction is equal to zero.
+     *
+     * @throws ArithmeticException if the current numerator is {@code zero}
+     */
+    @Override
+    public HybridFraction reciprocal() {
+        if (big != null || numerator == Long.MIN_VALUE) {
+            return from(toBigFraction().reciprocal());
+        }
+        if (numerator == 0) {
+            throw new FractionException(FractionException.ERROR_ZERO_DENOMINATOR);
+        }
+        return numerator < 0 ?
+            new HybridFraction(-denominator, -numerator) :
+            new HybridFraction(denominator, numerator);
+    }
+
+    /**
+     * Returns the {@code double} value closest to this fraction.
+     *
+     * @return the fraction as a {@code double}.
+     */
+    @Override
+    public double doubleValue() {
+        if (big == null &&
+            Math.abs(numerator) <= MAX_EXACT_DOUBLE &&
+            numerator != Long.MIN_VALUE &&
+            denominator <= MAX_EXACT_DOUBLE) {
+            // Exact conversion of the components; the quotient is correctly rounded
+            return (double) numerator / denominator;
+        }
+        return toBigFraction().doubleValue();
+    }
+
+    /**
+     * Returns the {@code float} value closest to this fraction.
+     *
+     * @return the fraction as a {@code float}.
+     */
+    @Override
+    public float floatValue() {
+        return toBigFraction().floatValue();
+    }
+
+    /**
+     * Returns the whole number part of the fraction.
+     *
+     * @return the whole number part of the fraction as an {@code int}.
+     * @see BigFraction#intValue()
+     */
+    @Override
+    public int intValue() {
+        return big == null ? (int) (numerator / denominator) : big.intValue();
+    }
+
+    /**
+     * Returns the whole number part of the fraction.
+     *
+     * @return the whole number part of the fraction as a {@code long}.
+     * @see BigFraction#longValue()
+     */
+    @Override
+    public long longValue() {
+        return big == null ? numerator / denominator : big.longValue();
+    }
+
+    /**
+     * Adds the specified {@code value} to this fraction, returning
+     * the result in reduced form.
+     *
+     * @param value Value to add.
+     * @return {@code this + value}.
+     */
+    public HybridFraction add(final long value) {
+        if (big == null) {
+            return addSub(numerator, denominator, value, 1, true);
+        }
+        return from(big.add(value));
+    }
+
+    /**
+     * Adds the specified {@code value} to this fraction, returning
+     * the result in reduced form.
+     *
+     * @param value Value to add.
+     * @return {@code this + value}.
+     */
+    @Override
+    public HybridFraction add(HybridFraction value) {
+        if (big == null && value.big == null) {
+            return addSub(numerator, denominator, value.numerator, value.denominator, true);
+        }
+        return from(toBigFraction().add(value.toBigFraction()));
+    }
+
+    /**
+     * Subtracts the specified {@code value} from this fraction, returning
+     * the result in reduced form.
+     *
+     * @param value Value to subtract.
+     * @return {@code this - value}.
+     */
+    public HybridFraction subtract(final long value) {
+        if (big == null) {
+            return addSub(numerator, denominator, value, 1, false);
+        }
+        return from(big.subtract(value));
+    }
+
+    /**
+     * Subtracts the specified {@code value} from this fraction, returning
+     * the result in reduced form.
+     *
+     * @param value Value to subtract.
+     * @return {@code this - value}.
+     */
+    @Override
+    public HybridFraction subtract(HybridFraction value) {
+        if (big == null && value.big == null) {
+            return addSub(numerator, denominator, value.numerator, value.denominator, false);
+        }
+        return from(toBigFraction().subtract(value.toBigFraction()));
+    }
+
+    /**
+     * Implements add and subtract of the primitive fractions using algorithm
+     * described in Knuth 4.5.1. The fraction is promoted to a {@code BigFraction}
+     * if the result cannot be represented using 64-bit components.
+     *
+     * @param u Numerator of the first fraction.
+     * @param up Denominator of the first fraction (strictly positive).
+     * @param v Numerator of the second fraction.
+     * @param vp Denominator of the second fraction (strictly positive).
+     * @param isAdd Whether the operation is "add" or "subtract".
+     * @return a new instance.
+     */
+    private static HybridFraction addSub(long u, long up, long v, long vp, boolean isAdd) {
+        /*
+         * Let the two fractions be u/u' and v/v', and d1 = gcd(u', v').
+         * First, compute t, defined as:
+         *
+         * t = u(v'/d1) +/- v(u'/d1)
+         *
+         * The magnitude of each product is below 2^126 and t is computed
+         * exactly using 128-bit arithmetic.
+         */
+        final long d1 = ArithmeticUtils.gcd(up, vp);
+        final long a = vp / d1;
+        final long b = up / d1;
+        final long x = u * a;
+        final long xh = ArithmeticUtils.multiplyHigh(u, a);
+        final long y = v * b;
+        final long yh = ArithmeticUtils.multiplyHigh(v, b);
+        final long t;
+        final long th;
+        if (isAdd) {
+            t = x + y;
+            th = xh + yh + (((x & y) | ((x | y) & ~t)) >>> 63);
+        } else {
+            t = x - y;
+            th = xh - yh - (((~x & y) | (~(x ^ y) & t)) >>> 63);
+        }
+        if (th == t >> 63) {
+            if (t == 0) {
+                return ZERO;
+            }
+            /*
+             * Because u is coprime to u' and v is coprime to v', t is necessarily
+             * coprime to both v'/d1 and u'/d1. However, it might have a common
+             * factor with d1.
+             */
+            final long d2 = ArithmeticUtils.gcd(t, d1);
+            // result is (t/d2) / (u'/d1)(v'/d2)
+            final long c = vp / d2;
+            final long den = b * c;
+            if (ArithmeticUtils.multiplyHigh(b, c) == 0 && den > 0) {
+                return new HybridFraction(t / d2, den);
+            }
+        }
+        return from(BigFraction.of(Int128.of(th, t).toBigInteger(),
+                                   BigInteger.valueOf(b).multiply(BigInteger.valueOf(vp))));
+    }
+
+    /**
+     * Multiply this fraction by the passed {@code value}, returning
+     * the result in reduced form.
+     *
+     * @param value Value to multiply by.
+     * @return {@code this * value}.
+     */
+    @Override
+    public HybridFraction multiply(final int value) {
+        return multiply((long) value);
+    }
+
+    /**
+     * Multiply this fraction by the passed {@code value}, returning
+     * the result in reduced form.
+     *
+     * @param value Value to multiply by.
+     * @return {@code this * value}.
+     */
+    public HybridFraction multiply(final long value) {
+        if (big == null) {
+            return multiply(numerator, denominator, value, 1);
+        }
+        return from(big.multiply(value));
+    }
+
+    /**
+     * Multiply this fraction by the passed {@code value}, returning
+     * the result in reduced form.
+     *
+     * @param value Value to multiply by.
+     * @return {@code this * value}.
+     */
+    @Override
+    public HybridFraction multiply(HybridFraction value) {
+        if (big == null && value.big == null) {
+            return multiply(numerator, denominator, value.numerator, value.denominator);
+        }
+        return from(toBigFraction().multiply(value.toBigFraction()));
+    }
+
+    /**
+     * Divide this fraction by the passed {@code value}, returning
+     * the result in reduced form.
+     *
+     * @param value Value to divide by
+     * @return {@code this / value}.
+     * @throws ArithmeticException if the value to divide by is zero.
+     */
+    public HybridFraction divide(final long value) {
+        if (value == 0) {
+            throw new FractionException(FractionException.ERROR_DIVIDE_BY_ZERO);
+        }
+        if (big == null && value != Long.MIN_VALUE) {
+            // Multiply by the reciprocal with a positive denominator
+            return value < 0 ?
+                multiply(numerator, denominator, -1, -value) :
+                multiply(numerator, denominator, 1, value);
+        }
+        return from(toBigFraction().divide(value));
+    }
+
+    /**
+     * Divide this fraction by the passed {@code value}, returning
+     * the result in reduced form.
+     *
+     * @param value Value to divide by
+     * @return {@code this / value}.
+     * @throws ArithmeticException if the value to divide by is zero.
+     */
+    @Override
+    public HybridFraction divide(HybridFraction value) {
+        if (value.signum() == 0) {
+            throw new FractionException(FractionException.ERROR_DIVIDE_BY_ZERO);
+        }
+        if (big == null && value.big == null && value.numerator != Long.MIN_VALUE) {
+            // Multiply by the reciprocal with a positive denominator
+            return value.numerator < 0 ?
+                multiply(numerator, denominator, -value.denominator, -value.numerator) :
+                multiply(numerator, denominator, value.denominator, value.numerator);
+        }
+        return from(toBigFraction().divide(value.toBigFraction()));
+    }
+
+    /**
+     * Multiply the primitive fractions using the algorithm described in Knuth 4.5.1.
+     * The fraction is promoted to a {@code BigFraction} if the result cannot be
+     * represented using 64-bit components.
+     *
+     * @param u Numerator of the first fraction.
+     * @param up Denominator of the first fraction (strictly positive).
+     * @param v Numerator of the second fraction.
+     * @param vp Denominator of the second fraction (strictly positive).
+     * @return a new instance.
+     */
+    private static HybridFraction multiply(long u, long up, long v, long vp) {
+        if (u == 0 || v == 0) {
+            return ZERO;
+        }
+        // Cancel common factors so the product is reduced to lowest terms.
+        // The gcd is not above the positive denominator and cannot overflow.
+        final long d1 = ArithmeticUtils.gcd(u, vp);
+        final long d2 = ArithmeticUtils.gcd(v, up);
+        final long a = u / d1;
+        final long b = v / d2;
+        final long c = up / d2;
+        final long d = vp / d1;
+        final long num = a * b;
+        final long den = c * d;
+        if (ArithmeticUtils.multiplyHigh(a, b) == num >> 63 &&
+            ArithmeticUtils.multiplyHigh(c, d) == 0 && den > 0) {
+            return new HybridFraction(num, den);
+        }
+        return from(BigFraction.of(BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)),
+                                   BigInteger.valueOf(c).multiply(BigInteger.valueOf(d))));
+    }
+
+    /**
+     * Returns a {@code HybridFraction} whose value is
+     * <code>this<sup>exponent</sup></code>, returning the result in reduced form.
+     *
+     * @param exponent exponent to which this {@code HybridFraction} is to be raised.
+     * @return <code>this<sup>exponent</sup></code>.
+     * @throws ArithmeticException if the fraction is zero and the exponent is negative.
+     * @see BigFraction#pow(int)
+     */
+    @Override
+    public HybridFraction pow(final int exponent) {
+        if (exponent == 1) {
+            return this;
+        }
+        return from(toBigFraction().pow(exponent));
+    }
+
+    /**
+     * Returns the {@code String} representing this fraction.
+     * Uses:
+     * <ul>
+     *  <li>{@code "0"} if {@code numerator} is zero.
+     *  <li>{@code "numerator"} if {@code denominator} is one.
+     *  <li>{@code "numerator / denominator"} for all other cases.
+     * </ul>
+     *
+     * @return a string representation of the fraction.
+     */
+    @Override
+    public String toString() {
+        if (big != null) {
+            return big.toString();
+        }
+        final String str;
+        if (numerator == 0) {
+            str = "0";
+        } else if (denominator == 1) {
+            str = Long.toString(numerator);
+        } else {
+            str = numerator + " / " + denominator;
+        }
+        return str;
+    }
+
+    /**
+     * Compares this object with the specified object for order.
+     *
+     * @param other {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int compareTo(HybridFraction other) {
+        final int lhsSigNum = signum();
+        final int rhsSigNum = other.signum();
+
+        if (lhsSigNum != rhsSigNum) {
+            return (lhsSigNum > rhsSigNum) ? 1 : -1;
+        }
+        // Same sign.
+        // Avoid a multiply if both fractions are zero
+        if (lhsSigNum == 0) {
+            return 0;
+        }
+        if (big == null && other.big == null) {
+            // Denominators are positive
+            return Int128.compareProducts(numerator, other.denominator,
+                                          other.numerator, denominator);
+        }
+        // Compare the magnitude and apply the sign
+        final BigFraction x = toBigFraction();
+        final BigFraction y = other.toBigFraction();
+        final BigInteger nOd = x.getNumerator().abs().multiply(y.getDenominator().abs());
+        final BigInteger dOn = x.getDenominator().abs().multiply(y.getNumerator().abs());
+        return nOd.compareTo(dOn) * lhsSigNum;
+    }
+
+    /**
+     * Test for equality with another object. If the other object is a {@code HybridFraction}
+     * then a comparison is made of the value; otherwise {@code false} is returned.
+     *
+     * @param other {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (other instanceof HybridFraction) {
+            // Since fractions are always in lowest terms with the primitive
+            // representation used when possible, the components can be
+            // compared directly for equality.
+            final HybridFraction rhs = (HybridFraction) other;
+            if (big == null) {
+                return rhs.big == null &&
+                       numerator == rhs.numerator &&
+                       denominator == rhs.denominator;
+            }
+            return big.equals(rhs.big);
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        if (big != null) {
+            return big.hashCode();
+        }
+        return 31 * (31 + Long.hashCode(numerator)) + Long.hashCode(denominator);
+    }
+}
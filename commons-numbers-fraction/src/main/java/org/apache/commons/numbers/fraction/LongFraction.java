@@ -0,0 +1,967 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import org.apache.commons.numbers.core.ArithmeticUtils;
+import org.apache.commons.numbers.core.Int128;
+import org.apache.commons.numbers.core.NativeOperators;
+
+/**
+ * Representation of a rational number.
+ *
+ * <p>The number is expressed as the quotient {@code p/q} of two 64-bit integers,
+ * a numerator {@code p} and a non-zero denominator {@code q}.
+ *
+ * <p>This class has the same API as {@link Fraction} using {@code long} values.
+ * Intermediate products are computed exactly using 128-bit arithmetic and
+ * the result is only required to fit in 64-bits after reduction to lowest terms.
+ * This supports rational numbers outside the range of {@link Fraction} without the
+ * cost of {@link BigFraction}.
+ *
+ * <p>This class is immutable.
+ *
+ * <a href="https://en.wikipedia.org/wiki/Rational_number">Rational number</a>
+ */
+public final class LongFraction
+    extends Number
+    implements Comparable<LongFraction>,
+               NativeOperators<LongFraction>,
+               Serializable {
+    /** A fraction representing "0". */
+    public static final LongFraction ZERO = new LongFraction(0);
+
+    /** A fraction representing "1". */
+    public static final LongFraction ONE = new LongFraction(1);
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261019L;
+
+    /** The default epsilon used for convergence. */
+    private static final double DEFAULT_EPSILON = 1e-5;
+
+    /** The default iterations used for convergence. */
+    private static final int DEFAULT_MAX_ITERATIONS = 100;
+
+    /** Message for non-finite input double argument to factory constructors. */
+    private static final String NOT_FINITE = "Not finite: ";
+
+    /** The overflow limit for conversion from a double (2^63). */
+    private static final double OVERFLOW = 0x1.0p63;
+
+    /** The maximum magnitude of a long that is exactly representable as a double (2^53). */
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    /** The maximum magnitude of a long that is exactly representable as a float (2^24). */
+    private static final long MAX_EXACT_FLOAT = 1L << 24;
+
+    /** The numerator of this fraction reduced to lowest terms. */
+    private final long numerator;
+
+    /** The denominator of this fraction reduced to lowest terms. */
+    private final long denominator;
+
+    /**
+     * Private constructor: Instances are created using factory methods.
+     *
+     * <p>This constructor should only be invoked when the fraction is known
+     * to be non-zero; otherwise use {@link #ZERO}. This avoids creating
+     * the zero representation {@code 0 / -1}.
+     *
+     * @param num Numerator.
+     * @param den Denominator.
+     * @throws ArithmeticException if the denominator is {@code zero}.
+     */
+    private LongFraction(long num, long den) {
+        if (den == 0) {
+            throw new FractionException(FractionException.ERROR_ZERO_DENOMINATOR);
+        }
+
+        if (num == den) {
+            numerator = 1;
+            denominator = 1;
+        } else {
+            // Reduce numerator (p) and denominator (q) by greatest common divisor.
+            long p;
+            long q;
+
+            // If num and den are both 2^-63, or if one is 0 and the other is 2^-63,
+            // the calculation of the gcd below will fail. Ensure that this does not
+            // happen by dividing both by 2 in case both are even.
+            if (((num | den) & 1) == 0) {
+                p = num >> 1;
+                q = den >> 1;
+            } else {
+                p = num;
+                q = den;
+            }
+
+            // Will not throw.
+            // Cannot return 0 as gcd(0, 0) has been eliminated.
+            final long d = ArithmeticUtils.gcd(p, q);
+            numerator = p / d;
+            denominator = q / d;
+        }
+    }
+
+    /**
+     * Private constructor: Instances are created using factory methods.
+     *
+     * <p>This sets the denominator to 1.
+     *
+     * @param num Numerator.
+     */
+    private LongFraction(long num) {
+        numerator = num;
+        denominator = 1;
+    }
+
+    /**
+     * Create a fraction given the double value and either the maximum error
+     * allowed or the maximum number of denominator digits.
+     *
+     * <p>This is called with either a valid epsilon value and the maxDenominator
+     * set to {@code Long.MIN_VALUE} (that way the maxDenominator has no effect);
+     * or a valid maxDenominator value and the epsilon value set to zero.
+     * See {@link Fraction} for details.
+     *
+     * <p>Warning: This conversion assumes the value is not zero.
+     *
+     * @param value Value to convert to a fraction. Must not be zero.
+     * @param epsilon Maximum error allowed.
+     * The resulting fraction is within {@code epsilon} of {@code value},
+     * in absolute terms.
+     * @param maxDenominator Maximum denominator value allowed.
+     * @param maxIterations Maximum number of convergents.
+     * @throws IllegalArgumentException if the given {@code value} is NaN or infinite.
+     * @throws ArithmeticException if the continued fraction failed to converge.
+     */
+    private LongFraction(final double value,
+                         final double epsilon,
+                         final long maxDenominator,
+                         final int maxIterations) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException(NOT_FINITE + value);
+        }
+
+        // Remove sign, this is restored at the end.
+        // (Assumes the value is not zero and thus signum(value) is not zero).
+        final double absValue = Math.abs(value);
+        if (absValue >= OVERFLOW) {
+            if (absValue > OVERFLOW) {
+                throw new FractionException(FractionException.ERROR_CONVERSION_OVERFLOW,
+                    value, new BigDecimal(absValue).toBigInteger(), 1);
+            }
+            // 2^63 is supported using the sign of the denominator
+            numerator = Long.MIN_VALUE;
+            denominator = value < 0 ? 1 : -1;
+            return;
+        }
+        double r0 = absValue;
+        long a0 = (long) Math.floor(r0);
+
+        // check for (almost) integer arguments, which should not go to iterations.
+        if (r0 - a0 <= epsilon) {
+            numerator = value < 0 ? -a0 : a0;
+            denominator = 1;
+            return;
+        }
+
+        // Support 2^63 as maximum denominator.
+        // This is negative as a long and is compared as an unsigned value.
+        final long maxDen = Math.abs(maxDenominator);
+
+        // Convergents are in [0, 2^63] and are stored as unsigned values
+        long p0 = 1;
+        long q0 = 0;
+        long p1 = a0;
+        long q1 = 1;
+
+        long p2 = 0;
+        long q2 = 1;
+
+        int n = 0;
+        boolean stop = false;
+        do {
+            ++n;
+            final double r1 = 1.0 / (r0 - a0);
+            // The coefficient is stored as an unsigned value. A value above 2^63
+            // will overflow q2; this is set to 2^63 and flagged as an overflow.
+            final long a1 = r1 < OVERFLOW ? (long) Math.floor(r1) : Long.MIN_VALUE;
+            final Int128 p = Int128.ofProductUnsigned(a1, p1).add(Int128.ofUnsigned(p0));
+            final Int128 q = Int128.ofProductUnsigned(a1, q1).add(Int128.ofUnsigned(q0));
+            p2 = p.lo();
+            q2 = q.lo();
+
+            if (r1 > OVERFLOW ||
+                isAbove2Pow63(p) ||
+                isAbove2Pow63(q)) {
+                // In maxDenominator mode, fall-back to the previous valid fraction.
+                if (epsilon == 0.0) {
+                    p2 = p1;
+                    q2 = q1;
+                    break;
+                }
+                throw new FractionException(FractionException.ERROR_CONVERSION_OVERFLOW, value,
+                    p.toBigInteger(), q.toBigInteger());
+            }
+
+            final double convergent = unsignedToDouble(p2) / unsignedToDouble(q2);
+            if (n < maxIterations &&
+                Math.abs(convergent - absValue) > epsilon &&
+                Long.compareUnsigned(q2, maxDen) < 0) {
+                p0 = p1;
+                p1 = p2;
+                q0 = q1;
+                q1 = q2;
+                a0 = a1;
+                r0 = r1;
+            } else {
+                stop = true;
+            }
+        } while (!stop);
+
+        if (n >= maxIterations) {
+            throw new FractionException(FractionException.ERROR_CONVERSION, value, maxIterations);
+        }
+
+        // Use p2 / q2 or p1 / q1 if q2 has grown too large in maxDenominator mode
+        // Note: 2^63 is stored as a negative. This could be either the numerator
+        // or denominator. This is handled by restoring the sign.
+        long num;
+        long den;
+        if (Long.compareUnsigned(q2, maxDen) <= 0) {
+            num = p2;
+            den = q2;
+        } else {
+            num = p1;
+            den = q1;
+        }
+
+        // Restore the sign.
+        if (Long.signum(num) * Long.signum(den) != Math.signum(value)) {
+            if (num == Long.MIN_VALUE) {
+                den = -den;
+            } else {
+                num = -num;
+            }
+        }
+
+        this.numerator = num;
+        this.denominator = den;
+    }
+
+    /**
+     * Test if the unsigned 128-bit value is above 2<sup>63</sup>.
+     *
+     * @param x Value.
+     * @return true if {@code x > 2^63}
+     */
+    private static boolean isAbove2Pow63(Int128 x) {
+        return x.hi() != 0 || Long.compareUnsigned(x.lo(), Long.MIN_VALUE) > 0;
+    }
+
+    /**
+     * Convert the unsigned value in {@code [0, 2^63]} to a double.
+     *
+     * @param x Value.
+     * @return the value
+     */
+    private static double unsignedToDouble(long x) {
+        // 2^63 is stored as Long.MIN_VALUE
+        return Math.abs((double) x);
+    }
+
+    /**
+     * Create a fraction given the double value.
+     *
+     * @param value Value to convert to a fraction.
+     * @throws IllegalArgumentException if the given {@code value} is NaN or infinite.
+     * @throws ArithmeticException if the continued fraction failed to converge.
+     * @return a new instance.
+     */
+    public static LongFraction from(final double value) {
+        return from(value, DEFAULT_EPSILON, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Create a fraction given the double value and maximum error allowed.
+     *
+     * <p>
+     * References:
+     * <ul>
+     * <li><a href="http://mathworld.wolfram.com/ContinuedFraction.html">
+     * Continued Fraction</a> equations (11) and (22)-(26)</li>
+     * </ul>
+     *
+     * @param value Value to convert to a fraction.
+     * @param epsilon Maximum error allowed. The resulting fraction is within
+     * {@code epsilon} of {@code value}, in absolute terms.
+     * @param maxIterations Maximum number of convergents.
+     * @throws IllegalArgumentException if the given {@code value} is NaN or infinite;
+     * {@code epsilon} is not positive; or {@code maxIterations < 1}.
+     * @throws ArithmeticException if the continued fraction failed to converge.
+     * @return a new instance.
+     */
+    public static LongFraction from(final double value,
+                                    final double epsilon,
+                                    final int maxIterations) {
+        if (value == 0) {
+            return ZERO;
+        }
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("Max iterations must be strictly positive: " + maxIterations);
+        }
+        if (epsilon >= 0) {
+            return new LongFraction(value, epsilon, Long.MIN_VALUE, maxIterations);
+        }
+        throw new IllegalArgumentException("Epsilon must be positive: " + maxIterations);
+    }
+
+    /**
+     * Create a fraction given the double value and maximum denominator.
+     *
+     * <p>
+     * References:
+     * <ul>
+     * <li><a href="http://mathworld.wolfram.com/ContinuedFraction.html">
+     * Continued Fraction</a> equations (11) and (22)-(26)</li>
+     * </ul>
+     *
+     * <p>Note: The magnitude of the {@code maxDenominator} is used allowing use of
+     * {@link Long#MIN_VALUE} for a supported maximum denominator of 2<sup>63</sup>.
+     *
+     * @param value Value to convert to a fraction.
+     * @param maxDenominator Maximum allowed value for denominator.
+     * @throws IllegalArgumentException if the given {@code value} is NaN or infinite
+     * or {@code maxDenominator} is zero.
+     * @throws ArithmeticException if the continued fraction failed to converge.
+     * @return a new instance.
+     */
+    public static LongFraction from(final double value,
+                                    final long maxDenominator) {
+        if (value == 0) {
+            return ZERO;
+        }
+        if (maxDenominator == 0) {
+            // Re-use the zero denominator message
+            throw new IllegalArgumentException(FractionException.ERROR_ZERO_DENOMINATOR);
+        }
+        return new LongFraction(value, 0, maxDenominator, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Create a fraction given the numerator. The denominator is {@code 1}.
+     *
+     * @param num Numerator.
+     * @return a new instance.
+     */
+    public static LongFraction of(final long num) {
+        if (num == 0) {
+            return ZERO;
+        }
+        return new LongFraction(num);
+    }
+
+    /**
+     * Create a fraction given the numerator and denominator.
+     * The fraction is reduced to lowest terms.
+     *
+     * @param num Numerator.
+     * @param den Denominator.
+     * @throws ArithmeticException if the denominator is {@code zero}.
+     * @return a new instance.
+     */
+    public static LongFraction of(final long num, final long den) {
+        if (num == 0) {
+            return ZERO;
+        }
+        return new LongFraction(num, den);
+    }
+
+    /**
+     * Returns a {@code LongFraction} instance representing the specified string {@code s}.
+     *
+     * <p>If {@code s} is {@code null}, then a {@code NullPointerException} is thrown.
+     *
+     * <p>The string must be in a format compatible with that produced by
+     * {@link #toString() LongFraction.toString()}.
+     * The format expects an integer optionally followed by a {@code '/'} character and
+     * and second integer. Leading and trailing spaces are allowed around each numeric part.
+     * Each numeric part is parsed using {@link Long#parseLong(String)}. The parts
+     * are interpreted as the numerator and optional denominator of the fraction. If absent
+     * the denominator is assumed to be "1".
+     *
+     * <p>Note: The fraction is returned in reduced form and the numerator and denominator
+     * may not match the values in the input string. For this reason the result of
+     * {@code LongFraction.parse(s).toString().equals(s)} may not be {@code true}.
+     *
+     * @param s String representation.
+     * @return an instance.
+     * @throws NullPointerException if the string is null.
+     * @throws NumberFormatException if the string does not contain a parsable fraction.
+     * @see Long#parseLong(String)
+     * @see #toString()
+     */
+    public static LongFraction parse(String s) {
+        final String stripped = s.replace(",", "");
+        final int slashLoc = stripped.indexOf('/');
+        // if no slash, parse as single number
+        if (slashLoc == -1) {
+            return of(Long.parseLong(stripped.trim()));
+        }
+        final long num = Long.parseLong(stripped.substring(0, slashLoc).trim());
+        final long denom = Long.parseLong(stripped.substring(slashLoc + 1).trim());
+        return of(num, denom);
+    }
+
+    @Override
+    public LongFraction zero() {
+        return ZERO;
+    }
+
+    @Override
+    public LongFraction one() {
+        return ONE;
+    }
+
+    /**
+     * Access the numerator as a {@code long}.
+     *
+     * @return the numerator as a {@code long}.
+     */
+    public long getNumerator() {
+        return numerator;
+    }
+
+    /**
+     * Access the denominator as a {@code long}.
+     *
+     * @return the denominator as a {@code long}.
+     */
+    public long getDenominator() {
+        return denominator;
+    }
+
+    /**
+     * Retrieves the sign of this fraction.
+     *
+     * @return -1 if the value is strictly negative, 1 if it is strictly
+     * positive, 0 if it is 0.
+     */
+    public int signum() {
+        return Long.signum(numerator) * Long.signum(denominator);
+    }
+
+    /**
+     * Returns the absolute value of this fraction.
+     *
+     * @return the absolute value.
+     */
+    public LongFraction abs() {
+        return signum() >= 0 ?
+            this :
+            negate();
+    }
+
+    @Override
+    public LongFraction negate() {
+        return numerator == Long.MIN_VALUE ?
+            new LongFraction(numerator, -denominator) :
+            new LongFraction(-numerator, denominator);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Raises an exception if the fraction is equal to zero.
+     *
+     * @throws ArithmeticException if the current numerator is {@code zero}
+     */
+    @Override
+    public LongFraction reciprocal() {
+        return new LongFraction(denominator, numerator);
+    }
+
+    /**
+     * Returns the {@code double} value closest to this fraction.
+     *
+     * @return the fraction as a {@code double}.
+     */
+    @Override
+    public double doubleValue() {
+        if (isExact(numerator, MAX_EXACT_DOUBLE) && isExact(denominator, MAX_EXACT_DOUBLE)) {
+            // Exact conversion of the components; the quotient is correctly rounded
+            return (double) numerator / (double) denominator;
+        }
+        return BigFraction.of(numerator, denominator).doubleValue();
+    }
+
+    /**
+     * Returns the {@code float} value closest to this fraction.
+     *
+     * @return the fraction as a {@code float}.
+     */
+    @Override
+    public float floatValue() {
+        if (isExact(numerator, MAX_EXACT_FLOAT) && isExact(denominator, MAX_EXACT_FLOAT)) {
+            // Exact conversion of the components; the quotient is correctly rounded
+            return (float) numerator / (float) denominator;
+        }
+        return BigFraction.of(numerator, denominator).floatValue();
+    }
+
+    /**
+     * Test if the magnitude of the value is at most the limit.
+     *
+     * @param x Value.
+     * @param limit Limit (must be positive).
+     * @return true if {@code |x| <= limit}
+     */
+    private static boolean isExact(long x, long limit) {
+        return x >= -limit && x <= limit;
+    }
+
+    /**
+     * Returns the whole number part of the fraction. Values outside
+     * the range of an {@code int} are clipped to the nearest bound.
+     *
+     * @return the whole number part of the fraction as an {@code int}.
+     */
+    @Override
+    public int intValue() {
+        final long v = longValue();
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, v));
+    }
+
+    /**
+     * Returns the whole number part of the fraction.
+     *
+     * @return the whole number part of the fraction as a {@code long}.
+     */
+    @Override
+    public long longValue() {
+        // Note: numerator / denominator fails for Long.MIN_VALUE / -1.
+        return denominator == -1 && numerator == Long.MIN_VALUE ?
+            Long.MAX_VALUE :
+            numerator / denominator;
+    }
+
+    /**
+     * Adds the specified {@code value} to this fraction, returning
+     * the result in reduced form.
+     *
+     * @param value Value to add.
+     * @return {@code this + value}.
+     * @throws ArithmeticException if the resulting numerator
+     * cannot be represented in a {@code long}.
+     */
+    public LongFraction add(final long value) {
+        if (value == 0) {
+            return this;
+        }
+        if (isZero()) {
+            return new LongFraction(value);
+        }
+        // Convert to numerator with same effective denominator
+        final Int128 num = Int128.ofProduct(value, denominator).add(numerator);
+        return of(num.longValueExact(), denominator);
+    }
+
+    /**
+     * Adds the specified {@code value} to this fraction, returning
+     * the result in reduced form.
+     *
+     * @param value Value to add.
+     * @return {@code this + value}.
+     * @throws ArithmeticException if the resulting numerator or denominator
+     * cannot be represented in a {@code long}.
+     */
+    @Override
+    public LongFraction add(LongFraction value) {
+        return addSub(value, true /* add */);
+    }
+
+    /**
+     * Subtracts the specified {@code value} from this fraction, returning
+     * the result in reduced form.
+     *
+     * @param value Value to subtract.
+     * @return {@code this - value}.
+     * @throws ArithmeticException if the resulting numerator
+     * cannot be represented in a {@code long}.
+     */
+    public LongFraction subtract(final long value) {
+        if (value == 0) {
+            return this;
+        }
+        if (isZero()) {
+            // Special case for min value
+            return value == Long.MIN_VALUE ?
+                new LongFraction(Long.MIN_VALUE, -1) :
+                new LongFraction(-value);
+        }
+        // Convert to numerator with same effective denominator
+        final Int128 num = Int128.ofProduct(value, denominator).negate().add(numerator);
+        return of(num.longValueExact(), denominator);
+    }
+
+    /**
+     * Subtracts the specified {@code value} from this fraction, returning
+     * the result in reduced form.
+     *
+     * @param value Value to subtract.
+     * @return {@code this - value}.
+     * @throws ArithmeticException if the resulting numerator or denominator
+     * cannot be represented in a {@code long}.
+     */
+    @Override
+    public LongFraction subtract(LongFraction value) {
+        return addSub(value, false /* subtract */);
+    }
+
+    /**
+     * Implements add and subtract using algorithm described in Knuth 4.5.1.
+     *
+     * @param value Fraction to add or subtract.
+     * @param isAdd Whether the operation is "add" or "subtract".
+     * @return a new instance.
+     * @throws ArithmeticException if the resulting numerator or denominator
+     * cannot be represented in a {@code long}.
+     */
+    private LongFraction addSub(LongFraction value, boolean isAdd) {
+        if (value.isZero()) {
+            return this;
+        }
+        // Zero is identity for addition.
+        if (isZero()) {
+            return isAdd ? value : value.negate();
+        }
+
+        /*
+         * Let the two fractions be u/u' and v/v', and d1 = gcd(u', v').
+         * First, compute t, defined as:
+         *
+         * t = u(v'/d1) +/- v(u'/d1)
+         */
+        final long d1 = ArithmeticUtils.gcd(denominator, value.denominator);
+        final long a = value.denominator / d1;
+        final long b = denominator / d1;
+        final long uvp = numerator * a;
+        final long upv = value.numerator * b;
+
+        /*
+         * The largest possible absolute value of a product of two longs is 2^126,
+         * which can only happen as a result of -2^63 * -2^63 = 2^126. As for the
+         * same computation in Fraction using a 64-bit intermediate, the sum or
+         * difference cannot overflow 128-bits.
+         */
+        final long uvph = ArithmeticUtils.multiplyHigh(numerator, a);
+        final long upvh = ArithmeticUtils.multiplyHigh(value.numerator, b);
+        final long t;
+        final long th;
+        if (isAdd) {
+            t = uvp + upv;
+            th = uvph + upvh + (((uvp & upv) | ((uvp | upv) & ~t)) >>> 63);
+        } else {
+            t = uvp - upv;
+            th = uvph - upvh - (((~uvp & upv) | (~(uvp ^ upv) & t)) >>> 63);
+        }
+
+        /*
+         * Because u is coprime to u' and v is coprime to v', t is necessarily
+         * coprime to both v'/d1 and u'/d1. However, it might have a common
+         * factor with d1.
+         */
+        final long num;
+        final long d2;
+        if (th == t >> 63) {
+            // t fits in a long
+            d2 = ArithmeticUtils.gcd(t, d1);
+            num = t / d2;
+        } else {
+            final Int128 t128 = Int128.of(th, t);
+            d2 = t128.gcd(d1);
+            num = t128.divide(d2).longValueExact();
+        }
+        // result is (t/d2) / (u'/d1)(v'/d2)
+        return of(num, Math.multiplyExact(b, value.denominator / d2));
+    }
+
+    /**
+     * Multiply this fraction by the passed {@code value}, returning
+     * the result in reduced form.
+     *
+     * @param value Value to multiply by.
+     * @return {@code this * value}.
+     * @throws ArithmeticException if the resulting numerator
+     * cannot be represented in a {@code long}.
+     */
+    @Override
+    public LongFraction multiply(final int value) {
+        return multiply((long) value);
+    }
+
+    /**
+     * Multiply this fraction by the passed {@code value}, returning
+     * the result in reduced form.
+     *
+     * @param value Value to multiply by.
+     * @return {@code this * value}.
+     * @throws ArithmeticException if the resulting numerator
+     * cannot be represented in a {@code long}.
+     */
+    public LongFraction multiply(final long value) {
+        if (value == 0 || isZero()) {
+            return ZERO;
+        }
+
+        // knuth 4.5.1
+        // Make sure we don't overflow unless the result *must* overflow.
+        // (see multiply(LongFraction) using value / 1 as the argument).
+        final long d2 = ArithmeticUtils.gcd(value, denominator);
+        return new LongFraction(Math.multiplyExact(numerator, value / d2),
+                                denominator / d2);
+    }
+
+    /**
+     * Multiply this fraction by the passed {@code value}, returning
+     * the result in reduced form.
+     *
+     * @param value Value to multiply by.
+     * @return {@code this * value}.
+     * @throws ArithmeticException if the resulting numerator or denominator
+     * cannot be represented in a {@code long}.
+     */
+    @Override
+    public LongFraction multiply(LongFraction value) {
+        if (value.isZero() || isZero()) {
+            return ZERO;
+        }
+        return multiply(value.numerator, value.denominator);
+    }
+
+    /**
+     * Multiply this fraction by the passed fraction decomposed into a numerator and
+     * denominator, returning the result in reduced form.
+     *
+     * <p>This is a utility method to be used by multiply and divide. The decomposed
+     * fraction arguments and this fraction are not checked for zero.
+     *
+     * @param num Fraction numerator.
+     * @param den Fraction denominator.
+     * @return {@code this * num / den}.
+     * @throws ArithmeticException if the resulting numerator or denominator cannot
+     * be represented in a {@code long}.
+     */
+    private LongFraction multiply(long num, long den) {
+        // knuth 4.5.1
+        // Make sure we don't overflow unless the result *must* overflow.
+        final long d1 = ArithmeticUtils.gcd(numerator, den);
+        final long d2 = ArithmeticUtils.gcd(num, denominator);
+        return new LongFraction(Math.multiplyExact(numerator / d1, num / d2),
+                                Math.multiplyExact(denominator / d2, den / d1));
+    }
+
+    /**
+     * Divide this fraction by the passed {@code value}, returning
+     * the result in reduced form.
+     *
+     * @param value Value to divide by
+     * @return {@code this / value}.
+     * @throws ArithmeticException if the value to divide by is zero
+     * or if the resulting numerator or denominator cannot be represented
+     * by a {@code long}.
+     */
+    public LongFraction divide(final long value) {
+        if (value == 0) {
+            throw new FractionException(FractionException.ERROR_DIVIDE_BY_ZERO);
+        }
+        if (isZero()) {
+            return ZERO;
+        }
+        // Multiply by reciprocal
+
+        // knuth 4.5.1
+        // Make sure we don't overflow unless the result *must* overflow.
+        // (see multiply(LongFraction) using 1 / value as the argument).
+        final long d1 = ArithmeticUtils.gcd(numerator, value);
+        return new LongFraction(numerator / d1,
+                                Math.multiplyExact(denominator, value / d1));
+    }
+
+    /**
+     * Divide this fraction by the passed {@code value}, returning
+     * the result in reduced form.
+     *
+     * @param value Value to divide by
+     * @return {@code this / value}.
+     * @throws ArithmeticException if the value to divide by is zero
+     * or if the resulting numerator or denominator cannot be represented
+     * by a {@code long}.
+     */
+    @Override
+    public LongFraction divide(LongFraction value) {
+        if (value.isZero()) {
+            throw new FractionException(FractionException.ERROR_DIVIDE_BY_ZERO);
+        }
+        if (isZero()) {
+            return ZERO;
+        }
+        // Multiply by reciprocal
+        return multiply(value.denominator, value.numerator);
+    }
+
+    /**
+     * Returns a {@code LongFraction} whose value is
+     * <code>this<sup>exponent</sup></code>, returning the result in reduced form.
+     *
+     * @param exponent exponent to which this {@code LongFraction} is to be raised.
+     * @return <code>this<sup>exponent</sup></code>.
+     * @throws ArithmeticException if the intermediate result would overflow.
+     */
+    @Override
+    public LongFraction pow(final int exponent) {
+        if (exponent == 1) {
+            return this;
+        }
+        if (exponent == 0) {
+            return ONE;
+        }
+        if (isZero()) {
+            if (exponent < 0) {
+                throw new FractionException(FractionException.ERROR_ZERO_DENOMINATOR);
+            }
+            return ZERO;
+        }
+        if (exponent > 0) {
+            return new LongFraction(ArithmeticUtils.pow(numerator, exponent),
+                                    ArithmeticUtils.pow(denominator, exponent));
+        }
+        if (exponent == -1) {
+            return this.reciprocal();
+        }
+        if (exponent == Integer.MIN_VALUE) {
+            // MIN_VALUE can't be negated
+            return new LongFraction(Math.multiplyExact(ArithmeticUtils.pow(denominator, Integer.MAX_VALUE), denominator),
+                                    Math.multiplyExact(ArithmeticUtils.pow(numerator, Integer.MAX_VALUE), numerator));
+        }
+        return new LongFraction(ArithmeticUtils.pow(denominator, -exponent),
+                                ArithmeticUtils.pow(numerator, -exponent));
+    }
+
+    /**
+     * Returns the {@code String} representing this fraction.
+     * Uses:
+     * <ul>
+     *  <li>{@code "0"} if {@code numerator} is zero.
+     *  <li>{@code "numerator"} if {@code denominator} is one.
+     *  <li>{@code "numerator / denominator"} for all other cases.
+     * </ul>
+     *
+     * @return a string representation of the fraction.
+     */
+    @Override
+    public String toString() {
+        final String str;
+        if (isZero()) {
+            str = "0";
+        } else if (denominator == 1) {
+            str = Long.toString(numerator);
+        } else {
+            str = numerator + " / " + denominator;
+        }
+        return str;
+    }
+
+    /**
+     * Compares this object with the specified object for order using the signed magnitude.
+     *
+     * @param other {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int compareTo(LongFraction other) {
+        final int lhsSigNum = signum();
+        final int rhsSigNum = other.signum();
+
+        if (lhsSigNum != rhsSigNum) {
+            return (lhsSigNum > rhsSigNum) ? 1 : -1;
+        }
+        // Same sign.
+        // Avoid a multiply if both fractions are zero
+        if (lhsSigNum == 0) {
+            return 0;
+        }
+        // Compare the exact 128-bit products n * d' and d * n'.
+        // The order is reversed if the denominators have different signs.
+        final int cmp = Int128.compareProducts(numerator, other.denominator,
+                                               other.numerator, denominator);
+        return (denominator ^ other.denominator) < 0 ? -cmp : cmp;
+    }
+
+    /**
+     * Test for equality with another object. If the other object is a {@code LongFraction} then a
+     * comparison is made of the sign and magnitude; otherwise {@code false} is returned.
+     *
+     * @param other {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (other instanceof LongFraction) {
+            // Since fractions are always in lowest terms, numerators and
+            // denominators can be compared directly for equality.
+            // Note: Math.abs(Long.MIN_VALUE) is unchanged which is only equal to itself.
+            final LongFraction rhs = (LongFraction) other;
+            if (signum() == rhs.signum()) {
+                return Math.abs(numerator) == Math.abs(rhs.numerator) &&
+                       Math.abs(denominator) == Math.abs(rhs.denominator);
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        // Incorporate the sign and absolute values of the numerator and denominator.
+        // Equivalent to:
+        // int hash = 1;
+        // hash = 31 * hash + Long.hashCode(Math.abs(numerator));
+        // hash = 31 * hash + Long.hashCode(Math.abs(denominator));
+        // hash = hash * signum()
+        // Note: x * Long.signum(x) == Math.abs(x).
+        final int numS = Long.signum(numerator);
+        final int denS = Long.signum(denominator);
+        return (31 * (31 + Long.hashCode(numerator * numS)) + Long.hashCode(denominator * denS)) * numS * denS;
+    }
+
+    /**
+     * Returns true if this fraction is zero.
+     *
+     * @return true if zero
+     */
+    private boolean isZero() {
+        return numerator == 0;
+    }
+}
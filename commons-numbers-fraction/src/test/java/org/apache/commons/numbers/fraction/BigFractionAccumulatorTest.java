@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link BigFractionAccumulator}.
+ */
+class BigFractionAccumulatorTest {
+    @Test
+    void testOperations() {
+        final BigFractionAccumulator acc = BigFractionAccumulator.of(BigFraction.of(1, 2));
+        Assertions.assertEquals(BigFraction.of(1, 2), acc.get());
+        Assertions.assertSame(acc, acc.addInPlace(BigFraction.of(1, 3)));
+        Assertions.assertEquals(BigFraction.of(5, 6), acc.get());
+        Assertions.assertSame(acc, acc.subtractInPlace(BigFraction.of(1, 4)));
+        Assertions.assertEquals(BigFraction.of(7, 12), acc.get());
+        Assertions.assertSame(acc, acc.multiplyInPlace(BigFraction.of(-6, 7)));
+        Assertions.assertEquals(BigFraction.of(-1, 2), acc.get());
+        Assertions.assertSame(acc, acc.fma(BigFraction.of(3, 4), BigFraction.of(2, 3)));
+        Assertions.assertEquals(BigFraction.ZERO, acc.get());
+        acc.addInPlace(BigFraction.of(1, 6)).addInPlace(BigFraction.of(-1, 6));
+        Assertions.assertEquals(BigFraction.ZERO, acc.get());
+        acc.addInPlace(BigFraction.of(1, 6)).addInPlace(BigFraction.of(1, 6));
+        Assertions.assertEquals(BigFraction.of(1, 3), acc.get());
+        acc.multiplyInPlace(BigFraction.ZERO);
+        Assertions.assertEquals(BigFraction.ZERO, acc.get());
+    }
+
+    @Test
+    void testDeferredReduction() {
+        final BigFractionAccumulator acc = BigFractionAccumulator.of(BigFraction.of(1, 2), 1000);
+        acc.addInPlace(BigFraction.of(1, 6)).addInPlace(BigFraction.of(1, 6));
+        Assertions.assertSame(acc, acc.reduce());
+        Assertions.assertEquals(BigFraction.of(5, 6), acc.get());
+        acc.multiplyInPlace(BigFraction.of(6, 5)).subtractInPlace(BigFraction.ONE);
+        Assertions.assertEquals(BigFraction.ZERO, acc.get());
+        acc.fma(BigFraction.of(3, 4), BigFraction.of(-2, 3));
+        Assertions.assertEquals(BigFraction.of(-1, 2), acc.get());
+        acc.multiplyInPlace(BigFraction.ZERO);
+        Assertions.assertEquals(BigFraction.ZERO, acc.get());
+
+        // Harmonic sum: the reduction is deferred but the value is exact
+        final BigFractionAccumulator h = BigFractionAccumulator.of(BigFraction.ZERO, 64);
+        BigFraction expected = BigFraction.ZERO;
+        for (int i = 1; i <= 200; i++) {
+            h.addInPlace(BigFraction.of(1, i));
+            expected = expected.add(BigFraction.of(1, i));
+        }
+        Assertions.assertEquals(expected, h.get());
+        Assertions.assertEquals(expected.getDenominator(), h.get().getDenominator());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BigFractionAccumulator.of(BigFraction.ONE, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BigFractionAccumulator.of(BigFraction.ONE, -1));
+        // No effect on an accumulator that always reduces
+        final BigFractionAccumulator eager = BigFractionAccumulator.of(BigFraction.of(2, 3));
+        Assertions.assertSame(eager, eager.reduce());
+        Assertions.assertEquals(BigFraction.of(2, 3), eager.get());
+    }
+
+    @Test
+    void testAgainstBigFraction() {
+        assertAgainstBigFraction(BigFractionAccumulator::of);
+    }
+
+    @Test
+    void testDeferredReductionAgainstBigFraction() {
+        assertAgainstBigFraction(x -> BigFractionAccumulator.of(x, 1));
+        assertAgainstBigFraction(x -> BigFractionAccumulator.of(x, 100));
+        assertAgainstBigFraction(x -> BigFractionAccumulator.of(x, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Assert a random sequence of operations computes the same value as {@link BigFraction}.
+     *
+     * @param factory Accumulator factory.
+     */
+    private static void assertAgainstBigFraction(Function<BigFraction, BigFractionAccumulator> factory) {
+        final SplittableRandom rng = new SplittableRandom(5678);
+        for (int i = 0; i < 100; i++) {
+            BigFraction expected = BigFraction.of(rng.nextInt(-10, 10), rng.nextInt(1, 10));
+            final BigFractionAccumulator acc = factory.apply(expected);
+            for (int j = 0; j < 50; j++) {
+                final BigFraction a = BigFraction.of(BigInteger.valueOf(rng.nextLong()),
+                    BigInteger.valueOf(rng.nextInt(1, 1 << rng.nextInt(1, 30))));
+                final BigFraction b = BigFraction.of(rng.nextInt(-100, 100), rng.nextInt(1, 100));
+                switch (rng.nextInt(4)) {
+                case 0:
+                    expected = expected.add(a);
+                    acc.addInPlace(a);
+                    break;
+                case 1:
+                    expected = expected.subtract(b);
+                    acc.subtractInPlace(b);
+                    break;
+                case 2:
+                    expected = expected.multiply(b);
+                    acc.multiplyInPlace(b);
+                    break;
+                default:
+                    expected = expected.add(a.multiply(b));
+                    acc.fma(a, b);
+                    break;
+                }
+                final BigFraction actual = acc.get();
+                Assertions.assertEquals(expected, actual);
+                Assertions.assertEquals(expected.getDenominator().abs(), actual.getDenominator().abs());
+            }
+        }
+    }
+}
@@ -20,6 +20,8 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
 import org.apache.commons.numbers.core.TestUtils;
 
 import org.junit.jupiter.api.Assertions;
@@ -269,6 +271,65 @@ class BigFractionTest {
         Assertions.assertEquals(0.0, pi1.doubleValue() - pi2.doubleValue(), 1.0e-20);
 
         Assertions.assertEquals(0, ZERO_P.compareTo(ZERO_N));
+
+        // Negative values are ordered by the signed value
+        Assertions.assertEquals(-1, d.compareTo(BigFraction.of(-1, 3)));
+        Assertions.assertEquals(1, BigFraction.of(-1, 3).compareTo(e));
+        Assertions.assertEquals(-1, pi2.negate().compareTo(pi1.negate()));
+        Assertions.assertEquals(1, pi1.negate().compareTo(pi2.negate()));
+
+        // Values that cannot be distinguished by a double approximation
+        final BigInteger big = BigInteger.ONE.shiftLeft(200);
+        final BigFraction x = BigFraction.of(big.add(BigInteger.ONE), big);
+        final BigFraction y = BigFraction.of(big.add(BigInteger.valueOf(2)), big.add(BigInteger.ONE));
+        // (n + 2) / (n + 1) < (n + 1) / n
+        Assertions.assertEquals(-1, y.compareTo(x));
+        Assertions.assertEquals(1, x.compareTo(y));
+        Assertions.assertEquals(1, y.negate().compareTo(x.negate()));
+        Assertions.assertEquals(0, x.compareTo(BigFraction.of(big.add(BigInteger.ONE).negate(), big.negate())));
+        // Negative powers of 2 have the same magnitude as positive powers of 2
+        Assertions.assertEquals(1, BigFraction.of(BigInteger.valueOf(-2), BigInteger.valueOf(-3))
+            .compareTo(BigFraction.of(BigInteger.valueOf(-3), BigInteger.valueOf(-5))));
+    }
+
+    @Test
+    void testCompareToRandom() {
+        final SplittableRandom rng = new SplittableRandom(7890);
+        for (int i = 0; i < 2000; i++) {
+            final BigFraction a = randomFraction(rng);
+            // Values close to a, or random values
+            final BigFraction b;
+            switch (rng.nextInt(4)) {
+            case 0:
+                b = a;
+                break;
+            case 1:
+                b = a.add(BigFraction.of(BigInteger.ONE, BigInteger.ONE.shiftLeft(rng.nextInt(1, 300))));
+                break;
+            case 2:
+                b = a.multiply(BigFraction.of(BigInteger.ONE.shiftLeft(100).add(BigInteger.valueOf(rng.nextInt(-3, 4))),
+                    BigInteger.ONE.shiftLeft(100)));
+                break;
+            default:
+                b = randomFraction(rng);
+                break;
+            }
+            final int expected = a.subtract(b).signum();
+            Assertions.assertEquals(expected, a.compareTo(b));
+            Assertions.assertEquals(-expected, b.compareTo(a));
+        }
+    }
+
+    /**
+     * Create a random fraction. The numerator and denominator may be negative.
+     *
+     * @param rng Source of randomness.
+     * @return the fraction
+     */
+    private static BigFraction randomFraction(SplittableRandom rng) {
+        final BigInteger num = new BigInteger(rng.nextInt(1, 200), new Random(rng.nextLong()));
+        final BigInteger den = new BigInteger(rng.nextInt(1, 200), new Random(rng.nextLong())).add(BigInteger.ONE);
+        return BigFraction.of(rng.nextBoolean() ? num : num.negate(), rng.nextBoolean() ? den : den.negate());
     }
 
     @Test
@@ -601,6 +662,8 @@ class BigFractionTest {
         Assertions.assertThrows(ArithmeticException.class, () -> BigFraction.of(1, 2).pow(Integer.MAX_VALUE));
         Assertions.assertThrows(ArithmeticException.class, () -> BigFraction.of(2).pow(-Integer.MAX_VALUE));
         Assertions.assertThrows(ArithmeticException.class, () -> BigFraction.of(1, 2).pow(-Integer.MAX_VALUE));
+        Assertions.assertThrows(ArithmeticException.class, () -> BigFraction.of(3, 2).pow(Integer.MAX_VALUE));
+        Assertions.assertThrows(ArithmeticException.class, () -> BigFraction.of(2, 3).pow(-Integer.MAX_VALUE));
     }
 
     @Test
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link BigFractions}.
+ */
+class BigFractionsTest {
+    @Test
+    void testEmpty() {
+        Assertions.assertEquals(BigFraction.ZERO, BigFractions.sum());
+        Assertions.assertEquals(BigFraction.ZERO, BigFractions.sum(Collections.emptyList()));
+        Assertions.assertEquals(BigFraction.ZERO, BigFractions.parallelSum());
+        Assertions.assertEquals(BigFraction.ONE, BigFractions.product());
+        Assertions.assertEquals(BigFraction.ONE, BigFractions.product(Collections.emptyList()));
+        Assertions.assertEquals(BigFraction.ONE, BigFractions.parallelProduct());
+    }
+
+    @Test
+    void testSmall() {
+        final BigFraction a = BigFraction.of(1, 2);
+        final BigFraction b = BigFraction.of(-2, 3);
+        final BigFraction c = BigFraction.of(5, -6);
+        Assertions.assertEquals(a, BigFractions.sum(a));
+        Assertions.assertEquals(a, BigFractions.product(a));
+        Assertions.assertEquals(BigFraction.of(-1), BigFractions.sum(a, b, c));
+        Assertions.assertEquals(BigFraction.of(5, 18), BigFractions.product(a, b, c));
+        Assertions.assertEquals(BigFraction.ZERO, BigFractions.sum(a, b, a.negate(), b.negate()));
+        Assertions.assertEquals(BigFraction.ZERO, BigFractions.product(a, b, BigFraction.ZERO, c));
+        Assertions.assertEquals(BigFraction.of(3, 2), BigFractions.sum(Arrays.asList(a, a, a)));
+        Assertions.assertEquals(BigFraction.of(1, 8), BigFractions.product(Arrays.asList(a, a, a)));
+    }
+
+    @Test
+    void testHarmonicSum() {
+        final BigFraction[] values = new BigFraction[1000];
+        BigFraction expected = BigFraction.ZERO;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = BigFraction.of(1, i + 1);
+            expected = expected.add(values[i]);
+        }
+        assertEqualReduced(expected, BigFractions.sum(values));
+        assertEqualReduced(expected, BigFractions.sum(Arrays.asList(values)));
+        assertEqualReduced(expected, BigFractions.parallelSum(values));
+    }
+
+    @Test
+    void testAgainstBigFraction() {
+        final SplittableRandom rng = new SplittableRandom(1234);
+        for (final int size : new int[] {2, 3, 10, 255, 256, 600}) {
+            final BigFraction[] values = new BigFraction[size];
+            BigFraction sum = BigFraction.ZERO;
+            BigFraction product = BigFraction.ONE;
+            for (int i = 0; i < size; i++) {
+                values[i] = BigFraction.of(BigInteger.valueOf(rng.nextLong(-1000, 1000)),
+                    BigInteger.valueOf(rng.nextLong(1, 1L << rng.nextInt(1, 40))));
+                if (values[i].signum() == 0) {
+                    values[i] = BigFraction.ONE;
+                }
+                sum = sum.add(values[i]);
+                product = product.multiply(values[i]);
+            }
+            assertEqualReduced(sum, BigFractions.sum(values));
+            assertEqualReduced(sum, BigFractions.parallelSum(values));
+            assertEqualReduced(product, BigFractions.product(values));
+            assertEqualReduced(product, BigFractions.parallelProduct(values));
+            assertEqualReduced(product, BigFractions.product(Arrays.asList(values)));
+        }
+    }
+
+    @Test
+    void testSort() {
+        final SplittableRandom rng = new SplittableRandom(4321);
+        final BigInteger big = BigInteger.ONE.shiftLeft(100);
+        final BigFraction[] values = new BigFraction[500];
+        for (int i = 0; i < values.length; i++) {
+            switch (rng.nextInt(3)) {
+            case 0:
+                values[i] = BigFraction.of(rng.nextInt(-5, 5), rng.nextInt(1, 5));
+                break;
+            case 1:
+                // Close values that require an exact comparison
+                values[i] = BigFraction.of(big.add(BigInteger.valueOf(rng.nextInt(-3, 4))), big)
+                    .multiply(rng.nextBoolean() ? 1 : -1);
+                break;
+            default:
+                values[i] = BigFraction.of(BigInteger.valueOf(rng.nextLong()),
+                    BigInteger.valueOf(rng.nextLong()).shiftLeft(rng.nextInt(64)));
+                break;
+            }
+        }
+        final BigFraction[] expected = values.clone();
+        Arrays.sort(expected);
+        BigFractions.sort(values);
+        Assertions.assertArrayEquals(expected, values);
+        for (int i = 1; i < values.length; i++) {
+            Assertions.assertTrue(values[i - 1].subtract(values[i]).signum() <= 0);
+        }
+
+        // Stable
+        final BigFraction a = BigFraction.of(1, 2);
+        final BigFraction b = BigFraction.of(-1, -2);
+        final BigFraction[] pair = {a, BigFraction.ONE, b, BigFraction.ZERO};
+        BigFractions.sort(pair);
+        Assertions.assertSame(BigFraction.ZERO, pair[0]);
+        Assertions.assertSame(a, pair[1]);
+        Assertions.assertSame(b, pair[2]);
+        Assertions.assertSame(BigFraction.ONE, pair[3]);
+        BigFractions.sort(new BigFraction[0]);
+    }
+
+    /**
+     * Assert the fractions are equal and the actual value is in lowest terms.
+     *
+     * @param expected Expected value.
+     * @param actual Actual value.
+     */
+    private static void assertEqualReduced(BigFraction expected, BigFraction actual) {
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(expected.getDenominator().abs(), actual.getDenominator().abs());
+    }
+}
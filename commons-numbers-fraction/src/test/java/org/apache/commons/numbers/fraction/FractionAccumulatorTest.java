@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link FractionAccumulator}.
+ */
+class FractionAccumulatorTest {
+    @Test
+    void testOperations() {
+        final FractionAccumulator acc = FractionAccumulator.of(Fraction.of(1, 2));
+        Assertions.assertEquals(Fraction.of(1, 2), acc.get());
+        Assertions.assertSame(acc, acc.addInPlace(Fraction.of(1, 3)));
+        Assertions.assertEquals(Fraction.of(5, 6), acc.get());
+        Assertions.assertSame(acc, acc.subtractInPlace(Fraction.of(1, 4)));
+        Assertions.assertEquals(Fraction.of(7, 12), acc.get());
+        Assertions.assertSame(acc, acc.multiplyInPlace(Fraction.of(-6, 7)));
+        Assertions.assertEquals(Fraction.of(-1, 2), acc.get());
+        Assertions.assertSame(acc, acc.fma(Fraction.of(3, 4), Fraction.of(2, 3)));
+        Assertions.assertEquals(Fraction.ZERO, acc.get());
+        acc.subtractInPlace(Fraction.of(Integer.MIN_VALUE, 3));
+        Assertions.assertEquals(Fraction.of(Integer.MIN_VALUE, 3).negate(), acc.get());
+        acc.multiplyInPlace(Fraction.ZERO);
+        Assertions.assertEquals(Fraction.ZERO, acc.get());
+        acc.fma(Fraction.ZERO, Fraction.ONE).fma(Fraction.ONE, Fraction.ZERO);
+        Assertions.assertEquals(Fraction.ZERO, acc.get());
+    }
+
+    @Test
+    void testOverflow() {
+        final FractionAccumulator acc = FractionAccumulator.of(Fraction.of(Integer.MAX_VALUE));
+        Assertions.assertThrows(ArithmeticException.class, () -> acc.addInPlace(Fraction.ONE));
+        Assertions.assertThrows(ArithmeticException.class, () -> acc.multiplyInPlace(Fraction.of(2)));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> acc.fma(Fraction.of(1 << 20), Fraction.of(1 << 20)));
+        // Unchanged
+        Assertions.assertEquals(Fraction.of(Integer.MAX_VALUE), acc.get());
+    }
+
+    @Test
+    void testCanonicalOne() {
+        // -1 / -1 must be stored as 1 / 1 as in Fraction, otherwise the overflow
+        // conditions of a following operation differ
+        final Fraction max = Fraction.of(Integer.MAX_VALUE);
+        final Fraction product = Fraction.of(1, -2).multiply(Fraction.of(-2, 1));
+        Assertions.assertThrows(ArithmeticException.class, () -> product.add(max));
+        final FractionAccumulator acc = FractionAccumulator.of(Fraction.of(1, -2)).multiplyInPlace(Fraction.of(-2, 1));
+        Assertions.assertEquals(product, acc.get());
+        Assertions.assertEquals(1, acc.get().getNumerator());
+        Assertions.assertEquals(1, acc.get().getDenominator());
+        Assertions.assertThrows(ArithmeticException.class, () -> acc.addInPlace(max));
+
+        final FractionAccumulator acc2 = FractionAccumulator.of(Fraction.ZERO).subtractInPlace(Fraction.of(1, -1));
+        Assertions.assertEquals(1, acc2.get().getNumerator());
+        Assertions.assertEquals(1, acc2.get().getDenominator());
+        Assertions.assertThrows(ArithmeticException.class, () -> acc2.addInPlace(max));
+
+        final FractionAccumulator acc3 = FractionAccumulator.of(Fraction.of(-1, 2)).addInPlace(Fraction.of(3, -2));
+        Assertions.assertEquals(Fraction.of(-1, 2).add(Fraction.of(3, -2)).getDenominator(), acc3.get().getDenominator());
+    }
+
+    @Test
+    void testAgainstFraction() {
+        final SplittableRandom rng = new SplittableRandom(1234);
+        for (int i = 0; i < 200; i++) {
+            Fraction expected = Fraction.of(rng.nextInt(-10, 10), rng.nextInt(1, 10));
+            final FractionAccumulator acc = FractionAccumulator.of(expected);
+            for (int j = 0; j < 30; j++) {
+                final Fraction a = Fraction.of(rng.nextInt(-20, 20), rng.nextInt(1, 30));
+                final Fraction b = Fraction.of(rng.nextInt(-20, 20), rng.nextInt(1, 30));
+                try {
+                    switch (rng.nextInt(4)) {
+                    case 0:
+                        expected = expected.add(a);
+                        acc.addInPlace(a);
+                        break;
+                    case 1:
+                        expected = expected.subtract(a);
+                        acc.subtractInPlace(a);
+                        break;
+                    case 2:
+                        expected = expected.multiply(a);
+                        acc.multiplyInPlace(a);
+                        break;
+                    default:
+                        expected = expected.add(a.multiply(b));
+                        acc.fma(a, b);
+                        break;
+                    }
+                } catch (ArithmeticException ex) {
+                    // Overflow in both
+                    break;
+                }
+                Assertions.assertEquals(expected, acc.get());
+            }
+        }
+    }
+}
@@ -221,6 +221,14 @@ class FractionTest {
         Assertions.assertEquals(0.0, pi1.doubleValue() - pi2.doubleValue(), 1.0e-20);
 
         Assertions.assertEquals(0, ZERO_P.compareTo(ZERO_N));
+
+        // Negative values are ordered by the signed value
+        Assertions.assertEquals(-1, d.compareTo(Fraction.of(-1, 3)));
+        Assertions.assertEquals(1, Fraction.of(-1, 3).compareTo(e));
+        Assertions.assertEquals(-1, pi2.negate().compareTo(pi1.negate()));
+        Assertions.assertEquals(1, pi1.negate().compareTo(pi2.negate()));
+        Assertions.assertEquals(-1, Fraction.of(Integer.MIN_VALUE, 3).compareTo(Fraction.of(Integer.MAX_VALUE, -3)));
+        Assertions.assertEquals(1, Fraction.of(1, Integer.MIN_VALUE).compareTo(Fraction.of(-1, Integer.MAX_VALUE)));
     }
 
     @Test
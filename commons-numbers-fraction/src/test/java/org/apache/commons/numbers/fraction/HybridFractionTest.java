@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+import java.util.function.BinaryOperator;
+import org.apache.commons.numbers.core.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link HybridFraction}.
+ */
+class HybridFractionTest {
+    /** 2^63. */
+    private static final BigInteger TWO_POW_63 = BigInteger.ONE.shiftLeft(63);
+
+    private static void assertFraction(long expectedNumerator, long expectedDenominator, HybridFraction actual) {
+        assertFraction(BigInteger.valueOf(expectedNumerator), BigInteger.valueOf(expectedDenominator), actual);
+    }
+
+    private static void assertFraction(BigInteger expectedNumerator, BigInteger expectedDenominator,
+                                       HybridFraction actual) {
+        Assertions.assertEquals(expectedNumerator, actual.getNumerator());
+        Assertions.assertEquals(expectedDenominator, actual.getDenominator());
+        Assertions.assertEquals(expectedNumerator.signum() * expectedDenominator.signum(), actual.signum());
+    }
+
+    /**
+     * Assert the fraction has the value of the {@link BigFraction} and the
+     * equivalent fraction created from the value is equal.
+     *
+     * @param expected Expected value.
+     * @param actual Actual value.
+     */
+    private static void assertFraction(BigFraction expected, HybridFraction actual) {
+        Assertions.assertEquals(0, expected.subtract(actual.toBigFraction()).signum(),
+            () -> expected + " != " + actual);
+        final HybridFraction f = HybridFraction.from(expected);
+        Assertions.assertEquals(f, actual);
+        Assertions.assertEquals(f.hashCode(), actual.hashCode());
+    }
+
+    @Test
+    void testConstructor() {
+        for (final CommonTestCases.UnaryOperatorTestCase testCase : CommonTestCases.numDenConstructorTestCases()) {
+            assertFraction(
+                    BigFraction.of(testCase.expectedNumerator, testCase.expectedDenominator),
+                    HybridFraction.of(testCase.operandNumerator, testCase.operandDenominator)
+            );
+        }
+
+        // The denominator is positive
+        assertFraction(-1, 2, HybridFraction.of(1, -2));
+        assertFraction(1, 2, HybridFraction.of(-1, -2));
+        assertFraction(-(1L << 40), 3, HybridFraction.of(1L << 41, -6));
+        assertFraction(-Long.MAX_VALUE, 1, HybridFraction.of(Long.MAX_VALUE, -1));
+        assertFraction(Long.MIN_VALUE, 1, HybridFraction.of(Long.MIN_VALUE, 1));
+        assertFraction(1, 1, HybridFraction.of(Long.MIN_VALUE, Long.MIN_VALUE));
+        assertFraction(-(1L << 62), 1, HybridFraction.of(Long.MIN_VALUE, 2));
+        assertFraction(1, 2, HybridFraction.of(1L << 62, Long.MIN_VALUE).negate());
+        // 2^63 requires a BigInteger
+        assertFraction(TWO_POW_63, BigInteger.ONE, HybridFraction.of(Long.MIN_VALUE, -1));
+        assertFraction(BigInteger.ONE.negate(), TWO_POW_63, HybridFraction.of(1, Long.MIN_VALUE));
+        Assertions.assertEquals(-1, HybridFraction.of(1, Long.MIN_VALUE).signum());
+        Assertions.assertEquals(1, HybridFraction.of(Long.MIN_VALUE, -1).signum());
+
+        Assertions.assertSame(HybridFraction.ZERO, HybridFraction.of(0));
+        Assertions.assertSame(HybridFraction.ZERO, HybridFraction.of(0, -5));
+        Assertions.assertSame(HybridFraction.ZERO, HybridFraction.of(BigInteger.ZERO));
+        Assertions.assertSame(HybridFraction.ZERO, HybridFraction.from(0.0));
+        Assertions.assertThrows(ArithmeticException.class, () -> HybridFraction.of(1, 0));
+        Assertions.assertThrows(ArithmeticException.class, () -> HybridFraction.of(BigInteger.ONE, BigInteger.ZERO));
+    }
+
+    @Test
+    void testPromotionAndDemotion() {
+        final HybridFraction max = HybridFraction.of(Long.MAX_VALUE);
+        final HybridFraction big = max.add(1);
+        assertFraction(TWO_POW_63, BigInteger.ONE, big);
+        final HybridFraction x = big.subtract(1);
+        Assertions.assertEquals(max, x);
+        Assertions.assertEquals(max.hashCode(), x.hashCode());
+        Assertions.assertEquals(Long.MAX_VALUE, x.longValue());
+
+        // Large components that reduce
+        final BigInteger p = BigInteger.valueOf(Long.MAX_VALUE).pow(3);
+        final HybridFraction y = HybridFraction.of(p.add(BigInteger.ONE), p);
+        final HybridFraction z = y.subtract(HybridFraction.of(BigInteger.ONE, p));
+        Assertions.assertSame(HybridFraction.ONE.getClass(), z.getClass());
+        Assertions.assertEquals(HybridFraction.ONE, z);
+        Assertions.assertEquals(HybridFraction.of(7, 3), HybridFraction.of(p.multiply(BigInteger.valueOf(7)),
+                                                                           p.multiply(BigInteger.valueOf(3))));
+
+        // Product promotes and the quotient demotes
+        final HybridFraction a = HybridFraction.of(Long.MAX_VALUE, Long.MAX_VALUE - 2);
+        final HybridFraction b = a.multiply(a);
+        Assertions.assertEquals(BigInteger.valueOf(Long.MAX_VALUE).pow(2), b.getNumerator());
+        Assertions.assertEquals(a, b.divide(a));
+        Assertions.assertEquals(a, b.multiply(a.reciprocal()));
+        Assertions.assertEquals(a.pow(2), b);
+        Assertions.assertEquals(a, b.pow(3).divide(a.pow(5)));
+    }
+
+    @Test
+    void testFrom() {
+        assertFraction(1, 2, HybridFraction.from(0.5));
+        assertFraction(-3, 4, HybridFraction.from(-0.75));
+        assertFraction(1, 1L << 60, HybridFraction.from(0x1.0p-60));
+        assertFraction(BigInteger.ONE, BigInteger.ONE.shiftLeft(1000), HybridFraction.from(0x1.0p-1000));
+        assertFraction(BigInteger.ONE.shiftLeft(100), BigInteger.ONE, HybridFraction.from(0x1.0p100));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HybridFraction.from(Double.NaN));
+        final BigFraction f = BigFraction.of(3, -7);
+        assertFraction(-3, 7, HybridFraction.from(f));
+        Assertions.assertEquals(f, HybridFraction.from(f).toBigFraction());
+    }
+
+    @Test
+    void testUnaryOperations() {
+        for (final CommonTestCases.UnaryOperatorTestCase testCase : CommonTestCases.absTestCases()) {
+            final HybridFraction f = HybridFraction.of(testCase.operandNumerator, testCase.operandDenominator);
+            assertFraction(BigFraction.of(testCase.expectedNumerator, testCase.expectedDenominator), f.abs());
+        }
+        for (final CommonTestCases.UnaryOperatorTestCase testCase : CommonTestCases.reciprocalTestCases()) {
+            final HybridFraction f = HybridFraction.of(testCase.operandNumerator, testCase.operandDenominator);
+            assertFraction(BigFraction.of(testCase.expectedNumerator, testCase.expectedDenominator), f.reciprocal());
+        }
+        for (final CommonTestCases.UnaryOperatorTestCase testCase : CommonTestCases.negateTestCases()) {
+            final HybridFraction f = HybridFraction.of(testCase.operandNumerator, testCase.operandDenominator);
+            assertFraction(BigFraction.of(testCase.expectedNumerator, testCase.expectedDenominator), f.negate());
+        }
+        Assertions.assertThrows(ArithmeticException.class, HybridFraction.ZERO::reciprocal);
+
+        final HybridFraction min = HybridFraction.of(Long.MIN_VALUE);
+        assertFraction(TWO_POW_63, BigInteger.ONE, min.negate());
+        assertFraction(TWO_POW_63, BigInteger.ONE, min.abs());
+        Assertions.assertEquals(min, min.negate().negate());
+        Assertions.assertEquals(min, min.reciprocal().reciprocal());
+        Assertions.assertEquals(-1, min.reciprocal().signum());
+        assertFraction(-7, 3, HybridFraction.of(-3, 7).reciprocal());
+    }
+
+    @Test
+    void testValues() {
+        Assertions.assertEquals(0.5, HybridFraction.of(1, 2).doubleValue());
+        Assertions.assertEquals(-1.0 / 3, HybridFraction.of(-1, 3).doubleValue());
+        Assertions.assertEquals(0x1.0p63, HybridFraction.of(Long.MIN_VALUE, -1).doubleValue());
+        Assertions.assertEquals(-0x1.0p63, HybridFraction.of(Long.MIN_VALUE).doubleValue());
+        // Components are not exact as a double
+        final long p = (1L << 60) + 1;
+        final long q = (1L << 60) + 3;
+        Assertions.assertEquals(BigFraction.of(p, q).doubleValue(), HybridFraction.of(p, q).doubleValue());
+        Assertions.assertEquals(0.5f, HybridFraction.of(-1, -2).floatValue());
+        Assertions.assertEquals(0.0, HybridFraction.ZERO.doubleValue());
+
+        Assertions.assertEquals(1, HybridFraction.of(3, 2).intValue());
+        Assertions.assertEquals(-1, HybridFraction.of(3, -2).longValue());
+        Assertions.assertEquals(Long.MIN_VALUE, HybridFraction.of(Long.MIN_VALUE).longValue());
+        Assertions.assertEquals(BigFraction.of(Long.MIN_VALUE, -1).longValue(), HybridFraction.of(Long.MIN_VALUE, -1).longValue());
+        Assertions.assertEquals(BigFraction.of(Long.MAX_VALUE).intValue(), HybridFraction.of(Long.MAX_VALUE).intValue());
+    }
+
+    @Test
+    void testBinaryOperations() {
+        for (final CommonTestCases.BinaryOperatorTestCase testCase : CommonTestCases.addFractionTestCases()) {
+            final HybridFraction f1 = HybridFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final HybridFraction f2 = HybridFraction.of(testCase.secondOperandNumerator, testCase.secondOperandDenominator);
+            assertFraction(BigFraction.of(testCase.expectedNumerator, testCase.expectedDenominator), f1.add(f2));
+        }
+        for (final CommonTestCases.BinaryOperatorTestCase testCase : CommonTestCases.subtractFractionTestCases()) {
+            final HybridFraction f1 = HybridFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final HybridFraction f2 = HybridFraction.of(testCase.secondOperandNumerator, testCase.secondOperandDenominator);
+            assertFraction(BigFraction.of(testCase.expectedNumerator, testCase.expectedDenominator), f1.subtract(f2));
+        }
+        for (final CommonTestCases.BinaryOperatorTestCase testCase : CommonTestCases.multiplyByFractionTestCases()) {
+            final HybridFraction f1 = HybridFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final HybridFraction f2 = HybridFraction.of(testCase.secondOperandNumerator, testCase.secondOperandDenominator);
+            assertFraction(BigFraction.of(testCase.expectedNumerator, testCase.expectedDenominator), f1.multiply(f2));
+        }
+        for (final CommonTestCases.BinaryOperatorTestCase testCase : CommonTestCases.divideByFractionTestCases()) {
+            final HybridFraction f1 = HybridFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final HybridFraction f2 = HybridFraction.of(testCase.secondOperandNumerator, testCase.secondOperandDenominator);
+            assertFraction(BigFraction.of(testCase.expectedNumerator, testCase.expectedDenominator), f1.divide(f2));
+        }
+        for (final CommonTestCases.BinaryIntOperatorTestCase testCase : CommonTestCases.addIntTestCases()) {
+            final HybridFraction f1 = HybridFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            assertFraction(BigFraction.of(testCase.expectedNumerator, testCase.expectedDenominator),
+                f1.add(testCase.secondOperand));
+        }
+        for (final CommonTestCases.BinaryIntOperatorTestCase testCase : CommonTestCases.subtractIntTestCases()) {
+            final HybridFraction f1 = HybridFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            assertFraction(BigFraction.of(testCase.expectedNumerator, testCase.expectedDenominator),
+                f1.subtract(testCase.secondOperand));
+        }
+        for (final CommonTestCases.BinaryIntOperatorTestCase testCase : CommonTestCases.multiplyByIntTestCases()) {
+            final HybridFraction f1 = HybridFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            assertFraction(BigFraction.of(testCase.expectedNumerator, testCase.expectedDenominator),
+                f1.multiply(testCase.secondOperand));
+        }
+        for (final CommonTestCases.BinaryIntOperatorTestCase testCase : CommonTestCases.divideByIntTestCases()) {
+            final HybridFraction f1 = HybridFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            assertFraction(BigFraction.of(testCase.expectedNumerator, testCase.expectedDenominator),
+                f1.divide(testCase.secondOperand));
+        }
+        for (final CommonTestCases.BinaryIntOperatorTestCase testCase : CommonTestCases.powTestCases()) {
+            final HybridFraction f1 = HybridFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            assertFraction(BigFraction.of(testCase.expectedNumerator, testCase.expectedDenominator),
+                f1.pow(testCase.secondOperand));
+        }
+
+        Assertions.assertThrows(FractionException.class, () -> HybridFraction.ONE.divide(HybridFraction.ZERO));
+        Assertions.assertThrows(FractionException.class, () -> HybridFraction.ONE.divide(0));
+        Assertions.assertThrows(ArithmeticException.class, () -> HybridFraction.ZERO.pow(-1));
+        Assertions.assertThrows(NullPointerException.class, () -> HybridFraction.ONE.add((HybridFraction) null));
+
+        // No overflow
+        final HybridFraction min = HybridFraction.of(Long.MIN_VALUE);
+        assertFraction(BigFraction.of(Long.MIN_VALUE).multiply(2), min.add(min));
+        assertFraction(BigFraction.of(Long.MIN_VALUE).negate(), min.subtract(min).subtract(min));
+        assertFraction(BigFraction.of(Long.MIN_VALUE).pow(2), min.multiply(min));
+        assertFraction(BigFraction.of(1, Long.MIN_VALUE), HybridFraction.ONE.divide(min));
+        assertFraction(BigFraction.of(1, Long.MIN_VALUE).negate(), HybridFraction.ONE.divide(Long.MIN_VALUE).negate());
+        assertFraction(BigFraction.of(Long.MAX_VALUE).multiply(Long.MIN_VALUE), min.multiply(Long.MAX_VALUE));
+        assertFraction(BigFraction.of(1, Long.MAX_VALUE).add(BigFraction.of(1, Long.MAX_VALUE - 1)),
+            HybridFraction.of(1, Long.MAX_VALUE).add(HybridFraction.of(1, Long.MAX_VALUE - 1)));
+        assertFraction(BigFraction.of(Long.MAX_VALUE, 3).divide(-5),
+            HybridFraction.of(Long.MAX_VALUE, 3).divide(-5));
+    }
+
+    @Test
+    void testRandomOperations() {
+        final SplittableRandom rng = new SplittableRandom(8746123);
+        assertRandomOperation(rng, HybridFraction::add, BigFraction::add);
+        assertRandomOperation(rng, HybridFraction::subtract, BigFraction::subtract);
+        assertRandomOperation(rng, HybridFraction::multiply, BigFraction::multiply);
+        assertRandomOperation(rng, HybridFraction::divide, BigFraction::divide);
+        for (int i = 0; i < 1000; i++) {
+            final HybridFraction a = createFraction(rng);
+            final HybridFraction b = createFraction(rng);
+            Assertions.assertEquals(a.toBigFraction().subtract(b.toBigFraction()).signum(), a.compareTo(b));
+            Assertions.assertEquals(0, a.compareTo(HybridFraction.from(a.toBigFraction())));
+        }
+    }
+
+    private static void assertRandomOperation(SplittableRandom rng,
+                                              BinaryOperator<HybridFraction> op,
+                                              BinaryOperator<BigFraction> bigOp) {
+        for (int i = 0; i < 1000; i++) {
+            final HybridFraction a = createFraction(rng);
+            final HybridFraction b = createFraction(rng);
+            assertFraction(bigOp.apply(a.toBigFraction(), b.toBigFraction()), op.apply(a, b));
+        }
+    }
+
+    /**
+     * Creates a non-zero fraction with components of up to 64-bits; occasionally
+     * the fraction is promoted to a {@code BigFraction}.
+     *
+     * @param rng Source of randomness.
+     * @return the fraction
+     */
+    private static HybridFraction createFraction(SplittableRandom rng) {
+        final long n = (rng.nextLong() >> rng.nextInt(64)) | 1;
+        final long d = (rng.nextLong() >> rng.nextInt(64)) | 1;
+        final HybridFraction f = HybridFraction.of(n, d);
+        return rng.nextInt(10) == 0 ? f.multiply(HybridFraction.of(d, 3)) : f;
+    }
+
+    @Test
+    void testCompareTo() {
+        final HybridFraction a = HybridFraction.of(1, 2);
+        final HybridFraction b = HybridFraction.of(1, 3);
+        final HybridFraction c = HybridFraction.of(-1, 2);
+        final HybridFraction d = HybridFraction.of(-1, 3);
+        final HybridFraction big = HybridFraction.of(Long.MAX_VALUE).add(1);
+        Assertions.assertEquals(0, a.compareTo(a));
+        Assertions.assertEquals(1, a.compareTo(b));
+        Assertions.assertEquals(-1, b.compareTo(a));
+        Assertions.assertEquals(-1, c.compareTo(d));
+        Assertions.assertEquals(1, d.compareTo(c));
+        Assertions.assertEquals(1, big.compareTo(a));
+        Assertions.assertEquals(-1, big.negate().compareTo(c));
+        Assertions.assertEquals(1, big.compareTo(HybridFraction.of(Long.MAX_VALUE)));
+        Assertions.assertEquals(-1, big.negate().compareTo(HybridFraction.of(Long.MIN_VALUE + 1)));
+        Assertions.assertEquals(0, big.negate().compareTo(HybridFraction.of(Long.MIN_VALUE)));
+        Assertions.assertEquals(HybridFraction.of(Long.MIN_VALUE), big.negate());
+        Assertions.assertEquals(0, HybridFraction.ZERO.compareTo(HybridFraction.of(0, -1)));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        final HybridFraction zero = HybridFraction.of(0, 1);
+        Assertions.assertTrue(zero.equals(zero));
+        Assertions.assertFalse(zero.equals(null));
+        Assertions.assertFalse(zero.equals(new Object()));
+        Assertions.assertFalse(zero.equals(BigFraction.ZERO));
+        Assertions.assertEquals(HybridFraction.of(1, 2), HybridFraction.of(-2, -4));
+        Assertions.assertEquals(HybridFraction.of(1, 2).hashCode(), HybridFraction.of(-2, -4).hashCode());
+        Assertions.assertNotEquals(HybridFraction.of(1, 2), HybridFraction.of(-1, 2));
+        final HybridFraction big = HybridFraction.of(BigInteger.TEN.pow(30), BigInteger.valueOf(7));
+        Assertions.assertEquals(big, HybridFraction.of(BigInteger.TEN.pow(30).negate(), BigInteger.valueOf(-7)));
+        Assertions.assertEquals(big.hashCode(), HybridFraction.of(BigInteger.TEN.pow(30).negate(), BigInteger.valueOf(-7)).hashCode());
+        Assertions.assertNotEquals(big, big.negate());
+        Assertions.assertNotEquals(big, HybridFraction.ONE);
+        Assertions.assertNotEquals(HybridFraction.ONE, big);
+    }
+
+    @Test
+    void testNeutral() {
+        Assertions.assertEquals(HybridFraction.ZERO, HybridFraction.ONE.zero());
+        Assertions.assertEquals(HybridFraction.ONE, HybridFraction.ZERO.one());
+    }
+
+    @Test
+    void testSerial() {
+        final HybridFraction[] fractions = {
+            HybridFraction.of(3, 4), HybridFraction.ONE, HybridFraction.ZERO,
+            HybridFraction.of(-5, 2), HybridFraction.of(Long.MIN_VALUE, -1),
+            HybridFraction.of(BigInteger.TEN.pow(30), BigInteger.valueOf(7))
+        };
+        for (final HybridFraction fraction : fractions) {
+            Assertions.assertEquals(fraction,
+                                    TestUtils.serializeAndRecover(fraction));
+        }
+    }
+
+    @Test
+    void testToStringAndParse() {
+        Assertions.assertEquals("0", HybridFraction.of(0, 3).toString());
+        Assertions.assertEquals("3", HybridFraction.of(6, 2).toString());
+        Assertions.assertEquals("-10 / 11", HybridFraction.of(10, -11).toString());
+        Assertions.assertEquals("9223372036854775808", HybridFraction.of(Long.MIN_VALUE, -1).toString());
+        for (final String s : new String[] {"0", "3", "2 / 3", "-10 / 11", "9223372036854775808",
+                                            "1 / 1000000000000000000000000"}) {
+            Assertions.assertEquals(s, HybridFraction.parse(s).toString());
+        }
+        Assertions.assertEquals(HybridFraction.of(-10, 11), HybridFraction.parse("10 / -11"));
+        Assertions.assertThrows(NumberFormatException.class, () -> HybridFraction.parse("1 // 2"));
+    }
+}
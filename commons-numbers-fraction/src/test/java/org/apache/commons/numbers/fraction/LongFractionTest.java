@@ -0,0 +1,618 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.fraction;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.BinaryOperator;
+import org.apache.commons.numbers.core.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LongFraction}.
+ */
+class LongFractionTest {
+
+    /** The zero representation with positive denominator. */
+    private static final LongFraction ZERO_P = LongFraction.of(0, 1);
+    /** The zero representation with negative denominator. */
+    private static final LongFraction ZERO_N = LongFraction.of(0, -1);
+
+    private static void assertFraction(long expectedNumerator, long expectedDenominator, LongFraction actual) {
+        Assertions.assertEquals(expectedNumerator, actual.getNumerator());
+        Assertions.assertEquals(expectedDenominator, actual.getDenominator());
+        Assertions.assertEquals(
+            Long.signum(expectedNumerator) * Long.signum(expectedDenominator),
+            actual.signum());
+    }
+
+    /**
+     * Assert the fraction has the same value as the {@link BigFraction}.
+     *
+     * @param expected Expected value.
+     * @param actual Actual value.
+     */
+    private static void assertFraction(BigFraction expected, LongFraction actual) {
+        Assertions.assertEquals(expected, BigFraction.of(actual.getNumerator(), actual.getDenominator()),
+            () -> expected + " != " + actual);
+    }
+
+    @Test
+    void testConstructor() {
+        for (final CommonTestCases.UnaryOperatorTestCase testCase : CommonTestCases.numDenConstructorTestCases()) {
+            assertFraction(
+                    testCase.expectedNumerator,
+                    testCase.expectedDenominator,
+                    LongFraction.of(testCase.operandNumerator, testCase.operandDenominator)
+            );
+        }
+
+        // Special cases.
+        assertFraction(Long.MIN_VALUE, -1, LongFraction.of(Long.MIN_VALUE, -1));
+        assertFraction(1, Long.MIN_VALUE, LongFraction.of(1, Long.MIN_VALUE));
+        assertFraction(-1, Long.MIN_VALUE, LongFraction.of(-1, Long.MIN_VALUE));
+        assertFraction(1, 1, LongFraction.of(Long.MIN_VALUE, Long.MIN_VALUE));
+        assertFraction(Integer.MIN_VALUE, -1, LongFraction.of(Integer.MIN_VALUE, -1));
+        assertFraction(7, 3, LongFraction.of(7 * (1L << 60), 3 * (1L << 60)));
+
+        // Divide by zero
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(1, 0));
+    }
+
+    @Test
+    void testConstructorZero() {
+        Assertions.assertSame(LongFraction.ZERO, LongFraction.from(0.0));
+        Assertions.assertSame(LongFraction.ZERO, LongFraction.from(0.0, 1e-10, 100));
+        Assertions.assertSame(LongFraction.ZERO, LongFraction.from(0.0, 100));
+        Assertions.assertSame(LongFraction.ZERO, LongFraction.of(0));
+        Assertions.assertSame(LongFraction.ZERO, LongFraction.of(0, 1));
+        Assertions.assertSame(LongFraction.ZERO, LongFraction.of(0, -1));
+    }
+
+    @Test
+    void testDoubleConstructor() {
+        for (final CommonTestCases.DoubleToFractionTestCase testCase : CommonTestCases.doubleConstructorTestCases()) {
+            assertFraction(
+                    testCase.expectedNumerator,
+                    testCase.expectedDenominator,
+                    LongFraction.from(testCase.operand)
+            );
+        }
+
+        assertFraction(1, 3, LongFraction.from(1.0 / 3.0));
+        assertFraction(17, 100, LongFraction.from(17.0 / 100.0));
+        assertFraction(-317, 100, LongFraction.from(-317.0 / 100.0));
+
+        // Values outside the range of Fraction
+        assertFraction(1L << 40, 1, LongFraction.from(0x1.0p40));
+        assertFraction(-(1L << 62), 1, LongFraction.from(-0x1.0p62));
+        assertFraction(Long.MIN_VALUE, 1, LongFraction.from(-0x1.0p63));
+        assertFraction(Long.MIN_VALUE, -1, LongFraction.from(0x1.0p63));
+        assertFraction(1, 1L << 40, LongFraction.from(0x1.0p-40, 0, 100));
+        assertFraction(1, 10000000000L, LongFraction.from(1e-10, 1e-25, 100));
+        assertFraction(12345678901L, 1000, LongFraction.from(12345678.901, 1e-10, 100));
+    }
+
+    @Test
+    void testDoubleConstructorWithMaxDenominator() {
+        for (final CommonTestCases.DoubleToFractionTestCase testCase : CommonTestCases.doubleMaxDenomConstructorTestCases()) {
+            final LongFraction f = LongFraction.from(testCase.operand, testCase.maxDenominator);
+            if (f.getNumerator() == testCase.expectedNumerator) {
+                assertFraction(testCase.expectedNumerator, testCase.expectedDenominator, f);
+            } else {
+                // The numerator is not limited to an int: the approximation can be closer
+                final double expected = (double) testCase.expectedNumerator / testCase.expectedDenominator;
+                Assertions.assertTrue(Math.abs(f.getDenominator()) <= Math.abs((long) testCase.maxDenominator));
+                Assertions.assertTrue(Math.abs(f.doubleValue() - testCase.operand) <=
+                                      Math.abs(expected - testCase.operand));
+            }
+        }
+
+        assertFraction(Long.MIN_VALUE, -1, LongFraction.from(Long.MIN_VALUE * -1.0, 2));
+        assertFraction(1, Long.MIN_VALUE, LongFraction.from(1.0 / Long.MIN_VALUE, Long.MIN_VALUE));
+        assertFraction(-1, Long.MIN_VALUE, LongFraction.from(-1.0 / Long.MIN_VALUE, Long.MIN_VALUE));
+        // Denominator is limited
+        final LongFraction pi = LongFraction.from(Math.PI, 1L << 40);
+        Assertions.assertTrue(pi.getDenominator() <= 1L << 40);
+        Assertions.assertEquals(Math.PI, pi.doubleValue(), 1e-20);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongFraction.from(1.0, 0));
+    }
+
+    @Test
+    void testDoubleConstructorThrows() {
+        final double eps = 1e-5;
+        final int maxIterations = Integer.MAX_VALUE;
+        final long maxDenominator = Long.MAX_VALUE;
+        for (final double value : new double[] {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY}) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> LongFraction.from(value));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> LongFraction.from(value, eps, maxIterations));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> LongFraction.from(value, maxDenominator));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongFraction.from(1.0, Double.NaN, maxIterations));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongFraction.from(1.0, -1.0, maxIterations));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongFraction.from(1.0, eps, 0));
+        // Test a zero epsilon is allowed
+        assertFraction(1, 1, LongFraction.from(1.0, 0, maxIterations));
+    }
+
+    @Test
+    void testDoubleConstructorOverflow() {
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.from(0x1.0p64));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.from(-0x1.0p64, 10));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.from(1e30, 1e-10, 100));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.from(1e-30, 1e-40, 100));
+        assertFraction(10000000000L, 1, LongFraction.from(1e10, 1000));
+    }
+
+    @Test
+    void testCompareTo() {
+        final LongFraction a = LongFraction.of(1, 2);
+        final LongFraction b = LongFraction.of(1, 3);
+        final LongFraction c = LongFraction.of(1, 2);
+        final LongFraction d = LongFraction.of(-1, 2);
+        final LongFraction e = LongFraction.of(1, -2);
+        final LongFraction f = LongFraction.of(-1, -2);
+        final LongFraction g = LongFraction.of(-1, Long.MIN_VALUE);
+
+        Assertions.assertEquals(0, a.compareTo(a));
+        Assertions.assertEquals(0, a.compareTo(c));
+        Assertions.assertEquals(1, a.compareTo(b));
+        Assertions.assertEquals(-1, b.compareTo(a));
+        Assertions.assertEquals(-1, d.compareTo(a));
+        Assertions.assertEquals(1, a.compareTo(d));
+        Assertions.assertEquals(-1, e.compareTo(a));
+        Assertions.assertEquals(1, a.compareTo(e));
+        Assertions.assertEquals(0, d.compareTo(e));
+        Assertions.assertEquals(0, a.compareTo(f));
+        Assertions.assertEquals(0, f.compareTo(a));
+        Assertions.assertEquals(1, f.compareTo(e));
+        Assertions.assertEquals(-1, e.compareTo(f));
+        Assertions.assertEquals(-1, g.compareTo(a));
+        Assertions.assertEquals(-1, g.compareTo(f));
+        Assertions.assertEquals(1, a.compareTo(g));
+        Assertions.assertEquals(-1, d.compareTo(g));
+
+        Assertions.assertEquals(0, LongFraction.of(0, 3).compareTo(LongFraction.of(0, -2)));
+        Assertions.assertEquals(0, ZERO_P.compareTo(ZERO_N));
+
+        // Products require 128-bits
+        final LongFraction h = LongFraction.of(Long.MAX_VALUE, Long.MAX_VALUE - 1);
+        final LongFraction i = LongFraction.of(Long.MAX_VALUE - 1, Long.MAX_VALUE - 2);
+        Assertions.assertEquals(-1, h.compareTo(i));
+        Assertions.assertEquals(1, i.compareTo(h));
+        Assertions.assertEquals(1, h.negate().compareTo(i.negate()));
+        Assertions.assertEquals(1, LongFraction.of(Long.MIN_VALUE, -1).compareTo(LongFraction.of(Long.MAX_VALUE)));
+        Assertions.assertEquals(-1, LongFraction.of(Long.MIN_VALUE).compareTo(LongFraction.of(-Long.MAX_VALUE)));
+    }
+
+    @Test
+    void testDoubleValue() {
+        Assertions.assertEquals(0.5, LongFraction.of(1, 2).doubleValue());
+        Assertions.assertEquals(-0.5, LongFraction.of(-1, 2).doubleValue());
+        Assertions.assertEquals(-0.5, LongFraction.of(1, -2).doubleValue());
+        Assertions.assertEquals(0.5, LongFraction.of(-1, -2).doubleValue());
+        Assertions.assertEquals(1.0 / 3.0, LongFraction.of(1, 3).doubleValue());
+        Assertions.assertEquals(0x1.0p63, LongFraction.of(Long.MIN_VALUE, -1).doubleValue());
+
+        Assertions.assertEquals(0.0, LongFraction.ZERO.doubleValue());
+        Assertions.assertEquals(0.0, ZERO_P.doubleValue());
+        Assertions.assertEquals(0.0, ZERO_N.doubleValue());
+        Assertions.assertEquals(0.5f, LongFraction.of(1, 2).floatValue());
+        Assertions.assertEquals(-0.5f, LongFraction.of(1, -2).floatValue());
+
+        // Components that are not exact as a double or float must not be rounded
+        // before the division
+        final long p = (1L << 53) + 1;
+        assertFloatingPointValue(p, 3);
+        assertFloatingPointValue(Long.MAX_VALUE, Long.MAX_VALUE - 2);
+        assertFloatingPointValue(Long.MIN_VALUE, Long.MAX_VALUE);
+        assertFloatingPointValue(Long.MIN_VALUE, -1);
+        assertFloatingPointValue((1L << 24) + 1, 3);
+        assertFloatingPointValue(3, (1L << 24) + 1);
+        final SplittableRandom rng = new SplittableRandom(9753);
+        for (int i = 0; i < 2000; i++) {
+            final long n = rng.nextLong() >> rng.nextInt(64);
+            final long d = rng.nextLong() >> rng.nextInt(64);
+            if (d != 0) {
+                assertFloatingPointValue(n, d);
+            }
+        }
+    }
+
+    /**
+     * Assert the floating-point values are correctly rounded.
+     *
+     * @param num Numerator.
+     * @param den Denominator.
+     */
+    private static void assertFloatingPointValue(long num, long den) {
+        final LongFraction f = LongFraction.of(num, den);
+        final BigFraction expected = BigFraction.of(num, den);
+        Assertions.assertEquals(expected.doubleValue(), f.doubleValue(), () -> num + " / " + den);
+        Assertions.assertEquals(expected.floatValue(), f.floatValue(), () -> num + " / " + den);
+    }
+
+    @Test
+    void testIntValue() {
+        Assertions.assertEquals(0, LongFraction.of(1, 2).intValue());
+        Assertions.assertEquals(0, LongFraction.of(-1, 2).intValue());
+        Assertions.assertEquals(1, LongFraction.of(3, 2).intValue());
+        Assertions.assertEquals(-1, LongFraction.of(3, -2).intValue());
+        Assertions.assertEquals(0, LongFraction.of(Long.MAX_VALUE - 1, Long.MAX_VALUE).intValue());
+
+        Assertions.assertEquals(Integer.MIN_VALUE, LongFraction.of(Integer.MIN_VALUE, 1).intValue());
+        Assertions.assertEquals(Integer.MAX_VALUE, LongFraction.of(Integer.MIN_VALUE, -1).intValue());
+        Assertions.assertEquals(Integer.MAX_VALUE, LongFraction.of(Long.MAX_VALUE).intValue());
+        Assertions.assertEquals(Integer.MIN_VALUE, LongFraction.of(Long.MIN_VALUE).intValue());
+        Assertions.assertEquals(0, ZERO_N.intValue());
+    }
+
+    @Test
+    void testLongValue() {
+        Assertions.assertEquals(0L, LongFraction.of(1, 2).longValue());
+        Assertions.assertEquals(0L, LongFraction.of(-1, 2).longValue());
+        Assertions.assertEquals(1L, LongFraction.of(3, 2).longValue());
+        Assertions.assertEquals(-1L, LongFraction.of(3, -2).longValue());
+
+        Assertions.assertEquals(0, LongFraction.of(1, Long.MIN_VALUE).longValue());
+        Assertions.assertEquals(Long.MIN_VALUE, LongFraction.of(Long.MIN_VALUE, 1).longValue());
+        Assertions.assertEquals(Long.MAX_VALUE, LongFraction.of(Long.MIN_VALUE, -1).longValue());
+        Assertions.assertEquals(Integer.MAX_VALUE + 1L, LongFraction.of(Integer.MIN_VALUE, -1).longValue());
+        Assertions.assertEquals(0L, ZERO_N.longValue());
+    }
+
+    @Test
+    void testAbs() {
+        for (final CommonTestCases.UnaryOperatorTestCase testCase : CommonTestCases.absTestCases()) {
+            final LongFraction f = LongFraction.of(testCase.operandNumerator, testCase.operandDenominator);
+            assertFraction(testCase.expectedNumerator, testCase.expectedDenominator, f.abs());
+        }
+    }
+
+    @Test
+    void testReciprocal() {
+        for (final CommonTestCases.UnaryOperatorTestCase testCase : CommonTestCases.reciprocalTestCases()) {
+            final LongFraction f = LongFraction.of(testCase.operandNumerator, testCase.operandDenominator);
+            assertFraction(testCase.expectedNumerator, testCase.expectedDenominator, f.reciprocal());
+        }
+
+        final LongFraction f = LongFraction.of(0, 3);
+        Assertions.assertThrows(ArithmeticException.class, f::reciprocal);
+    }
+
+    @Test
+    void testNegate() {
+        for (final CommonTestCases.UnaryOperatorTestCase testCase : CommonTestCases.negateTestCases()) {
+            final LongFraction f = LongFraction.of(testCase.operandNumerator, testCase.operandDenominator);
+            assertFraction(testCase.expectedNumerator, testCase.expectedDenominator, f.negate());
+        }
+
+        final LongFraction one = LongFraction.of(Long.MIN_VALUE, Long.MIN_VALUE);
+        assertFraction(-1, 1, one.negate());
+        // Special case where the negation of the numerator is not possible.
+        final LongFraction minValue = LongFraction.of(Long.MIN_VALUE, 1);
+        assertFraction(Long.MIN_VALUE, -1, minValue.negate());
+        // Negation of an int numerator is possible
+        assertFraction(-(long) Integer.MIN_VALUE, 1, LongFraction.of(Integer.MIN_VALUE, 1).negate());
+    }
+
+    @Test
+    void testAdd() {
+        for (final CommonTestCases.BinaryOperatorTestCase testCase : CommonTestCases.addFractionTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final LongFraction f2 = LongFraction.of(testCase.secondOperandNumerator, testCase.secondOperandDenominator);
+            assertFraction(testCase.expectedNumerator, testCase.expectedDenominator, f1.add(f2));
+        }
+        for (final CommonTestCases.BinaryIntOperatorTestCase testCase : CommonTestCases.addIntTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final int i2 = testCase.secondOperand;
+            assertFraction(testCase.expectedNumerator, testCase.expectedDenominator, f1.add(i2));
+        }
+
+        // Intermediate products overflow 64-bits
+        final long p = 4611686018427387847L;
+        final long q = 4611686018427387817L;
+        assertFraction(2, 1, LongFraction.of(p, q).add(LongFraction.of(q - p + q, q)));
+        assertFraction(Long.MAX_VALUE - 1, Long.MAX_VALUE, LongFraction.of(1, Long.MAX_VALUE).add(
+            LongFraction.of(Long.MAX_VALUE - 2, Long.MAX_VALUE)));
+        assertFraction(Long.MAX_VALUE, 2, LongFraction.of(Long.MAX_VALUE - 2, 2).add(1));
+
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> LongFraction.of(Long.MAX_VALUE).add(1));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> LongFraction.of(1, Long.MAX_VALUE).add(LongFraction.of(1, Long.MAX_VALUE - 1)));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> LongFraction.of(Long.MAX_VALUE).add(LongFraction.ONE));
+        Assertions.assertThrows(NullPointerException.class, () -> LongFraction.ONE.add((LongFraction) null));
+
+        // Edge case
+        assertFraction(Long.MIN_VALUE, -1, LongFraction.ZERO.add(LongFraction.of(Long.MIN_VALUE, -1)));
+        assertFraction(Long.MIN_VALUE, 1, LongFraction.ZERO.add(LongFraction.of(Long.MIN_VALUE, 1)));
+        assertFraction(Long.MIN_VALUE, 1, LongFraction.ZERO.add(Long.MIN_VALUE));
+    }
+
+    @Test
+    void testSubtract() {
+        for (final CommonTestCases.BinaryOperatorTestCase testCase : CommonTestCases.subtractFractionTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final LongFraction f2 = LongFraction.of(testCase.secondOperandNumerator, testCase.secondOperandDenominator);
+            assertFraction(testCase.expectedNumerator, testCase.expectedDenominator, f1.subtract(f2));
+        }
+        for (final CommonTestCases.BinaryIntOperatorTestCase testCase : CommonTestCases.subtractIntTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final int i2 = testCase.secondOperand;
+            assertFraction(testCase.expectedNumerator, testCase.expectedDenominator, f1.subtract(i2));
+        }
+
+        assertFraction(1, Long.MAX_VALUE, LongFraction.of(Long.MAX_VALUE - 1, Long.MAX_VALUE).subtract(
+            LongFraction.of(Long.MAX_VALUE - 2, Long.MAX_VALUE)));
+        assertFraction(Long.MIN_VALUE, 1, LongFraction.of(Long.MAX_VALUE).negate().subtract(1));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> LongFraction.of(Long.MIN_VALUE).subtract(1));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> LongFraction.of(1, Long.MAX_VALUE).subtract(LongFraction.of(1, Long.MAX_VALUE - 1)));
+        Assertions.assertThrows(NullPointerException.class, () -> LongFraction.ONE.subtract((LongFraction) null));
+
+        // Edge case
+        assertFraction(Long.MIN_VALUE, 1, LongFraction.ZERO.subtract(LongFraction.of(Long.MIN_VALUE, -1)));
+        assertFraction(Long.MIN_VALUE, -1, LongFraction.ZERO.subtract(LongFraction.of(Long.MIN_VALUE, 1)));
+        assertFraction(Long.MIN_VALUE, -1, LongFraction.ZERO.subtract(Long.MIN_VALUE));
+    }
+
+    @Test
+    void testMultiply() {
+        for (final CommonTestCases.BinaryOperatorTestCase testCase : CommonTestCases.multiplyByFractionTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final LongFraction f2 = LongFraction.of(testCase.secondOperandNumerator, testCase.secondOperandDenominator);
+            assertFraction(testCase.expectedNumerator, testCase.expectedDenominator, f1.multiply(f2));
+        }
+        for (final CommonTestCases.BinaryIntOperatorTestCase testCase : CommonTestCases.multiplyByIntTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final int i2 = testCase.secondOperand;
+            assertFraction(testCase.expectedNumerator, testCase.expectedDenominator, f1.multiply(i2));
+        }
+
+        assertFraction(Long.MAX_VALUE, 1, LongFraction.of(Long.MAX_VALUE, 2).multiply(2L));
+        assertFraction(1, 1, LongFraction.of(Long.MAX_VALUE, Long.MAX_VALUE - 1).multiply(
+            LongFraction.of(Long.MAX_VALUE - 1, Long.MAX_VALUE)));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(Long.MAX_VALUE).multiply(2));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> LongFraction.of(1, Long.MAX_VALUE).multiply(LongFraction.of(1, 2)));
+        Assertions.assertThrows(NullPointerException.class, () -> LongFraction.ONE.multiply((LongFraction) null));
+    }
+
+    @Test
+    void testDivide() {
+        for (final CommonTestCases.BinaryOperatorTestCase testCase : CommonTestCases.divideByFractionTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final LongFraction f2 = LongFraction.of(testCase.secondOperandNumerator, testCase.secondOperandDenominator);
+            assertFraction(testCase.expectedNumerator, testCase.expectedDenominator, f1.divide(f2));
+        }
+        for (final CommonTestCases.BinaryIntOperatorTestCase testCase : CommonTestCases.divideByIntTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final int i2 = testCase.secondOperand;
+            assertFraction(testCase.expectedNumerator, testCase.expectedDenominator, f1.divide(i2));
+        }
+
+        assertFraction(1, Long.MAX_VALUE, LongFraction.of(2, Long.MAX_VALUE).divide(2));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(1, Long.MAX_VALUE).divide(2));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> LongFraction.of(Long.MAX_VALUE).divide(LongFraction.of(1, 2)));
+        Assertions.assertThrows(NullPointerException.class, () -> LongFraction.ONE.divide((LongFraction) null));
+        Assertions.assertThrows(FractionException.class, () -> LongFraction.of(1, 2).divide(LongFraction.ZERO));
+        Assertions.assertThrows(FractionException.class, () -> LongFraction.of(1, 2).divide(0));
+    }
+
+    @Test
+    void testPow() {
+        for (final CommonTestCases.BinaryIntOperatorTestCase testCase : CommonTestCases.powTestCases()) {
+            final LongFraction f1 = LongFraction.of(testCase.firstOperandNumerator, testCase.firstOperandDenominator);
+            final int exponent = testCase.secondOperand;
+            assertFraction(testCase.expectedNumerator, testCase.expectedDenominator, f1.pow(exponent));
+        }
+
+        assertFraction(1L << 39, 4052555153018976267L, LongFraction.of(2, 3).pow(39));
+        assertFraction(4052555153018976267L, -(1L << 39), LongFraction.of(-2, 3).pow(-39));
+        assertFraction(1, 1, LongFraction.of(-1, -1).pow(Integer.MIN_VALUE));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(Long.MAX_VALUE).pow(2));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(1, Long.MAX_VALUE).pow(-2));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.of(2).pow(Integer.MIN_VALUE));
+        Assertions.assertThrows(ArithmeticException.class, () -> LongFraction.ZERO.pow(-1));
+    }
+
+    @Test
+    void testRandomOperations() {
+        // Compare with BigFraction using values that require 128-bit intermediates
+        final SplittableRandom rng = new SplittableRandom(42);
+        assertRandomOperation(rng, LongFraction::add, BigFraction::add);
+        assertRandomOperation(rng, LongFraction::subtract, BigFraction::subtract);
+        assertRandomOperation(rng, LongFraction::multiply, BigFraction::multiply);
+        assertRandomOperation(rng, LongFraction::divide, BigFraction::divide);
+        for (int i = 0; i < 1000; i++) {
+            final LongFraction a = createFraction(rng);
+            final LongFraction b = createFraction(rng);
+            final BigFraction x = BigFraction.of(a.getNumerator(), a.getDenominator());
+            final BigFraction y = BigFraction.of(b.getNumerator(), b.getDenominator());
+            Assertions.assertEquals(x.subtract(y).signum(), a.compareTo(b));
+        }
+    }
+
+    private static void assertRandomOperation(SplittableRandom rng,
+                                              BinaryOperator<LongFraction> op,
+                                              BinaryOperator<BigFraction> bigOp) {
+        int count = 0;
+        for (int i = 0; i < 1000; i++) {
+            final LongFraction a = createFraction(rng);
+            final LongFraction b = createFraction(rng);
+            final BigFraction expected = bigOp.apply(BigFraction.of(a.getNumerator(), a.getDenominator()),
+                                                     BigFraction.of(b.getNumerator(), b.getDenominator()));
+            if (expected.getNumerator().bitLength() < Long.SIZE &&
+                expected.getDenominator().bitLength() < Long.SIZE) {
+                assertFraction(expected, op.apply(a, b));
+                count++;
+            } else {
+                Assertions.assertThrows(ArithmeticException.class, () -> op.apply(a, b));
+            }
+        }
+        Assertions.assertTrue(count > 25, "Not enough representable results");
+    }
+
+    /**
+     * Creates a fraction with components up to 64-bits sharing common factors
+     * so some results are representable.
+     *
+     * @param rng Source of randomness.
+     * @return the fraction
+     */
+    private static LongFraction createFraction(SplittableRandom rng) {
+        final long f = 1 + (rng.nextLong() >>> rng.nextInt(32, 64));
+        final long g = 1 + (rng.nextLong() >>> rng.nextInt(32, 64));
+        final long n = (rng.nextLong() >> rng.nextInt(64)) | 1;
+        final long d = 1 + (rng.nextLong() >>> rng.nextInt(1, 64));
+        // Multiply by a common factor if it does not overflow
+        final long n2 = Math.abs(n) < Long.MAX_VALUE / f ? n * f : n;
+        final long d2 = d < Long.MAX_VALUE / g ? d * g : d;
+        return LongFraction.of(n2, d2);
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        final LongFraction zero = LongFraction.of(0, 1);
+        Assertions.assertTrue(zero.equals(zero));
+        Assertions.assertFalse(zero.equals(null));
+        Assertions.assertFalse(zero.equals(new Object()));
+        Assertions.assertFalse(zero.equals(Fraction.ZERO));
+
+        // Equal to same rational number
+        assertEqualAndHashCodeEqual(zero, LongFraction.of(0, 2));
+
+        final LongFraction one = LongFraction.of(1, 1);
+        Assertions.assertNotEquals(zero, one);
+        Assertions.assertNotEquals(one, zero);
+
+        // Test using different representations of the same fraction
+        // (Denominators are primes)
+        for (final long[] f : new long[][] {{1, 1}, {2, 3}, {6826, 15373}, {1373, 103813}, {0, 3},
+                                           {1L << 40, 9223372036854775783L}}) {
+            final long num = f[0];
+            final long den = f[1];
+            LongFraction f1 = LongFraction.of(-num, den);
+            LongFraction f2 = LongFraction.of(num, -den);
+            assertEqualAndHashCodeEqual(f1, f2);
+            assertEqualAndHashCodeEqual(f2, f1);
+            f1 = LongFraction.of(num, den);
+            f2 = LongFraction.of(-num, -den);
+            assertEqualAndHashCodeEqual(f1, f2);
+            assertEqualAndHashCodeEqual(f2, f1);
+        }
+
+        Assertions.assertNotEquals(one, LongFraction.of(1, 2));
+        Assertions.assertNotEquals(one, LongFraction.of(2, 1));
+
+        // Check worst case fractions which will have a component using MIN_VALUE.
+        final LongFraction almostOne = LongFraction.of(Long.MIN_VALUE, Long.MAX_VALUE);
+        final LongFraction almostOne2 = LongFraction.of(Long.MIN_VALUE, -Long.MAX_VALUE);
+        Assertions.assertEquals(almostOne, almostOne);
+        Assertions.assertNotEquals(almostOne, almostOne2);
+        final LongFraction almostZero = LongFraction.of(-1, Long.MIN_VALUE);
+        final LongFraction almostZero2 = LongFraction.of(1, Long.MIN_VALUE);
+        Assertions.assertEquals(almostZero, almostZero);
+        Assertions.assertNotEquals(almostZero, almostZero2);
+    }
+
+    private static void assertEqualAndHashCodeEqual(LongFraction f1, LongFraction f2) {
+        Assertions.assertEquals(f1, f2);
+        Assertions.assertEquals(f1.hashCode(), f2.hashCode(), "Equal fractions have different hashCode");
+        // Check the computation matches the result of Arrays.hashCode and the signum.
+        final int expected = f1.signum() *
+                             Arrays.hashCode(new long[] {Math.abs(f1.getNumerator()),
+                                                         Math.abs(f1.getDenominator())});
+        Assertions.assertEquals(expected, f1.hashCode(), "Hashcode not equal to using Arrays.hashCode");
+    }
+
+    @Test
+    void testAdditiveNeutral() {
+        Assertions.assertEquals(LongFraction.ZERO, LongFraction.ONE.zero());
+    }
+
+    @Test
+    void testMultiplicativeNeutral() {
+        Assertions.assertEquals(LongFraction.ONE, LongFraction.ZERO.one());
+    }
+
+    @Test
+    void testSerial() {
+        final LongFraction[] fractions = {
+            LongFraction.of(3, 4), LongFraction.ONE, LongFraction.ZERO,
+            LongFraction.of(17), LongFraction.from(Math.PI, 1000),
+            LongFraction.of(-5, 2), LongFraction.of(Long.MIN_VALUE, Long.MAX_VALUE)
+        };
+        for (final LongFraction fraction : fractions) {
+            Assertions.assertEquals(fraction,
+                                    TestUtils.serializeAndRecover(fraction));
+        }
+    }
+
+    @Test
+    void testToString() {
+        Assertions.assertEquals("0", LongFraction.of(0, 3).toString());
+        Assertions.assertEquals("0", LongFraction.of(0, -3).toString());
+        Assertions.assertEquals("3", LongFraction.of(6, 2).toString());
+        Assertions.assertEquals("2 / 3", LongFraction.of(18, 27).toString());
+        Assertions.assertEquals("-10 / 11", LongFraction.of(-10, 11).toString());
+        Assertions.assertEquals("10 / -11", LongFraction.of(10, -11).toString());
+        Assertions.assertEquals("-9223372036854775808 / 9223372036854775807",
+            LongFraction.of(Long.MIN_VALUE, Long.MAX_VALUE).toString());
+    }
+
+    @Test
+    void testParse() {
+        final String[] validExpressions = new String[] {
+            "1 / 2",
+            "-1 / -2",
+            "01 / 02",
+            "-2 / 3",
+            "5",
+            "-3",
+            "9223372036854775807 / -9223372036854775808",
+            "-9,223,372,036,854,775,808",
+        };
+        final LongFraction[] fractions = {
+            LongFraction.of(1, 2),
+            LongFraction.of(-1, -2),
+            LongFraction.of(1, 2),
+            LongFraction.of(-2, 3),
+            LongFraction.of(5, 1),
+            LongFraction.of(-3, 1),
+            LongFraction.of(Long.MAX_VALUE, Long.MIN_VALUE),
+            LongFraction.of(Long.MIN_VALUE),
+        };
+        int inc = 0;
+        for (final LongFraction fraction : fractions) {
+            Assertions.assertEquals(fraction,
+                                    LongFraction.parse(validExpressions[inc]));
+            inc++;
+        }
+
+        Assertions.assertThrows(NumberFormatException.class, () -> LongFraction.parse("1 // 2"));
+        Assertions.assertThrows(NumberFormatException.class, () -> LongFraction.parse("1 / z"));
+        Assertions.assertThrows(NumberFormatException.class, () -> LongFraction.parse("x"));
+        Assertions.assertThrows(NumberFormatException.class, () -> LongFraction.parse("9223372036854775808"));
+    }
+}
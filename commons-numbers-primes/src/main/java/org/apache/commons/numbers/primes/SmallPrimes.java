@@ -16,8 +16,6 @@
  */
 package org.apache.commons.numbers.primes;
 
-
-import java.math.BigInteger;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -26,6 +24,8 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import org.apache.commons.numbers.core.ModularArithmetic;
+
 /**
  * Utility methods to work on primes within the <code>int</code> range.
  */
@@ -263,18 +263,14 @@ final class SmallPrimes {
         if (n >= 25326001) {
             t = 4;
         } // works up to 3.2 billion, int range stops at 2.7 so we are safe :-)
-        final BigInteger br = BigInteger.valueOf(r);
-        final BigInteger bn = BigInteger.valueOf(n);
+        final ModularArithmetic.Barrett mod = ModularArithmetic.Barrett.of(n);
 
         for (int i = 0; i < t; i++) {
-            final BigInteger a = BigInteger.valueOf(SmallPrimes.PRIMES[i]);
-            final BigInteger bPow = a.modPow(br, bn);
-            int y = bPow.intValue();
+            int y = mod.powMod(SmallPrimes.PRIMES[i], r);
             if ((1 != y) && (y != nMinus1)) {
                 int j = 1;
                 while ((j <= s - 1) && (nMinus1 != y)) {
-                    final long square = ((long) y) * y;
-                    y = (int) (square % n);
+                    y = mod.mulMod(y, y);
                     if (1 == y) {
                         return false;
                     } // definitely composite
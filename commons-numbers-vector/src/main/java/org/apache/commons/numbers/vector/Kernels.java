@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.vector;
+
+/**
+ * Computational kernels on arrays of {@code double} values.
+ * Arguments are assumed to have been validated by the caller.
+ */
+interface Kernels {
+    /**
+     * Computes the sum of the products {@code a[i] * b[i]} to high accuracy.
+     *
+     * @param a Factors.
+     * @param b Factors (same length as {@code a}).
+     * @return \( \sum_i a_i b_i \).
+     */
+    double linearCombination(double[] a, double[] b);
+
+    /**
+     * Computes the 2-norm of a vector, avoiding overflow and underflow.
+     *
+     * @param v Cartesian coordinates.
+     * @return the 2-norm of the vector.
+     */
+    double norm(double[] v);
+
+    /**
+     * Computes the cosine of the angle between two vectors.
+     *
+     * @param v1 Cartesian coordinates of the first vector.
+     * @param v2 Cartesian coordinates of the second vector (same length as {@code v1}).
+     * @return the cosine of the angle between the vectors.
+     */
+    double cosAngle(double[] v1, double[] v2);
+
+    /**
+     * Multiplies complex numbers element-wise.
+     *
+     * @param re1 Real parts of the first factors.
+     * @param im1 Imaginary parts of the first factors.
+     * @param re2 Real parts of the second factors.
+     * @param im2 Imaginary parts of the second factors.
+     * @param re Real parts of the products.
+     * @param im Imaginary parts of the products.
+     */
+    void complexMultiply(double[] re1, double[] im1,
+                         double[] re2, double[] im2,
+                         double[] re, double[] im);
+
+    /**
+     * Computes the absolute value of complex numbers element-wise.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param abs Absolute values.
+     */
+    void complexAbs(double[] re, double[] im, double[] abs);
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.vector;
+
+import org.apache.commons.numbers.arrays.CosAngle;
+import org.apache.commons.numbers.arrays.LinearCombination;
+import org.apache.commons.numbers.arrays.SafeNorm;
+import org.apache.commons.numbers.complex.Complex;
+
+/**
+ * Scalar kernels delegating to the reference implementations.
+ */
+final class ScalarKernels implements Kernels {
+    /** The instance. */
+    static final ScalarKernels INSTANCE = new ScalarKernels();
+
+    /** Use the instance. */
+    private ScalarKernels() {}
+
+    /** {@inheritDoc} */
+    @Override
+    public double linearCombination(double[] a, double[] b) {
+        return LinearCombination.value(a, b);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double norm(double[] v) {
+        return SafeNorm.value(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double cosAngle(double[] v1, double[] v2) {
+        return CosAngle.value(v1, v2);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void complexMultiply(double[] re1, double[] im1,
+                                double[] re2, double[] im2,
+                                double[] re, double[] im) {
+        multiply(re1, im1, re2, im2, re, im, 0, re.length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void complexAbs(double[] re, double[] im, double[] abs) {
+        abs(re, im, abs, 0, abs.length);
+    }
+
+    /**
+     * Multiplies complex numbers element-wise in the range {@code [from, to)}.
+     *
+     * @param re1 Real parts of the first factors.
+     * @param im1 Imaginary parts of the first factors.
+     * @param re2 Real parts of the second factors.
+     * @param im2 Imaginary parts of the second factors.
+     * @param re Real parts of the products.
+     * @param im Imaginary parts of the products.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     */
+    static void multiply(double[] re1, double[] im1,
+                         double[] re2, double[] im2,
+                         double[] re, double[] im,
+                         int from, int to) {
+        for (int i = from; i < to; i++) {
+            final Complex z = Complex.ofCartesian(re1[i], im1[i])
+                .multiply(Complex.ofCartesian(re2[i], im2[i]));
+            re[i] = z.getReal();
+            im[i] = z.getImaginary();
+        }
+    }
+
+    /**
+     * Computes the absolute value of complex numbers element-wise in the
+     * range {@code [from, to)}.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param abs Absolute values.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     */
+    static void abs(double[] re, double[] im, double[] abs,
+                    int from, int to) {
+        for (int i = from; i < to; i++) {
+            abs[i] = Complex.ofCartesian(re[i], im[i]).abs();
+        }
+    }
+}
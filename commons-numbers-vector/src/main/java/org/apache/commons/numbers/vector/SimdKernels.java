@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.apache.commons.numbers.arrays.SafeNorm;
+import org.apache.commons.numbers.complex.Complex;
+
+/**
+ * Kernels using the SIMD instructions of the platform through the Vector API.
+ *
+ * <p>Loading this class fails with a {@link LinkageError} if the
+ * {@code jdk.incubator.vector} module is not available.
+ *
+ * <p>The complex number kernels are identical to the scalar methods of
+ * {@link Complex}: lanes requiring special case handling are recomputed
+ * with the scalar method. The linear combination uses a compensated
+ * dot product (Ogita, Rump and Oishi's Dot2 algorithm) computed
+ * independently in each lane; the result is as accurate as if computed
+ * in twice the working precision, but may not be identical to the scalar
+ * implementation. The same applies to the norm which is computed as a
+ * scaled sum of squares.
+ */
+final class SimdKernels implements Kernels {
+    /** The instance. */
+    static final SimdKernels INSTANCE = new SimdKernels();
+
+    /** The preferred species for the platform. */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /** The upper 32-bits of an exponent difference of 54. */
+    private static final long EXP_54 = 0x36_00000L;
+    /** The upper 32-bits of the number 2^500. */
+    private static final long EXP_500 = 0x5f3_00000L;
+    /** The upper 32-bits of the number 2^-500. */
+    private static final long EXP_NEG_500 = 0x20b_00000L;
+    /** The limit of the exponent of the largest coordinate above which a norm is scaled. */
+    private static final int NORM_SCALE_EXPONENT = 450;
+
+    /** Use the instance. */
+    private SimdKernels() {}
+
+    /**
+     * Checks if the platform supports more than one {@code double} per vector.
+     *
+     * @return true if SIMD computation is supported
+     */
+    static boolean isSupported() {
+        return SPECIES.length() > 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double linearCombination(double[] a, double[] b) {
+        final int len = a.length;
+        if (len == 1) {
+            // Revert to scalar multiplication.
+            return a[0] * b[0];
+        }
+
+        // Dot2: error-free transformation of each product and a running
+        // two-sum in each lane, accumulating the round-off terms separately.
+        final int bound = SPECIES.loopBound(len);
+        DoubleVector sum = DoubleVector.zero(SPECIES);
+        DoubleVector comp = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+            final DoubleVector vb = DoubleVector.fromArray(SPECIES, b, i);
+            final DoubleVector p = va.mul(vb);
+            final DoubleVector q = va.fma(vb, p.neg());
+            final DoubleVector t = sum.add(p);
+            final DoubleVector z = t.sub(sum);
+            comp = comp.add(sum.sub(t.sub(z)).add(p.sub(z)).add(q));
+            sum = t;
+        }
+
+        // Reduce the lanes and add the remaining products with the scalar algorithm.
+        double s = 0;
+        double c = comp.reduceLanes(VectorOperators.ADD);
+        for (final double x : sum.toArray()) {
+            final double t = s + x;
+            final double z = t - s;
+            c += (s - (t - z)) + (x - z);
+            s = t;
+        }
+        for (; i < len; i++) {
+            final double p = a[i] * b[i];
+            final double q = Math.fma(a[i], b[i], -p);
+            final double t = s + p;
+            final double z = t - s;
+            c += (s - (t - z)) + (p - z) + q;
+            s = t;
+        }
+
+        double result = s + c;
+
+        if (Double.isNaN(result)) {
+            // either we have split infinite numbers or some coefficients were NaNs,
+            // just rely on the naive implementation and let IEEE754 handle this
+            result = 0;
+            for (int j = 0; j < len; ++j) {
+                result += a[j] * b[j];
+            }
+        }
+
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double norm(double[] v) {
+        final int len = v.length;
+        final int bound = SPECIES.loopBound(len);
+
+        // First pass: largest magnitude.
+        DoubleVector vmax = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            vmax = vmax.max(DoubleVector.fromArray(SPECIES, v, i).abs());
+        }
+        double max = vmax.reduceLanes(VectorOperators.MAX);
+        for (; i < len; i++) {
+            max = Math.max(max, Math.abs(v[i]));
+        }
+
+        if (!(max <= Double.MAX_VALUE)) {
+            // Infinite or NaN: use the reference special case handling.
+            return SafeNorm.value(v);
+        }
+        if (max == 0) {
+            return 0;
+        }
+
+        // Second pass: sum of squares. Scale by a power of 2 (exact) if the
+        // squares may overflow or underflow.
+        final int exp = Math.getExponent(max);
+        if (exp > NORM_SCALE_EXPONENT || exp < -NORM_SCALE_EXPONENT) {
+            final double scale = Math.scalb(1.0, -exp);
+            DoubleVector acc = DoubleVector.zero(SPECIES);
+            for (i = 0; i < bound; i += SPECIES.length()) {
+                final DoubleVector x = DoubleVector.fromArray(SPECIES, v, i).mul(scale);
+                acc = x.fma(x, acc);
+            }
+            double sum = acc.reduceLanes(VectorOperators.ADD);
+            for (; i < len; i++) {
+                final double x = v[i] * scale;
+                sum = Math.fma(x, x, sum);
+            }
+            return Math.sqrt(sum) * Math.scalb(1.0, exp);
+        }
+
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        for (i = 0; i < bound; i += SPECIES.length()) {
+            final DoubleVector x = DoubleVector.fromArray(SPECIES, v, i);
+            acc = x.fma(x, acc);
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            sum = Math.fma(v[i], v[i], sum);
+        }
+        return Math.sqrt(sum);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double cosAngle(double[] v1, double[] v2) {
+        return linearCombination(v1, v2) / norm(v1) / norm(v2);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void complexMultiply(double[] re1, double[] im1,
+                                double[] re2, double[] im2,
+                                double[] re, double[] im) {
+        final int len = re.length;
+        final int bound = SPECIES.loopBound(len);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final DoubleVector a = DoubleVector.fromArray(SPECIES, re1, i);
+            final DoubleVector b = DoubleVector.fromArray(SPECIES, im1, i);
+            final DoubleVector c = DoubleVector.fromArray(SPECIES, re2, i);
+            final DoubleVector d = DoubleVector.fromArray(SPECIES, im2, i);
+            // Same operation order as Complex.multiply.
+            final DoubleVector x = a.mul(c).sub(b.mul(d));
+            final DoubleVector y = a.mul(d).add(b.mul(c));
+            x.intoArray(re, i);
+            y.intoArray(im, i);
+            // Recover infinities that computed as NaN+iNaN.
+            // Use the input lanes as the output may alias the input arrays.
+            final VectorMask<Double> nan = x.test(VectorOperators.IS_NAN)
+                .and(y.test(VectorOperators.IS_NAN));
+            if (nan.anyTrue()) {
+                for (int j = nan.firstTrue(); j < SPECIES.length(); j++) {
+                    if (nan.laneIsSet(j)) {
+                        final Complex z = Complex.ofCartesian(a.lane(j), b.lane(j))
+                            .multiply(Complex.ofCartesian(c.lane(j), d.lane(j)));
+                        re[i + j] = z.getReal();
+                        im[i + j] = z.getImaginary();
+                    }
+                }
+            }
+        }
+        ScalarKernels.multiply(re1, im1, re2, im2, re, im, i, len);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void complexAbs(double[] re, double[] im, double[] abs) {
+        final int len = abs.length;
+        final int bound = SPECIES.loopBound(len);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final DoubleVector x = DoubleVector.fromArray(SPECIES, re, i);
+            final DoubleVector y = DoubleVector.fromArray(SPECIES, im, i);
+            // Order by magnitude: |a| >= |b|
+            final DoubleVector ax = x.abs();
+            final DoubleVector ay = y.abs();
+            final DoubleVector a = ax.max(ay);
+            final DoubleVector b = ax.min(ay);
+            // The fast path of Complex.abs: both parts are significant and
+            // do not require scaling. This excludes infinite and NaN parts.
+            final LongVector ha = a.reinterpretAsLongs().lanewise(VectorOperators.LSHR, 32);
+            final LongVector hb = b.reinterpretAsLongs().lanewise(VectorOperators.LSHR, 32);
+            final VectorMask<Double> fast = ha.sub(hb).compare(VectorOperators.LE, EXP_54)
+                .and(ha.compare(VectorOperators.LE, EXP_500))
+                .and(hb.compare(VectorOperators.GE, EXP_NEG_500))
+                .cast(SPECIES);
+            // High precision a^2 + b^2 using the same Dekker summation as Complex.
+            final DoubleVector aa = a.mul(a);
+            final DoubleVector bb = b.mul(b);
+            final DoubleVector aaLow = a.fma(a, aa.neg());
+            final DoubleVector bbLow = b.fma(b, bb.neg());
+            final DoubleVector r = aa.add(bb);
+            aa.sub(r).add(bb).add(bbLow).add(aaLow).add(r).sqrt().intoArray(abs, i);
+            if (!fast.allTrue()) {
+                // Use the input lanes as the output may alias the input arrays.
+                for (int j = 0; j < SPECIES.length(); j++) {
+                    if (!fast.laneIsSet(j)) {
+                        abs[i + j] = Complex.ofCartesian(x.lane(j), y.lane(j)).abs();
+                    }
+                }
+            }
+        }
+        ScalarKernels.abs(re, im, abs, i, len);
+    }
+}
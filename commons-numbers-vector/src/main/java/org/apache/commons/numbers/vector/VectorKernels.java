@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.vector;
+
+/**
+ * Array computations accelerated using the SIMD instructions of the platform.
+ *
+ * <p>The implementation is selected once, when this class is initialized.
+ * The SIMD kernels are used if the incubating module {@code jdk.incubator.vector}
+ * is available (e.g. the JVM was started with {@code --add-modules jdk.incubator.vector})
+ * and the platform supports vectors of more than one {@code double};
+ * otherwise the methods delegate to the scalar implementations in
+ * {@code commons-numbers-arrays} and {@code commons-numbers-complex}.
+ *
+ * <p>The complex number methods return results identical to the corresponding
+ * methods of {@code Complex}. The linear combination, norm and cosine are
+ * computed to the same accuracy as the scalar implementations but the
+ * results may differ in the last bits.
+ */
+public final class VectorKernels {
+    /** The selected kernels. */
+    private static final Kernels KERNELS = createKernels();
+
+    /** Private constructor. */
+    private VectorKernels() {
+        // intentionally empty.
+    }
+
+    /**
+     * Checks if the computations use SIMD kernels.
+     *
+     * @return true if the SIMD kernels are used
+     */
+    public static boolean isAccelerated() {
+        return KERNELS != ScalarKernels.INSTANCE;
+    }
+
+    /**
+     * Computes the sum of the products {@code a[i] * b[i]} to high accuracy.
+     *
+     * @param a Factors.
+     * @param b Factors.
+     * @return \( \sum_i a_i b_i \).
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @see org.apache.commons.numbers.arrays.LinearCombination#value(double[], double[])
+     */
+    public static double linearCombination(double[] a,
+                                           double[] b) {
+        checkDimensions(a.length, b.length);
+        return KERNELS.linearCombination(a, b);
+    }
+
+    /**
+     * Computes the Cartesian norm (2-norm), handling both overflow and underflow.
+     *
+     * @param v Cartesian coordinates.
+     * @return the 2-norm of the vector.
+     * @see org.apache.commons.numbers.arrays.SafeNorm#value(double[])
+     */
+    public static double norm(double[] v) {
+        return KERNELS.norm(v);
+    }
+
+    /**
+     * Computes the cosine of the angle between {@code v1} and {@code v2}.
+     *
+     * @param v1 Cartesian coordinates of the first vector.
+     * @param v2 Cartesian coordinates of the second vector.
+     * @return the cosine of the angle between the vectors.
+     * @throws IllegalArgumentException if the sizes of the input arrays are different
+     * @see org.apache.commons.numbers.arrays.CosAngle#value(double[], double[])
+     */
+    public static double cosAngle(double[] v1,
+                                  double[] v2) {
+        checkDimensions(v1.length, v2.length);
+        return KERNELS.cosAngle(v1, v2);
+    }
+
+    /**
+     * Multiplies complex numbers element-wise:
+     * {@code (re[i] + i im[i]) = (re1[i] + i im1[i]) * (re2[i] + i im2[i])}.
+     * The output arrays may be the same as the input arrays.
+     *
+     * @param re1 Real parts of the first factors.
+     * @param im1 Imaginary parts of the first factors.
+     * @param re2 Real parts of the second factors.
+     * @param im2 Imaginary parts of the second factors.
+     * @param re Real parts of the products.
+     * @param im Imaginary parts of the products.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @see org.apache.commons.numbers.complex.Complex#multiply(org.apache.commons.numbers.complex.Complex)
+     */
+    public static void complexMultiply(double[] re1, double[] im1,
+                                       double[] re2, double[] im2,
+                                       double[] re, double[] im) {
+        final int len = re.length;
+        checkDimensions(len, im.length);
+        checkDimensions(len, re1.length);
+        checkDimensions(len, im1.length);
+        checkDimensions(len, re2.length);
+        checkDimensions(len, im2.length);
+        KERNELS.complexMultiply(re1, im1, re2, im2, re, im);
+    }
+
+    /**
+     * Computes the absolute value of complex numbers element-wise:
+     * {@code abs[i] = |re[i] + i im[i]|}.
+     * The output array may be the same as one of the input arrays.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param abs Absolute values.
+     * @throws IllegalArgumentException if the sizes of the arrays are different.
+     * @see org.apache.commons.numbers.complex.Complex#abs()
+     */
+    public static void complexAbs(double[] re, double[] im,
+                                  double[] abs) {
+        final int len = abs.length;
+        checkDimensions(len, re.length);
+        checkDimensions(len, im.length);
+        KERNELS.complexAbs(re, im, abs);
+    }
+
+    /**
+     * Select the SIMD kernels if supported, otherwise the scalar kernels.
+     *
+     * @return the kernels
+     */
+    private static Kernels createKernels() {
+        try {
+            if (SimdKernels.isSupported()) {
+                return SimdKernels.INSTANCE;
+            }
+        } catch (LinkageError ignored) {
+            // The jdk.incubator.vector module is not available.
+        }
+        return ScalarKernels.INSTANCE;
+    }
+
+    /**
+     * @param len1 First length.
+     * @param len2 Second length.
+     * @throws IllegalArgumentException if the lengths are different.
+     */
+    private static void checkDimensions(int len1,
+                                        int len2) {
+        if (len1 != len2) {
+            throw new IllegalArgumentException("Dimension mismatch: " + len1 + " != " + len2);
+        }
+    }
+}
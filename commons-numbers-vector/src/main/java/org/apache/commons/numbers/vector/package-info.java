@@ -0,0 +1,26 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * SIMD kernels for array computations using the incubating Java Vector API.
+ *
+ * <p>The module {@code jdk.incubator.vector} must be added at runtime
+ * (e.g. {@code --add-modules jdk.incubator.vector}) for the SIMD kernels
+ * to be used; otherwise computations fall back to the scalar implementations
+ * of the {@code commons-numbers-arrays} and {@code commons-numbers-complex}
+ * modules.
+ */
+package org.apache.commons.numbers.vector;
@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.vector;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.apache.commons.numbers.arrays.SafeNorm;
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link SimdKernels} class.
+ * The kernels are compared with the {@link ScalarKernels}.
+ */
+class SimdKernelsTest {
+    /** Special values for the parts of complex numbers. */
+    private static final double[] SPECIAL = {
+        0.0, -0.0, 1.0, -2.5, Double.MIN_VALUE, Double.MIN_NORMAL, 0x1.0p-501, 0x1.0p-499,
+        0x1.0p500, 0x1.0p501, 0x1.0p-30, Double.MAX_VALUE, -Double.MAX_VALUE,
+        Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN,
+    };
+
+    private final SimdKernels simd = SimdKernels.INSTANCE;
+    private final ScalarKernels scalar = ScalarKernels.INSTANCE;
+
+    @Test
+    void testComplexMultiply() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_RO_SHI_RO_128_PP, 12345L);
+        // Lengths to cover the vector loop and the scalar tail.
+        for (int len = 0; len < 40; len++) {
+            final double[] re1 = createParts(rng, len);
+            final double[] im1 = createParts(rng, len);
+            final double[] re2 = createParts(rng, len);
+            final double[] im2 = createParts(rng, len);
+            final double[] re = new double[len];
+            final double[] im = new double[len];
+            final double[] expRe = new double[len];
+            final double[] expIm = new double[len];
+            simd.complexMultiply(re1, im1, re2, im2, re, im);
+            scalar.complexMultiply(re1, im1, re2, im2, expRe, expIm);
+            Assertions.assertArrayEquals(expRe, re);
+            Assertions.assertArrayEquals(expIm, im);
+
+            // In-place
+            simd.complexMultiply(re1, im1, re2, im2, re1, im1);
+            Assertions.assertArrayEquals(expRe, re1);
+            Assertions.assertArrayEquals(expIm, im1);
+        }
+    }
+
+    @Test
+    void testComplexMultiplySpecialCases() {
+        final int n = SPECIAL.length;
+        final double[] re1 = new double[n * n];
+        final double[] im1 = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                re1[i * n + j] = SPECIAL[i];
+                im1[i * n + j] = SPECIAL[j];
+            }
+        }
+        for (final double re : SPECIAL) {
+            for (final double im : SPECIAL) {
+                final double[] re2 = new double[n * n];
+                final double[] im2 = new double[n * n];
+                Arrays.fill(re2, re);
+                Arrays.fill(im2, im);
+                final double[] x = new double[n * n];
+                final double[] y = new double[n * n];
+                simd.complexMultiply(re1, im1, re2, im2, x, y);
+                for (int k = 0; k < x.length; k++) {
+                    final Complex z = Complex.ofCartesian(re1[k], im1[k])
+                        .multiply(Complex.ofCartesian(re, im));
+                    Assertions.assertEquals(z.getReal(), x[k]);
+                    Assertions.assertEquals(z.getImaginary(), y[k]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testComplexAbs() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_RO_SHI_RO_128_PP, 6789L);
+        for (int len = 0; len < 40; len++) {
+            final double[] re = createParts(rng, len);
+            final double[] im = createParts(rng, len);
+            final double[] abs = new double[len];
+            final double[] expected = new double[len];
+            simd.complexAbs(re, im, abs);
+            scalar.complexAbs(re, im, expected);
+            Assertions.assertArrayEquals(expected, abs);
+
+            // In-place
+            simd.complexAbs(re, im, im);
+            Assertions.assertArrayEquals(expected, im);
+        }
+    }
+
+    @Test
+    void testComplexAbsSpecialCases() {
+        final int n = SPECIAL.length;
+        final double[] re = new double[n * n];
+        final double[] im = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                re[i * n + j] = SPECIAL[i];
+                im[i * n + j] = SPECIAL[j];
+            }
+        }
+        final double[] abs = new double[n * n];
+        simd.complexAbs(re, im, abs);
+        for (int k = 0; k < abs.length; k++) {
+            Assertions.assertEquals(Complex.ofCartesian(re[k], im[k]).abs(), abs[k]);
+        }
+    }
+
+    @Test
+    void testLinearCombination() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_RO_SHI_RO_128_PP, 2468L);
+        for (int len = 1; len < 70; len++) {
+            final double[] a = new double[len];
+            final double[] b = new double[len];
+            for (int i = 0; i < len; i++) {
+                // Terms with large cancellation
+                a[i] = Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(60));
+                b[i] = Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(60));
+            }
+            // Cancel the largest part of the sum
+            if (len > 2) {
+                final BigDecimal partial = exact(a, b, len - 1);
+                a[len - 1] = -partial.doubleValue();
+                b[len - 1] = 1;
+            }
+            assertDot(a, b, simd.linearCombination(a, b));
+        }
+    }
+
+    @Test
+    void testLinearCombinationIntegers() {
+        // Exact result: the products and sums are representable
+        final double[] a = new double[37];
+        final double[] b = new double[37];
+        double expected = 0;
+        for (int i = 0; i < a.length; i++) {
+            a[i] = i - 10;
+            b[i] = 3 * i + 1;
+            expected += a[i] * b[i];
+        }
+        Assertions.assertEquals(expected, simd.linearCombination(a, b));
+        Assertions.assertEquals(6.0, simd.linearCombination(new double[] {2}, new double[] {3}));
+    }
+
+    @Test
+    void testLinearCombinationNonFinite() {
+        final double inf = Double.POSITIVE_INFINITY;
+        for (final int len : new int[] {2, 9, 17}) {
+            final double[] a = new double[len];
+            final double[] b = new double[len];
+            Arrays.fill(a, 1.5);
+            Arrays.fill(b, 2);
+            a[len - 1] = inf;
+            Assertions.assertEquals(scalar.linearCombination(a, b), simd.linearCombination(a, b));
+            a[0] = -inf;
+            Assertions.assertEquals(scalar.linearCombination(a, b), simd.linearCombination(a, b));
+            a[0] = Double.NaN;
+            Assertions.assertEquals(scalar.linearCombination(a, b), simd.linearCombination(a, b));
+        }
+    }
+
+    @Test
+    void testNorm() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_RO_SHI_RO_128_PP, 1357L);
+        for (final int exp : new int[] {0, -200, 200, -480, 480, -1000, 1000}) {
+            for (int len = 0; len < 40; len++) {
+                final int n = len;
+                final double[] v = new double[n];
+                for (int i = 0; i < n; i++) {
+                    v[i] = Math.scalb(rng.nextDouble() - 0.5, exp);
+                }
+                final double expected = SafeNorm.value(v);
+                final double actual = simd.norm(v);
+                Assertions.assertEquals(expected, actual, 4 * Math.ulp(expected),
+                    () -> "exp=" + exp + ", len=" + n);
+            }
+        }
+    }
+
+    @Test
+    void testNormSpecialCases() {
+        Assertions.assertEquals(0.0, simd.norm(new double[0]));
+        Assertions.assertEquals(0.0, simd.norm(new double[9]));
+        Assertions.assertEquals(Math.sqrt(2) * 1e300, simd.norm(new double[] {1e300, 1e300}), Math.ulp(1e300));
+        Assertions.assertEquals(Math.sqrt(2) * 1e-320, simd.norm(new double[] {1e-320, 1e-320}));
+        Assertions.assertEquals(Double.MAX_VALUE, simd.norm(new double[] {Double.MAX_VALUE, 0, 1, 2, 3, 4, 5, 6, 7}));
+        final double[] v = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+        for (final double x : new double[] {Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN}) {
+            v[4] = x;
+            Assertions.assertEquals(SafeNorm.value(v), simd.norm(v));
+        }
+    }
+
+    @Test
+    void testCosAngle() {
+        final double[] v1 = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+        final double[] v2 = {-9, 8, -7, 6, -5, 4, -3, 2, -1};
+        Assertions.assertEquals(1.0, simd.cosAngle(v1, v1), Math.ulp(1.0));
+        Assertions.assertEquals(scalar.cosAngle(v1, v2), simd.cosAngle(v1, v2), 2 * Math.ulp(1.0));
+        final double[] v3 = {1, 0, 0, 0, 0, 0, 0, 0, 0};
+        final double[] v4 = {0, 1, 0, 0, 0, 0, 0, 0, 0};
+        Assertions.assertEquals(0.0, simd.cosAngle(v3, v4));
+    }
+
+    /**
+     * Create random parts for complex numbers, including special values.
+     *
+     * @param rng Source of randomness.
+     * @param len Length.
+     * @return the parts
+     */
+    private static double[] createParts(UniformRandomProvider rng, int len) {
+        final double[] x = new double[len];
+        for (int i = 0; i < len; i++) {
+            x[i] = rng.nextInt(8) == 0 ?
+                SPECIAL[rng.nextInt(SPECIAL.length)] :
+                Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(2100) - 1050);
+        }
+        return x;
+    }
+
+    /**
+     * Assert the dot product is within the error bound of the compensated dot product.
+     *
+     * @param a Factors.
+     * @param b Factors.
+     * @param actual Computed dot product.
+     */
+    private static void assertDot(double[] a, double[] b, double actual) {
+        final BigDecimal exact = exact(a, b, a.length);
+        double sumAbs = 0;
+        for (int i = 0; i < a.length; i++) {
+            sumAbs += Math.abs(a[i] * b[i]);
+        }
+        // |res - exact| <= eps |exact| + (n eps)^2 sum |a_i b_i|
+        final double eps = Math.ulp(1.0);
+        final double n = a.length;
+        final double bound = eps * Math.abs(exact.doubleValue()) + 2 * n * n * eps * eps * sumAbs;
+        final double error = exact.subtract(new BigDecimal(actual)).abs().doubleValue();
+        Assertions.assertTrue(error <= bound, () -> "error=" + error + " > " + bound);
+    }
+
+    /**
+     * @param a Factors.
+     * @param b Factors.
+     * @param len Number of terms.
+     * @return the exact dot product of the first terms.
+     */
+    private static BigDecimal exact(double[] a, double[] b, int len) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < len; i++) {
+            sum = sum.add(new BigDecimal(a[i]).multiply(new BigDecimal(b[i])));
+        }
+        return sum;
+    }
+}
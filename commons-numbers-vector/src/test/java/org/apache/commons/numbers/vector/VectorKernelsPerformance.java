@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.vector;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes a benchmark to compare the speed of the SIMD and scalar kernels.
+ *
+ * <p>This is not a unit test. It is run using the {@code benchmark} profile:
+ * <pre>
+ * mvn test -Pcommons-numbers-vector,benchmark -Dbenchmark=VectorKernelsPerformance
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M", "--add-modules=jdk.incubator.vector"})
+public class VectorKernelsPerformance {
+    /**
+     * The kernels and data.
+     */
+    @State(Scope.Benchmark)
+    public static class Data {
+        /** The kernels implementation. */
+        @Param({"scalar", "simd"})
+        private String impl;
+
+        /** The length of the arrays. */
+        @Param({"16", "256", "4096"})
+        private int length;
+
+        /** The kernels. */
+        private Kernels kernels;
+        /** Real parts (or vector x). */
+        private double[] re1;
+        /** Imaginary parts (or vector y). */
+        private double[] im1;
+        /** Real parts. */
+        private double[] re2;
+        /** Imaginary parts. */
+        private double[] im2;
+        /** Output real parts. */
+        private double[] re;
+        /** Output imaginary parts. */
+        private double[] im;
+
+        /**
+         * Create the kernels and data.
+         */
+        @Setup
+        public void setup() {
+            kernels = "simd".equals(impl) ? SimdKernels.INSTANCE : ScalarKernels.INSTANCE;
+            final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_RO_SHI_RO_128_PP);
+            re1 = create(rng, length);
+            im1 = create(rng, length);
+            re2 = create(rng, length);
+            im2 = create(rng, length);
+            re = new double[length];
+            im = new double[length];
+        }
+
+        /**
+         * @param rng Source of randomness.
+         * @param length Length.
+         * @return values in [-1, 1)
+         */
+        private static double[] create(UniformRandomProvider rng, int length) {
+            final double[] x = new double[length];
+            for (int i = 0; i < length; i++) {
+                x[i] = 2 * rng.nextDouble() - 1;
+            }
+            return x;
+        }
+    }
+
+    /**
+     * @param data Data.
+     * @return the linear combination
+     */
+    @Benchmark
+    public double linearCombination(Data data) {
+        return data.kernels.linearCombination(data.re1, data.re2);
+    }
+
+    /**
+     * @param data Data.
+     * @return the norm
+     */
+    @Benchmark
+    public double norm(Data data) {
+        return data.kernels.norm(data.re1);
+    }
+
+    /**
+     * @param data Data.
+     * @return the cosine of the angle
+     */
+    @Benchmark
+    public double cosAngle(Data data) {
+        return data.kernels.cosAngle(data.re1, data.re2);
+    }
+
+    /**
+     * @param data Data.
+     * @return the products
+     */
+    @Benchmark
+    public double[] complexMultiply(Data data) {
+        data.kernels.complexMultiply(data.re1, data.im1, data.re2, data.im2, data.re, data.im);
+        return data.im;
+    }
+
+    /**
+     * @param data Data.
+     * @return the absolute values
+     */
+    @Benchmark
+    public double[] complexAbs(Data data) {
+        data.kernels.complexAbs(data.re1, data.im1, data.re);
+        return data.re;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.vector;
+
+import org.apache.commons.numbers.arrays.CosAngle;
+import org.apache.commons.numbers.arrays.LinearCombination;
+import org.apache.commons.numbers.arrays.SafeNorm;
+import org.apache.commons.numbers.complex.Complex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link VectorKernels} class.
+ */
+class VectorKernelsTest {
+
+    @Test
+    void testIsAccelerated() {
+        // The tests are run with the incubator module.
+        Assertions.assertEquals(SimdKernels.isSupported(), VectorKernels.isAccelerated());
+    }
+
+    @Test
+    void testLinearCombination() {
+        final double[] a = {1.5, -2.25, 3, 4.125, -5, 6, 7.5, 8, -9.75, 10};
+        final double[] b = {10, 9, -8, 7, 6.5, -5, 4, 3, 2, -1.5};
+        Assertions.assertEquals(LinearCombination.value(a, b), VectorKernels.linearCombination(a, b));
+    }
+
+    @Test
+    void testNorm() {
+        final double[] v = {3, 4, 12, 84, 0, 0, 0, 0, 0};
+        Assertions.assertEquals(85.0, VectorKernels.norm(v));
+        Assertions.assertEquals(SafeNorm.value(v), VectorKernels.norm(v));
+    }
+
+    @Test
+    void testCosAngle() {
+        final double[] v1 = {1, 0, 0, 0, 0, 0, 0, 0, 0, 1};
+        final double[] v2 = {0, 0, 0, 0, 0, 0, 0, 0, 0, 1};
+        Assertions.assertEquals(CosAngle.value(v1, v2), VectorKernels.cosAngle(v1, v2), Math.ulp(1.0));
+    }
+
+    @Test
+    void testComplexMultiply() {
+        final double[] re1 = {1, 2, 3, 4, 5, 6, 7, 8, 9, Double.POSITIVE_INFINITY};
+        final double[] im1 = {-1, 0.5, 3, -4, Double.NaN, 6, 7, 8.25, 0, Double.NaN};
+        final double[] re2 = {2, 3, -4, 5, 6, 7, 0.5, 9, 10, 1};
+        final double[] im2 = {0.25, 3, 4, -5, 6, -7, 8, 9, 1, 1};
+        final double[] re = new double[10];
+        final double[] im = new double[10];
+        VectorKernels.complexMultiply(re1, im1, re2, im2, re, im);
+        for (int i = 0; i < re.length; i++) {
+            final Complex z = Complex.ofCartesian(re1[i], im1[i]).multiply(Complex.ofCartesian(re2[i], im2[i]));
+            Assertions.assertEquals(z.getReal(), re[i]);
+            Assertions.assertEquals(z.getImaginary(), im[i]);
+        }
+    }
+
+    @Test
+    void testComplexAbs() {
+        final double[] re = {3, 1e300, 1e-310, 0, -5, 6, 7, Double.NaN, 9, Double.NEGATIVE_INFINITY};
+        final double[] im = {4, 1e300, 1e-310, -0.0, 12, -7, 8, Double.POSITIVE_INFINITY, 1e-20, Double.NaN};
+        final double[] abs = new double[10];
+        VectorKernels.complexAbs(re, im, abs);
+        for (int i = 0; i < re.length; i++) {
+            Assertions.assertEquals(Complex.ofCartesian(re[i], im[i]).abs(), abs[i]);
+        }
+    }
+
+    @Test
+    void testDimensionMismatch() {
+        final double[] a = new double[3];
+        final double[] b = new double[4];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> VectorKernels.linearCombination(a, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> VectorKernels.cosAngle(a, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> VectorKernels.complexMultiply(a, a, a, a, a, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> VectorKernels.complexMultiply(a, a, b, a, a, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> VectorKernels.complexAbs(a, b, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> VectorKernels.complexAbs(a, a, b));
+    }
+}